@@ -0,0 +1,56 @@
+package Backend;
+
+import javafx.scene.image.ImageView;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link PetManager#setPetImage(int, ImageView)} once its images are cached: resolving
+ * the worn accessories to the cached composite or idle image and setting it on the view.
+ *
+ * @author      Jay Bava <jbava@uwo.ca>
+ * @version     1.9                 (current version number of program)
+ * @since       1.9                 (the version of the package this class was first added to)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PetImageBenchmark {
+
+    /** The accessories Shrek wears. */
+    @Param({PetState.NO_ACCESSORY, "blackHat", "goldGlasses+silverHat+blackBowtie"})
+    public String selectedItem;
+
+    /** The view the image is set on. */
+    private ImageView view;
+
+    @Setup
+    public void setUp() {
+        PetState shrek = PetPersistenceBenchmark.samplePet(0);
+        shrek.setAccessoryMask((1 << PetState.ACCESSORIES.length) - 1);
+        shrek.setSelectedItem(selectedItem);
+        CSVDataStore.getInstance().setShrek(shrek);
+        view = new ImageView();
+        PetManager.getInstance().setPetImage(1, view); // Decode and composite once
+    }
+
+    @Benchmark
+    public ImageView setPetImage() {
+        PetManager.getInstance().setPetImage(1, view);
+        return view;
+    }
+}
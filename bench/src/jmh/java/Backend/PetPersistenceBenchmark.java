@@ -0,0 +1,131 @@
+package Backend;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks loading and storing pet profiles: parsing petInfo.csv rows, as
+ * {@link CSVController#parsePetInfo(String)} and the version 0 migration do, and encoding and
+ * decoding the binary petInfo.sav records written by {@link CSVController#writePetInfo(int)}.
+ *
+ * <p>A save holds three pets, so the binary benchmarks process one save per three pets.
+ *
+ * @author      Jay Bava <jbava@uwo.ca>
+ * @version     1.9                 (current version number of program)
+ * @since       1.9                 (the version of the package this class was first added to)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PetPersistenceBenchmark {
+
+    /** Number of pets. */
+    @Param({"3", "1000", "100000"})
+    public int pets;
+
+    /** petInfo.csv content with one row per pet. */
+    private String csv;
+
+    /** The pets of each save. */
+    private PetState[][] saves;
+
+    /** An encoded save. */
+    private ByteBuffer encoded;
+
+    /** Buffer the saves are encoded into, as {@link PetSaveFile} does. */
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(PetSaveFile.HEADER_SIZE + PetSaveFile.RECORD_SIZE * 3);
+
+    @Setup
+    public void setUp() {
+        StringBuilder sb = new StringBuilder("petSaved,PIN,savedTime,hunger,happiness,coins,sleep,experience,"
+                + "health,level,questionDifficulty,blackGlasses,blackHat,blackBowtie,silverGlasses,silverHat,"
+                + "silverBowtie,goldGlasses,goldHat,goldBow,selectedItem\n");
+        saves = new PetState[(pets + 2) / 3][3];
+        for (int i = 0; i < pets; i++) {
+            PetState pet = samplePet(i);
+            saves[i / 3][i % 3] = pet;
+            sb.append("TRUE,").append(pet.getPin()).append(',').append(pet.getSavedTime())
+                    .append(',').append(pet.getHunger()).append(',').append(pet.getHappiness())
+                    .append(',').append(pet.getCoins()).append(',').append(pet.getSleep())
+                    .append(',').append(pet.getExperience()).append(',').append(pet.getHealth())
+                    .append(',').append(pet.getLevel()).append(',');
+            for (int a = 0; a < PetState.ACCESSORIES.length; a++) {
+                sb.append(',').append(pet.isAccessoryOwned(a) ? "TRUE" : "FALSE");
+            }
+            sb.append(',').append(pet.getSelectedItem()).append('\n');
+        }
+        csv = sb.toString();
+
+        encoded = ByteBuffer.allocate(buffer.capacity());
+        PetSaveFile.encode(saves[0], 1, encoded);
+        encoded.flip();
+    }
+
+    /**
+     * Builds a pet with varied stats and accessories.
+     */
+    static PetState samplePet(int i) {
+        PetState pet = new PetState();
+        pet.setSaved(true);
+        pet.setPin("1234");
+        pet.setSavedTime(1_700_000_000_000L + i);
+        pet.setHunger(i % 101);
+        pet.setHappiness((i * 7) % 101);
+        pet.setCoins(i % 500);
+        pet.setSleep((i * 13) % 101);
+        pet.setExperience(i % 100);
+        pet.setHealth(100 - i % 50);
+        pet.setLevel(i % 60);
+        pet.setAccessoryMask(i % 512);
+        pet.setEquippedMask(pet.getAccessoryMask() & 0b000_010_001);
+        return pet;
+    }
+
+    @Benchmark
+    public int parseCsvRows(Blackhole blackhole) throws IOException {
+        CSVReader reader = new CSVReader(new StringReader(csv));
+        reader.nextRow(); // Skip the header row
+        int rows = 0;
+        while (reader.nextRow()) {
+            blackhole.consume(CSVController.parsePetRow(reader));
+            rows++;
+        }
+        return rows;
+    }
+
+    @Benchmark
+    public int encodeSaves() {
+        int bytes = 0;
+        for (int i = 0; i < saves.length; i++) {
+            buffer.clear();
+            PetSaveFile.encode(saves[i], i, buffer);
+            bytes += buffer.position();
+        }
+        return bytes;
+    }
+
+    @Benchmark
+    public void decodeSaves(Blackhole blackhole) throws IOException {
+        for (int i = 0; i < saves.length; i++) {
+            blackhole.consume(PetSaveFile.decode(encoded.duplicate()));
+        }
+    }
+}
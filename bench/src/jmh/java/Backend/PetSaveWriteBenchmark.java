@@ -0,0 +1,93 @@
+package Backend;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Benchmarks writing a pet save to disk, the cost of a snapshot flush behind
+ * {@link CSVController#writePetInfo(int)}. The save is written into a temporary directory rather
+ * than through {@link PetSaveFile}, so the game's own save is never touched.
+ *
+ * <p>{@link #atomicWrite()} is the current path; {@link #inPlaceWrite()} truncates and rewrites the
+ * file in place with a synced write, as saves were written before {@link AtomicFileWriter}.
+ *
+ * @author      Jay Bava <jbava@uwo.ca>
+ * @version     1.9                 (current version number of program)
+ * @since       1.9                 (the version of the package this class was first added to)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PetSaveWriteBenchmark {
+
+    /** Directory the benchmark writes to. */
+    private Path directory;
+
+    /** The file written. */
+    private Path file;
+
+    /** The pets saved. */
+    private final PetState[] pets = new PetState[3];
+
+    /** Buffer the save is encoded into. */
+    private final ByteBuffer buffer = ByteBuffer.allocate(PetSaveFile.HEADER_SIZE + PetSaveFile.RECORD_SIZE * 3);
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("petsave-bench");
+        file = directory.resolve("petInfo.sav");
+        for (int i = 0; i < pets.length; i++) {
+            pets[i] = PetPersistenceBenchmark.samplePet(i);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    /**
+     * Encodes the save.
+     */
+    private byte[] encode() {
+        buffer.clear();
+        PetSaveFile.encode(pets, 1, buffer);
+        byte[] bytes = new byte[buffer.position()];
+        buffer.flip().get(bytes);
+        return bytes;
+    }
+
+    @Benchmark
+    public void atomicWrite() throws IOException {
+        AtomicFileWriter.getInstance().write(file.toString(), encode());
+    }
+
+    @Benchmark
+    public Path inPlaceWrite() throws IOException {
+        return Files.write(file, encode(), StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.SYNC);
+    }
+}
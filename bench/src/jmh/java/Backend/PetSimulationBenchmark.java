@@ -0,0 +1,86 @@
+package Backend;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.BitSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the stat decay of {@link PeriodicUpdateService}: the batched tick run by its game
+ * clock through {@link PetSimulation}, and the closed-form offline catch-up of
+ * {@link PeriodicUpdateService#applyDecay(PetState, long)}.
+ *
+ * <p>Stats reach zero after at most 50 ticks, after which a tick has nothing left to change, so the
+ * pets are restored from a copy built once before every invocation. Every call then sees the same
+ * mix of stats from 0 to 100, with a small share of the pets already taking the health penalty.
+ * Restoring happens outside the measured time.
+ *
+ * @author      Jay Bava <jbava@uwo.ca>
+ * @version     1.9                 (current version number of program)
+ * @since       1.9                 (the version of the package this class was first added to)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PetSimulationBenchmark {
+
+    /** Number of pets. */
+    @Param({"3", "1000", "100000"})
+    public int pets;
+
+    /** Ticks of offline decay caught up at once (one hour). */
+    private static final long OFFLINE_TICKS = 3600_000 / PeriodicUpdateService.TICK_MILLIS;
+
+    /** The pets, as held by the data store. */
+    private PetState[] states;
+
+    /** The pets as first built, copied into {@link #states} before every invocation. */
+    private PetState[] initial;
+
+    /** The simulation. */
+    private final PetSimulation simulation = new PetSimulation();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        states = new PetState[pets];
+        initial = new PetState[pets];
+        for (int i = 0; i < pets; i++) {
+            states[i] = PetPersistenceBenchmark.samplePet(i);
+            initial[i] = PetPersistenceBenchmark.samplePet(i);
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void restore() {
+        for (int i = 0; i < pets; i++) {
+            states[i].copyFrom(initial[i]);
+        }
+    }
+
+    @Benchmark
+    public BitSet tick() {
+        return simulation.tick(states, 1);
+    }
+
+    @Benchmark
+    public PetState[] catchUpOffline() {
+        for (PetState pet : states) {
+            PeriodicUpdateService.applyDecay(pet, OFFLINE_TICKS);
+        }
+        return states;
+    }
+}
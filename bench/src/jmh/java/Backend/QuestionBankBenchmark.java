@@ -0,0 +1,103 @@
+package Backend;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks loading the minigame questions, as {@link CSVController#parseMinigameInfo(String)}
+ * does, in the column layout of MinigameInfo.csv and in the row layout.
+ *
+ * @author      Jay Bava <jbava@uwo.ca>
+ * @version     1.9                 (current version number of program)
+ * @since       1.9                 (the version of the package this class was first added to)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QuestionBankBenchmark {
+
+    /** Number of questions. */
+    @Param({"27", "1000", "100000"})
+    public int questions;
+
+    /** Layout of the file: "columns" or "rows". */
+    @Param({"columns", "rows"})
+    public String layout;
+
+    /** The file content. */
+    private String csv;
+
+    @Setup
+    public void setUp() throws IOException {
+        QuestionBank bank = sampleBank(questions);
+        if (layout.equals("rows")) {
+            StringWriter out = new StringWriter();
+            QuestionBankLoader.writeRows(bank, out);
+            csv = out.toString();
+        } else {
+            csv = columnLayout(bank);
+        }
+    }
+
+    /**
+     * Builds a bank of questions spread evenly over the three subjects and difficulties.
+     */
+    static QuestionBank sampleBank(int questions) {
+        String[] subjects = {QuestionBank.MATH, QuestionBank.ENGLISH, QuestionBank.GEOGRAPHY};
+        List<Question> list = new ArrayList<>(questions);
+        for (int i = 0; i < questions; i++) {
+            int difficulty = 2 + 2 * ((i / 3) % 3);
+            list.add(new Question(subjects[i % 3], difficulty, "What is " + i + " + " + difficulty + "?",
+                    "Count up from " + i, String.valueOf(i + difficulty), String.valueOf(i), String.valueOf(i + 1),
+                    difficulty * 5, difficulty * 2));
+        }
+        return QuestionBank.of(list);
+    }
+
+    /**
+     * Writes a bank in the column layout of MinigameInfo.csv.
+     */
+    private static String columnLayout(QuestionBank bank) {
+        StringBuilder[] rows = new StringBuilder[9];
+        String[] names = {"Difficulty", "Question Type", "Question", "Hint", "Answer", "Option 1", "Option 2", "Coins", "Experience"};
+        for (int r = 0; r < rows.length; r++) {
+            rows[r] = new StringBuilder(names[r]);
+        }
+        for (Question question : bank) {
+            rows[0].append(',').append(question.difficulty());
+            rows[1].append(',').append(question.subject()).append(' ').append(question.difficulty());
+            rows[2].append(',').append(question.text());
+            rows[3].append(',').append(question.hint());
+            rows[4].append(',').append(question.answer());
+            rows[5].append(',').append(question.wrongOption1());
+            rows[6].append(',').append(question.wrongOption2());
+            rows[7].append(',').append(question.coins());
+            rows[8].append(',').append(question.experience());
+        }
+        return String.join("\n", rows) + "\n";
+    }
+
+    @Benchmark
+    public QuestionBank load() throws IOException {
+        return QuestionBankLoader.load(new StringReader(csv));
+    }
+}
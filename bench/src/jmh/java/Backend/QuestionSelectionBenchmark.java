@@ -0,0 +1,66 @@
+package Backend;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntPredicate;
+
+/**
+ * Benchmarks picking a question under the parental difficulty filters, as
+ * {@link MinigameQuestionController#loadQuestion()} does.
+ *
+ * @author      Jay Bava <jbava@uwo.ca>
+ * @version     1.9                 (current version number of program)
+ * @since       1.9                 (the version of the package this class was first added to)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QuestionSelectionBenchmark {
+
+    /** Number of questions. */
+    @Param({"27", "1000", "100000"})
+    public int questions;
+
+    /** Difficulty levels allowed by parental controls. */
+    @Param({"2,4,6", "4"})
+    public String allowed;
+
+    /** The question bank. */
+    private QuestionBank bank;
+
+    /** The parental difficulty filter. */
+    private IntPredicate filter;
+
+    /** Source of randomness, seeded so runs are comparable. */
+    private final Random random = new Random(42);
+
+    @Setup
+    public void setUp() {
+        bank = QuestionBankBenchmark.sampleBank(questions);
+        boolean[] levels = new boolean[7];
+        for (String level : allowed.split(",")) {
+            levels[Integer.parseInt(level)] = true;
+        }
+        filter = difficulty -> difficulty >= 0 && difficulty < levels.length && levels[difficulty];
+    }
+
+    @Benchmark
+    public Question pick() {
+        return bank.random(QuestionBank.MATH, filter, random);
+    }
+}
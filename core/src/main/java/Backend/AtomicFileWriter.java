@@ -0,0 +1,111 @@
+package Backend;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The `AtomicFileWriter` class replaces the game's data files as a whole, so that a reader, such as
+ * a {@link FileWatcher} reload, never sees a partly written file and a crash mid-write never loses
+ * the previous contents.
+ *
+ * <p>The new contents are written to a temporary file beside the target, forced to disk, and moved
+ * over the target with an atomic rename; the directory is then forced so the rename itself survives
+ * a power loss. Writes to the same file are serialized. The watcher is told about every write
+ * before the file is replaced, so the game does not reload its own writes.
+ *
+ * @author      Jay Bava <jbava@uwo.ca>
+ * @version     1.9                 (current version number of program)
+ * @since       1.9                 (the version of the package this class was first added to)
+ */
+public class AtomicFileWriter {
+
+    /** Suffix of the temporary file a new version is written to. */
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    /** Singleton instance of the `AtomicFileWriter` class. */
+    private static AtomicFileWriter instance;
+
+    /** Write lock of each written file, by absolute path. */
+    private final ConcurrentMap<Path, Object> locks = new ConcurrentHashMap<>();
+
+    /** Whether forcing a directory is supported; it is not on Windows. */
+    private volatile boolean directorySyncSupported = true;
+
+    /**
+     * Private constructor to enforce the singleton pattern.
+     */
+    private AtomicFileWriter() {}
+
+    /**
+     * Retrieves the singleton instance of the `AtomicFileWriter` class.
+     *
+     * @return the singleton instance of `AtomicFileWriter`
+     */
+    public static synchronized AtomicFileWriter getInstance() {
+        if (instance == null) {
+            instance = new AtomicFileWriter();
+        }
+        return instance;
+    }
+
+    /**
+     * Replaces the contents of a file atomically.
+     *
+     * @param filePath the path of the file
+     * @param content  the complete new contents
+     * @throws IOException if the file cannot be written; the previous contents are then left in place
+     */
+    public void write(String filePath, byte[] content) throws IOException {
+        Path file = Paths.get(filePath).toAbsolutePath().normalize();
+        Object lock = locks.computeIfAbsent(file, f -> new Object());
+        synchronized (lock) {
+            Path temp = file.resolveSibling(file.getFileName() + TEMP_SUFFIX);
+            FileWatcher.getInstance().recordWrite(filePath, content);
+            try {
+                try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                        StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                    ByteBuffer buffer = ByteBuffer.wrap(content);
+                    while (buffer.hasRemaining()) {
+                        channel.write(buffer);
+                    }
+                    FileSyncEvent.force(channel, true, filePath, content.length);
+                }
+                try {
+                    Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+                }
+            } catch (IOException e) {
+                Files.deleteIfExists(temp);
+                throw e;
+            }
+            syncDirectory(file.getParent());
+        }
+    }
+
+    /**
+     * Forces a directory's entries to disk, so that a rename in it is durable.
+     *
+     * @param dir the directory
+     */
+    private void syncDirectory(Path dir) {
+        if (!directorySyncSupported || dir == null) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(dir, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // Directories cannot be opened on some platforms; the rename is still atomic there
+            directorySyncSupported = false;
+        }
+    }
+}
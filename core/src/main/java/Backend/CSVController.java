@@ -0,0 +1,576 @@
+package Backend;
+//import statements
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+
+/**
+ * @author      Jay Bava <jbava@uwo.ca>
+ * @version     1.9                 (current version number of program)
+ * @since       1.7          (the version of the package this class was first added to)
+ */
+
+/**
+ * The CSVController class handles reading, writing, and parsing CSV files for various application data.
+ * It includes functionality for managing pet information, parental control settings, minigame data,
+ * and time-related metrics.
+ */
+
+public class CSVController {
+
+    /** Number of pet saves, whose rate is the saves per second. */
+    private static final Counter SAVES = MetricsRegistry.getInstance()
+            .counter("saves_total", "Pet saves written to the journal or petInfo.sav");
+
+    /** Bytes written by pet saves. */
+    private static final Counter SAVE_BYTES = MetricsRegistry.getInstance()
+            .counter("save_bytes_total", "Bytes written by pet saves");
+
+    /** Duration of pet saves. */
+    private static final LatencyHistogram SAVE_LATENCY = MetricsRegistry.getInstance()
+            .histogram("save_latency_seconds", "Time taken to write a pet save");
+
+    /**
+     * Static initializer block to set up file watchers for petInfo.sav and parentalInfo.csv.
+     * Listens for file changes and triggers reloads and notifications to update listeners.
+     */
+
+    static {
+        // Watch petInfo.sav for changes
+        FileWatcher.getInstance().watchFile(PetSaveFile.getInstance().getPath(), 500, (file, kind) -> {
+            System.out.println("petInfo.sav has changed. Reloading...");
+            readPetInfo();
+            ChangeNotifier.getInstance().notifyChanged(); // Notify listeners of changes
+        });
+
+        // Watch parentalInfo.csv for changes
+        FileWatcher.getInstance().watchFile("Backend/CSV/parentalInfo.csv", (file, kind) -> {
+            System.out.println("parentalInfo.csv has changed. Reloading...");
+            readParentalInfo();
+            ChangeNotifier.getInstance().notifyChanged(); // Notify listeners of changes
+        });
+    }
+
+    /**
+     * Reads the pet information from the petInfo.sav snapshot, replays the pet journal on top of it,
+     * and stores the result in the CSVDataStore. If no save exists yet, petInfo.csv is migrated,
+     * saved in the binary format and renamed to petInfo.csv.migrated.
+     */
+    public static synchronized void readPetInfo() {
+        System.out.println("Loading petInfo...");
+        try {
+            PetSaveFile.Snapshot snapshot = PetSaveFile.getInstance().load();
+            if (snapshot == null) {
+                System.err.println("No pet save found.");
+                return;
+            }
+            PetState[] states = snapshot.states();
+            synchronized (CSVDataStore.getInstance()) {
+                PetJournal.getInstance().replay(snapshot.checksum(), states);
+                if (snapshot.isMigrated()) {
+                    System.out.println("Migrating petInfo from version " + snapshot.version()
+                            + " to version " + PetSaveFile.VERSION);
+                    writeSnapshot(states);
+                    // Retire the CSV so that touching it later cannot replace the save
+                    PetSaveFile.getInstance().retireLegacyFile();
+                }
+                storePetStates(states);
+            }
+        } catch (Exception e) {
+            System.err.println("Error loading petInfo");
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Parses the specified CSV file to extract pet information and store it in the CSVDataStore.
+     * Each row corresponds to a specific pet (e.g., Shrek, Toothless, Puss).
+     *
+     * @param csvPath The path to the CSV file containing pet information.
+     */
+    public static synchronized void parsePetInfo(String csvPath) {
+        System.out.println("Parsing petInfo...");
+        try {
+            PetState[] states = PetSaveFile.getInstance().importFile(Paths.get(csvPath)).states();
+            synchronized (CSVDataStore.getInstance()) {
+                storePetStates(states);
+            }
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Stores loaded pet states in the CSVDataStore, keeping in-memory changes that have not been flushed yet.
+     * Must be called while holding the CSVDataStore lock.
+     *
+     * @param states The pet states, indexed by petId - 1.
+     */
+    private static void storePetStates(PetState[] states) {
+        // Map each state to the corresponding pet in the CSVDataStore
+        for (int i = 0; i < states.length; i++) {
+            PetState state = states[i];
+            // Keep in-memory changes that have not been flushed yet
+            if (state == null || PersistenceService.getInstance().isDirty(i + 1)) {
+                continue;
+            }
+            switch (i) {
+                case 1 -> {
+                    if (!state.equals(CSVDataStore.getInstance().getToothless())) {
+                        CSVDataStore.getInstance().setToothless(state);
+                    }
+                }
+                case 0 -> {
+                    if (!state.equals(CSVDataStore.getInstance().getShrek())) {
+                        CSVDataStore.getInstance().setShrek(state);
+                    }
+                }
+                case 2 -> {
+                    if (!state.equals(CSVDataStore.getInstance().getPuss())) {
+                        CSVDataStore.getInstance().setPuss(state);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Records that the pet information for a specific pet has changed and notifies listeners.
+     * The change is written to petInfo.sav by the {@link PersistenceService}, which coalesces
+     * changes to all pets into a single write. Call {@link PersistenceService#flushNow()} after
+     * changes that must reach disk immediately.
+     *
+     * @param pet The pet ID (1 for Shrek, 2 for Toothless, 3 for Puss).
+     */
+    public static void writePetInfo(int pet) {
+        if (pet < 1 || pet > 3) {
+            System.err.println("Invalid pet ID: " + pet);
+            return;
+        }
+        PersistenceService.getInstance().markDirty(pet);
+        ChangeNotifier.getInstance().notifyChanged();
+    }
+
+    /**
+     * Persists the given pets. Stat changes are appended to the pet journal with a single write;
+     * changes the journal cannot express (PIN, save flag, ...) rewrite the petInfo.sav snapshot instead.
+     * Synchronizes access to ensure thread safety.
+     *
+     * @param pets The pets to write; bit (petId - 1) selects a pet.
+     * @throws IOException If the journal or the file cannot be written.
+     */
+    static synchronized void flushPetInfo(BitSet pets) throws IOException {
+        PetJournal journal = PetJournal.getInstance();
+        PetSaveEvent event = new PetSaveEvent();
+        event.begin();
+        long startNanos = System.nanoTime();
+        long now = System.currentTimeMillis();
+        boolean needsSnapshot = false;
+        synchronized (CSVDataStore.getInstance()) {
+            for (int i = pets.nextSetBit(0); i >= 0 && !needsSnapshot; i = pets.nextSetBit(i + 1)) {
+                int pet = i + 1;
+                PetState updatedState = getPetState(pet);
+                if (updatedState == null) {
+                    System.err.println("Updated row data is null for pet ID: " + pet);
+                    continue;
+                }
+                // Stamp the save time used for the offline decay catch-up
+                updatedState.setSavedTime(now);
+                needsSnapshot = !journal.stage(pet, updatedState);
+            }
+
+            if (needsSnapshot) {
+                journal.discardStaged();
+                event.bytes = writePetSnapshot();
+            } else {
+                event.bytes = journal.commit();
+            }
+        }
+        event.pets = pets.cardinality();
+        event.snapshot = needsSnapshot;
+        event.commit();
+        SAVE_LATENCY.recordSince(startNanos);
+        SAVES.increment();
+        SAVE_BYTES.add(event.bytes);
+        journal.requestCompactionIfLarge();
+    }
+
+    /**
+     * Folds the pet journal into the petInfo.sav snapshot. Runs on the journal's background compactor
+     * and on shutdown.
+     */
+    public static synchronized void compactPetInfo() {
+        synchronized (CSVDataStore.getInstance()) {
+            try {
+                PetJournal journal = PetJournal.getInstance();
+                if (journal.getRecordCount() == 0) {
+                    return;
+                }
+                System.out.println("Compacting " + journal.getRecordCount() + " journal records into petInfo.sav");
+                PetSaveEvent event = new PetSaveEvent();
+                event.begin();
+                PetState[] states = new PetState[3];
+                for (int pet = 1; pet <= 3; pet++) {
+                    states[pet - 1] = journal.getPersisted(pet);
+                }
+                event.bytes = writeSnapshot(states);
+                event.snapshot = true;
+                event.commit();
+            } catch (IOException e) {
+                System.err.println("Error compacting pet journal");
+                e.printStackTrace();
+            }
+        }
+    }
+
+    /**
+     * Writes the current in-memory state of every pet to the petInfo.sav snapshot and restarts the journal.
+     *
+     * @return The size of the snapshot in bytes.
+     * @throws IOException If the file cannot be written.
+     */
+    private static int writePetSnapshot() throws IOException {
+        PetState[] states = new PetState[3];
+        for (int pet = 1; pet <= 3; pet++) {
+            states[pet - 1] = getPetState(pet);
+        }
+        return writeSnapshot(states);
+    }
+
+    /**
+     * Writes the given states as the petInfo.sav snapshot, records them as persisted,
+     * and restarts the journal against the new snapshot.
+     *
+     * @param states The pet states, indexed by petId - 1.
+     * @return The size of the snapshot in bytes.
+     * @throws IOException If the file cannot be written.
+     */
+    private static int writeSnapshot(PetState[] states) throws IOException {
+        PetJournal journal = PetJournal.getInstance();
+        long checksum = PetSaveFile.getInstance().save(states);
+        for (int i = 0; i < states.length; i++) {
+            if (states[i] != null) {
+                journal.setPersisted(i + 1, states[i]);
+            }
+        }
+        journal.reset(checksum);
+        return PetSaveFile.sizeOf(states);
+    }
+
+    /**
+     * Replaces a CSV file with the given lines through the {@link AtomicFileWriter}, so that readers
+     * and the file watcher only ever see the old or the new file.
+     *
+     * @param filePath The path of the file.
+     * @param lines    The lines of the file.
+     * @throws IOException If the file cannot be written; the old file is then left in place.
+     */
+    private static void writeLines(String filePath, List<String> lines) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        for (String line : lines) {
+            sb.append(line).append(System.lineSeparator());
+        }
+        AtomicFileWriter.getInstance().write(filePath, sb.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Retrieves the in-memory state of a pet.
+     *
+     * @param pet The pet ID (1 for Shrek, 2 for Toothless, 3 for Puss).
+     * @return The pet's state, or null for an unknown ID.
+     */
+    private static PetState getPetState(int pet) {
+        return switch (pet) {
+            case 1 -> CSVDataStore.getInstance().getShrek();
+            case 2 -> CSVDataStore.getInstance().getToothless();
+            case 3 -> CSVDataStore.getInstance().getPuss();
+            default -> null;
+        };
+    }
+
+    /**
+     * Converts one row of petInfo.csv into a {@link PetState}.
+     * Column order: petSaved, PIN, savedTime, hunger, happiness, coins, sleep, experience, health,
+     * level, questionDifficulty, nine accessory flags, selectedItem.
+     *
+     * @param row The reader, positioned on the row.
+     * @return The parsed pet state.
+     */
+    static PetState parsePetRow(CSVReader row) {
+        PetState state = new PetState();
+        state.setSaved(row.getBoolean(0));
+        state.setPin(row.getString(1));
+        state.setSavedTime(row.getLong(2));
+        state.setHunger(row.getInt(3));
+        state.setHappiness(row.getInt(4));
+        state.setCoins(row.getInt(5));
+        state.setSleep(row.getInt(6));
+        state.setExperience(row.getInt(7));
+        state.setHealth(row.getInt(8));
+        state.setLevel(row.getInt(9));
+        state.setQuestionDifficulty(row.getString(10));
+
+        int mask = 0;
+        for (int i = 0; i < PetState.ACCESSORIES.length; i++) {
+            if (row.getBoolean(11 + i)) {
+                mask |= (1 << i);
+            }
+        }
+        state.setAccessoryMask(mask);
+
+        String selectedItem = row.getString(20);
+        state.setSelectedItem(selectedItem.isEmpty() ? "DEFAULT" : selectedItem);
+        return state;
+    }
+
+    /**
+     * Reads the minigame information from the minigameInfo.csv file and parses its content.
+     */
+    public static void readMinigameInfo() {
+        String minigameInfoPath = "CSV/MinigameInfo.csv"; // Path to the CSV file
+        parseMinigameInfo(minigameInfoPath);
+    }
+
+    /**
+     * Parses a minigame question file, in the column layout of MinigameInfo.csv or the row layout
+     * used for large banks, and indexes the questions by subject and difficulty into a
+     * {@link QuestionBank}. See {@link QuestionBankLoader}.
+     *
+     * @param csvPath The path to the CSV file containing minigame information.
+     */
+    public static void parseMinigameInfo(String csvPath) {
+        InputStream stream = CSVController.class.getResourceAsStream(csvPath);
+        if (stream == null) {
+            System.out.println("CSV file not found: " + csvPath);
+            return;
+        }
+        try (Reader in = new InputStreamReader(stream, StandardCharsets.UTF_8)) {
+            CSVDataStore.getInstance().setQuestionBank(QuestionBankLoader.load(in, csvPath));
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Reads the parental information from the parentalInfo.csv file and parses its content.
+     */
+    public static void readParentalInfo() {
+        String parentalInfoPath = "Backend/CSV/parentalInfo.csv"; // Path to the CSV file
+        parseParentalInfo(parentalInfoPath);
+    }
+
+    /**
+     * Parses the parentalInfo.csv file to extract a boolean array and stores it in the CSVDataStore.
+     *
+     * @param csvPath The path to the parentalInfo.csv file.
+     */
+
+    public static void parseParentalInfo(String csvPath) {
+        try (CSVReader csv = new CSVReader(Files.newBufferedReader(Paths.get(csvPath)), csvPath)) {
+            // Skip the header row, then read the boolean values from the second row
+            if (!csv.nextRow() || !csv.nextRow()) {
+                System.err.println("Invalid parentalInfo.csv structure: missing second row for boolean values.");
+                return;
+            }
+            boolean[] boolArray = new boolean[csv.fieldCount()];
+
+            // Convert the values to a boolean array
+            for (int i = 0; i < boolArray.length; i++) {
+                boolArray[i] = csv.getBoolean(i);
+            }
+
+            // Store the boolean array in CSVDataStore
+            CSVDataStore.getInstance().setParentalInfo(boolArray);
+
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+    /**
+     * Writes a boolean array to the parentalInfo.csv file, updating its second row.
+     *
+     * @param booleanValues The array of boolean values to write to the file.
+     */
+    public static void writeParentalInfo(boolean[] booleanValues) {
+        String parentalInfoPath = "Backend/CSV/parentalInfo.csv";
+
+        try {
+            // Read all rows into memory
+            List<String> lines = new ArrayList<>(Files.readAllLines(Paths.get(parentalInfoPath), StandardCharsets.UTF_8));
+
+            // Ensure there is a second row to update
+            if (lines.size() < 2) {
+                throw new IOException("Invalid parentalInfo.csv structure: missing second row for boolean values.");
+            }
+
+            // Update the second row with the new boolean values
+            if (booleanValues != null && booleanValues.length > 0) {
+                String[] boolStrings = new String[booleanValues.length];
+                for (int i = 0; i < booleanValues.length; i++) {
+                    boolStrings[i] = booleanValues[i] ? "TRUE" : "FALSE";
+                }
+                lines.set(1, String.join(",", boolStrings)); // Update the second row (index 1)
+            }
+
+            // Replace the file with all rows at once
+            writeLines(parentalInfoPath, lines);
+
+            CSVDataStore.getInstance().setParentalInfo(booleanValues);
+
+        } catch (IOException e) {
+            System.err.println("Error updating boolean values in parentalInfo.csv");
+            e.printStackTrace();
+        }
+
+    }
+
+    private static String timeInfoPath = "Backend/CSV/timeInfo.csv";
+
+    /**
+     * Reads the time information from the timeInfo.csv file and parses its content.
+     */
+    public static void readTimeInfo() {
+        parseTimeInfo(timeInfoPath);
+    }
+
+    /**
+     * Parses the timeInfo.csv file to extract start and end times, and stores them in the CSVDataStore.
+     *
+     * @param csvPath The path to the timeInfo.csv file.
+     */
+
+    public static void parseTimeInfo(String csvPath) {
+        try (CSVReader csv = new CSVReader(Files.newBufferedReader(Paths.get(csvPath)), csvPath)) {
+            // Read the header row
+            if (!csv.nextRow() || !csv.getString(0).equalsIgnoreCase("StartTime")
+                    || !csv.getString(1).equalsIgnoreCase("EndTime")) {
+                System.err.println("Invalid timeInfo.csv structure. Headers must be StartTime, EndTime.");
+                return;
+            }
+
+            // Read the data row
+            if (!csv.nextRow() || csv.fieldCount() != 2) {
+                System.err.println("Invalid timeInfo.csv structure. Data row must have exactly two columns.");
+                return;
+            }
+
+            // Parse the values
+            int startTime = csv.getInt(0);
+            int endTime = csv.getInt(1);
+
+            // Store the values in CSVDataStore
+            CSVDataStore.getInstance().setStartTime(startTime);
+            CSVDataStore.getInstance().setEndTime(endTime);
+
+            System.out.println("Successfully loaded time information: StartTime = " + startTime + ", EndTime = " + endTime);
+
+        } catch (Exception e) {
+            System.err.println("Error parsing timeInfo.csv");
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Updates the start and end time information in the timeInfo.csv file and stores the values in CSVDataStore.
+     *
+     * @param startTime The start time to be written to the file.
+     * @param endTime   The end time to be written to the file.
+     */
+    public static void writeTimeInfo(int startTime, int endTime) {
+        try {
+            // Prepare the updated content
+            List<String> lines = new ArrayList<>();
+            lines.add("StartTime,EndTime");
+            lines.add(startTime + "," + endTime);
+
+            // Write content to the file
+            writeLines(timeInfoPath, lines);
+
+            // Update the data store
+            CSVDataStore.getInstance().setStartTime(startTime);
+            CSVDataStore.getInstance().setEndTime(endTime);
+
+            System.out.println("Successfully updated time information: StartTime = " + startTime + ", EndTime = " + endTime);
+
+        } catch (IOException e) {
+            System.err.println("Error updating timeInfo.csv");
+            e.printStackTrace();
+        }
+    }
+
+    private static String timePlayPath = "Backend/CSV/timePlay.csv";
+    // Methods for timePlay.csv
+
+    /**
+     * Reads the play time and session count from the timePlay.csv file and updates the corresponding values in CSVDataStore.
+     * It assumes the file has the structure where the second line contains the total play time and session count values.
+     *
+     * The method skips the header row, then reads the data from the second row, parses it into a long for total play time
+     * and an integer for session count, and updates the CSVDataStore.
+     */
+    public static void readTimePlay() {
+        try (CSVReader csv = new CSVReader(Files.newBufferedReader(Paths.get(timePlayPath)), timePlayPath)) {
+            csv.nextRow(); // Skip header row
+            if (csv.nextRow()) {
+                long totalPlayTime = csv.getLong(0);
+                int sessionCount = csv.getInt(1);
+                CSVDataStore.getInstance().setTotalPlayTime(totalPlayTime);
+                CSVDataStore.getInstance().setSessionCount(sessionCount);
+            }
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Writes the total play time and session count to the timePlay.csv file and updates the corresponding values in CSVDataStore.
+     *
+     * @param totalPlayTime The total play time to be written to the file.
+     * @param sessionCount  The session count to be written to the file.
+     *
+     * The method creates or overwrites the file with a header ("TotalPlayTime,SessionCount") followed by the provided
+     * values. It then updates the CSVDataStore with the new values for total play time and session count.
+     */
+    public static void writeTimePlay(long totalPlayTime, int sessionCount) {
+        try {
+            List<String> lines = new ArrayList<>();
+            lines.add("TotalPlayTime,SessionCount");
+            lines.add(totalPlayTime + "," + sessionCount);
+            writeLines(timePlayPath, lines);
+            CSVDataStore.getInstance().setTotalPlayTime(totalPlayTime);
+            CSVDataStore.getInstance().setSessionCount(sessionCount);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Updates the total play time and session count by adding the specified additional play time.
+     * This method reads the current play time and session count from CSVDataStore, adds the specified additional play time
+     * to the current total, and then writes the updated values back to the `timePlay.csv` file.
+     *
+     * @param additionalPlayTime The additional play time to add to the current total play time.
+     */
+    public static void updateTimePlay(long additionalPlayTime) {
+        readTimePlay();
+        long currentPlayTime = CSVDataStore.getInstance().getTotalPlayTime();
+        int currentSessionCount = CSVDataStore.getInstance().getSessionCount();
+        writeTimePlay(currentPlayTime + additionalPlayTime, currentSessionCount);
+    }
+
+    /**
+     * Updates the session count by incrementing it by 1 when a new game is played.
+     * This method reads the current play time and session count from CSVDataStore, then increments the session count by 1,
+     * while keeping the current total play time unchanged. The updated values are written back to the `timePlay.csv` file.
+     */
+    public static void updateTimePlayWhenNewGame() {
+        readTimePlay();
+        long currentPlayTime = CSVDataStore.getInstance().getTotalPlayTime();
+        int currentSessionCount = CSVDataStore.getInstance().getSessionCount();
+        writeTimePlay(currentPlayTime, currentSessionCount + 1);
+    }
+
+}
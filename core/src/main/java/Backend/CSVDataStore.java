@@ -1,9 +1,5 @@
 package Backend;
 
-import java.util.Arrays;
-import java.util.List;
-import java.util.Map;
-
 /**
  * The `CSVDataStore` class serves as a singleton that acts as an in-memory data store
  * for all data read from and written to CSV files. It provides thread-safe methods to
@@ -12,7 +8,7 @@ import java.util.Map;
  * <p>This class maintains:
  * <ul>
  *   <li>Pet information for Toothless, Shrek, and Puss</li>
- *   <li>Minigame data organized as a map of question types</li>
+ *   <li>The minigame question bank, indexed by subject and difficulty</li>
  *   <li>Parental control information</li>
  *   <li>Time-related data including start and end times, total playtime, and session count</li>
  * </ul>
@@ -29,17 +25,17 @@ public class CSVDataStore {
     /** The singleton instance of the `CSVDataStore` class. */
     private static CSVDataStore instance;
 
-    /** Array to store Toothless's pet data. */
-    private String[] toothless;
+    /** Toothless's pet state. */
+    private PetState toothless;
 
-    /** Array to store Shrek's pet data. */
-    private String[] shrek;
+    /** Shrek's pet state. */
+    private PetState shrek;
 
-    /** Array to store Puss's pet data. */
-    private String[] puss;
+    /** Puss's pet state. */
+    private PetState puss;
 
-    /** Map to store minigame data, categorized by question types. */
-    private Map<String, List<String>> minigameData;
+    /** The minigame questions, indexed by subject and difficulty. */
+    private QuestionBank questionBank;
 
     /** Array to store parental control boolean flags. */
     private boolean[] parentalInfo;
@@ -79,75 +75,84 @@ public class CSVDataStore {
     /**
      * Retrieves the data for Toothless.
      *
-     * @return an array of strings representing Toothless's data
+     * @return the `PetState` of Toothless
      */
-    public synchronized String[] getToothless() {
+    public synchronized PetState getToothless() {
         return toothless;
     }
 
     /**
      * Updates the data for Toothless.
      *
-     * @param toothless an array of strings representing the new data for Toothless
+     * @param toothless the new `PetState` for Toothless
      */
-    public synchronized void setToothless(String[] toothless) {
+    public synchronized void setToothless(PetState toothless) {
         this.toothless = toothless;
     }
 
     /**
      * Retrieves the data for Shrek.
      *
-     * @return an array of strings representing Shrek's data
+     * @return the `PetState` of Shrek
      */
-    public synchronized String[] getShrek() {
+    public synchronized PetState getShrek() {
         return shrek;
     }
 
     /**
      * Updates the data for Shrek.
      *
-     * @param shrek an array of strings representing the new data for Shrek
+     * @param shrek the new `PetState` for Shrek
      */
-    public synchronized void setShrek(String[] shrek) {
+    public synchronized void setShrek(PetState shrek) {
         this.shrek = shrek;
     }
 
     /**
      * Retrieves the data for Puss.
      *
-     * @return an array of strings representing Puss's data
+     * @return the `PetState` of Puss
      */
-    public synchronized String[] getPuss() {
+    public synchronized PetState getPuss() {
         return puss;
     }
 
     /**
      * Updates the data for Puss.
      *
-     * @param puss an array of strings representing the new data for Puss
+     * @param puss the new `PetState` for Puss
      */
-    public synchronized void setPuss(String[] puss) {
+    public synchronized void setPuss(PetState puss) {
         this.puss = puss;
     }
 
+    /**
+     * Retrieves the states of every pet, indexed by pet ID - 1 (Shrek, Toothless, Puss).
+     *
+     * @return a new array holding each pet's `PetState`
+     */
+    public synchronized PetState[] getPets() {
+        return new PetState[] {shrek, toothless, puss};
+    }
+
     // ===== MINIGAME DATA METHODS =====
 
     /**
-     * Retrieves the minigame data.
+     * Retrieves the minigame question bank.
      *
-     * @return a map where the key is the question type and the value is a list of related data
+     * @return the question bank, or null if it has not been loaded
      */
-    public Map<String, List<String>> getMinigameData() {
-        return minigameData;
+    public synchronized QuestionBank getQuestionBank() {
+        return questionBank;
     }
 
     /**
-     * Updates the minigame data.
+     * Updates the minigame question bank.
      *
-     * @param minigameData a map where the key is the question type and the value is a list of related data
+     * @param questionBank the question bank
      */
-    public void setMinigameData(Map<String, List<String>> minigameData) {
-        this.minigameData = minigameData;
+    public synchronized void setQuestionBank(QuestionBank questionBank) {
+        this.questionBank = questionBank;
     }
 
     // ===== PARENTAL INFO METHODS =====
@@ -0,0 +1,30 @@
+package Backend;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The `CSVParseEvent` class is a JDK Flight Recorder event recorded for every CSV file the game
+ * reads, from opening the file to storing the parsed data.
+ *
+ * @author      Jay Bava <jbava@uwo.ca>
+ * @version     1.9                 (current version number of program)
+ * @since       1.9                 (the version of the package this class was first added to)
+ */
+@Name("Backend.CSVParse")
+@Label("CSV Parse")
+@Category({"PetGame", "Persistence"})
+@Description("Reading and parsing a CSV file")
+@StackTrace(false)
+public class CSVParseEvent extends Event {
+
+    @Label("File")
+    String file;
+
+    @Label("Rows")
+    int rows;
+}
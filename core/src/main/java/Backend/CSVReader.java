@@ -0,0 +1,431 @@
+package Backend;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+
+/**
+ * The `CSVReader` class reads CSV data one row at a time, following RFC 4180.
+ *
+ * <p>Fields are separated by commas and rows by CRLF, LF or CR. A field may be enclosed in double
+ * quotes, in which case it may contain commas, line breaks and doubled quotes standing for a
+ * single quote. A leading byte order mark is skipped. Malformed input is read leniently: a quote
+ * inside an unquoted field, or characters after a closing quote, are kept as they are.
+ *
+ * <p>The input is scanned once by a small state machine. The characters of the current row are kept
+ * in a buffer that is reused for every row, and fields are exposed as {@link CharSequence} views of
+ * that buffer or parsed straight into numbers and booleans, so reading a row allocates nothing
+ * unless a field is converted to a {@link String}. Views are only valid until the next call to
+ * {@link #nextRow()}.
+ *
+ * <p>Each reader records a {@link CSVParseEvent} from its creation until it is closed.
+ *
+ * @author      Jay Bava <jbava@uwo.ca>
+ * @version     1.9                 (current version number of program)
+ * @since       1.9                 (the version of the package this class was first added to)
+ */
+public class CSVReader implements Closeable {
+
+    /** Receives each row read by {@link #readAll(RowHandler)}. */
+    @FunctionalInterface
+    public interface RowHandler {
+
+        /**
+         * Handles one row. The reader's fields describe the row only during this call.
+         *
+         * @param row the reader, positioned on the row
+         */
+        void row(CSVReader row);
+    }
+
+    /** Byte order mark that some editors write at the start of UTF-8 files. */
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    /** The input. */
+    private final Reader in;
+
+    /** Characters read ahead from the input. */
+    private final char[] buffer = new char[8192];
+
+    /** Position of the next character in the read-ahead buffer. */
+    private int position;
+
+    /** Number of valid characters in the read-ahead buffer. */
+    private int limit;
+
+    /** Characters of the current row's fields, without quotes or separators. */
+    private char[] rowChars = new char[256];
+
+    /** Number of characters of the current row. */
+    private int rowLength;
+
+    /** Start and end offset of each field of the current row in {@link #rowChars}. */
+    private int[] fieldStarts = new int[32];
+    private int[] fieldEnds = new int[32];
+
+    /** Number of fields in the current row. */
+    private int fieldCount;
+
+    /** Number of rows read so far. */
+    private int rowCount;
+
+    /** Reusable views of the fields, by field index. */
+    private FieldView[] views = new FieldView[0];
+
+    /** The parse event of this reader, committed when it is closed; null once committed. */
+    private CSVParseEvent parseEvent = new CSVParseEvent();
+
+    /** Whether the start of the input has been checked for a byte order mark. */
+    private boolean started;
+
+    /**
+     * Creates a reader over character input. The input is buffered by the reader itself.
+     *
+     * @param in the input
+     */
+    public CSVReader(Reader in) {
+        this(in, null);
+    }
+
+    /**
+     * Creates a reader over character input, naming its source in the recorded parse event.
+     *
+     * @param in     the input
+     * @param source the file the input is read from, or null if unknown
+     */
+    public CSVReader(Reader in, String source) {
+        this.in = in;
+        parseEvent.file = source;
+        parseEvent.begin();
+    }
+
+    /**
+     * Advances to the next row.
+     *
+     * @return false if the end of the input was reached
+     * @throws IOException if the input cannot be read
+     */
+    public boolean nextRow() throws IOException {
+        fieldCount = 0;
+        rowLength = 0;
+        int c = read();
+        if (!started) {
+            started = true;
+            if (c == BYTE_ORDER_MARK) {
+                c = read();
+            }
+        }
+        if (c == -1) {
+            return false;
+        }
+        while (true) {
+            int start = rowLength;
+            if (c == '"') {
+                // Quoted field: runs to the next quote that is not doubled
+                while ((c = read()) != -1) {
+                    if (c == '"') {
+                        c = read();
+                        if (c != '"') {
+                            break;
+                        }
+                    }
+                    append((char) c);
+                }
+            }
+            while (c != -1 && c != ',' && c != '\n' && c != '\r') {
+                append((char) c);
+                c = read();
+            }
+            endField(start);
+
+            if (c == ',') {
+                c = read();
+            } else {
+                if (c == '\r' && peek() == '\n') {
+                    read();
+                }
+                rowCount++;
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Reads every remaining row.
+     *
+     * @param handler receives each row
+     * @return the number of rows read
+     * @throws IOException if the input cannot be read
+     */
+    public int readAll(RowHandler handler) throws IOException {
+        int rows = 0;
+        while (nextRow()) {
+            handler.row(this);
+            rows++;
+        }
+        return rows;
+    }
+
+    /**
+     * Retrieves the number of fields in the current row.
+     *
+     * @return the number of fields
+     */
+    public int fieldCount() {
+        return fieldCount;
+    }
+
+    /**
+     * Retrieves the index of the current row, counting from 0.
+     *
+     * @return the row index
+     */
+    public int rowIndex() {
+        return rowCount - 1;
+    }
+
+    /**
+     * Retrieves a field of the current row as a view of the row buffer, without copying it. The
+     * view is only valid until the next row is read.
+     *
+     * @param index the field index
+     * @return the field, or an empty sequence if the row has no such field
+     */
+    public CharSequence field(int index) {
+        if (index >= views.length) {
+            views = Arrays.copyOf(views, Math.max(index + 1, views.length * 2));
+        }
+        FieldView view = views[index];
+        if (view == null) {
+            view = views[index] = new FieldView(index);
+        }
+        return view;
+    }
+
+    /**
+     * Retrieves a field of the current row with surrounding whitespace removed.
+     *
+     * @param index the field index, or a negative index for a missing field
+     * @return the field, or an empty string if the row has no such field
+     */
+    public String getString(int index) {
+        int start = trimmedStart(index);
+        int end = trimmedEnd(index, start);
+        return start == end ? "" : new String(rowChars, start, end - start);
+    }
+
+    /**
+     * Parses a field of the current row as an int, ignoring surrounding whitespace.
+     *
+     * @param index the field index
+     * @return the value, or 0 if the field is blank or missing
+     * @throws NumberFormatException if the field is not an integer
+     */
+    public int getInt(int index) {
+        int start = trimmedStart(index);
+        int end = trimmedEnd(index, start);
+        return start == end ? 0 : Integer.parseInt(field(index), start - fieldStart(index), end - fieldStart(index), 10);
+    }
+
+    /**
+     * Parses a field of the current row as a long, ignoring surrounding whitespace.
+     *
+     * @param index the field index
+     * @return the value, or 0 if the field is blank or missing
+     * @throws NumberFormatException if the field is not an integer
+     */
+    public long getLong(int index) {
+        int start = trimmedStart(index);
+        int end = trimmedEnd(index, start);
+        return start == end ? 0L : Long.parseLong(field(index), start - fieldStart(index), end - fieldStart(index), 10);
+    }
+
+    /**
+     * Checks whether a field of the current row is "TRUE", ignoring case and surrounding whitespace.
+     *
+     * @param index the field index
+     * @return true if the field is "TRUE"
+     */
+    public boolean getBoolean(int index) {
+        int start = trimmedStart(index);
+        int end = trimmedEnd(index, start);
+        if (end - start != 4) {
+            return false;
+        }
+        return Character.toUpperCase(rowChars[start]) == 'T' && Character.toUpperCase(rowChars[start + 1]) == 'R'
+                && Character.toUpperCase(rowChars[start + 2]) == 'U' && Character.toUpperCase(rowChars[start + 3]) == 'E';
+    }
+
+    /**
+     * Checks whether a field of the current row is empty or only whitespace.
+     *
+     * @param index the field index
+     * @return true if the field is blank or missing
+     */
+    public boolean isBlank(int index) {
+        int start = trimmedStart(index);
+        return trimmedEnd(index, start) == start;
+    }
+
+    /**
+     * Copies the fields of the current row into new strings, as they are.
+     *
+     * @return the fields
+     */
+    public String[] toArray() {
+        String[] fields = new String[fieldCount];
+        for (int i = 0; i < fieldCount; i++) {
+            fields[i] = new String(rowChars, fieldStarts[i], fieldEnds[i] - fieldStarts[i]);
+        }
+        return fields;
+    }
+
+    /**
+     * Closes the input and records the parse event.
+     *
+     * @throws IOException if the input cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        if (parseEvent != null) {
+            parseEvent.rows = rowCount;
+            parseEvent.commit();
+            parseEvent = null;
+        }
+        in.close();
+    }
+
+    /**
+     * Retrieves the start offset of a field in the row buffer.
+     */
+    private int fieldStart(int index) {
+        return index >= 0 && index < fieldCount ? fieldStarts[index] : 0;
+    }
+
+    /**
+     * Retrieves the end offset of a field in the row buffer.
+     */
+    private int fieldEnd(int index) {
+        return index >= 0 && index < fieldCount ? fieldEnds[index] : 0;
+    }
+
+    /**
+     * Finds the offset of the first non-whitespace character of a field.
+     */
+    private int trimmedStart(int index) {
+        int start = fieldStart(index);
+        int end = fieldEnd(index);
+        while (start < end && rowChars[start] <= ' ') {
+            start++;
+        }
+        return start;
+    }
+
+    /**
+     * Finds the offset past the last non-whitespace character of a field.
+     */
+    private int trimmedEnd(int index, int trimmedStart) {
+        int end = fieldEnd(index);
+        while (end > trimmedStart && rowChars[end - 1] <= ' ') {
+            end--;
+        }
+        return end;
+    }
+
+    /**
+     * Appends a character to the current field.
+     */
+    private void append(char c) {
+        if (rowLength == rowChars.length) {
+            rowChars = Arrays.copyOf(rowChars, rowChars.length * 2);
+        }
+        rowChars[rowLength++] = c;
+    }
+
+    /**
+     * Ends the current field.
+     *
+     * @param start the offset at which the field started
+     */
+    private void endField(int start) {
+        if (fieldCount == fieldStarts.length) {
+            fieldStarts = Arrays.copyOf(fieldStarts, fieldCount * 2);
+            fieldEnds = Arrays.copyOf(fieldEnds, fieldCount * 2);
+        }
+        fieldStarts[fieldCount] = start;
+        fieldEnds[fieldCount] = rowLength;
+        fieldCount++;
+    }
+
+    /**
+     * Reads the next character of the input.
+     *
+     * @return the character, or -1 at the end of the input
+     */
+    private int read() throws IOException {
+        if (position == limit && !fill()) {
+            return -1;
+        }
+        return buffer[position++];
+    }
+
+    /**
+     * Looks at the next character of the input without consuming it.
+     *
+     * @return the character, or -1 at the end of the input
+     */
+    private int peek() throws IOException {
+        if (position == limit && !fill()) {
+            return -1;
+        }
+        return buffer[position];
+    }
+
+    /**
+     * Refills the read-ahead buffer.
+     *
+     * @return false at the end of the input
+     */
+    private boolean fill() throws IOException {
+        int read;
+        do {
+            read = in.read(buffer, 0, buffer.length);
+        } while (read == 0);
+        position = 0;
+        limit = Math.max(read, 0);
+        return read > 0;
+    }
+
+    /** A view of one field of the current row. */
+    private final class FieldView implements CharSequence {
+        private final int index;
+
+        FieldView(int index) {
+            this.index = index;
+        }
+
+        @Override
+        public int length() {
+            return fieldEnd(index) - fieldStart(index);
+        }
+
+        @Override
+        public char charAt(int i) {
+            if (i < 0 || i >= length()) {
+                throw new IndexOutOfBoundsException(i);
+            }
+            return rowChars[fieldStart(index) + i];
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return toString().substring(start, end);
+        }
+
+        @Override
+        public String toString() {
+            return new String(rowChars, fieldStart(index), length());
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package Backend;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * The `ChangeNotifier` class reports that the data in the {@link CSVDataStore} has changed, so that
+ * game logic does not depend on how the change is shown.
+ *
+ * <p>Persistence and simulation call {@link #notifyChanged()} after changing pet data. The JavaFX
+ * shell subscribes its {@link UpdateService}, which delivers the changes to the screens once per
+ * frame; a headless process can subscribe its own callbacks or none at all.
+ *
+ * @author      Jay Bava <jbava@uwo.ca>
+ * @version     1.9                 (current version number of program)
+ * @since       1.9                 (the version of the package this class was first added to)
+ */
+public class ChangeNotifier {
+
+    /** Singleton instance of the `ChangeNotifier` class. */
+    private static ChangeNotifier instance;
+
+    /** Callbacks run on every change, in subscription order. */
+    private final List<Runnable> subscribers = new CopyOnWriteArrayList<>();
+
+    /**
+     * Private constructor to enforce the singleton pattern.
+     */
+    private ChangeNotifier() {}
+
+    /**
+     * Retrieves the singleton instance of the `ChangeNotifier` class.
+     *
+     * @return the singleton instance of `ChangeNotifier`
+     */
+    public static synchronized ChangeNotifier getInstance() {
+        if (instance == null) {
+            instance = new ChangeNotifier();
+        }
+        return instance;
+    }
+
+    /**
+     * Subscribes a callback to changes. The callback runs on the thread that made the change and
+     * should only hand the change off.
+     *
+     * @param subscriber the callback
+     */
+    public void subscribe(Runnable subscriber) {
+        subscribers.add(subscriber);
+    }
+
+    /**
+     * Removes a callback.
+     *
+     * @param subscriber the callback to remove
+     */
+    public void unsubscribe(Runnable subscriber) {
+        subscribers.remove(subscriber);
+    }
+
+    /**
+     * Reports that pet data or settings in the data store have changed.
+     */
+    public void notifyChanged() {
+        for (Runnable subscriber : subscribers) {
+            subscriber.run();
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package Backend;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The `Counter` class is a metric that only goes up, such as the number of saves written.
+ *
+ * <p>Increments are lock-free and spread over per-thread cells, so counting from hot paths on
+ * several threads does not contend. Counters are created by the {@link MetricsRegistry}.
+ *
+ * @author      Jay Bava <jbava@uwo.ca>
+ * @version     1.9                 (current version number of program)
+ * @since       1.9                 (the version of the package this class was first added to)
+ */
+public class Counter {
+
+    /** The running total. */
+    private final LongAdder total = new LongAdder();
+
+    /**
+     * Package-private constructor; counters are created through the {@link MetricsRegistry}.
+     */
+    Counter() {}
+
+    /**
+     * Adds one to the counter.
+     */
+    public void increment() {
+        total.increment();
+    }
+
+    /**
+     * Adds an amount to the counter.
+     *
+     * @param amount the amount to add; must not be negative
+     */
+    public void add(long amount) {
+        total.add(amount);
+    }
+
+    /**
+     * Retrieves the current total.
+     *
+     * @return the total
+     */
+    public long get() {
+        return total.sum();
+    }
+}
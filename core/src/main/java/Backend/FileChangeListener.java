@@ -0,0 +1,25 @@
+package Backend;
+
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+
+/**
+ * @author      Jay Bava <jbava@uwo.ca>
+ * @version     1.9              (current version number of program)
+ * @since       1.9          (the version of the package this class was first added to)
+ */
+
+/**
+ * Callback invoked by {@link FileWatcher} once changes to a watched file have settled.
+ */
+@FunctionalInterface
+public interface FileChangeListener {
+
+    /**
+     * Called on the file watcher thread after a watched file was created or modified.
+     *
+     * @param file the absolute path of the file that changed
+     * @param kind the kind of the most recent change
+     */
+    void onFileChanged(Path file, WatchEvent.Kind<?> kind);
+}
@@ -0,0 +1,54 @@
+package Backend;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+
+/**
+ * The `FileSyncEvent` class is a JDK Flight Recorder event recorded for every fsync of a data file,
+ * which is usually the slowest step of a save.
+ *
+ * @author      Jay Bava <jbava@uwo.ca>
+ * @version     1.9                 (current version number of program)
+ * @since       1.9                 (the version of the package this class was first added to)
+ */
+@Name("Backend.FileSync")
+@Label("File Sync")
+@Category({"PetGame", "Persistence"})
+@Description("Forcing a written data file to disk")
+@StackTrace(false)
+public class FileSyncEvent extends Event {
+
+    @Label("File")
+    String file;
+
+    @Label("Bytes")
+    @Description("Bytes written since the previous sync")
+    @DataAmount
+    long bytes;
+
+    /**
+     * Forces a file's contents to disk and records the sync.
+     *
+     * @param channel  the open file
+     * @param metaData whether the file's metadata must be written as well
+     * @param file     the path of the file
+     * @param bytes    the bytes written since the previous sync
+     * @throws IOException if the file cannot be forced
+     */
+    static void force(FileChannel channel, boolean metaData, String file, long bytes) throws IOException {
+        FileSyncEvent event = new FileSyncEvent();
+        event.begin();
+        channel.force(metaData);
+        event.file = file;
+        event.bytes = bytes;
+        event.commit();
+    }
+}
@@ -0,0 +1,351 @@
+/**
+ * The `FileWatcher` class provides a single mechanism to monitor changes to files and execute
+ * callbacks when changes are detected. One daemon thread and one `WatchService` serve every
+ * registered file: each parent directory is registered once, events are matched to the watched
+ * files, and bursts of events for a file are debounced on the watcher thread itself before its
+ * callbacks run. Files the game wrote itself are recognised by the checksum recorded through
+ * {@link #recordWrite(String, byte[])} and do not trigger callbacks. The watcher can be enabled or
+ * disabled at runtime.
+ *
+ * @author      Jay Bava <jbava@uwo.ca>
+ * @version     1.9                 (current version number of program)
+ * @since       1.7                 (the version of the package this class was first added to)
+ */
+package Backend;
+
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+public class FileWatcher {
+
+    /** Default quiet period after the last event for a file before its callbacks run. */
+    public static final long DEFAULT_DEBOUNCE_MILLIS = 100;
+
+    /** Singleton instance of the `FileWatcher` class. */
+    private static FileWatcher instance;
+
+    /** Flag indicating whether the file watcher is disabled. */
+    private static volatile boolean isFileWatcherDisabled = false;
+
+    /** A watched file, its callbacks, and its debounce state. */
+    private static final class Registration {
+        final Path file;
+        final long debounceNanos;
+        final List<FileChangeListener> listeners = new CopyOnWriteArrayList<>();
+        boolean pending;
+        long dueNanos;
+        WatchEvent.Kind<?> lastKind;
+
+        Registration(Path file, long debounceNanos) {
+            this.file = file;
+            this.debounceNanos = debounceNanos;
+        }
+    }
+
+    /** The watch service shared by every watched directory, or null if it could not be created. */
+    private WatchService watchService;
+
+    /** Watched directories; each is registered with the watch service once. */
+    private final Map<Path, WatchKey> directories = new HashMap<>();
+
+    /** Registrations by absolute file path. */
+    private final Map<Path, Registration> registrations = new HashMap<>();
+
+    /** Checksum of the last content the game wrote, by absolute file path. */
+    private final Map<Path, Long> ownWrites = new HashMap<>();
+
+    /** The watcher thread, started with the first registration. */
+    private Thread thread;
+
+    /**
+     * Private constructor to enforce the singleton pattern.
+     */
+    private FileWatcher() {
+        try {
+            watchService = FileSystems.getDefault().newWatchService();
+        } catch (IOException e) {
+            System.err.println("Error creating watch service: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Retrieves the singleton instance of the `FileWatcher` class.
+     *
+     * @return the singleton instance of `FileWatcher`
+     */
+    public static synchronized FileWatcher getInstance() {
+        if (instance == null) {
+            instance = new FileWatcher();
+        }
+        return instance;
+    }
+
+    /**
+     * Sets the state of the file watcher (enabled or disabled).
+     * Changes that happen while the watcher is disabled are ignored.
+     *
+     * @param disabled true to disable the file watcher, false to enable it
+     */
+    public static void setIsFileWatcherDisabled(boolean disabled) {
+        isFileWatcherDisabled = disabled;
+    }
+
+    /**
+     * Retrieves the current state of the file watcher.
+     *
+     * @return true if the file watcher is disabled, false otherwise
+     */
+    public static boolean isFileWatcherDisabled() {
+        return isFileWatcherDisabled;
+    }
+
+    /**
+     * Records the content the game is about to write to a file, so that the change events caused by
+     * the write are not reported to the file's callbacks. Must be called before writing. Once the
+     * file holds different content, such as after an external edit, callbacks run as usual.
+     *
+     * @param filePath the path of the file being written
+     * @param content  the complete new content of the file
+     */
+    public synchronized void recordWrite(String filePath, byte[] content) {
+        ownWrites.put(Paths.get(filePath).toAbsolutePath().normalize(), checksum(content));
+    }
+
+    /**
+     * Checks whether a file currently holds the content last written by the game.
+     *
+     * @param file the absolute path of the file
+     * @return true if the file's content matches the recorded write
+     */
+    private boolean isOwnWrite(Path file) {
+        Long expected;
+        synchronized (this) {
+            expected = ownWrites.get(file);
+        }
+        if (expected == null) {
+            return false;
+        }
+        try {
+            return checksum(Files.readAllBytes(file)) == expected;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Computes the CRC-32 checksum of file content.
+     *
+     * @param content the content
+     * @return the checksum
+     */
+    private static long checksum(byte[] content) {
+        CRC32 crc = new CRC32();
+        crc.update(content);
+        return crc.getValue();
+    }
+
+    /**
+     * Watches a file for creation and modification with the default debounce.
+     *
+     * @param filePath the path of the file to watch
+     * @param listener the callback to execute when the file changes
+     */
+    public void watchFile(String filePath, FileChangeListener listener) {
+        watchFile(filePath, DEFAULT_DEBOUNCE_MILLIS, listener);
+    }
+
+    /**
+     * Watches a file for creation and modification. The callback runs on the watcher thread once no
+     * further event for the file has arrived for the debounce period. A file watched more than once
+     * keeps the debounce period of its first registration.
+     *
+     * @param filePath       the path of the file to watch
+     * @param debounceMillis the quiet period before the callback runs
+     * @param listener       the callback to execute when the file changes
+     */
+    public synchronized void watchFile(String filePath, long debounceMillis, FileChangeListener listener) {
+        if (watchService == null) {
+            return;
+        }
+        Path file = Paths.get(filePath).toAbsolutePath().normalize();
+        if (!Files.exists(file)) {
+            System.err.println("File " + filePath + " does not exist");
+        }
+
+        Path dir = file.getParent();
+        if (!directories.containsKey(dir)) {
+            try {
+                directories.put(dir, dir.register(watchService,
+                        StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY));
+            } catch (IOException e) {
+                System.err.println("Error watching directory " + dir + ": " + e.getMessage());
+                e.printStackTrace();
+                return;
+            }
+        }
+
+        registrations.computeIfAbsent(file,
+                f -> new Registration(f, TimeUnit.MILLISECONDS.toNanos(debounceMillis))).listeners.add(listener);
+
+        if (thread == null) {
+            thread = new Thread(this::run, "FileWatcher");
+            thread.setDaemon(true);
+            thread.start();
+        }
+    }
+
+    /**
+     * Removes a callback registered for a file.
+     *
+     * @param filePath the path of the watched file
+     * @param listener the callback to remove
+     */
+    public synchronized void unwatchFile(String filePath, FileChangeListener listener) {
+        Path file = Paths.get(filePath).toAbsolutePath().normalize();
+        Registration registration = registrations.get(file);
+        if (registration != null) {
+            registration.listeners.remove(listener);
+            if (registration.listeners.isEmpty()) {
+                registrations.remove(file);
+            }
+        }
+    }
+
+    /**
+     * Stops the file-watching process and closes the watch service.
+     */
+    public synchronized void stopWatching() {
+        if (watchService == null) {
+            return;
+        }
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+        watchService = null;
+        directories.clear();
+        registrations.clear();
+        ownWrites.clear();
+    }
+
+    /**
+     * Body of the watcher thread: waits for events on every watched directory, or until the next
+     * debounced callback falls due, then dispatches the callbacks whose files have settled.
+     */
+    private void run() {
+        WatchService service;
+        synchronized (this) {
+            service = watchService;
+        }
+        try {
+            while (true) {
+                long waitNanos = pendingWaitNanos();
+                WatchKey key = waitNanos < 0 ? service.take() : service.poll(waitNanos, TimeUnit.NANOSECONDS);
+                if (key != null) {
+                    collect(key);
+                    key.reset();
+                }
+                dispatchDue();
+            }
+        } catch (ClosedWatchServiceException | InterruptedException e) {
+            // Watching was stopped
+        }
+    }
+
+    /**
+     * Marks the registrations affected by a key's events as pending and restarts their debounce.
+     *
+     * @param key the signalled watch key
+     */
+    private synchronized void collect(WatchKey key) {
+        Path dir = (Path) key.watchable();
+        long now = System.nanoTime();
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (isFileWatcherDisabled) {
+                continue;
+            }
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                // Events were lost, so treat every file in the directory as changed
+                for (Registration registration : registrations.values()) {
+                    if (registration.file.getParent().equals(dir)) {
+                        markPending(registration, event.kind(), now);
+                    }
+                }
+                continue;
+            }
+            Registration registration = registrations.get(dir.resolve((Path) event.context()));
+            if (registration != null) {
+                markPending(registration, event.kind(), now);
+            }
+        }
+    }
+
+    /**
+     * Marks a registration as changed and restarts its debounce period.
+     *
+     * @param registration the registration
+     * @param kind         the kind of the change
+     * @param now          the current System.nanoTime()
+     */
+    private static void markPending(Registration registration, WatchEvent.Kind<?> kind, long now) {
+        registration.pending = true;
+        registration.lastKind = kind;
+        registration.dueNanos = now + registration.debounceNanos;
+    }
+
+    /**
+     * Computes how long the watcher thread may wait before the next debounced callback falls due.
+     *
+     * @return the wait in nanoseconds (0 if a callback is already due), or -1 if nothing is pending
+     */
+    private synchronized long pendingWaitNanos() {
+        long now = System.nanoTime();
+        long wait = -1;
+        for (Registration registration : registrations.values()) {
+            if (registration.pending) {
+                long remaining = Math.max(registration.dueNanos - now, 0);
+                wait = wait < 0 ? remaining : Math.min(wait, remaining);
+            }
+        }
+        return wait;
+    }
+
+    /**
+     * Runs the callbacks of every registration whose debounce period has elapsed.
+     * Callbacks run outside the watcher's lock so they may register or remove watches.
+     */
+    private void dispatchDue() {
+        List<Registration> due = new ArrayList<>();
+        synchronized (this) {
+            long now = System.nanoTime();
+            for (Registration registration : registrations.values()) {
+                if (registration.pending && registration.dueNanos - now <= 0) {
+                    registration.pending = false;
+                    due.add(registration);
+                }
+            }
+        }
+        for (Registration registration : due) {
+            if (isOwnWrite(registration.file)) {
+                continue; // Written by the game itself, the data is already in memory
+            }
+            for (FileChangeListener listener : registration.listeners) {
+                try {
+                    listener.onFileChanged(registration.file, registration.lastKind);
+                } catch (Exception e) {
+                    System.err.println("Error handling change to " + registration.file);
+                    e.printStackTrace();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package Backend;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+
+import java.io.IOException;
+import java.text.ParseException;
+import java.time.Duration;
+
+/**
+ * The `FlightRecording` class keeps a continuous JDK Flight Recorder recording running for the
+ * whole session, so that the recent history of a misbehaving game can be pulled from the machine
+ * it runs on.
+ *
+ * <p>The recording uses the JDK's "default" settings, which are meant for production use, plus the
+ * game's own events ({@link PetSaveEvent}, {@link FileSyncEvent}, {@link CSVParseEvent},
+ * {@link SimulationTickEvent} and the events of the screens). It is kept on disk and trimmed to
+ * the last {@link #MAX_AGE} and {@link #MAX_SIZE_BYTES}. To dump it from a running game:
+ *
+ * <pre>jcmd &lt;pid&gt; JFR.dump name=PetGame filename=petgame.jfr</pre>
+ *
+ * @author      Jay Bava <jbava@uwo.ca>
+ * @version     1.9                 (current version number of program)
+ * @since       1.9                 (the version of the package this class was first added to)
+ */
+public class FlightRecording {
+
+    /** Name of the recording, used to dump it with jcmd. */
+    public static final String NAME = "PetGame";
+
+    /** How long recorded events are kept. */
+    public static final Duration MAX_AGE = Duration.ofMinutes(30);
+
+    /** Disk space the recording may use. */
+    public static final long MAX_SIZE_BYTES = 64L * 1024 * 1024;
+
+    /** The running recording, or null if none was started. */
+    private static Recording recording;
+
+    /**
+     * Private constructor, as this class only has static members.
+     */
+    private FlightRecording() {}
+
+    /**
+     * Starts the continuous recording, unless it is already running. Failures are reported and
+     * otherwise ignored, since the game runs the same without a recording.
+     */
+    public static synchronized void start() {
+        if (recording != null) {
+            return;
+        }
+        if (!FlightRecorder.isAvailable()) {
+            System.err.println("Flight Recorder is not available, not recording");
+            return;
+        }
+        try {
+            Recording continuous = new Recording(Configuration.getConfiguration("default"));
+            continuous.setName(NAME);
+            continuous.setToDisk(true);
+            continuous.setMaxAge(MAX_AGE);
+            continuous.setMaxSize(MAX_SIZE_BYTES);
+            continuous.start();
+            recording = continuous;
+        } catch (IOException | ParseException | IllegalStateException | SecurityException e) {
+            System.err.println("Could not start the flight recording");
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Stops the recording started by {@link #start()}, if any.
+     */
+    public static synchronized void stop() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+    }
+}
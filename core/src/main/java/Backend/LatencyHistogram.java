@@ -0,0 +1,184 @@
+package Backend;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The `LatencyHistogram` class records the distribution of durations, such as save latency, with a
+ * bounded relative error.
+ *
+ * <p>Like an HDR histogram, values are counted in log-linear buckets: each power of two is split
+ * into {@link #SUB_BUCKETS} equal buckets, so a recorded value is off by at most 1/8 of itself
+ * whatever its magnitude, from one nanosecond to hours, with a fixed table of a few hundred
+ * buckets. Recording is a handful of lock-free atomic increments and never allocates.
+ *
+ * <p>Histograms are created by the {@link MetricsRegistry}, which exports them in Prometheus text
+ * format with the cumulative {@link #EXPORT_BOUNDS_NANOS} buckets.
+ *
+ * @author      Jay Bava <jbava@uwo.ca>
+ * @version     1.9                 (current version number of program)
+ * @since       1.9                 (the version of the package this class was first added to)
+ */
+public class LatencyHistogram {
+
+    /** log2 of the number of buckets per power of two. */
+    private static final int SUB_BUCKET_BITS = 3;
+
+    /** Number of buckets each power of two is split into. */
+    public static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    /** Number of buckets, enough for every non-negative long. */
+    private static final int BUCKET_COUNT = (64 - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+    /** Upper bounds of the exported buckets, from one microsecond to ten seconds. */
+    static final long[] EXPORT_BOUNDS_NANOS = {
+            1_000L, 2_500L, 5_000L, 10_000L, 25_000L, 50_000L, 100_000L, 250_000L, 500_000L,
+            1_000_000L, 2_500_000L, 5_000_000L, 10_000_000L, 25_000_000L, 50_000_000L,
+            100_000_000L, 250_000_000L, 500_000_000L, 1_000_000_000L, 2_500_000_000L,
+            5_000_000_000L, 10_000_000_000L
+    };
+
+    /** Number of values recorded in each bucket. */
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+
+    /** Number of values recorded. */
+    private final LongAdder count = new LongAdder();
+
+    /** Sum of the values recorded, in nanoseconds. */
+    private final LongAdder sum = new LongAdder();
+
+    /**
+     * Package-private constructor; histograms are created through the {@link MetricsRegistry}.
+     */
+    LatencyHistogram() {}
+
+    /**
+     * Records a duration.
+     *
+     * @param nanos the duration in nanoseconds; negative values are recorded as zero
+     */
+    public void record(long nanos) {
+        long value = Math.max(nanos, 0);
+        buckets.incrementAndGet(bucketOf(value));
+        count.increment();
+        sum.add(value);
+    }
+
+    /**
+     * Records the time elapsed since a System.nanoTime() reading.
+     *
+     * @param startNanos the reading taken at the start
+     */
+    public void recordSince(long startNanos) {
+        record(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Retrieves the number of values recorded.
+     *
+     * @return the count
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Retrieves the sum of the values recorded.
+     *
+     * @return the sum in nanoseconds
+     */
+    public long getSumNanos() {
+        return sum.sum();
+    }
+
+    /**
+     * Estimates a percentile of the recorded values.
+     *
+     * @param percentile the percentile, between 0 and 1
+     * @return the upper bound of the bucket holding the percentile in nanoseconds, or 0 if empty
+     */
+    public long getPercentileNanos(double percentile) {
+        long[] counts = snapshot();
+        long total = 0;
+        for (long c : counts) {
+            total += c;
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile * total));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return upperBoundOf(i);
+            }
+        }
+        return upperBoundOf(counts.length - 1);
+    }
+
+    /**
+     * Counts the recorded values at or below each exported bound.
+     *
+     * @return the cumulative counts, one per entry of {@link #EXPORT_BOUNDS_NANOS}
+     */
+    long[] cumulativeCounts() {
+        long[] counts = snapshot();
+        long[] cumulative = new long[EXPORT_BOUNDS_NANOS.length];
+        long seen = 0;
+        int bucket = 0;
+        for (int i = 0; i < EXPORT_BOUNDS_NANOS.length; i++) {
+            while (bucket < counts.length && upperBoundOf(bucket) <= EXPORT_BOUNDS_NANOS[i]) {
+                seen += counts[bucket++];
+            }
+            cumulative[i] = seen;
+        }
+        return cumulative;
+    }
+
+    /**
+     * Copies the bucket counts.
+     *
+     * @return the counts
+     */
+    private long[] snapshot() {
+        long[] counts = new long[BUCKET_COUNT];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = buckets.get(i);
+        }
+        return counts;
+    }
+
+    /**
+     * Finds the bucket of a value. Values below {@link #SUB_BUCKETS} have a bucket each; larger
+     * values are bucketed by their highest bit and the {@link #SUB_BUCKET_BITS} bits below it.
+     *
+     * @param value the non-negative value
+     * @return the bucket index
+     */
+    static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int sub = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + sub;
+    }
+
+    /**
+     * Calculates the largest value that falls in a bucket.
+     *
+     * @param bucket the bucket index
+     * @return the inclusive upper bound
+     */
+    static long upperBoundOf(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        long sub = bucket % SUB_BUCKETS;
+        long width = 1L << (exponent - SUB_BUCKET_BITS);
+        long lower = (1L << exponent) + sub * width;
+        return lower + width - 1;
+    }
+}
@@ -0,0 +1,202 @@
+package Backend;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.DoubleSupplier;
+import java.util.function.LongSupplier;
+
+/**
+ * The `MetricsRegistry` class holds the game's performance metrics and writes them in the
+ * Prometheus text exposition format, which the {@link MetricsServer} serves on the loopback
+ * interface.
+ *
+ * <p>Three kinds of metrics are supported: {@link Counter}s that the game increments, gauges whose
+ * value is read from the game when the metrics are written, and {@link LatencyHistogram}s of
+ * durations, which are exported in seconds. Registering a name twice returns the metric
+ * registered first, so a class can look its metrics up again instead of keeping them.
+ *
+ * @author      Jay Bava <jbava@uwo.ca>
+ * @version     1.9                 (current version number of program)
+ * @since       1.9                 (the version of the package this class was first added to)
+ */
+public class MetricsRegistry {
+
+    /** Prefix of every metric name. */
+    public static final String PREFIX = "petgame_";
+
+    /**
+     * A registered metric.
+     *
+     * @param type  the Prometheus type
+     * @param help  the description
+     * @param value the {@link Counter}, {@link LatencyHistogram}, {@link LongSupplier} or {@link DoubleSupplier}
+     */
+    private record Metric(String type, String help, Object value) {}
+
+    /** Singleton instance of the `MetricsRegistry` class. */
+    private static MetricsRegistry instance;
+
+    /** Registered metrics by full name, in name order. */
+    private final Map<String, Metric> metrics = new ConcurrentSkipListMap<>();
+
+    /**
+     * Private constructor to enforce the singleton pattern.
+     */
+    private MetricsRegistry() {}
+
+    /**
+     * Retrieves the singleton instance of the `MetricsRegistry` class.
+     *
+     * @return the singleton instance of `MetricsRegistry`
+     */
+    public static synchronized MetricsRegistry getInstance() {
+        if (instance == null) {
+            instance = new MetricsRegistry();
+        }
+        return instance;
+    }
+
+    /**
+     * Registers a counter.
+     *
+     * @param name the name, without the {@link #PREFIX}; should end in "_total"
+     * @param help the description
+     * @return the counter
+     */
+    public Counter counter(String name, String help) {
+        return (Counter) register(name, "counter", help, new Counter()).value();
+    }
+
+    /**
+     * Registers a counter whose total is kept by the game and read when the metrics are written.
+     *
+     * @param name  the name, without the {@link #PREFIX}; should end in "_total"
+     * @param help  the description
+     * @param total reads the total
+     */
+    public void counter(String name, String help, LongSupplier total) {
+        register(name, "counter", help, total);
+    }
+
+    /**
+     * Registers a gauge, a value that can go up and down, read when the metrics are written.
+     *
+     * @param name  the name, without the {@link #PREFIX}
+     * @param help  the description
+     * @param value reads the value
+     */
+    public void gauge(String name, String help, DoubleSupplier value) {
+        register(name, "gauge", help, value);
+    }
+
+    /**
+     * Registers a histogram of durations.
+     *
+     * @param name the name, without the {@link #PREFIX}; should end in "_seconds"
+     * @param help the description
+     * @return the histogram
+     */
+    public LatencyHistogram histogram(String name, String help) {
+        return (LatencyHistogram) register(name, "histogram", help, new LatencyHistogram()).value();
+    }
+
+    /**
+     * Registers a metric unless one of the same name exists.
+     *
+     * @param name  the name, without the prefix
+     * @param type  the Prometheus type
+     * @param help  the description
+     * @param value the metric
+     * @return the registered metric
+     * @throws IllegalArgumentException if the name is registered with another type
+     */
+    private Metric register(String name, String type, String help, Object value) {
+        Metric metric = metrics.computeIfAbsent(PREFIX + name, n -> new Metric(type, help, value));
+        if (!metric.type().equals(type) || (metric.value() instanceof Counter) != (value instanceof Counter)) {
+            throw new IllegalArgumentException("Metric " + name + " is already registered as another kind");
+        }
+        return metric;
+    }
+
+    /**
+     * Writes every metric in the Prometheus text exposition format, version 0.0.4.
+     *
+     * @param out receives the text
+     * @throws IOException if the text cannot be written
+     */
+    public void writePrometheus(Appendable out) throws IOException {
+        for (Map.Entry<String, Metric> entry : metrics.entrySet()) {
+            String name = entry.getKey();
+            Metric metric = entry.getValue();
+            out.append("# HELP ").append(name).append(' ').append(escapeHelp(metric.help())).append('\n');
+            out.append("# TYPE ").append(name).append(' ').append(metric.type()).append('\n');
+            Object value = metric.value();
+            if (value instanceof Counter counter) {
+                sample(out, name, counter.get());
+            } else if (value instanceof LongSupplier supplier) {
+                sample(out, name, supplier.getAsLong());
+            } else if (value instanceof DoubleSupplier supplier) {
+                out.append(name).append(' ').append(format(supplier.getAsDouble())).append('\n');
+            } else if (value instanceof LatencyHistogram histogram) {
+                writeHistogram(out, name, histogram);
+            }
+        }
+    }
+
+    /**
+     * Writes the cumulative buckets, sum and count of a histogram, in seconds.
+     *
+     * @param out       receives the text
+     * @param name      the full name
+     * @param histogram the histogram
+     * @throws IOException if the text cannot be written
+     */
+    private static void writeHistogram(Appendable out, String name, LatencyHistogram histogram) throws IOException {
+        // Values recorded while the buckets are read may be missing from the count, so cap the buckets at it
+        long count = histogram.getCount();
+        long sumNanos = histogram.getSumNanos();
+        long[] cumulative = histogram.cumulativeCounts();
+        for (int i = 0; i < cumulative.length; i++) {
+            out.append(name).append("_bucket{le=\"")
+                    .append(format(LatencyHistogram.EXPORT_BOUNDS_NANOS[i] / 1e9)).append("\"} ")
+                    .append(Long.toString(Math.min(cumulative[i], count))).append('\n');
+        }
+        out.append(name).append("_bucket{le=\"+Inf\"} ").append(Long.toString(count)).append('\n');
+        out.append(name).append("_sum ").append(format(sumNanos / 1e9)).append('\n');
+        sample(out, name + "_count", count);
+    }
+
+    /**
+     * Writes one integer sample.
+     */
+    private static void sample(Appendable out, String name, long value) throws IOException {
+        out.append(name).append(' ').append(Long.toString(value)).append('\n');
+    }
+
+    /**
+     * Formats a floating-point sample value as Prometheus expects it.
+     *
+     * @param value the value
+     * @return the text of the value
+     */
+    private static String format(double value) {
+        if (Double.isNaN(value)) {
+            return "NaN";
+        }
+        if (Double.isInfinite(value)) {
+            return value > 0 ? "+Inf" : "-Inf";
+        }
+        return Double.toString(value);
+    }
+
+    /**
+     * Escapes backslashes and line breaks in a description.
+     *
+     * @param help the description
+     * @return the escaped description
+     */
+    private static String escapeHelp(String help) {
+        return help.replace("\\", "\\\\").replace("\n", "\\n");
+    }
+}
@@ -0,0 +1,114 @@
+package Backend;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
+
+/**
+ * The `MetricsServer` class serves the {@link MetricsRegistry} over HTTP, so that a Prometheus
+ * agent on the same machine can scrape the game's performance.
+ *
+ * <p>The server only listens on the loopback interface, at {@code http://127.0.0.1:<port>/metrics},
+ * and answers on a single daemon thread, so it is not reachable from other machines and never
+ * keeps the game from exiting.
+ *
+ * @author      Jay Bava <jbava@uwo.ca>
+ * @version     1.9                 (current version number of program)
+ * @since       1.9                 (the version of the package this class was first added to)
+ */
+public class MetricsServer {
+
+    /** Port the server listens on unless the petgame.metrics.port system property says otherwise. */
+    public static final int DEFAULT_PORT = 9464;
+
+    /** Path the metrics are served at. */
+    public static final String PATH = "/metrics";
+
+    /** Content type of the Prometheus text exposition format. */
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    /** The running server, or null if none was started. */
+    private static HttpServer server;
+
+    /**
+     * Private constructor, as this class only has static members.
+     */
+    private MetricsServer() {}
+
+    /**
+     * Starts the server on the port given by the petgame.metrics.port system property, or
+     * {@link #DEFAULT_PORT}. A port of 0 or below disables the server.
+     */
+    public static void start() {
+        start(Integer.getInteger("petgame.metrics.port", DEFAULT_PORT));
+    }
+
+    /**
+     * Starts the server on a loopback port, unless it is already running. Failures, such as the
+     * port being in use, are reported and otherwise ignored, since the game runs the same without it.
+     *
+     * @param port the port, or 0 or below to not start the server
+     */
+    public static synchronized void start(int port) {
+        if (server != null || port <= 0) {
+            return;
+        }
+        try {
+            HttpServer http = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+            http.createContext(PATH, MetricsServer::handle);
+            http.setExecutor(Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "MetricsServer");
+                thread.setDaemon(true);
+                return thread;
+            }));
+            http.start();
+            server = http;
+            System.out.println("Serving metrics at http://127.0.0.1:" + port + PATH);
+        } catch (IOException e) {
+            System.err.println("Could not start the metrics server on port " + port + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Stops the server started by {@link #start(int)}, if any.
+     */
+    public static synchronized void stop() {
+        if (server != null) {
+            server.stop(0);
+            server = null;
+        }
+    }
+
+    /**
+     * Answers a scrape with the current metrics.
+     *
+     * @param exchange the request and its response
+     * @throws IOException if the response cannot be sent
+     */
+    private static void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!"GET".equals(exchange.getRequestMethod()) && !"HEAD".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            StringBuilder text = new StringBuilder(4096);
+            MetricsRegistry.getInstance().writePrometheus(text);
+            byte[] body = text.toString().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+            if ("HEAD".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(200, -1);
+                return;
+            }
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+}
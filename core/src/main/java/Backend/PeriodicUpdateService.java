@@ -0,0 +1,256 @@
+package Backend;
+
+import java.util.BitSet;
+
+/**
+ * The `PeriodicUpdateService` class is a singleton responsible for periodically updating the stats
+ * of the pets in the game. It reduces attributes like hunger, happiness, and sleep over time
+ * and applies health penalties if any of these stats reach critical thresholds.
+ *
+ * @author      Jay Bava <jbava@uwo.ca>
+ * @version     1.9                 (current version number of program)
+ * @since       1.7                 (the version of the package this class was first added to)
+ */
+public class PeriodicUpdateService {
+
+    /** Interval between decay ticks in milliseconds. */
+    public static final long TICK_MILLIS = 5000;
+
+    /** Amount hunger, happiness and sleep drop per tick. */
+    public static final int DECAY_PER_TICK = 2;
+
+    /** Amount health drops per tick while hunger, happiness or sleep is at zero. */
+    public static final int HEALTH_PENALTY_PER_TICK = 2;
+
+    /** Key of the batched decay task in the scheduler. */
+    private static final String DECAY_TASK = "decay";
+
+    /** Duration of the batched decay tick. */
+    private static final LatencyHistogram TICK_LATENCY = MetricsRegistry.getInstance()
+            .histogram("simulation_tick_seconds", "Time taken to advance every pet by one tick");
+
+    /** Ticks of decay caught up for the time the game was closed. */
+    private static final Counter OFFLINE_TICKS = MetricsRegistry.getInstance()
+            .counter("offline_decay_ticks_total", "Decay ticks applied for the time the game was closed");
+
+    /** Number of pets changed by decay ticks. */
+    private static final Counter PETS_CHANGED = MetricsRegistry.getInstance()
+            .counter("simulation_pets_changed_total", "Pets changed by decay ticks");
+
+    /** Singleton instance of the `PeriodicUpdateService` class. */
+    private static PeriodicUpdateService instance;
+
+    /** Game-clock scheduler running the decay tick and any per-pet tasks. */
+    private TimingWheelScheduler scheduler;
+
+    /** ID of the currently selected pet. -1 indicates no pet is selected. */
+    private volatile int selectedPetId = -1;
+
+    /** Batched simulation that advances every pet each tick. */
+    private final PetSimulation simulation = new PetSimulation();
+
+    /**
+     * Private constructor to enforce the singleton pattern.
+     * Initializes the scheduler for periodic tasks.
+     */
+    private PeriodicUpdateService() {
+        scheduler = new TimingWheelScheduler();
+    }
+
+    /**
+     * Retrieves the singleton instance of the `PeriodicUpdateService` class.
+     *
+     * @return the singleton instance of `PeriodicUpdateService`
+     */
+    public static PeriodicUpdateService getInstance() {
+        if (instance == null) {
+            instance = new PeriodicUpdateService();
+        }
+        return instance;
+    }
+
+    /**
+     * Sets the ID of the currently selected pet for periodic updates.
+     *
+     * @param petId the ID of the selected pet (1 for Shrek, 2 for Toothless, 3 for Puss)
+     */
+    public void setSelectedPetId(int petId) {
+        this.selectedPetId = petId;
+    }
+
+    /**
+     * Replaces the scheduler, e.g. with a virtual-clock scheduler in tests.
+     * The previous scheduler is stopped; registered tasks are not carried over.
+     *
+     * @param scheduler the scheduler to use
+     */
+    public synchronized void setScheduler(TimingWheelScheduler scheduler) {
+        this.scheduler.stop();
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Retrieves the scheduler running the periodic updates.
+     *
+     * @return the scheduler
+     */
+    public synchronized TimingWheelScheduler getScheduler() {
+        return scheduler;
+    }
+
+    /**
+     * Starts the periodic updates for the pets.
+     * Updates are performed every 5 seconds. Calling this again while updates are running has no
+     * effect, and calling it after {@link #stopUpdating()} or {@link #pauseUpdating()} restarts them.
+     */
+    public synchronized void startUpdating() {
+        scheduler.scheduleAtFixedRate(DECAY_TASK, TICK_MILLIS, this::tickPets);
+        scheduler.start();
+    }
+
+    /**
+     * Pauses the periodic updates; paused time does not count towards the next tick.
+     */
+    public synchronized void pauseUpdating() {
+        scheduler.pause();
+    }
+
+    /**
+     * Resumes the periodic updates after {@link #pauseUpdating()}.
+     */
+    public synchronized void resumeUpdating() {
+        scheduler.resume();
+    }
+
+    /**
+     * Stops the periodic updates. They can be started again with {@link #startUpdating()}.
+     */
+    public synchronized void stopUpdating() {
+        scheduler.stop();
+    }
+
+    /**
+     * Registers a periodic task for a single pet on the game clock.
+     * Registering the same task name twice for a pet keeps the first registration.
+     *
+     * @param petId        the ID of the pet
+     * @param name         the name of the task, unique per pet
+     * @param periodMillis the period in milliseconds
+     * @param task         the task to run
+     * @return true if the task was registered
+     */
+    public synchronized boolean schedulePetTask(int petId, String name, long periodMillis, Runnable task) {
+        return scheduler.scheduleAtFixedRate(petTaskPrefix(petId) + name, periodMillis, task);
+    }
+
+    /**
+     * Cancels every periodic task registered for a pet.
+     *
+     * @param petId the ID of the pet
+     */
+    public synchronized void cancelPetTasks(int petId) {
+        scheduler.cancelAll(petTaskPrefix(petId));
+    }
+
+    /**
+     * Builds the scheduler key prefix of a pet's tasks.
+     *
+     * @param petId the ID of the pet
+     * @return the key prefix
+     */
+    private static String petTaskPrefix(int petId) {
+        return "pet-" + petId + "/";
+    }
+
+    /**
+     * Advances every saved pet by one tick in a single batched pass, reducing hunger, happiness,
+     * and sleep and applying the health penalty where needed. All changed pets are handed to the
+     * persistence service together and listeners are notified once per tick.
+     */
+    private void tickPets() {
+        if (selectedPetId == -1) {
+            return; // No game is in progress
+        }
+
+        SimulationTickEvent event = new SimulationTickEvent();
+        event.begin();
+        long startNanos = System.nanoTime();
+        BitSet changed;
+        synchronized (CSVDataStore.getInstance()) {
+            PetState[] pets = CSVDataStore.getInstance().getPets();
+            changed = simulation.tick(pets, 1);
+            event.pets = pets.length;
+        }
+        event.changed = changed.cardinality();
+        event.commit();
+        TICK_LATENCY.recordSince(startNanos);
+        PETS_CHANGED.add(event.changed);
+
+        if (!changed.isEmpty()) {
+            // Persist every changed pet in one flush and publish a single change event
+            PersistenceService.getInstance().markDirty(changed);
+            ChangeNotifier.getInstance().notifyChanged();
+        }
+    }
+
+    /**
+     * Applies the decay of the given number of ticks to a pet in one step.
+     *
+     * <p>Each tick lowers hunger, happiness and sleep by {@link #DECAY_PER_TICK} (not below zero)
+     * and then, if any of the three is at zero, lowers health by {@link #HEALTH_PENALTY_PER_TICK}.
+     * A stat of value x reaches zero on tick max(1, ceil(x / 2)), so the health penalty applies to
+     * every tick from the first such tick onwards and the result is computed without looping.
+     *
+     * @param pet   the pet to update
+     * @param ticks the number of elapsed ticks
+     */
+    public static void applyDecay(PetState pet, long ticks) {
+        if (ticks <= 0) {
+            return;
+        }
+        long drop = ticks * DECAY_PER_TICK;
+        int lowest = Math.min(pet.getHunger(), Math.min(pet.getHappiness(), pet.getSleep()));
+
+        pet.setHunger((int) Math.max(pet.getHunger() - drop, 0));
+        pet.setHappiness((int) Math.max(pet.getHappiness() - drop, 0));
+        pet.setSleep((int) Math.max(pet.getSleep() - drop, 0));
+
+        // First tick at which the lowest stat is at zero after decaying
+        long firstZeroTick = Math.max(1, (lowest + DECAY_PER_TICK - 1) / DECAY_PER_TICK);
+        if (ticks >= firstZeroTick) {
+            long penaltyTicks = ticks - firstZeroTick + 1;
+            pet.setHealth((int) Math.max(pet.getHealth() - penaltyTicks * HEALTH_PENALTY_PER_TICK, 0));
+        }
+    }
+
+    /**
+     * Applies the decay that accumulated while the game was closed to every saved pet, based on the
+     * savedTime stamped when the pet was last persisted. Runs in constant time regardless of how long
+     * the game was closed. Pets that changed are marked for persistence, and the save stamps them
+     * with the current time, so the partial tick left over is not carried over.
+     *
+     * @param now the current time in epoch milliseconds
+     */
+    public static void catchUpOfflineDecay(long now) {
+        synchronized (CSVDataStore.getInstance()) {
+            PetState[] pets = {
+                    CSVDataStore.getInstance().getShrek(),
+                    CSVDataStore.getInstance().getToothless(),
+                    CSVDataStore.getInstance().getPuss()
+            };
+            for (int i = 0; i < pets.length; i++) {
+                PetState pet = pets[i];
+                if (pet == null || !pet.isSaved() || pet.getSavedTime() <= 0) {
+                    continue;
+                }
+                long ticks = (now - pet.getSavedTime()) / TICK_MILLIS;
+                if (ticks <= 0) {
+                    continue;
+                }
+                applyDecay(pet, ticks);
+                PersistenceService.getInstance().markDirty(i + 1);
+                OFFLINE_TICKS.add(ticks);
+            }
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package Backend;
+
+import java.io.IOException;
+import java.util.BitSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The `PersistenceService` class is a singleton write-behind stage for the pet save.
+ * Stat changes only mark a pet as dirty; the dirty pets are then written to disk together in a
+ * single flush, either once the flush interval has elapsed, when {@link #flushNow()} is called,
+ * or when the application shuts down.
+ *
+ * <p>This coalesces bursts of mutations (e.g. repeatedly pressing the feed buttons, or the
+ * periodic stat decay) into one file write instead of one synced rewrite per change.
+ *
+ * @author      Jay Bava <jbava@uwo.ca>
+ * @version     1.9                 (current version number of program)
+ * @since       1.9                 (the version of the package this class was first added to)
+ */
+public class PersistenceService {
+
+    /** Default delay between the first unsaved change and the flush that writes it. */
+    public static final long DEFAULT_FLUSH_INTERVAL_MILLIS = 2000;
+
+    /** Singleton instance of the `PersistenceService` class. */
+    private static PersistenceService instance;
+
+    /** Scheduler running delayed flushes on a background thread. */
+    private final ScheduledExecutorService scheduler;
+
+    /** Pets with unsaved changes; bit (petId - 1) is set for a dirty pet. */
+    private final BitSet dirty = new BitSet();
+
+    /** Pets whose changes are being written by a flush in progress. */
+    private final BitSet flushing = new BitSet();
+
+    /**
+     * Held for the whole of a flush, so that {@link #flushNow()} waits for a flush already writing
+     * before it returns. Always taken before the lock of this service.
+     */
+    private final Object flushLock = new Object();
+
+    /** The pending delayed flush, or null if none is scheduled. */
+    private ScheduledFuture<?> pendingFlush;
+
+    /** Delay between the first unsaved change and the flush that writes it. */
+    private volatile long flushIntervalMillis = DEFAULT_FLUSH_INTERVAL_MILLIS;
+
+    /**
+     * Private constructor to enforce the singleton pattern.
+     * Initializes the flush scheduler and registers a shutdown hook so unsaved changes are not lost.
+     */
+    private PersistenceService() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "PersistenceService");
+            thread.setDaemon(true);
+            return thread;
+        });
+        Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown, "PersistenceService-shutdown"));
+    }
+
+    /**
+     * Retrieves the singleton instance of the `PersistenceService` class.
+     *
+     * @return the singleton instance of `PersistenceService`
+     */
+    public static synchronized PersistenceService getInstance() {
+        if (instance == null) {
+            instance = new PersistenceService();
+        }
+        return instance;
+    }
+
+    /**
+     * Sets the delay between the first unsaved change and the flush that writes it.
+     *
+     * @param flushIntervalMillis the flush interval in milliseconds
+     */
+    public void setFlushIntervalMillis(long flushIntervalMillis) {
+        this.flushIntervalMillis = flushIntervalMillis;
+    }
+
+    /**
+     * Retrieves the current flush interval.
+     *
+     * @return the flush interval in milliseconds
+     */
+    public long getFlushIntervalMillis() {
+        return flushIntervalMillis;
+    }
+
+    /**
+     * Marks a pet as having unsaved changes and schedules a flush if none is pending.
+     *
+     * @param petId the ID of the pet (1 for Shrek, 2 for Toothless, 3 for Puss)
+     */
+    public synchronized void markDirty(int petId) {
+        dirty.set(petId - 1);
+        scheduleFlush();
+    }
+
+    /**
+     * Marks several pets as having unsaved changes at once, so they are written by the same flush.
+     *
+     * @param pets the pets to mark; bit (petId - 1) is set for each pet
+     */
+    public synchronized void markDirty(BitSet pets) {
+        if (pets.isEmpty()) {
+            return;
+        }
+        dirty.or(pets);
+        scheduleFlush();
+    }
+
+    /**
+     * Schedules a delayed flush unless one is pending. The caller must hold the lock of this service.
+     */
+    private void scheduleFlush() {
+        if (pendingFlush == null && !scheduler.isShutdown()) {
+            pendingFlush = scheduler.schedule(this::flushNow, flushIntervalMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Checks whether a pet has changes that have not been written to disk yet.
+     *
+     * @param petId the ID of the pet
+     * @return true if the pet is dirty
+     */
+    public synchronized boolean isDirty(int petId) {
+        return dirty.get(petId - 1) || flushing.get(petId - 1);
+    }
+
+    /**
+     * Writes every dirty pet to disk immediately and durably.
+     * Used for changes that must not be lost, such as purchases, and on shutdown.
+     *
+     * <p>If a delayed flush is already writing, this waits for it to finish first. Pets that flush
+     * failed to write are queued again and written by this call, so the changes made before the
+     * call are on disk when it returns, unless the write itself fails.
+     */
+    public void flushNow() {
+        synchronized (flushLock) {
+            flushDirty();
+        }
+    }
+
+    /**
+     * Writes the dirty pets with a single flush. The caller must hold {@link #flushLock}.
+     */
+    private void flushDirty() {
+        BitSet pets;
+        synchronized (this) {
+            pets = (BitSet) dirty.clone();
+            dirty.clear();
+            flushing.or(pets);
+            if (pendingFlush != null) {
+                pendingFlush.cancel(false);
+                pendingFlush = null;
+            }
+        }
+        if (pets.isEmpty()) {
+            return;
+        }
+
+        try {
+            CSVController.flushPetInfo(pets);
+        } catch (IOException e) {
+            System.err.println("Error flushing pet info, will retry");
+            e.printStackTrace();
+            synchronized (this) {
+                dirty.or(pets);
+                scheduleFlush();
+            }
+        } finally {
+            synchronized (this) {
+                flushing.andNot(pets);
+            }
+        }
+    }
+
+    /**
+     * Flushes any unsaved changes, stops the flush scheduler, and compacts the pet journal
+     * so that petInfo.sav is up to date on disk.
+     */
+    public void shutdown() {
+        synchronized (this) {
+            scheduler.shutdown();
+        }
+        flushNow();
+        CSVController.compactPetInfo();
+    }
+}
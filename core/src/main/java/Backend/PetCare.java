@@ -0,0 +1,337 @@
+package Backend;
+
+/**
+ * The `PetCare` class holds the rules for caring for a pet: feeding, resting, healing and cheering
+ * it up, and buying and wearing accessories. Every action changes the pet's state in the
+ * {@link CSVDataStore}, marks it for persistence and reports the change through the
+ * {@link ChangeNotifier}.
+ *
+ * <p>The rules do not depend on JavaFX, so they can run in a headless process; the screens reach
+ * them through {@link PetManager}. Each rule is also available as a static method that only changes
+ * a given {@link PetState}, so that the {@link SimulationRunner} can apply the same rules to pets
+ * that are not in the data store.
+ *
+ * @author      Jay Bava <jbava@uwo.ca>
+ * @version     1.9                 (current version number of program)
+ * @since       1.9                 (the version of the package this class was first added to)
+ */
+public class PetCare {
+
+    /** Highest value of hunger, sleep, happiness and health. */
+    public static final int MAX_STAT = 100;
+
+    /** Experience needed to reach the next level. */
+    public static final int EXPERIENCE_PER_LEVEL = 100;
+
+    /** Singleton instance of the `PetCare` class. */
+    private static PetCare instance;
+
+    /**
+     * Private constructor to enforce the singleton pattern.
+     */
+    private PetCare() {}
+
+    /**
+     * Retrieves the singleton instance of the `PetCare` class.
+     *
+     * @return the singleton instance of `PetCare`
+     */
+    public static synchronized PetCare getInstance() {
+        if (instance == null) {
+            instance = new PetCare();
+        }
+        return instance;
+    }
+
+    /**
+     * Retrieves the data associated with a specific pet based on its ID.
+     * @param petID The unique identifier for the pet.
+     * @return The pet's state, or null if the pet ID is invalid.
+     */
+    public PetState getPetData(int petID){
+        return switch (petID){
+            case 1 -> CSVDataStore.getInstance().getShrek();
+            case 2 -> CSVDataStore.getInstance().getToothless();
+            case 3 -> CSVDataStore.getInstance().getPuss();
+            default -> null;
+        };
+    }
+
+    /**
+     * Attempts to purchase an accessory for a specific pet if the pet has enough coins.
+     * @param petID The unique identifier for the pet.
+     * @param accessory The name of the accessory to purchase.
+     * @return True if the purchase was successful, false if the pet does not have enough coins.
+     */
+    public boolean purchaseAccessory(int petID, String accessory){
+        if (!applyPurchase(getPetData(petID), accessory)) {
+            return false;
+        }
+        // Write the updated data back to the save, durably since coins were spent
+        CSVController.writePetInfo(petID);
+        PersistenceService.getInstance().flushNow();
+        return true;
+    }
+
+    /**
+     * Buys an accessory for a pet if it has enough coins.
+     * @param pet The pet's state.
+     * @param accessory The name of the accessory to purchase.
+     * @return True if the purchase was successful, false if the pet does not have enough coins.
+     */
+    public static boolean applyPurchase(PetState pet, String accessory) {
+        int cost = getAccessoryCost(accessory);
+        int coins = pet.getCoins();
+        if (coins < cost) {
+            return false;
+        }
+        pet.setCoins(coins - cost);
+        pet.setAccessoryOwned(accessory, true);
+        return true;
+    }
+
+    /**
+     * Retrieves the cost of a specific accessory.
+     * @param accessory The name of the accessory.
+     * @return The cost of the accessory.
+     */
+    public static int getAccessoryCost(String accessory) {
+        return switch (accessory) {
+            case "blackHat", "blackGlasses", "blackBowtie" -> 20;
+            case "silverHat", "silverGlasses", "silverBowtie" -> 100;
+            case "goldHat", "goldGlasses", "goldBowtie" -> 200;
+            default -> 0;
+        };
+    }
+
+    /**
+     * Puts an accessory on a specific pet, or takes it off if the pet is already wearing it.
+     * A pet can wear one hat, one pair of glasses and one bowtie at the same time; putting on an
+     * accessory takes off the one worn in the same slot.
+     * @param petID The unique identifier for the pet.
+     * @param accessory The name of the accessory to equip.
+     * @return True if the pet is now wearing the accessory, false if it was taken off.
+     */
+    public boolean equipAccessory(int petID, String accessory){
+        boolean equipped = applyEquip(getPetData(petID), accessory);
+        savePetData(petID);
+        return equipped;
+    }
+
+    /**
+     * Puts an accessory on a pet, or takes it off if the pet is already wearing it.
+     * @param pet The pet's state.
+     * @param accessory The name of the accessory to equip.
+     * @return True if the pet is now wearing the accessory, false if it was taken off.
+     */
+    public static boolean applyEquip(PetState pet, String accessory) {
+        boolean equipped = !pet.isEquipped(accessory);
+        pet.setEquipped(accessory, equipped);
+        return equipped;
+    }
+
+    /**
+     * Retrieves an array of booleans indicating which accessories are owned by the pet.
+     * @param petID The unique identifier for the pet.
+     * @return A boolean array indicating which accessories are owned.
+     */
+    public boolean[] getOwnedAccessory(int petID){
+        PetState petData = getPetData(petID);
+        boolean[] accessories = new boolean[PetState.ACCESSORIES.length];
+        for (int i = 0; i < accessories.length; i++){
+            accessories[i] = petData.isAccessoryOwned(i);
+        }
+        return accessories;
+    }
+
+    /**
+     * Retrieves the accessories a pet is wearing, ignoring any it does not own.
+     * @param petID The unique identifier for the pet.
+     * @return The bitmask of worn accessories, or 0 if the pet ID is invalid.
+     */
+    public int getWornMask(int petID){
+        PetState petData = getPetData(petID);
+        return petData == null ? 0 : petData.getEquippedMask() & petData.getAccessoryMask();
+    }
+
+    /**
+     * Retrieves the happiness bonus associated with an accessory.
+     *
+     * @param accessory The name of the accessory.
+     * @return The happiness bonus associated with the accessory (e.g., 15, 25, 30, or 0 if not found).
+     */
+    public static int getHappinessBonus(String accessory) {
+        return switch (accessory) {
+            case "blackHat", "blackGlasses", "blackBowtie" -> 15;
+            case "silverHat", "silverGlasses", "silverBowtie" -> 25;
+            case "goldHat", "goldGlasses", "goldBowtie" -> 30;
+            default -> 0;
+        };
+    }
+
+    /**
+     * Increases the happiness level of a pet by a specified increment.
+     * The happiness is capped at 100.
+     *
+     * @param petID The unique identifier for the pet (1 = Shrek, 2 = Toothless, 3 = Puss).
+     * @param increment The amount by which to increase the pet's happiness.
+     */
+    public void increaseHappiness(int petID, int increment) {
+        applyHappiness(getPetData(petID), increment);
+        savePetData(petID);
+    }
+
+    /**
+     * Increases the sleep level of a pet by a specified increment.
+     * The sleep value is capped at 100.
+     *
+     * @param petID The unique identifier for the pet (1 = Shrek, 2 = Toothless, 3 = Puss).
+     * @param increment The amount by which to increase the pet's sleep value.
+     */
+    public void increaseSleep(int petID, int increment) {
+        applySleep(getPetData(petID), increment);
+        savePetData(petID);
+    }
+
+    /**
+     * Decreases the sleep level of a pet by a specified decrement.
+     * The sleep value is ensured not to go below 0.
+     *
+     * @param petID The unique identifier for the pet (1 = Shrek, 2 = Toothless, 3 = Puss).
+     * @param decrement The amount by which to decrease the pet's sleep value.
+     */
+    public void decreaseSleep(int petID, int decrement) {
+        applySleep(getPetData(petID), -decrement);
+        savePetData(petID);
+    }
+
+    /**
+     * Decreases the hunger level of a pet by a specified decrement.
+     * The hunger value is ensured not to go below 0.
+     *
+     * @param petID The unique identifier for the pet (1 = Shrek, 2 = Toothless, 3 = Puss).
+     * @param decrement The amount by which to decrease the pet's hunger value.
+     */
+    public void decreaseHunger(int petID, int decrement) {
+        applyHunger(getPetData(petID), -decrement);
+        savePetData(petID);
+    }
+
+    /**
+     * Increases the health of a pet by a specified increment.
+     * The health is capped at 100.
+     *
+     * @param petID The unique identifier for the pet (1 = Shrek, 2 = Toothless, 3 = Puss).
+     * @param increment The amount by which to increase the pet's health value.
+     */
+    public void increaseHealth(int petID, int increment) {
+        applyHealth(getPetData(petID), increment);
+        savePetData(petID);
+    }
+
+    /**
+     * Feeds the pet, increasing its hunger level by a specified food value.
+     * The hunger is capped at a maximum of 100.
+     *
+     * @param petID The unique identifier for the pet (1 = Shrek, 2 = Toothless, 3 = Puss).
+     * @param foodValue The value by which to increase the pet's hunger (i.e., the amount of food the pet receives).
+     */
+    public void feedPet(int petID, int foodValue) {
+        applyHunger(getPetData(petID), foodValue);
+        savePetData(petID);
+    }
+
+    /**
+     * Rewards a pet for a correctly answered minigame question with the question's experience and
+     * coins. Experience past {@link #EXPERIENCE_PER_LEVEL} carries over into the next level.
+     *
+     * @param petID The unique identifier for the pet (1 = Shrek, 2 = Toothless, 3 = Puss).
+     * @param question The answered question.
+     */
+    public void rewardAnswer(int petID, Question question) {
+        PetState petData = getPetData(petID);
+        if (petData == null) {
+            return;
+        }
+        applyAnswerReward(petData, question);
+        savePetData(petID);
+    }
+
+    /**
+     * Changes the hunger of a pet, keeping it between 0 and 100.
+     *
+     * @param pet The pet's state.
+     * @param change The amount to add; negative to make the pet hungrier.
+     */
+    public static void applyHunger(PetState pet, int change) {
+        pet.setHunger(clampStat(pet.getHunger() + change));
+    }
+
+    /**
+     * Changes the sleep of a pet, keeping it between 0 and 100.
+     *
+     * @param pet The pet's state.
+     * @param change The amount to add; negative to tire the pet.
+     */
+    public static void applySleep(PetState pet, int change) {
+        pet.setSleep(clampStat(pet.getSleep() + change));
+    }
+
+    /**
+     * Changes the happiness of a pet, keeping it between 0 and 100.
+     *
+     * @param pet The pet's state.
+     * @param change The amount to add.
+     */
+    public static void applyHappiness(PetState pet, int change) {
+        pet.setHappiness(clampStat(pet.getHappiness() + change));
+    }
+
+    /**
+     * Changes the health of a pet, keeping it between 0 and 100.
+     *
+     * @param pet The pet's state.
+     * @param change The amount to add.
+     */
+    public static void applyHealth(PetState pet, int change) {
+        pet.setHealth(clampStat(pet.getHealth() + change));
+    }
+
+    /**
+     * Adds the experience and coins of a correctly answered question to a pet, levelling it up when
+     * its experience passes {@link #EXPERIENCE_PER_LEVEL}.
+     *
+     * @param pet The pet's state.
+     * @param question The answered question.
+     */
+    public static void applyAnswerReward(PetState pet, Question question) {
+        int experience = pet.getExperience() + question.experience();
+        int level = pet.getLevel();
+        if (experience > EXPERIENCE_PER_LEVEL) {
+            experience %= EXPERIENCE_PER_LEVEL; // Reset experience if it exceeds 100
+            level += 1;                         // Level up
+        }
+        pet.setExperience(experience);
+        pet.setLevel(level);
+        pet.setCoins(pet.getCoins() + question.coins());
+    }
+
+    /**
+     * Keeps a stat between 0 and {@link #MAX_STAT}.
+     *
+     * @param value The stat value.
+     * @return The value, clamped.
+     */
+    private static int clampStat(int value) {
+        return Math.max(0, Math.min(value, MAX_STAT));
+    }
+
+    /**
+     * Marks the pet for persistence; {@link CSVController#writePetInfo(int)} also reports the change.
+     *
+     * @param petID The unique identifier for the pet (1 = Shrek, 2 = Toothless, 3 = Puss).
+     */
+    private void savePetData(int petID) {
+        CSVController.writePetInfo(petID);
+    }
+}
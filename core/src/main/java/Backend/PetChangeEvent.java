@@ -0,0 +1,98 @@
+package Backend;
+
+/**
+ * The `PetChangeEvent` class describes what changed since the previous event: for each pet, the
+ * mask of {@link PetField}s that moved, and whether the parental control settings changed.
+ * All changes made between two events are merged into one event.
+ *
+ * @author      Jay Bava <jbava@uwo.ca>
+ * @version     1.9                 (current version number of program)
+ * @since       1.9                 (the version of the package this class was first added to)
+ */
+public final class PetChangeEvent {
+
+    /** Changed field mask of each pet, indexed by pet ID - 1. */
+    private final int[] changedFields;
+
+    /** Whether the parental control settings changed. */
+    private final boolean parentalInfoChanged;
+
+    /**
+     * Creates an event.
+     *
+     * @param changedFields       changed field mask of each pet, indexed by pet ID - 1
+     * @param parentalInfoChanged whether the parental control settings changed
+     */
+    public PetChangeEvent(int[] changedFields, boolean parentalInfoChanged) {
+        this.changedFields = changedFields.clone();
+        this.parentalInfoChanged = parentalInfoChanged;
+    }
+
+    /**
+     * Retrieves the fields of a pet that changed.
+     *
+     * @param petId the ID of the pet (1 for Shrek, 2 for Toothless, 3 for Puss)
+     * @return the mask of changed {@link PetField}s, 0 if the pet did not change
+     */
+    public int getChangedFields(int petId) {
+        return petId >= 1 && petId <= changedFields.length ? changedFields[petId - 1] : 0;
+    }
+
+    /**
+     * Checks whether any field of a pet changed.
+     *
+     * @param petId the ID of the pet
+     * @return true if the pet changed
+     */
+    public boolean isPetChanged(int petId) {
+        return getChangedFields(petId) != 0;
+    }
+
+    /**
+     * Checks whether a field of a pet changed.
+     *
+     * @param petId the ID of the pet
+     * @param field the field
+     * @return true if the field changed
+     */
+    public boolean isChanged(int petId, PetField field) {
+        return (getChangedFields(petId) & field.mask()) != 0;
+    }
+
+    /**
+     * Checks whether the parental control settings changed.
+     *
+     * @return true if the parental control settings changed
+     */
+    public boolean isParentalInfoChanged() {
+        return parentalInfoChanged;
+    }
+
+    /**
+     * Checks whether the event matches a subscription.
+     *
+     * @param petId     the subscribed pet ID, or 0 for every pet
+     * @param fieldMask the subscribed fields
+     * @return true if a subscribed field of a subscribed pet changed
+     */
+    boolean matches(int petId, int fieldMask) {
+        if (petId != 0) {
+            return (getChangedFields(petId) & fieldMask) != 0;
+        }
+        for (int fields : changedFields) {
+            if ((fields & fieldMask) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("PetChangeEvent{");
+        for (int i = 0; i < changedFields.length; i++) {
+            sb.append("pet").append(i + 1).append('=').append(Integer.toBinaryString(changedFields[i])).append(", ");
+        }
+        return sb.append("parentalInfo=").append(parentalInfoChanged).append('}').toString();
+    }
+}
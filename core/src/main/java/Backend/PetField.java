@@ -0,0 +1,90 @@
+package Backend;
+
+import java.util.Objects;
+
+/**
+ * The `PetField` enum names the fields of a {@link PetState} so that change events can say which
+ * fields moved. Each field has a bit in an int mask; {@link #diff(PetState, PetState)} computes the
+ * mask of the fields that differ between two states.
+ *
+ * @author      Jay Bava <jbava@uwo.ca>
+ * @version     1.9                 (current version number of program)
+ * @since       1.9                 (the version of the package this enum was first added to)
+ */
+public enum PetField {
+    SAVED,
+    PIN,
+    SAVED_TIME,
+    HUNGER,
+    HAPPINESS,
+    COINS,
+    SLEEP,
+    EXPERIENCE,
+    HEALTH,
+    LEVEL,
+    QUESTION_DIFFICULTY,
+    ACCESSORIES,
+    SELECTED_ITEM;
+
+    /** Mask with the bit of every field set. */
+    public static final int ALL = (1 << values().length) - 1;
+
+    /**
+     * Retrieves the bit of this field in a field mask.
+     *
+     * @return the field's bit
+     */
+    public int mask() {
+        return 1 << ordinal();
+    }
+
+    /**
+     * Builds a mask from a set of fields.
+     *
+     * @param fields the fields; none means every field
+     * @return the mask of the fields
+     */
+    public static int maskOf(PetField... fields) {
+        if (fields.length == 0) {
+            return ALL;
+        }
+        int mask = 0;
+        for (PetField field : fields) {
+            mask |= field.mask();
+        }
+        return mask;
+    }
+
+    /**
+     * Computes which fields differ between two states of a pet.
+     *
+     * @param before the earlier state, or null if there was none
+     * @param after  the later state, or null if there is none
+     * @return the mask of the changed fields; every field if only one of the states is null
+     */
+    public static int diff(PetState before, PetState after) {
+        if (before == after) {
+            return 0;
+        }
+        if (before == null || after == null) {
+            return ALL;
+        }
+        int mask = 0;
+        if (before.isSaved() != after.isSaved()) mask |= SAVED.mask();
+        if (!Objects.equals(before.getPin(), after.getPin())) mask |= PIN.mask();
+        if (before.getSavedTime() != after.getSavedTime()) mask |= SAVED_TIME.mask();
+        if (before.getHunger() != after.getHunger()) mask |= HUNGER.mask();
+        if (before.getHappiness() != after.getHappiness()) mask |= HAPPINESS.mask();
+        if (before.getCoins() != after.getCoins()) mask |= COINS.mask();
+        if (before.getSleep() != after.getSleep()) mask |= SLEEP.mask();
+        if (before.getExperience() != after.getExperience()) mask |= EXPERIENCE.mask();
+        if (before.getHealth() != after.getHealth()) mask |= HEALTH.mask();
+        if (before.getLevel() != after.getLevel()) mask |= LEVEL.mask();
+        if (!Objects.equals(before.getQuestionDifficulty(), after.getQuestionDifficulty())) {
+            mask |= QUESTION_DIFFICULTY.mask();
+        }
+        if (before.getAccessoryMask() != after.getAccessoryMask()) mask |= ACCESSORIES.mask();
+        if (before.getEquippedMask() != after.getEquippedMask()) mask |= SELECTED_ITEM.mask();
+        return mask;
+    }
+}
@@ -0,0 +1,422 @@
+package Backend;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+/**
+ * The `PetJournal` class is an append-only log of pet stat changes that sits beside the pet save.
+ * Instead of rewriting the whole save on every flush, each changed field is appended as a small
+ * fixed-size record (pet id, field, delta, timestamp). petInfo.sav ({@link PetSaveFile}) acts as
+ * the snapshot, and a background compactor periodically folds the journal back into it.
+ *
+ * <p>File layout: a 16 byte header (magic, version, CRC32 of the snapshot the journal applies to)
+ * followed by 16 byte records. When the snapshot no longer matches the CRC in the header (because
+ * it was compacted or edited by hand), the journal is stale and is discarded on replay. A torn
+ * record at the end of the file, left by a crash mid-append, is ignored.
+ *
+ * @author      Jay Bava <jbava@uwo.ca>
+ * @version     1.9                 (current version number of program)
+ * @since       1.9                 (the version of the package this class was first added to)
+ */
+public class PetJournal {
+
+    /** Field codes stored in a record. */
+    public static final byte FIELD_HUNGER = 0;
+    public static final byte FIELD_HAPPINESS = 1;
+    public static final byte FIELD_COINS = 2;
+    public static final byte FIELD_SLEEP = 3;
+    public static final byte FIELD_EXPERIENCE = 4;
+    public static final byte FIELD_HEALTH = 5;
+    public static final byte FIELD_LEVEL = 6;
+    /** Accessory bitmask; the delta is XOR-ed into the mask. */
+    public static final byte FIELD_ACCESSORIES = 7;
+    /**
+     * Single equipped accessory, as journaled before several could be worn; the delta is added to
+     * the accessory index + 1 (0 meaning none). Still replayed, but no longer written.
+     */
+    public static final byte FIELD_SELECTED_ITEM = 8;
+    /** Time the pet was last persisted; the value is taken from the record's timestamp. */
+    public static final byte FIELD_SAVED_TIME = 9;
+    /** Worn accessory bitmask; the delta is XOR-ed into the mask. */
+    public static final byte FIELD_EQUIPPED = 10;
+
+    /** Most records a single pet can produce per flush, one per field that is written. */
+    private static final int FIELD_COUNT = 10;
+
+    /** Size of the file header in bytes. */
+    static final int HEADER_SIZE = 16;
+
+    /** Size of a single record in bytes. */
+    static final int RECORD_SIZE = 16;
+
+    /** Magic number at the start of the journal ("PJNL"). */
+    private static final int MAGIC = 0x504A4E4C;
+
+    /** Journal format version. */
+    private static final int VERSION = 1;
+
+    /** Number of records after which a compaction is requested. */
+    public static final int COMPACT_THRESHOLD = 1024;
+
+    /** Interval at which a non-empty journal is compacted regardless of size. */
+    public static final long COMPACT_INTERVAL_MINUTES = 5;
+
+    /** Path to the journal file. */
+    private static final String JOURNAL_PATH = "Backend/CSV/petInfo.journal";
+
+    /** Singleton instance of the `PetJournal` class. */
+    private static PetJournal instance;
+
+    /** Location of the journal file. */
+    private final Path journalPath;
+
+    /** Background thread running compactions. */
+    private final ScheduledExecutorService compactor;
+
+    /** Open channel to the journal, positioned at its end. */
+    private FileChannel channel;
+
+    /** Last persisted state of each pet (snapshot plus journal), indexed by petId - 1. */
+    private PetState[] persisted = new PetState[3];
+
+    /** Pets whose records are staged in {@link #buffer} but not committed yet. */
+    private PetState[] staged = new PetState[3];
+
+    /** Records staged for the next commit. */
+    private ByteBuffer buffer = ByteBuffer.allocate(RECORD_SIZE * FIELD_COUNT * 3);
+
+    /** Number of records in the journal since the last compaction. */
+    private int recordCount;
+
+    /** Whether a size-triggered compaction has been submitted and not yet run. */
+    private boolean compactionRequested;
+
+    /**
+     * Creates a journal at the given location. The game uses the singleton; other instances are
+     * only created by tests.
+     *
+     * @param journalPath the location of the journal file
+     */
+    PetJournal(Path journalPath) {
+        this.journalPath = journalPath;
+        compactor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "PetJournal-compactor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        compactor.scheduleWithFixedDelay(this::compactIfNeeded,
+                COMPACT_INTERVAL_MINUTES, COMPACT_INTERVAL_MINUTES, TimeUnit.MINUTES);
+    }
+
+    /**
+     * Retrieves the singleton instance of the `PetJournal` class.
+     *
+     * @return the singleton instance of `PetJournal`
+     */
+    public static synchronized PetJournal getInstance() {
+        if (instance == null) {
+            instance = new PetJournal(Paths.get(JOURNAL_PATH));
+        }
+        return instance;
+    }
+
+    /**
+     * Computes the CRC32 of a snapshot's contents.
+     *
+     * @param snapshot the raw bytes of the snapshot file
+     * @return the CRC32 value
+     */
+    static long crc(byte[] snapshot) {
+        CRC32 crc = new CRC32();
+        crc.update(snapshot);
+        return crc.getValue();
+    }
+
+    /**
+     * Applies the journal to freshly parsed snapshot states and records the result as the persisted
+     * baseline. If the journal belongs to a different snapshot it is discarded and restarted.
+     *
+     * @param snapshotCrc the CRC32 of the snapshot the states were parsed from
+     * @param states      the parsed snapshot states, indexed by petId - 1; updated in place
+     * @throws IOException if the journal cannot be read or reset
+     */
+    synchronized void replay(long snapshotCrc, PetState[] states) throws IOException {
+        int applied = 0;
+        boolean valid = false;
+        if (Files.exists(journalPath)) {
+            byte[] bytes = Files.readAllBytes(journalPath);
+            ByteBuffer in = ByteBuffer.wrap(bytes);
+            valid = bytes.length >= HEADER_SIZE && in.getInt() == MAGIC && in.getInt() == VERSION
+                    && in.getLong() == snapshotCrc;
+            // Whole records only; a torn tail from a crash mid-append is dropped
+            while (valid && in.remaining() >= RECORD_SIZE) {
+                int petId = in.get();
+                byte field = in.get();
+                in.getShort(); // reserved
+                int delta = in.getInt();
+                long timestamp = in.getLong();
+                if (petId >= 1 && petId <= states.length && states[petId - 1] != null) {
+                    apply(states[petId - 1], field, delta, timestamp);
+                }
+                applied++;
+            }
+        }
+
+        if (persisted.length < states.length) {
+            persisted = new PetState[states.length];
+            staged = new PetState[states.length];
+        }
+        for (int i = 0; i < states.length; i++) {
+            if (states[i] == null) continue;
+            PetState copy = new PetState();
+            copy.copyFrom(states[i]);
+            persisted[i] = copy;
+        }
+
+        if (valid) {
+            // Keep the records and continue appending after the last whole one
+            FileChannel out = channel();
+            out.truncate(HEADER_SIZE + (long) applied * RECORD_SIZE);
+            out.position(out.size());
+            recordCount = applied;
+            if (applied > 0) {
+                System.out.println("Replayed " + applied + " journal records");
+            }
+        } else {
+            // Missing, or written against an older snapshot that already contains its records
+            reset(snapshotCrc);
+        }
+    }
+
+    /**
+     * Applies a single record to a state.
+     *
+     * @param state     the state to update
+     * @param field     the field code
+     * @param delta     the delta to apply
+     * @param timestamp the time the record was written
+     */
+    static void apply(PetState state, byte field, int delta, long timestamp) {
+        switch (field) {
+            case FIELD_HUNGER -> state.setHunger(state.getHunger() + delta);
+            case FIELD_HAPPINESS -> state.setHappiness(state.getHappiness() + delta);
+            case FIELD_COINS -> state.setCoins(state.getCoins() + delta);
+            case FIELD_SLEEP -> state.setSleep(state.getSleep() + delta);
+            case FIELD_EXPERIENCE -> state.setExperience(state.getExperience() + delta);
+            case FIELD_HEALTH -> state.setHealth(state.getHealth() + delta);
+            case FIELD_LEVEL -> state.setLevel(state.getLevel() + delta);
+            case FIELD_ACCESSORIES -> state.setAccessoryMask(state.getAccessoryMask() ^ delta);
+            case FIELD_EQUIPPED -> state.setEquippedMask(state.getEquippedMask() ^ delta);
+            case FIELD_SELECTED_ITEM -> {
+                int code = itemCode(state.getEquippedMask()) + delta;
+                state.setEquippedMask(code <= 0 ? 0 : 1 << (code - 1));
+            }
+            case FIELD_SAVED_TIME -> state.setSavedTime(timestamp);
+            default -> System.err.println("Unknown journal field: " + field);
+        }
+    }
+
+    /**
+     * Encodes a worn accessory mask as the code of {@link #FIELD_SELECTED_ITEM} records: accessory
+     * index + 1, with 0 for none.
+     *
+     * @param equippedMask the worn accessory mask, holding at most one accessory
+     * @return the code
+     */
+    private static int itemCode(int equippedMask) {
+        return equippedMask == 0 ? 0 : Integer.numberOfTrailingZeros(equippedMask) + 1;
+    }
+
+    /**
+     * Stages the records describing how a pet changed since it was last persisted.
+     *
+     * @param petId   the ID of the pet
+     * @param current the pet's current in-memory state
+     * @return false if the change touches fields that cannot be journaled and needs a snapshot
+     */
+    synchronized boolean stage(int petId, PetState current) {
+        if (petId < 1 || petId > persisted.length || persisted[petId - 1] == null) {
+            return false;
+        }
+        PetState base = persisted[petId - 1];
+        if (current.isSaved() != base.isSaved()
+                || !current.getPin().equals(base.getPin())
+                || !current.getQuestionDifficulty().equals(base.getQuestionDifficulty())) {
+            return false;
+        }
+
+        if (buffer.remaining() < RECORD_SIZE * FIELD_COUNT) {
+            ByteBuffer larger = ByteBuffer.allocate(buffer.capacity() * 2);
+            buffer.flip();
+            larger.put(buffer);
+            buffer = larger;
+        }
+
+        long now = System.currentTimeMillis();
+        putRecord(petId, FIELD_HUNGER, current.getHunger() - base.getHunger(), now);
+        putRecord(petId, FIELD_HAPPINESS, current.getHappiness() - base.getHappiness(), now);
+        putRecord(petId, FIELD_COINS, current.getCoins() - base.getCoins(), now);
+        putRecord(petId, FIELD_SLEEP, current.getSleep() - base.getSleep(), now);
+        putRecord(petId, FIELD_EXPERIENCE, current.getExperience() - base.getExperience(), now);
+        putRecord(petId, FIELD_HEALTH, current.getHealth() - base.getHealth(), now);
+        putRecord(petId, FIELD_LEVEL, current.getLevel() - base.getLevel(), now);
+        putRecord(petId, FIELD_ACCESSORIES, current.getAccessoryMask() ^ base.getAccessoryMask(), now);
+        putRecord(petId, FIELD_EQUIPPED, current.getEquippedMask() ^ base.getEquippedMask(), now);
+        if (current.getSavedTime() != base.getSavedTime()) {
+            buffer.put((byte) petId).put(FIELD_SAVED_TIME).putShort((short) 0).putInt(0)
+                    .putLong(current.getSavedTime());
+        }
+
+        PetState copy = new PetState();
+        copy.copyFrom(current);
+        staged[petId - 1] = copy;
+        return true;
+    }
+
+    /**
+     * Adds one record to the staging buffer, skipping fields that did not change.
+     */
+    private void putRecord(int petId, byte field, int delta, long timestamp) {
+        if (delta == 0) return;
+        buffer.put((byte) petId).put(field).putShort((short) 0).putInt(delta).putLong(timestamp);
+    }
+
+    /**
+     * Appends every staged record to the journal with a single write and fsync,
+     * then advances the persisted baseline of the staged pets.
+     *
+     * @return the number of bytes appended
+     * @throws IOException if the journal cannot be written
+     */
+    synchronized int commit() throws IOException {
+        int records = buffer.position() / RECORD_SIZE;
+        if (records > 0) {
+            buffer.flip();
+            FileChannel out = channel();
+            while (buffer.hasRemaining()) {
+                out.write(buffer);
+            }
+            FileSyncEvent.force(out, false, journalPath.toString(), (long) records * RECORD_SIZE);
+            recordCount += records;
+        }
+        buffer.clear();
+        for (int i = 0; i < staged.length; i++) {
+            if (staged[i] != null) {
+                persisted[i] = staged[i];
+                staged[i] = null;
+            }
+        }
+        return records * RECORD_SIZE;
+    }
+
+    /**
+     * Drops every staged record without writing it.
+     */
+    synchronized void discardStaged() {
+        buffer.clear();
+        Arrays.fill(staged, null);
+    }
+
+    /**
+     * Records a pet state that has been written to the snapshot directly.
+     *
+     * @param petId the ID of the pet
+     * @param state the state written to the snapshot
+     */
+    synchronized void setPersisted(int petId, PetState state) {
+        PetState copy = new PetState();
+        copy.copyFrom(state);
+        persisted[petId - 1] = copy;
+    }
+
+    /**
+     * Retrieves the last persisted state of a pet.
+     *
+     * @param petId the ID of the pet
+     * @return the persisted state, or null if the pet has not been loaded
+     */
+    synchronized PetState getPersisted(int petId) {
+        return persisted[petId - 1];
+    }
+
+    /**
+     * Truncates the journal and starts it over for a new snapshot.
+     *
+     * @param snapshotCrc the CRC32 of the snapshot the new journal applies to
+     * @throws IOException if the journal cannot be written
+     */
+    synchronized void reset(long snapshotCrc) throws IOException {
+        FileChannel out = channel();
+        out.truncate(0);
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putInt(MAGIC).putInt(VERSION).putLong(snapshotCrc).flip();
+        out.write(header, 0);
+        out.position(HEADER_SIZE);
+        FileSyncEvent.force(out, false, journalPath.toString(), HEADER_SIZE);
+        recordCount = 0;
+        compactionRequested = false;
+    }
+
+    /**
+     * Retrieves the number of records written since the last compaction.
+     *
+     * @return the record count
+     */
+    public synchronized int getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * Submits a compaction to the background compactor once the journal has grown past
+     * {@link #COMPACT_THRESHOLD} records.
+     */
+    synchronized void requestCompactionIfLarge() {
+        if (recordCount >= COMPACT_THRESHOLD && !compactionRequested) {
+            compactionRequested = true;
+            compactor.execute(this::compactIfNeeded);
+        }
+    }
+
+    /**
+     * Folds the journal into the snapshot if it holds any records.
+     */
+    private void compactIfNeeded() {
+        if (getRecordCount() > 0) {
+            CSVController.compactPetInfo();
+        }
+    }
+
+    /**
+     * Closes the journal file and stops the compactor.
+     *
+     * @throws IOException if the journal cannot be closed
+     */
+    synchronized void close() throws IOException {
+        compactor.shutdownNow();
+        if (channel != null) {
+            channel.close();
+        }
+    }
+
+    /**
+     * Opens the journal channel on first use.
+     */
+    private FileChannel channel() throws IOException {
+        if (channel == null || !channel.isOpen()) {
+            channel = FileChannel.open(journalPath,
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            channel.position(channel.size());
+        }
+        return channel;
+    }
+}
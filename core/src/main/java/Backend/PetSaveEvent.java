@@ -0,0 +1,38 @@
+package Backend;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The `PetSaveEvent` class is a JDK Flight Recorder event recorded for every flush of the pet save,
+ * either as records appended to the pet journal or as a rewrite of the petInfo.sav snapshot.
+ * The fsyncs of the flush are recorded within it as {@link FileSyncEvent}s.
+ *
+ * @author      Jay Bava <jbava@uwo.ca>
+ * @version     1.9                 (current version number of program)
+ * @since       1.9                 (the version of the package this class was first added to)
+ */
+@Name("Backend.PetSave")
+@Label("Pet Save")
+@Category({"PetGame", "Persistence"})
+@Description("A flush of changed pets to the journal or the save file")
+@StackTrace(false)
+public class PetSaveEvent extends Event {
+
+    @Label("Pets")
+    @Description("Number of pets written")
+    int pets;
+
+    @Label("Bytes")
+    @DataAmount
+    long bytes;
+
+    @Label("Snapshot")
+    @Description("Whether petInfo.sav was rewritten instead of appending to the journal")
+    boolean snapshot;
+}
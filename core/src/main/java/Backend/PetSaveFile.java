@@ -0,0 +1,490 @@
+package Backend;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * The `PetSaveFile` class stores the pet profiles in a compact binary file, petInfo.sav, which
+ * replaces petInfo.csv as the snapshot the {@link PetJournal} applies to.
+ *
+ * <p>File layout, big-endian: a 32 byte header (magic "PSAV", format version, header size, record
+ * size, record count, generation, CRC32 of the records) followed by one fixed-width 80 byte record
+ * per pet. A record holds the pet id, the save flag, the save time, the seven stats, the owned and
+ * worn accessory bitmasks, and the PIN and question difficulty as zero-padded UTF-8 text of at most
+ * 16 bytes. Readers use the sizes from the header, so fields appended by a later version are
+ * skipped rather than misread.
+ *
+ * <p>Files of an older version are upgraded on load by a chain of {@link Migration}s, one per
+ * version. The petInfo.csv file counts as version 0: when no save exists yet it is read and
+ * migrated, so existing games carry over, and then renamed to petInfo.csv.migrated so it is never
+ * read again. A petInfo.sav without a valid header is reported as corrupt instead, and left on
+ * disk untouched.
+ *
+ * <p>The file is read with a single channel read into a direct buffer that is reused between loads.
+ * Saves are written by the {@link AtomicFileWriter}, so the file on disk is always either the
+ * previous save or the new one.
+ *
+ * @author      Jay Bava <jbava@uwo.ca>
+ * @version     1.9                 (current version number of program)
+ * @since       1.9                 (the version of the package this class was first added to)
+ */
+public class PetSaveFile {
+
+    /** Magic number at the start of the file ("PSAV"). */
+    private static final int MAGIC = 0x50534156;
+
+    /** Current format version. */
+    public static final int VERSION = 1;
+
+    /** Size of the file header in bytes. */
+    static final int HEADER_SIZE = 32;
+
+    /** Size of a single pet record in bytes. */
+    static final int RECORD_SIZE = 80;
+
+    /** Size in bytes of each text field of a record. */
+    private static final int TEXT_SIZE = 16;
+
+    /** Record flag set when the pet has a saved game. */
+    private static final int FLAG_SAVED = 1;
+
+    /** Number of pets. */
+    private static final int PET_COUNT = 3;
+
+    /** Path to the save file. */
+    private static final String SAVE_PATH = "Backend/CSV/petInfo.sav";
+
+    /** Path to the CSV file the pets were stored in before the binary format. */
+    private static final String LEGACY_PATH = "Backend/CSV/petInfo.csv";
+
+    /** Suffix petInfo.csv is renamed with once it has been migrated. */
+    private static final String MIGRATED_SUFFIX = ".migrated";
+
+    /**
+     * Upgrades the complete contents of a file of one version to the next version.
+     */
+    @FunctionalInterface
+    interface Migration {
+
+        /**
+         * Upgrades a file.
+         *
+         * @param file the file contents, from position to limit
+         * @return the file contents in the next version, from position to limit
+         * @throws IOException if the file is malformed
+         */
+        ByteBuffer upgrade(ByteBuffer file) throws IOException;
+    }
+
+    /** Migrations by the version they upgrade from; version 0 is petInfo.csv. */
+    private static final Migration[] MIGRATIONS = {
+            PetSaveFile::fromCsv
+    };
+
+    /**
+     * The pets loaded from a save.
+     *
+     * @param states     the pet states, indexed by petId - 1; null for a pet the file does not hold
+     * @param generation the number of saves written before this one
+     * @param version    the version the file was stored in; lower than {@link #VERSION} if it was migrated
+     * @param checksum   the CRC32 of the file as stored on disk
+     */
+    public record Snapshot(PetState[] states, long generation, int version, long checksum) {
+
+        /**
+         * Checks whether the file was stored in an older version and should be saved again.
+         *
+         * @return true if the file was migrated
+         */
+        public boolean isMigrated() {
+            return version < VERSION;
+        }
+    }
+
+    /** Singleton instance of the `PetSaveFile` class. */
+    private static PetSaveFile instance;
+
+    /** Location of the save file. */
+    private final Path savePath;
+
+    /** Location of the legacy CSV file. */
+    private final Path legacyPath;
+
+    /** Buffer the save is read into and encoded in, reused between loads and saves. */
+    private ByteBuffer buffer = ByteBuffer.allocateDirect(HEADER_SIZE + RECORD_SIZE * PET_COUNT);
+
+    /** Generation of the last save read or written. */
+    private long generation;
+
+    /**
+     * Private constructor to enforce the singleton pattern.
+     *
+     * @param savePath   the location of the save file
+     * @param legacyPath the location of the legacy CSV file
+     */
+    private PetSaveFile(Path savePath, Path legacyPath) {
+        this.savePath = savePath;
+        this.legacyPath = legacyPath;
+    }
+
+    /**
+     * Retrieves the singleton instance of the `PetSaveFile` class.
+     *
+     * @return the singleton instance of `PetSaveFile`
+     */
+    public static synchronized PetSaveFile getInstance() {
+        if (instance == null) {
+            instance = new PetSaveFile(Paths.get(SAVE_PATH), Paths.get(LEGACY_PATH));
+        }
+        return instance;
+    }
+
+    /**
+     * Retrieves the path of the save file.
+     *
+     * @return the path of the save file
+     */
+    public String getPath() {
+        return savePath.toString();
+    }
+
+    /**
+     * Loads the save, falling back to petInfo.csv if no save has been written yet.
+     *
+     * @return the loaded pets, or null if neither file exists
+     * @throws IOException if the file cannot be read or is corrupt
+     */
+    public synchronized Snapshot load() throws IOException {
+        Snapshot snapshot;
+        try {
+            snapshot = decode(readFile(savePath));
+        } catch (NoSuchFileException e) {
+            if (!Files.exists(legacyPath)) {
+                return null;
+            }
+            snapshot = decodeLegacy(ByteBuffer.wrap(Files.readAllBytes(legacyPath)));
+        }
+        generation = snapshot.generation();
+        return snapshot;
+    }
+
+    /**
+     * Loads pets from a file of any version, such as a hand-edited petInfo.csv.
+     *
+     * @param path the file
+     * @return the loaded pets
+     * @throws IOException if the file cannot be read or is malformed
+     */
+    public Snapshot importFile(Path path) throws IOException {
+        ByteBuffer file = ByteBuffer.wrap(Files.readAllBytes(path));
+        return hasMagic(file) ? decode(file) : decodeLegacy(file);
+    }
+
+    /**
+     * Renames petInfo.csv to petInfo.csv.migrated once its pets have been saved in petInfo.sav, so
+     * that the old file is kept for reference but is never read again.
+     *
+     * @throws IOException if the file cannot be renamed
+     */
+    public synchronized void retireLegacyFile() throws IOException {
+        if (Files.exists(legacyPath)) {
+            Files.move(legacyPath, legacyPath.resolveSibling(legacyPath.getFileName() + MIGRATED_SUFFIX),
+                    StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Writes the pets as the next generation of the save, through the {@link AtomicFileWriter}.
+     *
+     * @param states the pet states, indexed by petId - 1; null entries are not stored
+     * @return the CRC32 of the file written
+     * @throws IOException if the file cannot be written
+     */
+    public synchronized long save(PetState[] states) throws IOException {
+        int size = HEADER_SIZE + RECORD_SIZE * states.length;
+        if (buffer.capacity() < size) {
+            buffer = ByteBuffer.allocateDirect(size);
+        }
+        buffer.clear();
+        encode(states, generation + 1, buffer);
+        buffer.flip();
+
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        AtomicFileWriter.getInstance().write(savePath.toString(), bytes);
+        generation++;
+        return PetJournal.crc(bytes);
+    }
+
+    /**
+     * Reads a whole file into the reusable direct buffer.
+     *
+     * @param path the file
+     * @return the buffer, from position 0 to the file size
+     * @throws IOException if the file cannot be read
+     */
+    private ByteBuffer readFile(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Save file is too large: " + path);
+            }
+            if (buffer.capacity() < size) {
+                buffer = ByteBuffer.allocateDirect((int) size);
+            }
+            buffer.clear().limit((int) size);
+            while (buffer.hasRemaining() && channel.read(buffer) != -1) {
+                // Keep reading until the buffer holds the whole file
+            }
+            return buffer.flip();
+        }
+    }
+
+    /**
+     * Calculates the size of a save holding the given pets.
+     *
+     * @param states the pet states, indexed by petId - 1; null entries are not stored
+     * @return the size of the file in bytes
+     */
+    static int sizeOf(PetState[] states) {
+        int count = 0;
+        for (PetState state : states) {
+            if (state != null) {
+                count++;
+            }
+        }
+        return HEADER_SIZE + RECORD_SIZE * count;
+    }
+
+    /**
+     * Decodes a save of any binary version, migrating it to the current version first. A file that
+     * is shorter than the header or lacks the magic number is rejected rather than read as CSV, so
+     * that a damaged save is never mistaken for an empty one and overwritten.
+     *
+     * @param file the file contents, from position to limit
+     * @return the pets held by the file
+     * @throws IOException if the file is malformed, corrupt or of a newer version
+     */
+    static Snapshot decode(ByteBuffer file) throws IOException {
+        if (!hasMagic(file)) {
+            throw new IOException("Save file is corrupt: missing header");
+        }
+        return decode(file, file.getShort(file.position() + 4) & 0xFFFF);
+    }
+
+    /**
+     * Decodes the contents of petInfo.csv, version 0, migrating them to the current version.
+     *
+     * @param file the CSV contents, from position to limit
+     * @return the pets held by the file
+     * @throws IOException if the CSV cannot be read
+     */
+    static Snapshot decodeLegacy(ByteBuffer file) throws IOException {
+        return decode(file, 0);
+    }
+
+    /**
+     * Decodes a file of the given version, migrating it to the current version first.
+     *
+     * @param file    the file contents, from position to limit
+     * @param version the version the file is stored in
+     * @return the pets held by the file
+     * @throws IOException if the file is malformed, corrupt or of a newer version
+     */
+    private static Snapshot decode(ByteBuffer file, int version) throws IOException {
+        long checksum = checksum(file);
+        if (version > VERSION) {
+            throw new IOException("Save file version " + version + " is newer than supported version " + VERSION);
+        }
+        for (int v = version; v < VERSION; v++) {
+            file = MIGRATIONS[v].upgrade(file);
+        }
+
+        int start = file.position();
+        if (file.remaining() < HEADER_SIZE) {
+            throw new IOException("Save file is truncated");
+        }
+        int headerSize = file.getShort(start + 6) & 0xFFFF;
+        int recordSize = file.getInt(start + 8);
+        int recordCount = file.getInt(start + 12);
+        long generation = file.getLong(start + 16);
+        int payloadCrc = file.getInt(start + 24);
+        if (headerSize < HEADER_SIZE || recordSize < RECORD_SIZE || recordCount < 0
+                || (long) headerSize + (long) recordSize * recordCount > file.remaining()) {
+            throw new IOException("Save file header is invalid");
+        }
+        CRC32 crc = new CRC32();
+        crc.update(file.slice(start + headerSize, recordSize * recordCount));
+        if ((int) crc.getValue() != payloadCrc) {
+            throw new IOException("Save file is corrupt: CRC mismatch");
+        }
+
+        PetState[] states = new PetState[PET_COUNT];
+        for (int i = 0; i < recordCount; i++) {
+            int offset = start + headerSize + i * recordSize;
+            int petId = file.get(offset);
+            if (petId >= 1 && petId <= PET_COUNT) {
+                states[petId - 1] = readRecord(file, offset);
+            }
+        }
+        return new Snapshot(states, generation, version, checksum);
+    }
+
+    /**
+     * Encodes pets in the current version.
+     *
+     * @param states     the pet states, indexed by petId - 1; null entries are not stored
+     * @param generation the generation of the save
+     * @param target     receives the file contents at its position
+     */
+    static void encode(PetState[] states, long generation, ByteBuffer target) {
+        int start = target.position();
+        int count = 0;
+        target.position(start + HEADER_SIZE);
+        for (int i = 0; i < states.length; i++) {
+            if (states[i] != null) {
+                writeRecord(target, i + 1, states[i]);
+                count++;
+            }
+        }
+        int end = target.position();
+
+        CRC32 crc = new CRC32();
+        crc.update(target.slice(start + HEADER_SIZE, end - start - HEADER_SIZE));
+        target.putInt(start, MAGIC)
+                .putShort(start + 4, (short) VERSION)
+                .putShort(start + 6, (short) HEADER_SIZE)
+                .putInt(start + 8, RECORD_SIZE)
+                .putInt(start + 12, count)
+                .putLong(start + 16, generation)
+                .putInt(start + 24, (int) crc.getValue())
+                .putInt(start + 28, 0);
+    }
+
+    /**
+     * Checks whether a file starts with a whole header carrying the magic number.
+     */
+    private static boolean hasMagic(ByteBuffer file) {
+        return file.remaining() >= HEADER_SIZE && file.getInt(file.position()) == MAGIC;
+    }
+
+    /**
+     * Computes the CRC32 of a whole file without moving its position.
+     */
+    private static long checksum(ByteBuffer file) {
+        CRC32 crc = new CRC32();
+        crc.update(file.duplicate());
+        return crc.getValue();
+    }
+
+    /**
+     * Writes one pet record at the buffer's position.
+     */
+    private static void writeRecord(ByteBuffer target, int petId, PetState state) {
+        target.put((byte) petId)
+                .put((byte) (state.isSaved() ? FLAG_SAVED : 0))
+                .putShort((short) 0)
+                .putLong(state.getSavedTime())
+                .putInt(state.getHunger())
+                .putInt(state.getHappiness())
+                .putInt(state.getCoins())
+                .putInt(state.getSleep())
+                .putInt(state.getExperience())
+                .putInt(state.getHealth())
+                .putInt(state.getLevel())
+                .putInt(state.getAccessoryMask())
+                .putInt(state.getEquippedMask());
+        putText(target, state.getPin());
+        putText(target, state.getQuestionDifficulty());
+    }
+
+    /**
+     * Reads the pet record at an offset.
+     */
+    private static PetState readRecord(ByteBuffer file, int offset) {
+        PetState state = new PetState();
+        state.setSaved((file.get(offset + 1) & FLAG_SAVED) != 0);
+        state.setSavedTime(file.getLong(offset + 4));
+        state.setHunger(file.getInt(offset + 12));
+        state.setHappiness(file.getInt(offset + 16));
+        state.setCoins(file.getInt(offset + 20));
+        state.setSleep(file.getInt(offset + 24));
+        state.setExperience(file.getInt(offset + 28));
+        state.setHealth(file.getInt(offset + 32));
+        state.setLevel(file.getInt(offset + 36));
+        state.setAccessoryMask(file.getInt(offset + 40));
+        state.setEquippedMask(file.getInt(offset + 44));
+        state.setPin(getText(file, offset + 48));
+        state.setQuestionDifficulty(getText(file, offset + 64));
+        return state;
+    }
+
+    /**
+     * Writes text as zero-padded UTF-8, cut at a character boundary if it is too long.
+     */
+    private static void putText(ByteBuffer target, String text) {
+        byte[] bytes = text == null ? new byte[0] : text.getBytes(StandardCharsets.UTF_8);
+        int length = Math.min(bytes.length, TEXT_SIZE);
+        if (length < bytes.length) {
+            while (length > 0 && (bytes[length] & 0xC0) == 0x80) {
+                length--;
+            }
+        }
+        target.put(bytes, 0, length);
+        for (int i = length; i < TEXT_SIZE; i++) {
+            target.put((byte) 0);
+        }
+    }
+
+    /**
+     * Reads zero-padded UTF-8 text at an offset.
+     */
+    private static String getText(ByteBuffer file, int offset) {
+        int length = 0;
+        while (length < TEXT_SIZE && file.get(offset + length) != 0) {
+            length++;
+        }
+        if (length == 0) {
+            return "";
+        }
+        byte[] bytes = new byte[length];
+        file.get(offset, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Migrates petInfo.csv, version 0, to version 1.
+     *
+     * @param file the CSV contents
+     * @return the version 1 file, of generation 0
+     * @throws IOException if the CSV cannot be read
+     */
+    private static ByteBuffer fromCsv(ByteBuffer file) throws IOException {
+        byte[] bytes = new byte[file.remaining()];
+        file.duplicate().get(bytes);
+        PetState[] states = new PetState[PET_COUNT];
+        try (CSVReader csv = new CSVReader(new InputStreamReader(new ByteArrayInputStream(bytes), StandardCharsets.UTF_8),
+                LEGACY_PATH)) {
+            int rowIndex = 0;
+            csv.nextRow(); // Skip the header row
+            while (rowIndex < states.length && csv.nextRow()) {
+                states[rowIndex++] = CSVController.parsePetRow(csv);
+            }
+        }
+
+        ByteBuffer upgraded = ByteBuffer.allocate(HEADER_SIZE + RECORD_SIZE * PET_COUNT);
+        encode(states, 0, upgraded);
+        return upgraded.flip();
+    }
+}
@@ -0,0 +1,48 @@
+package Backend;
+
+import java.util.BitSet;
+
+/**
+ * The `PetSimulation` class advances the stats of many pets in one batched pass.
+ *
+ * <p>A tick walks the pet states once, applying the closed-form decay of
+ * {@link PeriodicUpdateService#applyDecay(PetState, long)} to every saved pet in place, and reports
+ * which pets changed so they can be persisted together and announced with a single notification.
+ *
+ * @author      Jay Bava <jbava@uwo.ca>
+ * @version     1.9                 (current version number of program)
+ * @since       1.9                 (the version of the package this class was first added to)
+ */
+public class PetSimulation {
+
+    /**
+     * Advances every saved pet by the given number of ticks.
+     * The caller must hold the `CSVDataStore` lock so the pets are not modified concurrently.
+     *
+     * @param pets  the pet states, indexed by pet ID - 1; null entries are skipped
+     * @param ticks the number of ticks to advance
+     * @return the pets whose state changed; bit (petId - 1) is set for a changed pet
+     */
+    public BitSet tick(PetState[] pets, long ticks) {
+        BitSet changed = new BitSet(pets.length);
+        if (ticks <= 0) {
+            return changed;
+        }
+        for (int i = 0; i < pets.length; i++) {
+            PetState pet = pets[i];
+            if (pet == null || !pet.isSaved()) {
+                continue;
+            }
+            int hunger = pet.getHunger();
+            int happiness = pet.getHappiness();
+            int sleep = pet.getSleep();
+            int health = pet.getHealth();
+            PeriodicUpdateService.applyDecay(pet, ticks);
+            if (pet.getHunger() != hunger || pet.getHappiness() != happiness
+                    || pet.getSleep() != sleep || pet.getHealth() != health) {
+                changed.set(i);
+            }
+        }
+        return changed;
+    }
+}
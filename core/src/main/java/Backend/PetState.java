@@ -0,0 +1,372 @@
+package Backend;
+
+import java.util.Objects;
+
+/**
+ * The `PetState` class is the typed, in-memory representation of a single pet profile.
+ * Numeric stats are held as primitive ints, and the nine accessory ownership flags and the worn
+ * accessories are each packed into a bitmask, so that stat reads and writes during gameplay never
+ * touch strings.
+ *
+ * <p>The state is only encoded or decoded by {@link PetSaveFile} when it is persisted or loaded.
+ *
+ * @author      Jay Bava <jbava@uwo.ca>
+ * @version     1.9                 (current version number of program)
+ * @since       1.9                 (the version of the package this class was first added to)
+ */
+public class PetState {
+
+    /** Accessory names in the order of their columns (11-19) in the legacy petInfo.csv; the index is the bit position. */
+    public static final String[] ACCESSORIES = {
+            "blackGlasses", "blackHat", "blackBowtie",
+            "silverGlasses", "silverHat", "silverBowtie",
+            "goldGlasses", "goldHat", "goldBowtie"
+    };
+
+    /** Whether this pet has a saved game. */
+    private boolean saved;
+
+    /** The parental controls PIN stored alongside the pet. */
+    private String pin = "";
+
+    /** Epoch millis of the last save, or 0 if the pet has never been stamped. */
+    private long savedTime;
+
+    private int hunger;
+    private int happiness;
+    private int coins;
+    private int sleep;
+    private int experience;
+    private int health;
+    private int level;
+
+    /** The question difficulty column, kept verbatim. */
+    private String questionDifficulty = "";
+
+    /** Bitmask of owned accessories, bit i corresponds to {@link #ACCESSORIES}[i]. */
+    private int accessoryMask;
+
+    /** Value of the selected item column when no accessory is worn. */
+    public static final String NO_ACCESSORY = "DEFAULT";
+
+    /** Separator between the names of the accessories worn at the same time. */
+    public static final String ACCESSORY_SEPARATOR = "+";
+
+    /** Number of accessory slots; each tier has one accessory per slot, in {@link #ACCESSORIES} order. */
+    public static final int ACCESSORY_SLOTS = 3;
+
+    /** Bitmask of worn accessories, bit i corresponds to {@link #ACCESSORIES}[i]. */
+    private int equippedMask;
+
+    /**
+     * Returns the bit index of an accessory.
+     *
+     * @param accessory the accessory name (e.g. "blackHat")
+     * @return the bit index of the accessory, or -1 if the name is unknown
+     */
+    public static int accessoryIndex(String accessory) {
+        if (accessory == null) return -1;
+        return switch (accessory) {
+            case "blackGlasses" -> 0;
+            case "blackHat" -> 1;
+            case "blackBowtie" -> 2;
+            case "silverGlasses" -> 3;
+            case "silverHat" -> 4;
+            case "silverBowtie" -> 5;
+            case "goldGlasses" -> 6;
+            case "goldHat" -> 7;
+            case "goldBowtie" -> 8;
+            default -> -1;
+        };
+    }
+
+    public boolean isSaved() {
+        return saved;
+    }
+
+    public void setSaved(boolean saved) {
+        this.saved = saved;
+    }
+
+    public String getPin() {
+        return pin;
+    }
+
+    public void setPin(String pin) {
+        this.pin = pin;
+    }
+
+    public long getSavedTime() {
+        return savedTime;
+    }
+
+    public void setSavedTime(long savedTime) {
+        this.savedTime = savedTime;
+    }
+
+    public int getHunger() {
+        return hunger;
+    }
+
+    public void setHunger(int hunger) {
+        this.hunger = hunger;
+    }
+
+    public int getHappiness() {
+        return happiness;
+    }
+
+    public void setHappiness(int happiness) {
+        this.happiness = happiness;
+    }
+
+    public int getCoins() {
+        return coins;
+    }
+
+    public void setCoins(int coins) {
+        this.coins = coins;
+    }
+
+    public int getSleep() {
+        return sleep;
+    }
+
+    public void setSleep(int sleep) {
+        this.sleep = sleep;
+    }
+
+    public int getExperience() {
+        return experience;
+    }
+
+    public void setExperience(int experience) {
+        this.experience = experience;
+    }
+
+    public int getHealth() {
+        return health;
+    }
+
+    public void setHealth(int health) {
+        this.health = health;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    public void setLevel(int level) {
+        this.level = level;
+    }
+
+    public String getQuestionDifficulty() {
+        return questionDifficulty;
+    }
+
+    public void setQuestionDifficulty(String questionDifficulty) {
+        this.questionDifficulty = questionDifficulty;
+    }
+
+    public int getAccessoryMask() {
+        return accessoryMask;
+    }
+
+    public void setAccessoryMask(int accessoryMask) {
+        this.accessoryMask = accessoryMask;
+    }
+
+    /**
+     * Returns the worn accessories as the selected item column of the legacy petInfo.csv: their
+     * names joined by {@link #ACCESSORY_SEPARATOR}, or {@link #NO_ACCESSORY} if none is worn.
+     *
+     * @return the selected item text
+     */
+    public String getSelectedItem() {
+        if (equippedMask == 0) return NO_ACCESSORY;
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < ACCESSORIES.length; i++) {
+            if ((equippedMask & (1 << i)) != 0) {
+                if (sb.length() > 0) sb.append(ACCESSORY_SEPARATOR);
+                sb.append(ACCESSORIES[i]);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Sets the worn accessories from the selected item column of the legacy petInfo.csv. A single
+     * accessory name, as written before several accessories could be worn, is understood; unknown
+     * names are ignored.
+     *
+     * @param selectedItem the selected item text
+     */
+    public void setSelectedItem(String selectedItem) {
+        int mask = 0;
+        if (selectedItem != null) {
+            int start = 0;
+            while (start <= selectedItem.length()) {
+                int end = selectedItem.indexOf(ACCESSORY_SEPARATOR, start);
+                if (end == -1) end = selectedItem.length();
+                int index = accessoryIndex(selectedItem.substring(start, end));
+                if (index != -1) {
+                    mask |= 1 << index;
+                }
+                start = end + ACCESSORY_SEPARATOR.length();
+            }
+        }
+        equippedMask = mask;
+    }
+
+    /**
+     * Checks whether the accessory at the given bit index is owned.
+     *
+     * @param index the accessory bit index
+     * @return true if owned, false otherwise
+     */
+    public boolean isAccessoryOwned(int index) {
+        return index >= 0 && (accessoryMask & (1 << index)) != 0;
+    }
+
+    /**
+     * Checks whether the named accessory is owned.
+     *
+     * @param accessory the accessory name
+     * @return true if owned, false otherwise (including unknown names)
+     */
+    public boolean isAccessoryOwned(String accessory) {
+        return isAccessoryOwned(accessoryIndex(accessory));
+    }
+
+    /**
+     * Sets the ownership of the named accessory. Unknown names are ignored.
+     *
+     * @param accessory the accessory name
+     * @param owned     true to mark the accessory as owned
+     */
+    public void setAccessoryOwned(String accessory, boolean owned) {
+        int index = accessoryIndex(accessory);
+        if (index == -1) return;
+        if (owned) {
+            accessoryMask |= (1 << index);
+        } else {
+            accessoryMask &= ~(1 << index);
+        }
+    }
+
+    /**
+     * Returns the slot an accessory is worn in (0 for glasses, 1 for hats, 2 for bowties).
+     * Only one accessory can be worn per slot.
+     *
+     * @param index the accessory bit index
+     * @return the slot of the accessory
+     */
+    public static int accessorySlot(int index) {
+        return index % ACCESSORY_SLOTS;
+    }
+
+    /**
+     * Returns the worn accessories as a bitmask, bit i corresponding to {@link #ACCESSORIES}[i].
+     *
+     * @return the bitmask of worn accessories
+     */
+    public int getEquippedMask() {
+        return equippedMask;
+    }
+
+    /**
+     * Sets the worn accessories from a bitmask.
+     *
+     * @param mask the bitmask of worn accessories, bit i corresponding to {@link #ACCESSORIES}[i]
+     */
+    public void setEquippedMask(int mask) {
+        equippedMask = mask;
+    }
+
+    /**
+     * Puts on or takes off an accessory. Putting one on takes off the accessory worn in the same
+     * slot. Unknown names are ignored.
+     *
+     * @param accessory the accessory name
+     * @param equipped  true to put the accessory on, false to take it off
+     */
+    public void setEquipped(String accessory, boolean equipped) {
+        int index = accessoryIndex(accessory);
+        if (index == -1) return;
+        for (int i = accessorySlot(index); i < ACCESSORIES.length; i += ACCESSORY_SLOTS) {
+            equippedMask &= ~(1 << i);
+        }
+        if (equipped) {
+            equippedMask |= 1 << index;
+        }
+    }
+
+    /**
+     * Checks whether the named accessory is worn.
+     *
+     * @param accessory the accessory name
+     * @return true if worn, false otherwise (including unknown names)
+     */
+    public boolean isEquipped(String accessory) {
+        int index = accessoryIndex(accessory);
+        return index != -1 && (equippedMask & (1 << index)) != 0;
+    }
+
+    /**
+     * Checks whether any of hunger, happiness, sleep or health has reached zero.
+     *
+     * @return true if the pet is in an alert state
+     */
+    public boolean hasZeroStat() {
+        return hunger == 0 || happiness == 0 || sleep == 0 || health == 0;
+    }
+
+    /**
+     * Copies every field of another state into this one.
+     *
+     * @param other the state to copy from
+     */
+    public void copyFrom(PetState other) {
+        saved = other.saved;
+        pin = other.pin;
+        savedTime = other.savedTime;
+        hunger = other.hunger;
+        happiness = other.happiness;
+        coins = other.coins;
+        sleep = other.sleep;
+        experience = other.experience;
+        health = other.health;
+        level = other.level;
+        questionDifficulty = other.questionDifficulty;
+        accessoryMask = other.accessoryMask;
+        equippedMask = other.equippedMask;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof PetState other)) return false;
+        return saved == other.saved && savedTime == other.savedTime
+                && hunger == other.hunger && happiness == other.happiness && coins == other.coins
+                && sleep == other.sleep && experience == other.experience && health == other.health
+                && level == other.level && accessoryMask == other.accessoryMask
+                && equippedMask == other.equippedMask
+                && Objects.equals(pin, other.pin)
+                && Objects.equals(questionDifficulty, other.questionDifficulty);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(saved, pin, savedTime, hunger, happiness, coins, sleep, experience,
+                health, level, questionDifficulty, accessoryMask, equippedMask);
+    }
+
+    @Override
+    public String toString() {
+        return "PetState{saved=" + saved + ", hunger=" + hunger + ", happiness=" + happiness
+                + ", coins=" + coins + ", sleep=" + sleep + ", experience=" + experience
+                + ", health=" + health + ", level=" + level
+                + ", accessories=" + Integer.toBinaryString(accessoryMask)
+                + ", equipped=" + Integer.toBinaryString(equippedMask) + "}";
+    }
+}
@@ -0,0 +1,36 @@
+package Backend;
+
+/**
+ * The `Question` record holds one minigame question, parsed once when the question bank is loaded.
+ *
+ * @param subject      the subject of the question, such as "Math"
+ * @param difficulty   the difficulty level (2, 4 or 6)
+ * @param text         the question shown to the player
+ * @param hint         the hint shown after a wrong answer
+ * @param answer       the correct answer
+ * @param wrongOption1 the first wrong answer
+ * @param wrongOption2 the second wrong answer
+ * @param coins        the coins awarded for a correct answer
+ * @param experience   the experience awarded for a correct answer
+ *
+ * @author      Jay Bava <jbava@uwo.ca>
+ * @version     1.9                 (current version number of program)
+ * @since       1.9                 (the version of the package this class was first added to)
+ */
+public record Question(String subject, int difficulty, String text, String hint, String answer,
+                       String wrongOption1, String wrongOption2, int coins, int experience) {
+
+    /**
+     * Extracts the subject from a question type label such as "Math 4" by dropping its trailing number.
+     *
+     * @param questionType the question type label
+     * @return the subject
+     */
+    public static String subjectOf(String questionType) {
+        int end = questionType.length();
+        while (end > 0 && (Character.isDigit(questionType.charAt(end - 1)) || questionType.charAt(end - 1) == ' ')) {
+            end--;
+        }
+        return questionType.substring(0, end);
+    }
+}
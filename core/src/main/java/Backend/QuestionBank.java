@@ -0,0 +1,201 @@
+package Backend;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.IntPredicate;
+
+/**
+ * The `QuestionBank` class is an immutable index of minigame questions by subject and difficulty.
+ *
+ * <p>The index is built once when the questions are loaded. Each subject maps to its difficulty
+ * levels in increasing order, and each level holds its questions in an array. Picking a random
+ * question under the parental difficulty filters only visits the few difficulty levels of the
+ * subject, so its cost does not grow with the number of questions.
+ *
+ * @author      Jay Bava <jbava@uwo.ca>
+ * @version     1.9                 (current version number of program)
+ * @since       1.9                 (the version of the package this class was first added to)
+ */
+public final class QuestionBank implements Iterable<Question> {
+
+    /** Subject of the math questions. */
+    public static final String MATH = "Math";
+
+    /** Subject of the English questions. */
+    public static final String ENGLISH = "English";
+
+    /** Subject of the geography questions. */
+    public static final String GEOGRAPHY = "Geography";
+
+    /** The questions of one subject at one difficulty. */
+    private record Level(int difficulty, Question[] questions) {}
+
+    /** Difficulty levels of each subject, in increasing order of difficulty. */
+    private final Map<String, Level[]> index;
+
+    /** Total number of questions. */
+    private final int size;
+
+    /**
+     * Creates a bank from its prebuilt index.
+     *
+     * @param index the difficulty levels of each subject
+     * @param size  the total number of questions
+     */
+    private QuestionBank(Map<String, Level[]> index, int size) {
+        this.index = index;
+        this.size = size;
+    }
+
+    /**
+     * Builds a bank from a list of questions.
+     *
+     * @param questions the questions
+     * @return the bank
+     */
+    public static QuestionBank of(Iterable<Question> questions) {
+        Builder builder = new Builder();
+        for (Question question : questions) {
+            builder.add(question);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Picks a random question of a subject among the allowed difficulty levels. Every allowed
+     * question is equally likely.
+     *
+     * @param subject the subject
+     * @param allowed tests whether a difficulty level is allowed
+     * @param random  the source of randomness
+     * @return the question, or null if the subject has no question at an allowed difficulty
+     */
+    public Question random(String subject, IntPredicate allowed, Random random) {
+        Level[] levels = index.get(subject);
+        if (levels == null) {
+            return null;
+        }
+        int total = 0;
+        for (Level level : levels) {
+            if (allowed.test(level.difficulty())) {
+                total += level.questions().length;
+            }
+        }
+        if (total == 0) {
+            return null;
+        }
+        int pick = random.nextInt(total);
+        for (Level level : levels) {
+            if (allowed.test(level.difficulty())) {
+                if (pick < level.questions().length) {
+                    return level.questions()[pick];
+                }
+                pick -= level.questions().length;
+            }
+        }
+        throw new IllegalStateException("Unreachable");
+    }
+
+    /**
+     * Counts the questions of a subject at a difficulty level.
+     *
+     * @param subject    the subject
+     * @param difficulty the difficulty level
+     * @return the number of questions
+     */
+    public int count(String subject, int difficulty) {
+        Level[] levels = index.get(subject);
+        if (levels != null) {
+            for (Level level : levels) {
+                if (level.difficulty() == difficulty) {
+                    return level.questions().length;
+                }
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Retrieves the subjects that have questions.
+     *
+     * @return the subjects
+     */
+    public Set<String> subjects() {
+        return index.keySet();
+    }
+
+    /**
+     * Retrieves the total number of questions.
+     *
+     * @return the number of questions
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Iterates over every question, grouped by subject and then by difficulty.
+     *
+     * @return an iterator over the questions
+     */
+    @Override
+    public Iterator<Question> iterator() {
+        List<Question> questions = new ArrayList<>(size);
+        for (Level[] levels : index.values()) {
+            for (Level level : levels) {
+                Collections.addAll(questions, level.questions());
+            }
+        }
+        return Collections.unmodifiableList(questions).iterator();
+    }
+
+    /**
+     * Collects questions and freezes them into a {@link QuestionBank}.
+     */
+    public static final class Builder {
+
+        /** Questions collected so far, by subject and difficulty. */
+        private final Map<String, TreeMap<Integer, List<Question>>> questions = new HashMap<>();
+
+        /** Number of questions collected so far. */
+        private int size;
+
+        /**
+         * Adds a question.
+         *
+         * @param question the question
+         * @return this builder
+         */
+        public Builder add(Question question) {
+            questions.computeIfAbsent(question.subject(), subject -> new TreeMap<>())
+                    .computeIfAbsent(question.difficulty(), difficulty -> new ArrayList<>())
+                    .add(question);
+            size++;
+            return this;
+        }
+
+        /**
+         * Builds the bank from the questions added so far.
+         *
+         * @return the bank
+         */
+        public QuestionBank build() {
+            Map<String, Level[]> index = new HashMap<>();
+            for (Map.Entry<String, TreeMap<Integer, List<Question>>> subject : questions.entrySet()) {
+                List<Level> levels = new ArrayList<>();
+                for (Map.Entry<Integer, List<Question>> level : subject.getValue().entrySet()) {
+                    levels.add(new Level(level.getKey(), level.getValue().toArray(new Question[0])));
+                }
+                index.put(subject.getKey(), levels.toArray(new Level[0]));
+            }
+            return new QuestionBank(Collections.unmodifiableMap(index), size);
+        }
+    }
+}
@@ -0,0 +1,310 @@
+package Backend;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The `QuestionBankLoader` class loads minigame questions from CSV into a {@link QuestionBank}.
+ *
+ * <p>Two layouts are read, and told apart by their first row:
+ * <ul>
+ *   <li>The column layout of MinigameInfo.csv, with one question per column and one row per
+ *       attribute (Difficulty, Question Type, Question, Hint, Answer, Option 1, Option 2, Coins,
+ *       Experience), each row starting with the attribute's name.</li>
+ *   <li>The row layout, with a header row naming the attributes in any order followed by one
+ *       question per row. This layout is meant for large banks: each question is added to the bank
+ *       as soon as its row is read, so no part of the file is buffered.</li>
+ * </ul>
+ *
+ * <p>A question of the column layout is only complete once the last row is read, so its attributes
+ * are collected first. They are parsed as each row is read, numbers straight into int arrays, and
+ * the questions are then built from the same strings, so the file's text is held in memory once.
+ * {@link #convert(Path, Path)} rewrites a bank in the row layout.
+ *
+ * @author      Jay Bava <jbava@uwo.ca>
+ * @version     1.9                 (current version number of program)
+ * @since       1.9                 (the version of the package this class was first added to)
+ */
+public class QuestionBankLoader {
+
+    /** The attributes of a question, with the names their row or column may have. */
+    private enum Attribute {
+        DIFFICULTY("Difficulty"),
+        SUBJECT("Question Type", "Subject"),
+        QUESTION("Question"),
+        HINT("Hint"),
+        ANSWER("Answer"),
+        OPTION_1("Option 1"),
+        OPTION_2("Option 2"),
+        COINS("Coins"),
+        EXPERIENCE("Experience");
+
+        private final String[] names;
+
+        Attribute(String... names) {
+            this.names = names;
+        }
+
+        /**
+         * Finds the attribute with a name, ignoring case and surrounding whitespace.
+         *
+         * @param name the name
+         * @return the attribute, or null if no attribute has the name
+         */
+        static Attribute of(String name) {
+            for (Attribute attribute : values()) {
+                for (String candidate : attribute.names) {
+                    if (candidate.equalsIgnoreCase(name)) {
+                        return attribute;
+                    }
+                }
+            }
+            return null;
+        }
+    }
+
+    /** Header row written by {@link #writeRows(QuestionBank, Writer)}. */
+    private static final String ROW_HEADER = "Difficulty,Subject,Question,Hint,Answer,Option 1,Option 2,Coins,Experience";
+
+    /**
+     * Prevents instantiation.
+     */
+    private QuestionBankLoader() {}
+
+    /**
+     * Loads questions in either layout. The input is closed once it has been read.
+     *
+     * @param in the CSV input
+     * @return the question bank
+     * @throws IOException if the input cannot be read or its first row is not a known layout
+     */
+    public static QuestionBank load(Reader in) throws IOException {
+        return load(in, null);
+    }
+
+    /**
+     * Loads questions in either layout, naming the source in the recorded {@link CSVParseEvent}.
+     * The input is closed once it has been read.
+     *
+     * @param in     the CSV input
+     * @param source the file the input is read from, or null if unknown
+     * @return the question bank
+     * @throws IOException if the input cannot be read or its first row is not a known layout
+     */
+    public static QuestionBank load(Reader in, String source) throws IOException {
+        try (CSVReader csv = new CSVReader(in, source)) {
+            if (!csv.nextRow()) {
+                return new QuestionBank.Builder().build();
+            }
+            if (Attribute.of(csv.getString(0)) == null) {
+                throw new IOException("Unknown question bank layout: first field is \"" + csv.getString(0) + "\"");
+            }
+            // The column layout has question data after the first name, the row layout has more names
+            if (csv.fieldCount() > 1 && Attribute.of(csv.getString(1)) != null) {
+                return loadRows(csv);
+            }
+            return loadColumns(csv);
+        }
+    }
+
+    /**
+     * Loads questions stored one per column. The reader is positioned on the first row.
+     *
+     * @param csv the reader
+     * @return the question bank
+     * @throws IOException if the input cannot be read
+     */
+    private static QuestionBank loadColumns(CSVReader csv) throws IOException {
+        int count = csv.fieldCount() - 1;
+        int[] difficulties = new int[count];
+        int[] coins = new int[count];
+        int[] experience = new int[count];
+        String[][] text = new String[Attribute.values().length][];
+        Map<String, String> subjects = new HashMap<>();
+        do {
+            Attribute attribute = Attribute.of(csv.getString(0));
+            if (attribute == null) {
+                continue; // Rows this version does not know about
+            }
+            int fields = Math.min(count, csv.fieldCount() - 1);
+            switch (attribute) {
+                case DIFFICULTY -> readInts(csv, fields, difficulties);
+                case COINS -> readInts(csv, fields, coins);
+                case EXPERIENCE -> readInts(csv, fields, experience);
+                default -> {
+                    String[] values = new String[count];
+                    Arrays.fill(values, "");
+                    for (int i = 0; i < fields; i++) {
+                        values[i] = attribute == Attribute.SUBJECT
+                                ? subjects.computeIfAbsent(Question.subjectOf(csv.getString(i + 1)), s -> s)
+                                : csv.getString(i + 1);
+                    }
+                    text[attribute.ordinal()] = values;
+                }
+            }
+        } while (csv.nextRow());
+
+        QuestionBank.Builder builder = new QuestionBank.Builder();
+        for (int i = 0; i < count; i++) {
+            builder.add(new Question(textAt(text, Attribute.SUBJECT, i), difficulties[i], textAt(text, Attribute.QUESTION, i),
+                    textAt(text, Attribute.HINT, i), textAt(text, Attribute.ANSWER, i),
+                    textAt(text, Attribute.OPTION_1, i), textAt(text, Attribute.OPTION_2, i), coins[i], experience[i]));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Parses the question fields of the current row as ints.
+     *
+     * @param csv    the reader, positioned on the row
+     * @param fields the number of question fields in the row
+     * @param values receives the values
+     */
+    private static void readInts(CSVReader csv, int fields, int[] values) {
+        for (int i = 0; i < fields; i++) {
+            values[i] = csv.getInt(i + 1);
+        }
+    }
+
+    /**
+     * Retrieves a text attribute of a question, or an empty string if the file had no such row.
+     */
+    private static String textAt(String[][] text, Attribute attribute, int index) {
+        String[] values = text[attribute.ordinal()];
+        return values == null ? "" : values[index];
+    }
+
+    /**
+     * Loads questions stored one per row, adding each to the bank as it is read. The reader is
+     * positioned on the header row.
+     *
+     * @param csv the reader
+     * @return the question bank
+     * @throws IOException if the input cannot be read
+     */
+    private static QuestionBank loadRows(CSVReader csv) throws IOException {
+        int[] columns = new int[Attribute.values().length];
+        Arrays.fill(columns, -1);
+        for (int i = 0; i < csv.fieldCount(); i++) {
+            Attribute attribute = Attribute.of(csv.getString(i));
+            if (attribute != null) {
+                columns[attribute.ordinal()] = i;
+            }
+        }
+
+        QuestionBank.Builder builder = new QuestionBank.Builder();
+        Map<String, String> subjects = new HashMap<>();
+        while (csv.nextRow()) {
+            if (csv.fieldCount() == 1 && csv.isBlank(0)) {
+                continue;
+            }
+            String subject = Question.subjectOf(csv.getString(columns[Attribute.SUBJECT.ordinal()]));
+            builder.add(new Question(subjects.computeIfAbsent(subject, s -> s),
+                    csv.getInt(columns[Attribute.DIFFICULTY.ordinal()]),
+                    csv.getString(columns[Attribute.QUESTION.ordinal()]),
+                    csv.getString(columns[Attribute.HINT.ordinal()]),
+                    csv.getString(columns[Attribute.ANSWER.ordinal()]),
+                    csv.getString(columns[Attribute.OPTION_1.ordinal()]),
+                    csv.getString(columns[Attribute.OPTION_2.ordinal()]),
+                    csv.getInt(columns[Attribute.COINS.ordinal()]),
+                    csv.getInt(columns[Attribute.EXPERIENCE.ordinal()])));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Writes questions in the row layout, quoting fields as RFC 4180 requires.
+     *
+     * @param questionBank the questions
+     * @param out          the output
+     * @throws IOException if the output cannot be written
+     */
+    public static void writeRows(QuestionBank questionBank, Writer out) throws IOException {
+        out.write(ROW_HEADER);
+        out.write("\r\n");
+        StringBuilder row = new StringBuilder(256);
+        for (Question question : questionBank) {
+            row.setLength(0);
+            row.append(question.difficulty()).append(',');
+            appendField(row, question.subject()).append(',');
+            appendField(row, question.text()).append(',');
+            appendField(row, question.hint()).append(',');
+            appendField(row, question.answer()).append(',');
+            appendField(row, question.wrongOption1()).append(',');
+            appendField(row, question.wrongOption2()).append(',');
+            row.append(question.coins()).append(',').append(question.experience()).append("\r\n");
+            out.append(row);
+        }
+    }
+
+    /**
+     * Appends a field, enclosing it in quotes if it holds a comma, quote or line break.
+     *
+     * @param row   the row being built
+     * @param value the field
+     * @return the row
+     */
+    private static StringBuilder appendField(StringBuilder row, String value) {
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            return row.append(value);
+        }
+        row.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                row.append('"');
+            }
+            row.append(c);
+        }
+        return row.append('"');
+    }
+
+    /**
+     * Rewrites a question bank file in the row layout.
+     *
+     * @param source      the question bank in either layout
+     * @param destination the file to write
+     * @throws IOException if a file cannot be read or written
+     */
+    public static void convert(Path source, Path destination) throws IOException {
+        QuestionBank questionBank;
+        try (Reader in = Files.newBufferedReader(source, StandardCharsets.UTF_8)) {
+            questionBank = load(in);
+        }
+        try (Writer out = Files.newBufferedWriter(destination, StandardCharsets.UTF_8)) {
+            writeRows(questionBank, out);
+        }
+    }
+
+    /**
+     * Rewrites a question bank file in the row layout.
+     *
+     * @param args the source file and the destination file
+     */
+    public static void main(String[] args) {
+        if (args.length != 2) {
+            System.err.println("Usage: QuestionBankLoader <source.csv> <destination.csv>");
+            System.exit(2);
+        }
+        try {
+            convert(Paths.get(args[0]), Paths.get(args[1]));
+        } catch (IOException e) {
+            System.err.println("Error converting question bank " + args[0]);
+            e.printStackTrace();
+            System.exit(1);
+        }
+    }
+}
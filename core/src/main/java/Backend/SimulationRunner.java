@@ -0,0 +1,638 @@
+package Backend;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+/**
+ * The `SimulationRunner` class drives many simulated players through scripted play sessions without
+ * JavaFX, at accelerated virtual time, to find where the game engine falls over under load.
+ *
+ * <p>Every player owns a save of three pets and plays one of them. Players alternate between
+ * sessions and breaks. During a session a player repeats a scripted sequence of actions (feeding,
+ * sleeping, the vet, exercise, play, minigame questions, shopping and dressing up) with a random
+ * think time between actions, using the rules of {@link PetCare}. While a player is in a session
+ * their pets decay once per {@link PeriodicUpdateService#TICK_MILLIS} through {@link PetSimulation};
+ * when they come back from a break the decay of the break is caught up in one step with
+ * {@link PeriodicUpdateService#applyDecay(PetState, long)}.
+ *
+ * <p>Changed saves are written behind, as the {@link PersistenceService} does: a save is encoded
+ * once the flush interval has passed since its first unsaved change, immediately after a purchase,
+ * and when the player leaves. Saves are encoded in the petInfo.sav format and, when a save
+ * directory is given, written to one file per player through the {@link AtomicFileWriter}.
+ *
+ * <p>A single {@link TimingWheelScheduler} in virtual-clock mode drives the decay, the actions and
+ * the flushes on the calling thread, so a run is deterministic for a given seed and as fast as the
+ * engine allows. At the end the runner reports the decay throughput in pet ticks per second, the
+ * bytes of save data written, and the p50 and p99 latency of player actions and saves.
+ *
+ * <p>Usage: {@code SimulationRunner [--players N] [--minutes M] [--session-minutes M]
+ * [--break-minutes M] [--think-seconds S] [--flush-ms MS] [--seed N] [--questions FILE]
+ * [--save-dir DIR]}
+ *
+ * @author      Jay Bava <jbava@uwo.ca>
+ * @version     1.9                 (current version number of program)
+ * @since       1.9                 (the version of the package this class was first added to)
+ */
+public class SimulationRunner {
+
+    /** Duration of one tick of the virtual clock; actions and flushes are resolved to it. */
+    private static final long CLOCK_TICK_MILLIS = 1000;
+
+    /** Location of the question bank on the classpath, as read by the game. */
+    private static final String QUESTIONS_RESOURCE = "CSV/MinigameInfo.csv";
+
+    /** Subjects of the minigame, one of which is picked for each question. */
+    private static final String[] SUBJECTS = {QuestionBank.MATH, QuestionBank.ENGLISH, QuestionBank.GEOGRAPHY};
+
+    /** Food values of the apple, banana and peach. */
+    private static final int[] FOOD_VALUES = {10, 20, 30};
+
+    /** Chance that a simulated player answers a question correctly. */
+    private static final double CORRECT_ANSWER_RATE = 0.7;
+
+    /** The actions a player can take, with the effects of the matching screens. */
+    enum Action { FEED, SLEEP, VET, EXERCISE, PLAY, MINIGAME, SHOP, WEAR }
+
+    /** The scripted session every player repeats, starting at a random step. */
+    private static final Action[] SCRIPT = {
+            Action.FEED, Action.MINIGAME, Action.PLAY, Action.MINIGAME, Action.EXERCISE,
+            Action.MINIGAME, Action.SHOP, Action.WEAR, Action.FEED, Action.SLEEP,
+            Action.MINIGAME, Action.VET, Action.MINIGAME, Action.PLAY
+    };
+
+    /** Settings of a run. */
+    record Options(int players, long durationMillis, long sessionMillis, long breakMillis,
+                   long thinkMillis, long flushIntervalMillis, long seed, Path questions, Path saveDir) {
+
+        /** Settings used when no option is given: a thousand players for one hour. */
+        static Options defaults() {
+            return new Options(1000, 60 * 60_000L, 20 * 60_000L, 10 * 60_000L, 15_000L,
+                    PersistenceService.DEFAULT_FLUSH_INTERVAL_MILLIS, 1, null, null);
+        }
+    }
+
+    /**
+     * Results of a run.
+     *
+     * @param players           the number of players
+     * @param virtualMillis     the simulated game time
+     * @param wallNanos         the real time the run took
+     * @param petTicks          the number of pet decay ticks applied
+     * @param tickNanos         the real time spent in decay passes
+     * @param actions           the number of player actions
+     * @param actionP50Nanos    the median action latency
+     * @param actionP99Nanos    the 99th percentile action latency
+     * @param saves             the number of saves written
+     * @param bytesWritten      the bytes of save data written
+     * @param saveP50Nanos      the median save latency
+     * @param saveP99Nanos      the 99th percentile save latency
+     * @param deadPets          the number of played pets whose health reached zero
+     */
+    public record Report(int players, long virtualMillis, long wallNanos, long petTicks, long tickNanos,
+                         long actions, long actionP50Nanos, long actionP99Nanos,
+                         long saves, long bytesWritten, long saveP50Nanos, long saveP99Nanos, int deadPets) {
+
+        /**
+         * Calculates the decay throughput.
+         *
+         * @return pet ticks per second of real time spent in decay passes
+         */
+        public double ticksPerSecond() {
+            return tickNanos == 0 ? 0 : petTicks * 1e9 / tickNanos;
+        }
+
+        @Override
+        public String toString() {
+            double wallSeconds = wallNanos / 1e9;
+            return String.format(
+                    "Simulated %,d players for %,d virtual minutes in %.2f s (%,.0fx real time)%n"
+                            + "Decay:    %,d pet ticks, %,.0f ticks/s%n"
+                            + "Actions:  %,d, p50 %.1f us, p99 %.1f us%n"
+                            + "Saves:    %,d, %,d bytes written, p50 %.1f us, p99 %.1f us%n"
+                            + "Dead pets: %,d",
+                    players, virtualMillis / 60_000, wallSeconds, virtualMillis / 1000.0 / wallSeconds,
+                    petTicks, ticksPerSecond(),
+                    actions, actionP50Nanos / 1e3, actionP99Nanos / 1e3,
+                    saves, bytesWritten, saveP50Nanos / 1e3, saveP99Nanos / 1e3,
+                    deadPets);
+        }
+    }
+
+    /** A simulated player and their save. */
+    private static final class Player {
+
+        /** The player's number, used to name their save file. */
+        final int id;
+
+        /** The pets of the save, indexed by pet ID - 1. */
+        final PetState[] pets = new PetState[3];
+
+        /** The pet the player plays. */
+        final PetState pet;
+
+        /** Position of the next action in the {@link #SCRIPT}. */
+        int step;
+
+        /** Game time of the player's next action, or of their return from a break. */
+        long nextEventAt;
+
+        /** Game time the current session ends. */
+        long sessionEndsAt;
+
+        /** Game time the player left, while on a break. */
+        long leftAt;
+
+        /** Whether the player is in a session. */
+        boolean online;
+
+        /** Whether the save has unwritten changes. */
+        boolean dirty;
+
+        /** Game time of the first unwritten change. */
+        long dirtySince;
+
+        /** Generation of the last save written. */
+        long generation;
+
+        Player(int id, int petId) {
+            this.id = id;
+            for (int i = 0; i < pets.length; i++) {
+                pets[i] = new PetState();
+            }
+            pet = pets[petId - 1];
+            pet.setSaved(true);
+            pet.setHunger(PetCare.MAX_STAT);
+            pet.setHappiness(PetCare.MAX_STAT);
+            pet.setSleep(PetCare.MAX_STAT);
+            pet.setHealth(PetCare.MAX_STAT);
+            pet.setLevel(1);
+        }
+    }
+
+    /** A pending write-behind flush: the player and their first unwritten change when it was queued. */
+    private record PendingFlush(Player player, long dirtySince) {}
+
+    /** A growable list of latency samples. */
+    private static final class Latencies {
+
+        /** The samples in nanoseconds, in the order they were taken. */
+        private long[] samples = new long[1024];
+
+        /** Number of samples taken. */
+        private int count;
+
+        void add(long nanos) {
+            if (count == samples.length) {
+                samples = Arrays.copyOf(samples, count * 2);
+            }
+            samples[count++] = nanos;
+        }
+
+        long percentile(double p) {
+            if (count == 0) {
+                return 0;
+            }
+            long[] sorted = Arrays.copyOf(samples, count);
+            Arrays.sort(sorted);
+            return sorted[(int) Math.max(0, Math.ceil(p * count) - 1)];
+        }
+    }
+
+    /** Settings of the run. */
+    private final Options options;
+
+    /** The question bank the minigame draws from. */
+    private final QuestionBank questions;
+
+    /** Source of think times, scripts and answers, seeded so runs repeat. */
+    private final Random random;
+
+    /** The simulated players. */
+    private final Player[] players;
+
+    /** Players by the game time of their next event. */
+    private final PriorityQueue<Player> events =
+            new PriorityQueue<>((a, b) -> Long.compare(a.nextEventAt, b.nextEventAt));
+
+    /** Pending flushes in the order the saves became dirty. */
+    private final Deque<PendingFlush> flushes = new ArrayDeque<>();
+
+    /** Batched decay of one player's pets, reused for every player. */
+    private final PetSimulation simulation = new PetSimulation();
+
+    /** Virtual game clock driving decay, actions and flushes. */
+    private final TimingWheelScheduler clock;
+
+    /** Buffer saves are encoded in, reused between saves. */
+    private final ByteBuffer buffer = ByteBuffer.allocate(PetSaveFile.HEADER_SIZE + PetSaveFile.RECORD_SIZE * 3);
+
+    /** Real time at the start of the run, stamped on saves as the base of the virtual clock. */
+    private final long epochMillis = System.currentTimeMillis();
+
+    /** Latency of every player action. */
+    private final Latencies actionLatencies = new Latencies();
+
+    /** Latency of every save. */
+    private final Latencies saveLatencies = new Latencies();
+
+    /** Number of pet decay ticks applied, and the real time spent applying them. */
+    private long petTicks;
+    private long tickNanos;
+
+    /** Number of saves written, and their total size. */
+    private long saves;
+    private long bytesWritten;
+
+    /**
+     * Creates a runner.
+     *
+     * @param options   the settings of the run
+     * @param questions the question bank the minigame draws from
+     */
+    SimulationRunner(Options options, QuestionBank questions) {
+        this.options = options;
+        this.questions = questions;
+        this.random = new Random(options.seed());
+        this.clock = new TimingWheelScheduler(CLOCK_TICK_MILLIS, TimingWheelScheduler.DEFAULT_WHEEL_SIZE, true);
+        this.players = new Player[options.players()];
+        for (int i = 0; i < players.length; i++) {
+            Player player = new Player(i, 1 + random.nextInt(3));
+            player.step = random.nextInt(SCRIPT.length);
+            // Spread the start of the first sessions over one think time
+            player.nextEventAt = random.nextLong(options.thinkMillis() + 1);
+            players[i] = player;
+            events.add(player);
+        }
+    }
+
+    /**
+     * Runs the simulation for the configured game time.
+     *
+     * @return the results of the run
+     * @throws IOException if the save directory cannot be created
+     */
+    Report run() throws IOException {
+        if (options.saveDir() != null) {
+            Files.createDirectories(options.saveDir());
+        }
+        clock.scheduleAtFixedRate("decay", PeriodicUpdateService.TICK_MILLIS, this::tickPets);
+        clock.scheduleAtFixedRate("actions", CLOCK_TICK_MILLIS, this::runDueEvents);
+        clock.scheduleAtFixedRate("flush", CLOCK_TICK_MILLIS, this::flushDue);
+        clock.start();
+
+        long start = System.nanoTime();
+        while (clock.getGameTimeMillis() < options.durationMillis()) {
+            clock.advance(CLOCK_TICK_MILLIS);
+        }
+        // Write everything still pending, as the game does on shutdown
+        for (Player player : players) {
+            if (player.dirty) {
+                save(player);
+            }
+        }
+        long wallNanos = System.nanoTime() - start;
+        clock.stop();
+
+        int deadPets = 0;
+        for (Player player : players) {
+            if (player.pet.getHealth() == 0) {
+                deadPets++;
+            }
+        }
+        return new Report(players.length, clock.getGameTimeMillis(), wallNanos, petTicks, tickNanos,
+                actionLatencies.count, actionLatencies.percentile(0.50), actionLatencies.percentile(0.99),
+                saves, bytesWritten, saveLatencies.percentile(0.50), saveLatencies.percentile(0.99), deadPets);
+    }
+
+    /**
+     * Advances the pets of every player in a session by one decay tick.
+     */
+    private void tickPets() {
+        long now = clock.getGameTimeMillis();
+        long begin = System.nanoTime();
+        for (Player player : players) {
+            if (!player.online) {
+                continue;
+            }
+            if (!simulation.tick(player.pets, 1).isEmpty()) {
+                markDirty(player, now);
+            }
+            petTicks++;
+        }
+        tickNanos += System.nanoTime() - begin;
+    }
+
+    /**
+     * Runs the action, session end or return of every player whose next event is due.
+     */
+    private void runDueEvents() {
+        long now = clock.getGameTimeMillis();
+        while (!events.isEmpty() && events.peek().nextEventAt <= now) {
+            Player player = events.poll();
+            if (!player.online) {
+                startSession(player, now);
+            } else if (now >= player.sessionEndsAt) {
+                endSession(player, now);
+            } else {
+                long begin = System.nanoTime();
+                perform(player, SCRIPT[player.step], now);
+                actionLatencies.add(System.nanoTime() - begin);
+                player.step = (player.step + 1) % SCRIPT.length;
+                player.nextEventAt = now + thinkTime();
+            }
+            events.add(player);
+        }
+    }
+
+    /**
+     * Starts a session, catching up on the decay of the break in one step.
+     *
+     * @param player the player
+     * @param now    the game time
+     */
+    private void startSession(Player player, long now) {
+        if (player.leftAt > 0) {
+            long ticks = (now - player.leftAt) / PeriodicUpdateService.TICK_MILLIS;
+            if (ticks > 0) {
+                PeriodicUpdateService.applyDecay(player.pet, ticks);
+                markDirty(player, now);
+            }
+        }
+        player.online = true;
+        player.sessionEndsAt = now + options.sessionMillis();
+        player.nextEventAt = now + thinkTime();
+    }
+
+    /**
+     * Ends a session, writing the save as the game does on shutdown.
+     *
+     * @param player the player
+     * @param now    the game time
+     */
+    private void endSession(Player player, long now) {
+        if (player.dirty) {
+            save(player);
+        }
+        player.online = false;
+        player.leftAt = now;
+        player.nextEventAt = now + options.breakMillis();
+    }
+
+    /**
+     * Performs an action for a player with the rules of {@link PetCare}, as the matching screen does.
+     *
+     * @param player the player
+     * @param action the action
+     * @param now    the game time
+     */
+    private void perform(Player player, Action action, long now) {
+        PetState pet = player.pet;
+        switch (action) {
+            case FEED -> PetCare.applyHunger(pet, FOOD_VALUES[random.nextInt(FOOD_VALUES.length)]);
+            case SLEEP -> PetCare.applySleep(pet, 25);
+            case VET -> PetCare.applySleep(pet, 30);
+            case EXERCISE -> {
+                PetCare.applyHunger(pet, -15);
+                PetCare.applySleep(pet, -15);
+                PetCare.applyHealth(pet, 30);
+            }
+            case PLAY -> PetCare.applyHappiness(pet, 25);
+            case MINIGAME -> {
+                String subject = SUBJECTS[random.nextInt(SUBJECTS.length)];
+                Question question = questions.random(subject, difficulty -> true, random);
+                if (question == null || random.nextDouble() >= CORRECT_ANSWER_RATE) {
+                    return; // A wrong answer changes nothing
+                }
+                PetCare.applyAnswerReward(pet, question);
+            }
+            case SHOP -> {
+                String accessory = cheapestUnowned(pet);
+                if (accessory == null || !PetCare.applyPurchase(pet, accessory)) {
+                    return;
+                }
+                // Purchases are written durably straight away
+                markDirty(player, now);
+                save(player);
+                return;
+            }
+            case WEAR -> {
+                String accessory = randomOwned(pet);
+                if (accessory == null) {
+                    return;
+                }
+                if (PetCare.applyEquip(pet, accessory)) {
+                    PetCare.applyHappiness(pet, PetCare.getHappinessBonus(accessory));
+                }
+            }
+        }
+        markDirty(player, now);
+    }
+
+    /**
+     * Finds the cheapest accessory a pet does not own yet.
+     *
+     * @param pet the pet
+     * @return the accessory, or null if the pet owns them all
+     */
+    private static String cheapestUnowned(PetState pet) {
+        String cheapest = null;
+        for (String accessory : PetState.ACCESSORIES) {
+            if (!pet.isAccessoryOwned(accessory)
+                    && (cheapest == null || PetCare.getAccessoryCost(accessory) < PetCare.getAccessoryCost(cheapest))) {
+                cheapest = accessory;
+            }
+        }
+        return cheapest;
+    }
+
+    /**
+     * Picks a random accessory a pet owns.
+     *
+     * @param pet the pet
+     * @return the accessory, or null if the pet owns none
+     */
+    private String randomOwned(PetState pet) {
+        int owned = Integer.bitCount(pet.getAccessoryMask());
+        if (owned == 0) {
+            return null;
+        }
+        int pick = random.nextInt(owned);
+        for (int i = 0; i < PetState.ACCESSORIES.length; i++) {
+            if (pet.isAccessoryOwned(i) && pick-- == 0) {
+                return PetState.ACCESSORIES[i];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Picks a think time between actions, uniformly up to twice the configured mean.
+     *
+     * @return the think time in milliseconds, at least one clock tick
+     */
+    private long thinkTime() {
+        return Math.max(CLOCK_TICK_MILLIS, random.nextLong(2 * options.thinkMillis() + 1));
+    }
+
+    /**
+     * Marks a player's save as having unwritten changes and queues its flush.
+     *
+     * @param player the player
+     * @param now    the game time
+     */
+    private void markDirty(Player player, long now) {
+        if (player.dirty) {
+            return;
+        }
+        player.dirty = true;
+        player.dirtySince = now;
+        flushes.add(new PendingFlush(player, now));
+    }
+
+    /**
+     * Writes every save whose first unwritten change is at least one flush interval old.
+     */
+    private void flushDue() {
+        long now = clock.getGameTimeMillis();
+        while (!flushes.isEmpty()) {
+            PendingFlush pending = flushes.peek();
+            Player player = pending.player();
+            if (!player.dirty || player.dirtySince != pending.dirtySince()) {
+                flushes.poll(); // Written since it was queued
+                continue;
+            }
+            if (pending.dirtySince() + options.flushIntervalMillis() > now) {
+                break;
+            }
+            flushes.poll();
+            save(player);
+        }
+    }
+
+    /**
+     * Encodes a player's save in the petInfo.sav format and writes it to the save directory, if any.
+     *
+     * @param player the player
+     */
+    private void save(Player player) {
+        long begin = System.nanoTime();
+        player.pet.setSavedTime(epochMillis + clock.getGameTimeMillis());
+        buffer.clear();
+        PetSaveFile.encode(player.pets, ++player.generation, buffer);
+        buffer.flip();
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        if (options.saveDir() != null) {
+            try {
+                AtomicFileWriter.getInstance().write(
+                        options.saveDir().resolve("player-" + player.id + ".sav").toString(), bytes);
+            } catch (IOException e) {
+                System.err.println("Error writing save of player " + player.id);
+                e.printStackTrace();
+                return; // Left dirty, so the next flush retries
+            }
+        }
+        player.dirty = false;
+        saves++;
+        bytesWritten += bytes.length;
+        saveLatencies.add(System.nanoTime() - begin);
+    }
+
+    /**
+     * Loads the question bank from a file, or from the game's own bank on the classpath.
+     *
+     * @param path the file, or null for the game's bank
+     * @return the question bank
+     * @throws IOException if the bank cannot be read
+     */
+    static QuestionBank loadQuestions(Path path) throws IOException {
+        InputStream stream = path != null ? Files.newInputStream(path)
+                : SimulationRunner.class.getResourceAsStream(QUESTIONS_RESOURCE);
+        if (stream == null) {
+            throw new IOException("Question bank not found: " + QUESTIONS_RESOURCE);
+        }
+        try (Reader in = new InputStreamReader(stream, StandardCharsets.UTF_8)) {
+            return QuestionBankLoader.load(in, path != null ? path.toString() : QUESTIONS_RESOURCE);
+        }
+    }
+
+    /**
+     * Parses the command-line options.
+     *
+     * @param args the arguments, as pairs of option name and value
+     * @return the settings
+     * @throws IllegalArgumentException if an option is unknown, has no value or is out of range
+     */
+    static Options parseOptions(String[] args) {
+        Options defaults = Options.defaults();
+        int players = defaults.players();
+        long duration = defaults.durationMillis();
+        long session = defaults.sessionMillis();
+        long pause = defaults.breakMillis();
+        long think = defaults.thinkMillis();
+        long flush = defaults.flushIntervalMillis();
+        long seed = defaults.seed();
+        Path questions = null;
+        Path saveDir = null;
+
+        for (int i = 0; i < args.length; i += 2) {
+            if (i + 1 >= args.length) {
+                throw new IllegalArgumentException("Missing value for " + args[i]);
+            }
+            String value = args[i + 1];
+            switch (args[i]) {
+                case "--players" -> players = Integer.parseInt(value);
+                case "--minutes" -> duration = Long.parseLong(value) * 60_000;
+                case "--session-minutes" -> session = Long.parseLong(value) * 60_000;
+                case "--break-minutes" -> pause = Long.parseLong(value) * 60_000;
+                case "--think-seconds" -> think = Long.parseLong(value) * 1000;
+                case "--flush-ms" -> flush = Long.parseLong(value);
+                case "--seed" -> seed = Long.parseLong(value);
+                case "--questions" -> questions = Paths.get(value);
+                case "--save-dir" -> saveDir = Paths.get(value);
+                default -> throw new IllegalArgumentException("Unknown option " + args[i]);
+            }
+        }
+        if (players <= 0 || duration <= 0 || session <= 0 || pause < 0 || think <= 0 || flush < 0) {
+            throw new IllegalArgumentException("Counts and durations must be positive");
+        }
+        return new Options(players, duration, session, pause, think, flush, seed, questions, saveDir);
+    }
+
+    /**
+     * Runs a simulation with the given options and prints its report.
+     *
+     * @param args the command-line options, see the class description
+     */
+    public static void main(String[] args) {
+        Options options;
+        try {
+            options = parseOptions(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println("Usage: SimulationRunner [--players N] [--minutes M] [--session-minutes M]"
+                    + " [--break-minutes M] [--think-seconds S] [--flush-ms MS] [--seed N]"
+                    + " [--questions FILE] [--save-dir DIR]");
+            System.exit(2);
+            return;
+        }
+        try {
+            System.out.println(new SimulationRunner(options, loadQuestions(options.questions())).run());
+        } catch (IOException e) {
+            e.printStackTrace();
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package Backend;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The `SimulationTickEvent` class is a JDK Flight Recorder event recorded for every decay tick of
+ * the {@link PeriodicUpdateService}.
+ *
+ * @author      Jay Bava <jbava@uwo.ca>
+ * @version     1.9                 (current version number of program)
+ * @since       1.9                 (the version of the package this class was first added to)
+ */
+@Name("Backend.SimulationTick")
+@Label("Simulation Tick")
+@Category({"PetGame", "Simulation"})
+@Description("A batched decay tick of every saved pet")
+@StackTrace(false)
+public class SimulationTickEvent extends Event {
+
+    @Label("Pets")
+    @Description("Number of pets in the tick")
+    int pets;
+
+    @Label("Changed Pets")
+    int changed;
+}
@@ -0,0 +1,395 @@
+package Backend;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The `TimingWheelScheduler` class is a game-clock scheduler built on a hashed timing wheel.
+ *
+ * <p>Periodic tasks are registered under a key, so registering the same task twice keeps a single
+ * schedule instead of stacking duplicate timers. Each task lives in the wheel bucket of its next
+ * deadline; advancing the clock only visits the buckets of the ticks that elapsed. The clock can be
+ * started, paused, resumed and stopped any number of times, and time spent paused or stopped does
+ * not count towards task deadlines.
+ *
+ * <p>In real-clock mode a single daemon thread sleeps until the next occupied bucket. In virtual-clock
+ * mode no thread is started and time only moves when {@link #advance(long)} is called, which runs
+ * the due tasks on the calling thread, making schedules deterministic in tests.
+ *
+ * @author      Jay Bava <jbava@uwo.ca>
+ * @version     1.9                 (current version number of program)
+ * @since       1.9                 (the version of the package this class was first added to)
+ */
+public class TimingWheelScheduler {
+
+    /** Default duration of one wheel tick in milliseconds. */
+    public static final long DEFAULT_TICK_MILLIS = 100;
+
+    /** Default number of buckets in the wheel; must be a power of two. */
+    public static final int DEFAULT_WHEEL_SIZE = 512;
+
+    /** A periodic task registered with the scheduler. */
+    private static final class Task {
+        final String key;
+        final Runnable action;
+        final long periodTicks;
+        long deadline;
+        boolean cancelled;
+
+        Task(String key, Runnable action, long periodTicks, long deadline) {
+            this.key = key;
+            this.action = action;
+            this.periodTicks = periodTicks;
+            this.deadline = deadline;
+        }
+    }
+
+    /** Duration of one tick in milliseconds. */
+    private final long tickMillis;
+
+    /** The wheel buckets, indexed by deadline tick modulo the wheel size. */
+    private final List<Task>[] wheel;
+
+    /** Mask used to map a tick to its bucket. */
+    private final int mask;
+
+    /** Whether time is only advanced explicitly through {@link #advance(long)}. */
+    private final boolean virtualClock;
+
+    /** Registered tasks by key. */
+    private final Map<String, Task> tasks = new HashMap<>();
+
+    /** Number of ticks of game time that have elapsed. */
+    private long currentTick;
+
+    /** Milliseconds passed to {@link #advance(long)} that do not yet add up to a whole tick. */
+    private long virtualRemainderMillis;
+
+    /** System.nanoTime() at which tick currentTick + 1 falls due in real-clock mode. */
+    private long nextTickNanos;
+
+    /** Whether the clock is started. */
+    private boolean running;
+
+    /** Whether the clock is paused. */
+    private boolean paused;
+
+    /** The worker thread in real-clock mode, or null when stopped. */
+    private Thread worker;
+
+    /**
+     * Creates a real-clock scheduler with the default tick duration and wheel size.
+     */
+    public TimingWheelScheduler() {
+        this(DEFAULT_TICK_MILLIS, DEFAULT_WHEEL_SIZE, false);
+    }
+
+    /**
+     * Creates a scheduler.
+     *
+     * @param tickMillis   duration of one tick in milliseconds
+     * @param wheelSize    number of buckets, rounded up to a power of two
+     * @param virtualClock true to only advance time through {@link #advance(long)}
+     */
+    public TimingWheelScheduler(long tickMillis, int wheelSize, boolean virtualClock) {
+        if (tickMillis <= 0 || wheelSize <= 0) {
+            throw new IllegalArgumentException("Tick duration and wheel size must be positive");
+        }
+        int size = Integer.highestOneBit(wheelSize);
+        if (size < wheelSize) {
+            size <<= 1;
+        }
+        this.tickMillis = tickMillis;
+        this.virtualClock = virtualClock;
+        this.mask = size - 1;
+        @SuppressWarnings("unchecked")
+        List<Task>[] buckets = (List<Task>[]) new List<?>[size];
+        for (int i = 0; i < size; i++) {
+            buckets[i] = new ArrayList<>();
+        }
+        this.wheel = buckets;
+    }
+
+    /**
+     * Registers a task that runs every period of game time, first after one period has elapsed.
+     * If a task is already registered under the key it is kept unchanged and this call has no effect.
+     *
+     * @param key          unique key of the task
+     * @param periodMillis the period in milliseconds
+     * @param action       the task to run
+     * @return true if the task was registered, false if the key was already in use
+     */
+    public synchronized boolean scheduleAtFixedRate(String key, long periodMillis, Runnable action) {
+        if (tasks.containsKey(key)) {
+            return false;
+        }
+        if (tasks.isEmpty()) {
+            // The clock had nothing to wait for, so restart the tick phase from now
+            nextTickNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(tickMillis);
+        }
+        long periodTicks = Math.max(1, (periodMillis + tickMillis - 1) / tickMillis);
+        Task task = new Task(key, action, periodTicks, currentTick + periodTicks);
+        tasks.put(key, task);
+        wheel[(int) (task.deadline & mask)].add(task);
+        notifyAll();
+        return true;
+    }
+
+    /**
+     * Cancels the task registered under the key.
+     *
+     * @param key the key of the task
+     * @return true if a task was cancelled
+     */
+    public synchronized boolean cancel(String key) {
+        Task task = tasks.remove(key);
+        if (task == null) {
+            return false;
+        }
+        task.cancelled = true;
+        return true;
+    }
+
+    /**
+     * Cancels every task whose key starts with the given prefix.
+     *
+     * @param prefix the key prefix
+     * @return the number of tasks cancelled
+     */
+    public synchronized int cancelAll(String prefix) {
+        int count = 0;
+        for (Iterator<Task> it = tasks.values().iterator(); it.hasNext(); ) {
+            Task task = it.next();
+            if (task.key.startsWith(prefix)) {
+                task.cancelled = true;
+                it.remove();
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Checks whether a task is registered under the key.
+     *
+     * @param key the key of the task
+     * @return true if the task is registered
+     */
+    public synchronized boolean isScheduled(String key) {
+        return tasks.containsKey(key);
+    }
+
+    /**
+     * Starts the clock, or resumes it if it was paused. Has no effect if the clock is already running.
+     */
+    public synchronized void start() {
+        if (running) {
+            resume();
+            return;
+        }
+        running = true;
+        nextTickNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(tickMillis);
+        if (!virtualClock) {
+            worker = new Thread(this::runWorker, "TimingWheelScheduler");
+            worker.setDaemon(true);
+            worker.start();
+        }
+    }
+
+    /**
+     * Pauses the clock; no task runs and no game time elapses until {@link #resume()} or
+     * {@link #start()} is called. Has no effect if the clock is stopped or already paused.
+     */
+    public synchronized void pause() {
+        if (running) {
+            paused = true;
+        }
+    }
+
+    /**
+     * Resumes a paused clock. Has no effect if the clock is not paused.
+     */
+    public synchronized void resume() {
+        if (running && paused) {
+            paused = false;
+            nextTickNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(tickMillis);
+            notifyAll();
+        }
+    }
+
+    /**
+     * Stops the clock and its worker thread. Registered tasks are kept and continue from where they
+     * left off when the clock is started again. Has no effect if the clock is already stopped.
+     */
+    public synchronized void stop() {
+        running = false;
+        paused = false;
+        worker = null;
+        notifyAll();
+    }
+
+    /**
+     * Checks whether the clock is running and not paused.
+     *
+     * @return true if tasks are currently being run
+     */
+    public synchronized boolean isRunning() {
+        return running && !paused;
+    }
+
+    /**
+     * Checks whether the clock is paused.
+     *
+     * @return true if paused
+     */
+    public synchronized boolean isPaused() {
+        return paused;
+    }
+
+    /**
+     * Retrieves the elapsed game time.
+     *
+     * @return the game time in milliseconds, in whole ticks
+     */
+    public synchronized long getGameTimeMillis() {
+        return currentTick * tickMillis;
+    }
+
+    /**
+     * Advances a virtual clock, running every task that falls due on the calling thread in deadline
+     * order. Does nothing while the clock is stopped or paused.
+     *
+     * @param millis the game time to advance by
+     * @throws IllegalStateException if the scheduler uses the real clock
+     */
+    public void advance(long millis) {
+        if (!virtualClock) {
+            throw new IllegalStateException("advance is only supported in virtual-clock mode");
+        }
+        long ticks;
+        synchronized (this) {
+            if (!running || paused) {
+                return;
+            }
+            virtualRemainderMillis += millis;
+            ticks = virtualRemainderMillis / tickMillis;
+            virtualRemainderMillis %= tickMillis;
+        }
+        for (long i = 0; i < ticks; i++) {
+            List<Task> due;
+            synchronized (this) {
+                due = expire(1);
+            }
+            runAll(due);
+        }
+    }
+
+    /**
+     * Body of the real-clock worker thread: sleeps until the next tick whose bucket holds a task, then
+     * advances the wheel by every tick that elapsed and runs the tasks that fell due.
+     */
+    private void runWorker() {
+        Thread self = Thread.currentThread();
+        while (true) {
+            List<Task> due;
+            synchronized (this) {
+                if (worker != self) {
+                    return; // Stopped, or replaced by a newer worker
+                }
+                try {
+                    if (paused || tasks.isEmpty()) {
+                        wait();
+                        continue;
+                    }
+                    long tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMillis);
+                    long dueNanos = nextTickNanos + (nextOccupiedTick() - currentTick - 1) * tickNanos;
+                    long now = System.nanoTime();
+                    if (dueNanos - now > 0) {
+                        TimeUnit.NANOSECONDS.timedWait(this, dueNanos - now);
+                        continue;
+                    }
+                    long elapsed = (now - nextTickNanos) / tickNanos + 1;
+                    nextTickNanos += elapsed * tickNanos;
+                    due = expire(elapsed);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+            runAll(due);
+        }
+    }
+
+    /**
+     * Advances the clock and collects the tasks that fell due. Each due task runs once even if
+     * several of its periods elapsed, and is rescheduled one period after the new current tick.
+     *
+     * @param ticks the number of ticks to advance by
+     * @return the due tasks in deadline order
+     */
+    private List<Task> expire(long ticks) {
+        List<Task> due = new ArrayList<>();
+        long first = currentTick + 1;
+        currentTick += ticks;
+        long visits = Math.min(ticks, wheel.length);
+        for (long t = first; t < first + visits; t++) {
+            List<Task> bucket = wheel[(int) (t & mask)];
+            for (Iterator<Task> it = bucket.iterator(); it.hasNext(); ) {
+                Task task = it.next();
+                if (task.cancelled) {
+                    it.remove();
+                } else if (task.deadline <= currentTick) {
+                    it.remove();
+                    due.add(task);
+                }
+            }
+        }
+        due.sort((a, b) -> Long.compare(a.deadline, b.deadline));
+        for (Task task : due) {
+            task.deadline = currentTick + task.periodTicks;
+            wheel[(int) (task.deadline & mask)].add(task);
+        }
+        return due;
+    }
+
+    /**
+     * Finds the next tick whose bucket is not empty, looking at most one turn of the wheel ahead, so
+     * the cost does not grow with the number of tasks. The bucket may only hold tasks of a later turn
+     * or cancelled tasks; the worker then wakes, finds nothing due and looks again.
+     *
+     * @return the next occupied tick, or the tick one turn ahead if every bucket is empty
+     */
+    private long nextOccupiedTick() {
+        for (long t = currentTick + 1; t <= currentTick + wheel.length; t++) {
+            if (!wheel[(int) (t & mask)].isEmpty()) {
+                return t;
+            }
+        }
+        return currentTick + wheel.length;
+    }
+
+    /**
+     * Runs the given tasks, skipping any cancelled in the meantime. A failing task is reported and
+     * does not stop the others.
+     *
+     * @param due the tasks to run
+     */
+    private void runAll(List<Task> due) {
+        for (Task task : due) {
+            synchronized (this) {
+                if (task.cancelled) {
+                    continue;
+                }
+            }
+            try {
+                task.action.run();
+            } catch (Exception e) {
+                System.err.println("Scheduled task " + task.key + " failed");
+                e.printStackTrace();
+            }
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package Backend;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CSVReaderTest {
+
+    private static List<List<String>> rows(String csv) throws IOException {
+        List<List<String>> rows = new ArrayList<>();
+        try (CSVReader reader = new CSVReader(new StringReader(csv))) {
+            while (reader.nextRow()) {
+                rows.add(List.of(reader.toArray()));
+            }
+        }
+        return rows;
+    }
+
+    @Test
+    void testNextRow_PlainFields() throws IOException {
+        assertEquals(List.of(List.of("a", "b", "c"), List.of("1", "2", "3")), rows("a,b,c\n1,2,3\n"),
+                "Plain fields should be split at commas and rows at line breaks.");
+    }
+
+    @Test
+    void testNextRow_QuotedFields() throws IOException {
+        assertEquals(List.of(List.of("a,b", "c")), rows("\"a,b\",c\n"),
+                "A comma inside quotes should belong to the field.");
+    }
+
+    @Test
+    void testNextRow_EscapedQuotes() throws IOException {
+        assertEquals(List.of(List.of("say \"hi\"", "\"")), rows("\"say \"\"hi\"\"\",\"\"\"\"\n"),
+                "A doubled quote inside quotes should stand for a single quote.");
+    }
+
+    @Test
+    void testNextRow_EmbeddedNewlines() throws IOException {
+        assertEquals(List.of(List.of("line 1\nline 2", "x"), List.of("y", "line 3\r\nline 4")),
+                rows("\"line 1\nline 2\",x\ny,\"line 3\r\nline 4\"\n"),
+                "Line breaks inside quotes should belong to the field.");
+    }
+
+    @Test
+    void testNextRow_CrlfAndCr() throws IOException {
+        assertEquals(List.of(List.of("a", "b"), List.of("c", "d"), List.of("e", "f")), rows("a,b\r\nc,d\re,f"),
+                "CRLF and CR should end rows like LF, without producing empty rows.");
+    }
+
+    @Test
+    void testNextRow_EmptyLastField() throws IOException {
+        assertEquals(List.of(List.of("a", ""), List.of("b", "")), rows("a,\nb,"),
+                "A trailing comma should produce an empty last field, with or without a final line break.");
+    }
+
+    @Test
+    void testNextRow_EmptyQuotedField() throws IOException {
+        assertEquals(List.of(List.of("", "a", "")), rows("\"\",a,\"\"\r\n"),
+                "Empty quoted fields should be read as empty.");
+    }
+
+    @Test
+    void testNextRow_ByteOrderMark() throws IOException {
+        assertEquals(List.of(List.of("a", "b")), rows("\uFEFFa,b\n"), "A leading byte order mark should be skipped.");
+    }
+
+    @Test
+    void testTypedGetters() throws IOException {
+        try (CSVReader reader = new CSVReader(new StringReader(" 42 ,-7,true, ,9000000000\n"))) {
+            assertTrue(reader.nextRow(), "The row should be read.");
+            assertEquals(5, reader.fieldCount(), "The row should have five fields.");
+            assertEquals(42, reader.getInt(0), "Whitespace around numbers should be ignored.");
+            assertEquals(-7, reader.getInt(1), "Negative numbers should be parsed.");
+            assertTrue(reader.getBoolean(2), "TRUE should be matched ignoring case.");
+            assertTrue(reader.isBlank(3), "A whitespace field should be blank.");
+            assertEquals(0, reader.getInt(3), "A blank number should be 0.");
+            assertEquals(9_000_000_000L, reader.getLong(4), "Longs should be parsed.");
+            assertEquals("", reader.getString(9), "A missing field should be empty.");
+            assertFalse(reader.nextRow(), "There should be no second row.");
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package Backend;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PeriodicUpdateServiceTest {
+
+    /** Stat values at and around zero, odd and even, and a full stat. */
+    private static final int[] STATS = {0, 1, 2, 3, 4, 5, 100};
+
+    /** Health values at and around zero, odd and even, and full health. */
+    private static final int[] HEALTH = {0, 1, 2, 3, 100};
+
+    private static PetState petState(int hunger, int happiness, int sleep, int health) {
+        PetState state = new PetState();
+        state.setHunger(hunger);
+        state.setHappiness(happiness);
+        state.setSleep(sleep);
+        state.setHealth(health);
+        return state;
+    }
+
+    /**
+     * The per-tick rule applyDecay replaces: lower hunger, happiness and sleep, then take the health
+     * penalty if any of them is at zero.
+     */
+    private static void tickOnce(PetState pet) {
+        int step = PeriodicUpdateService.DECAY_PER_TICK;
+        pet.setHunger(Math.max(pet.getHunger() - step, 0));
+        pet.setHappiness(Math.max(pet.getHappiness() - step, 0));
+        pet.setSleep(Math.max(pet.getSleep() - step, 0));
+        if (pet.getHunger() == 0 || pet.getHappiness() == 0 || pet.getSleep() == 0) {
+            pet.setHealth(Math.max(pet.getHealth() - PeriodicUpdateService.HEALTH_PENALTY_PER_TICK, 0));
+        }
+    }
+
+    @Test
+    void testApplyDecay_MatchesSingleTicks() {
+        for (int hunger : STATS) {
+            for (int happiness : STATS) {
+                for (int sleep : STATS) {
+                    for (int health : HEALTH) {
+                        for (long ticks = 0; ticks <= 60; ticks++) {
+                            PetState expected = petState(hunger, happiness, sleep, health);
+                            for (long t = 0; t < ticks; t++) {
+                                tickOnce(expected);
+                            }
+                            PetState actual = petState(hunger, happiness, sleep, health);
+                            PeriodicUpdateService.applyDecay(actual, ticks);
+
+                            assertEquals(expected, actual, "Decay of " + ticks + " ticks from hunger " + hunger
+                                    + ", happiness " + happiness + ", sleep " + sleep + ", health " + health);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void testApplyDecay_NoTicks() {
+        PetState pet = petState(0, 1, 2, 3);
+        PeriodicUpdateService.applyDecay(pet, 0);
+        assertEquals(petState(0, 1, 2, 3), pet, "No ticks should leave the pet unchanged.");
+    }
+
+    @Test
+    void testApplyDecay_LongAbsence() {
+        PetState pet = petState(100, 100, 100, 100);
+        PeriodicUpdateService.applyDecay(pet, 1_000_000_000L);
+        assertEquals(petState(0, 0, 0, 0), pet, "A long absence should empty every stat without overflowing.");
+    }
+}
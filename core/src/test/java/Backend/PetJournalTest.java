@@ -0,0 +1,154 @@
+package Backend;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PetJournalTest {
+
+    private static final long SNAPSHOT_CRC = 0x1234_5678L;
+
+    @TempDir
+    Path directory;
+
+    private Path journalPath;
+    private PetJournal journal;
+
+    @BeforeEach
+    void setUp() {
+        journalPath = directory.resolve("petInfo.journal");
+        journal = new PetJournal(journalPath);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        journal.close();
+    }
+
+    private static PetState petState(int hunger, int coins) {
+        PetState state = new PetState();
+        state.setSaved(true);
+        state.setPin("1234");
+        state.setQuestionDifficulty("");
+        state.setHunger(hunger);
+        state.setCoins(coins);
+        state.setHealth(100);
+        return state;
+    }
+
+    private static PetState[] snapshot() {
+        return new PetState[]{petState(50, 10), petState(70, 0), null};
+    }
+
+    /** Writes a change to the first pet as one flush would. */
+    private void commitChange(PetJournal target, int hunger, int coins) throws IOException {
+        assertTrue(target.stage(1, petState(hunger, coins)), "The change should be journaled.");
+        target.commit();
+    }
+
+    /** Replays the journal file with a new instance, as a restart of the game would. */
+    private PetState[] replayAfterRestart(long snapshotCrc) throws IOException {
+        journal.close();
+        journal = new PetJournal(journalPath);
+        PetState[] states = snapshot();
+        journal.replay(snapshotCrc, states);
+        return states;
+    }
+
+    @Test
+    void testReplay_AppliesCommittedRecords() throws IOException {
+        journal.replay(SNAPSHOT_CRC, snapshot());
+        commitChange(journal, 40, 25);
+        commitChange(journal, 38, 30);
+
+        PetState[] states = replayAfterRestart(SNAPSHOT_CRC);
+
+        assertEquals(petState(38, 30), states[0], "Replay should apply every committed change.");
+        assertEquals(petState(70, 0), states[1], "A pet without records should be unchanged.");
+        assertEquals(4, journal.getRecordCount(), "Two changes of two fields should be four records.");
+    }
+
+    @Test
+    void testStage_SeveralWornAccessories() throws IOException {
+        journal.replay(SNAPSHOT_CRC, snapshot());
+        PetState dressed = petState(50, 10);
+        dressed.setEquipped("blackGlasses", true);
+        dressed.setEquipped("goldHat", true);
+        assertTrue(journal.stage(1, dressed), "Wearing several accessories should be journaled.");
+        journal.commit();
+
+        PetState[] states = replayAfterRestart(SNAPSHOT_CRC);
+
+        assertEquals(dressed.getEquippedMask(), states[0].getEquippedMask(), "Replay should restore every worn accessory.");
+        assertEquals(1, journal.getRecordCount(), "The worn accessories should be a single record.");
+    }
+
+    @Test
+    void testApply_LegacySelectedItem() {
+        PetState pet = petState(50, 10);
+        PetJournal.apply(pet, PetJournal.FIELD_SELECTED_ITEM, PetState.accessoryIndex("silverHat") + 1, 0);
+        assertTrue(pet.isEquipped("silverHat"), "A single-accessory record of an older journal should be replayed.");
+
+        PetJournal.apply(pet, PetJournal.FIELD_SELECTED_ITEM, -(PetState.accessoryIndex("silverHat") + 1), 0);
+        assertEquals(0, pet.getEquippedMask(), "Going back to code 0 should take the accessory off.");
+    }
+
+    @Test
+    void testReplay_DropsTornTail() throws IOException {
+        journal.replay(SNAPSHOT_CRC, snapshot());
+        commitChange(journal, 40, 25);
+        long wholeRecords = Files.size(journalPath);
+        // A crash mid-append leaves part of a record behind
+        Files.write(journalPath, new byte[]{1, PetJournal.FIELD_HUNGER, 0, 0, 0, 0, 0}, StandardOpenOption.APPEND);
+
+        PetState[] states = replayAfterRestart(SNAPSHOT_CRC);
+
+        assertEquals(petState(40, 25), states[0], "Whole records before the torn tail should be applied.");
+        assertEquals(wholeRecords, Files.size(journalPath), "The torn tail should be truncated.");
+
+        commitChange(journal, 35, 25);
+        assertEquals(petState(35, 25), replayAfterRestart(SNAPSHOT_CRC)[0],
+                "Records appended after the truncation should be replayed.");
+    }
+
+    @Test
+    void testReplay_SnapshotCrcMismatch() throws IOException {
+        journal.replay(SNAPSHOT_CRC, snapshot());
+        commitChange(journal, 40, 25);
+
+        PetState[] states = replayAfterRestart(SNAPSHOT_CRC + 1);
+
+        assertEquals(petState(50, 10), states[0], "A journal of another snapshot should not be applied.");
+        assertEquals(PetJournal.HEADER_SIZE, Files.size(journalPath), "A stale journal should be discarded.");
+        assertEquals(0, journal.getRecordCount(), "A stale journal should have no records.");
+    }
+
+    @Test
+    void testReplay_AfterCompaction() throws IOException {
+        journal.replay(SNAPSHOT_CRC, snapshot());
+        commitChange(journal, 40, 25);
+
+        // Compaction writes the persisted state into a new snapshot and restarts the journal for it
+        long compactedCrc = SNAPSHOT_CRC + 1;
+        journal.reset(compactedCrc);
+        commitChange(journal, 38, 25);
+
+        journal.close();
+        journal = new PetJournal(journalPath);
+        PetState[] compacted = {petState(40, 25), petState(70, 0), null};
+        journal.replay(compactedCrc, compacted);
+        assertEquals(petState(38, 25), compacted[0], "Only records written after the compaction should be applied.");
+
+        assertEquals(petState(50, 10), replayAfterRestart(SNAPSHOT_CRC)[0],
+                "The old snapshot should not receive records of the compacted one.");
+    }
+}
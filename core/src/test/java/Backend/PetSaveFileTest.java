@@ -0,0 +1,120 @@
+package Backend;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PetSaveFileTest {
+
+    private static PetState petState(int hunger, String pin) {
+        PetState state = new PetState();
+        state.setSaved(true);
+        state.setPin(pin);
+        state.setSavedTime(1_700_000_000_000L);
+        state.setHunger(hunger);
+        state.setHappiness(60);
+        state.setCoins(-15);
+        state.setSleep(34);
+        state.setExperience(30);
+        state.setHealth(100);
+        state.setLevel(5);
+        state.setQuestionDifficulty("2,4");
+        state.setAccessoryMask(0b101);
+        state.setEquippedMask(0b001);
+        return state;
+    }
+
+    private static ByteBuffer encode(PetState[] states, long generation) {
+        ByteBuffer buffer = ByteBuffer.allocate(PetSaveFile.sizeOf(states));
+        PetSaveFile.encode(states, generation, buffer);
+        return buffer.flip();
+    }
+
+    @Test
+    void testEncodeDecode_RoundTrip() throws IOException {
+        PetState[] states = {petState(43, "1234"), null, petState(19, "")};
+
+        PetSaveFile.Snapshot snapshot = PetSaveFile.decode(encode(states, 7));
+
+        assertArrayEquals(states, snapshot.states(), "Decoded pets should equal the encoded pets.");
+        assertEquals(7, snapshot.generation(), "Generation should be kept.");
+        assertEquals(PetSaveFile.VERSION, snapshot.version(), "A current save should not be migrated.");
+        assertFalse(snapshot.isMigrated(), "A current save should not be migrated.");
+    }
+
+    @Test
+    void testDecode_CrcMismatch() {
+        ByteBuffer file = encode(new PetState[]{petState(43, "1234"), null, null}, 1);
+        int hunger = PetSaveFile.HEADER_SIZE + 12;
+        file.putInt(hunger, file.getInt(hunger) + 1);
+
+        IOException e = assertThrows(IOException.class, () -> PetSaveFile.decode(file));
+        assertTrue(e.getMessage().contains("CRC mismatch"), "A changed record should fail the CRC check.");
+    }
+
+    @Test
+    void testDecode_NewerVersion() {
+        ByteBuffer file = encode(new PetState[]{petState(43, "1234"), null, null}, 1);
+        file.putShort(4, (short) (PetSaveFile.VERSION + 1));
+
+        IOException e = assertThrows(IOException.class, () -> PetSaveFile.decode(file));
+        assertTrue(e.getMessage().contains("newer"), "A save of a newer version should be refused.");
+    }
+
+    @Test
+    void testDecode_EmptyFile() {
+        IOException e = assertThrows(IOException.class, () -> PetSaveFile.decode(ByteBuffer.allocate(0)));
+        assertTrue(e.getMessage().contains("corrupt"), "An empty save should be reported as corrupt.");
+    }
+
+    @Test
+    void testDecode_TornHeader() {
+        ByteBuffer file = encode(new PetState[]{petState(43, "1234"), null, null}, 1);
+        file.limit(PetSaveFile.HEADER_SIZE - 1);
+
+        IOException e = assertThrows(IOException.class, () -> PetSaveFile.decode(file));
+        assertTrue(e.getMessage().contains("corrupt"), "A save cut inside its header should be reported as corrupt.");
+    }
+
+    @Test
+    void testDecode_CsvInSaveFile() {
+        ByteBuffer file = ByteBuffer.wrap("petSaved,PIN\nTRUE,1234\n".getBytes(StandardCharsets.UTF_8));
+
+        IOException e = assertThrows(IOException.class, () -> PetSaveFile.decode(file));
+        assertTrue(e.getMessage().contains("corrupt"), "A save without the magic number should not be read as CSV.");
+    }
+
+    @Test
+    void testDecodeLegacy_MigratesCsv() throws IOException {
+        String csv = "petSaved,PIN,savedTime,hunger,happiness,coins,sleep,experience,health,level,"
+                + "questionDifficulty,blackGlasses,blackHat,blackBowtie,silverGlasses,silverHat,silverBowtie,"
+                + "goldGlasses,goldHat,goldBow,selectedItem\n"
+                + "TRUE,1234,,43,92,-15,34,30,100,51,,TRUE,TRUE,TRUE,TRUE,TRUE,TRUE,TRUE,TRUE,TRUE,goldGlasses\n"
+                + "FALSE,,,70,70,0,70,0,100,0,,FALSE,FALSE,FALSE,FALSE,FALSE,FALSE,FALSE,FALSE,FALSE,DEFAULT\n";
+
+        PetSaveFile.Snapshot snapshot = PetSaveFile.decodeLegacy(ByteBuffer.wrap(csv.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(0, snapshot.version(), "petInfo.csv should be read as version 0.");
+        assertTrue(snapshot.isMigrated(), "petInfo.csv should be reported as migrated.");
+        PetState shrek = snapshot.states()[0];
+        assertTrue(shrek.isSaved(), "Shrek's save flag should carry over.");
+        assertEquals("1234", shrek.getPin(), "Shrek's PIN should carry over.");
+        assertEquals(43, shrek.getHunger(), "Shrek's hunger should carry over.");
+        assertEquals(-15, shrek.getCoins(), "Shrek's coins should carry over.");
+        assertEquals(51, shrek.getLevel(), "Shrek's level should carry over.");
+        assertEquals((1 << PetState.ACCESSORIES.length) - 1, shrek.getAccessoryMask(),
+                "Shrek's accessories should carry over.");
+        assertTrue(shrek.isEquipped("goldGlasses"), "Shrek's worn accessory should carry over.");
+        assertFalse(snapshot.states()[1].isSaved(), "Toothless's save flag should carry over.");
+        assertNull(snapshot.states()[2], "A pet without a row should not be created.");
+    }
+}
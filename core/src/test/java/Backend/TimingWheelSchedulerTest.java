@@ -0,0 +1,142 @@
+package Backend;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimingWheelSchedulerTest {
+
+    private TimingWheelScheduler scheduler;
+    private List<String> runs;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new TimingWheelScheduler(100, 8, true);
+        runs = new ArrayList<>();
+    }
+
+    private void schedule(String key, long periodMillis) {
+        scheduler.scheduleAtFixedRate(key, periodMillis, () -> runs.add(key));
+    }
+
+    @Test
+    void testAdvance_FiresAtDeadlines() {
+        schedule("fast", 300);
+        schedule("slow", 500);
+        scheduler.start();
+
+        scheduler.advance(200);
+        assertEquals(List.of(), runs, "No task should run before its first period.");
+        scheduler.advance(100);
+        assertEquals(List.of("fast"), runs, "The fast task should run at 300 ms.");
+        scheduler.advance(200);
+        assertEquals(List.of("fast", "slow"), runs, "The slow task should run at 500 ms.");
+        scheduler.advance(100);
+        assertEquals(List.of("fast", "slow", "fast"), runs, "The fast task should run again at 600 ms.");
+        assertEquals(600, scheduler.getGameTimeMillis(), "Game time should have moved by 600 ms.");
+    }
+
+    @Test
+    void testAdvance_AccumulatesPartialTicks() {
+        schedule("task", 100);
+        scheduler.start();
+
+        scheduler.advance(60);
+        assertEquals(List.of(), runs, "A partial tick should not run the task.");
+        scheduler.advance(60);
+        assertEquals(List.of("task"), runs, "Two partial ticks should add up to a whole tick.");
+    }
+
+    @Test
+    void testAdvance_BeyondOneTurnOfTheWheel() {
+        schedule("task", 1200);
+        scheduler.start();
+
+        scheduler.advance(1100);
+        assertEquals(List.of(), runs, "A task more than one turn away should not run early.");
+        scheduler.advance(100);
+        assertEquals(List.of("task"), runs, "A task more than one turn away should run at its deadline.");
+    }
+
+    @Test
+    void testPauseResume_ExcludesPausedTime() {
+        schedule("task", 300);
+        scheduler.start();
+        scheduler.advance(200);
+
+        scheduler.pause();
+        assertTrue(scheduler.isPaused(), "The clock should be paused.");
+        scheduler.advance(1000);
+        assertEquals(List.of(), runs, "No task should run while paused.");
+        assertEquals(200, scheduler.getGameTimeMillis(), "Paused time should not count as game time.");
+
+        scheduler.resume();
+        scheduler.advance(100);
+        assertEquals(List.of("task"), runs, "The task should run one period of unpaused time after it started.");
+        assertEquals(300, scheduler.getGameTimeMillis(), "Game time should only count unpaused time.");
+    }
+
+    @Test
+    void testStartStop_Idempotent() {
+        schedule("task", 100);
+        scheduler.start();
+        scheduler.start();
+        assertTrue(scheduler.isRunning(), "The clock should be running.");
+        scheduler.advance(100);
+        assertEquals(List.of("task"), runs, "Starting twice should not run the task twice.");
+
+        scheduler.stop();
+        scheduler.stop();
+        assertFalse(scheduler.isRunning(), "The clock should be stopped.");
+        scheduler.advance(500);
+        assertEquals(List.of("task"), runs, "No task should run while stopped.");
+
+        scheduler.start();
+        scheduler.advance(100);
+        assertEquals(List.of("task", "task"), runs, "The task should continue after a restart.");
+    }
+
+    @Test
+    void testScheduleAtFixedRate_DuplicateKey() {
+        assertTrue(scheduler.scheduleAtFixedRate("task", 100, () -> runs.add("first")), "The first task should register.");
+        assertFalse(scheduler.scheduleAtFixedRate("task", 100, () -> runs.add("second")), "A duplicate key should be refused.");
+        scheduler.start();
+        scheduler.advance(100);
+        assertEquals(List.of("first"), runs, "Only the first task should run.");
+    }
+
+    @Test
+    void testCancel_StopsTask() {
+        schedule("pet1.task", 100);
+        schedule("pet2.task", 100);
+        scheduler.start();
+        scheduler.advance(100);
+
+        assertEquals(1, scheduler.cancelAll("pet1."), "One task should be cancelled by prefix.");
+        scheduler.advance(100);
+        assertEquals(List.of("pet1.task", "pet2.task", "pet2.task"), runs, "A cancelled task should not run again.");
+        assertFalse(scheduler.isScheduled("pet1.task"), "A cancelled task should not be scheduled.");
+    }
+
+    @Test
+    void testRealClock_StartStopIdempotent() throws InterruptedException {
+        TimingWheelScheduler realClock = new TimingWheelScheduler(10, 8, false);
+        CountDownLatch fired = new CountDownLatch(3);
+        realClock.scheduleAtFixedRate("task", 20, fired::countDown);
+        realClock.start();
+        realClock.start();
+
+        assertTrue(fired.await(5, TimeUnit.SECONDS), "The task should run on the worker thread.");
+        realClock.stop();
+        realClock.stop();
+        assertFalse(realClock.isRunning(), "The clock should be stopped.");
+    }
+}
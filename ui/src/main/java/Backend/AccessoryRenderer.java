@@ -0,0 +1,289 @@
+package Backend;
+
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The `AccessoryRenderer` class draws pets wearing accessories by compositing layers at runtime.
+ *
+ * <p>Each accessory has a single overlay image shared by all pets, and each pet has an anchor per
+ * accessory slot that places the overlay on its idle sprite. A pet wearing several accessories is
+ * drawn as its idle sprite with one overlay per worn accessory, bowtie first and hat last. The
+ * composite is cached in {@link ResourceManager} under the pet and the set of worn accessories, so
+ * image memory grows with the number of pets plus the number of accessories rather than with their
+ * product, and a new accessory only needs one overlay image.
+ *
+ * <p>Composites can be produced on any thread.
+ *
+ * @author      Jay Bava <jbava@uwo.ca>
+ * @version     1.9                 (current version number of program)
+ * @since       1.9                 (the version of the package this class was first added to)
+ */
+public class AccessoryRenderer {
+
+    /** Height the idle sprite is decoded to before overlays are drawn on it; above every pet view. */
+    public static final int COMPOSITE_HEIGHT = 768;
+
+    /** Width overlay images are decoded to; they are resampled to their anchor when drawn. */
+    private static final int OVERLAY_WIDTH = 512;
+
+    /** Alpha above which an overlay pixel counts towards the overlay's visible bounds. */
+    private static final int VISIBLE_ALPHA = 40;
+
+    /** Order in which slots are drawn: bowtie, then glasses, then hat on top. */
+    private static final int[] DRAW_ORDER = {2, 0, 1};
+
+    /** Overlay images in {@link PetState#ACCESSORIES} order. */
+    private static final String[] OVERLAY_PATHS = {
+            "/Scenes/images/blackGlasses.png", "/Scenes/images/blackHat.png", "/Scenes/images/blackBowtie.png",
+            "/Scenes/images/SilverSunglasses.png", "/Scenes/images/SilverTophat.png", "/Scenes/images/silverBowtie.png",
+            "/Scenes/images/goldSunglasses.png", "/Scenes/images/goldTophat.png", "/Scenes/images/goldBowtie.png"
+    };
+
+    /**
+     * Where an overlay is drawn on a sprite. The visible part of the overlay is scaled to the anchor
+     * width, keeping its aspect ratio, with its top-left corner at the anchor position.
+     *
+     * @param x     left edge as a fraction of the sprite width
+     * @param y     top edge as a fraction of the sprite height
+     * @param width width as a fraction of the sprite width
+     */
+    private record Anchor(double x, double y, double width) {}
+
+    /**
+     * How accessories are drawn on a pet.
+     *
+     * @param spritePath the pet's idle sprite
+     * @param anchors    the anchor of each slot, indexed by {@link PetState#accessorySlot(int)}
+     */
+    private record PetLayout(String spritePath, Anchor... anchors) {}
+
+    /** Bounds of the visible pixels of a decoded overlay. */
+    private record Bounds(int x, int y, int width, int height) {}
+
+    /** Layouts by pet ID - 1, with anchors measured against the original hand-drawn accessory sprites. */
+    private static final PetLayout[] LAYOUTS = {
+            new PetLayout("/Scenes/images/shrekIdle.png",
+                    new Anchor(0.412, 0.133, 0.166), new Anchor(0.398, 0.010, 0.186), new Anchor(0.412, 0.289, 0.160)),
+            new PetLayout("/Scenes/images/toothlessIdle.png",
+                    new Anchor(0.660, 0.380, 0.143), new Anchor(0.660, 0.201, 0.152), new Anchor(0.664, 0.471, 0.117)),
+            new PetLayout("/Scenes/images/pussnbootsIdle.png",
+                    new Anchor(0.277, 0.222, 0.311), new Anchor(0.255, 0.031, 0.440), new Anchor(0.283, 0.358, 0.297))
+    };
+
+    /** Singleton instance of the `AccessoryRenderer` class. */
+    private static AccessoryRenderer instance;
+
+    /** Visible bounds of each overlay, measured once per overlay. */
+    private final Map<String, Bounds> overlayBounds = new ConcurrentHashMap<>();
+
+    /**
+     * Private constructor to enforce the singleton pattern.
+     */
+    private AccessoryRenderer() {}
+
+    /**
+     * Retrieves the singleton instance of the `AccessoryRenderer` class.
+     *
+     * @return the singleton instance of `AccessoryRenderer`
+     */
+    public static synchronized AccessoryRenderer getInstance() {
+        if (instance == null) {
+            instance = new AccessoryRenderer();
+        }
+        return instance;
+    }
+
+    /**
+     * Retrieves the image of a pet wearing a set of accessories, compositing it on first use.
+     *
+     * @param petId        the ID of the pet (1 for Shrek, 2 for Toothless, 3 for Puss)
+     * @param equippedMask bitmask of worn accessories, bit i corresponding to {@link PetState#ACCESSORIES}[i]
+     * @return the composited image, or null if the pet ID is unknown
+     */
+    public Image render(int petId, int equippedMask) {
+        if (petId < 1 || petId > LAYOUTS.length) {
+            return null;
+        }
+        return ResourceManager.getImage(cacheKey(petId, equippedMask), () -> composite(petId, equippedMask));
+    }
+
+    /**
+     * Composites the image of a pet wearing a set of accessories on a background thread, so that
+     * the next call to {@link #render(int, int)} with the same arguments is a cache hit.
+     *
+     * @param petId        the ID of the pet
+     * @param equippedMask bitmask of worn accessories
+     * @return a future completed once the image is ready
+     */
+    public CompletableFuture<Image> preload(int petId, int equippedMask) {
+        if (petId < 1 || petId > LAYOUTS.length) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return ResourceManager.preload(cacheKey(petId, equippedMask), () -> composite(petId, equippedMask));
+    }
+
+    /**
+     * Builds the cache key of a composite.
+     *
+     * @param petId        the ID of the pet
+     * @param equippedMask bitmask of worn accessories
+     * @return the cache key
+     */
+    private static String cacheKey(int petId, int equippedMask) {
+        return "composite:" + petId + ":" + equippedMask;
+    }
+
+    /**
+     * Draws a pet's idle sprite with the overlays of the worn accessories.
+     *
+     * @param petId        the ID of the pet
+     * @param equippedMask bitmask of worn accessories
+     * @return the composited image
+     */
+    private Image composite(int petId, int equippedMask) {
+        PetLayout layout = LAYOUTS[petId - 1];
+        Image sprite = ResourceManager.getImage(layout.spritePath(), 0, COMPOSITE_HEIGHT);
+        int width = (int) sprite.getWidth();
+        int height = (int) sprite.getHeight();
+        int[] pixels = new int[width * height];
+        sprite.getPixelReader().getPixels(0, 0, width, height, PixelFormat.getIntArgbInstance(), pixels, 0, width);
+
+        for (int slot : DRAW_ORDER) {
+            for (int index = slot; index < PetState.ACCESSORIES.length; index += PetState.ACCESSORY_SLOTS) {
+                if ((equippedMask & (1 << index)) != 0) {
+                    drawOverlay(pixels, width, height, OVERLAY_PATHS[index], layout.anchors()[slot]);
+                }
+            }
+        }
+
+        WritableImage result = new WritableImage(width, height);
+        result.getPixelWriter().setPixels(0, 0, width, height, PixelFormat.getIntArgbInstance(), pixels, 0, width);
+        return result;
+    }
+
+    /**
+     * Draws the visible part of an overlay onto a sprite at an anchor, resampling it bilinearly and
+     * blending it over the sprite.
+     *
+     * @param pixels      the sprite's non-premultiplied ARGB pixels, drawn into in place
+     * @param width       the sprite width
+     * @param height      the sprite height
+     * @param overlayPath the overlay image
+     * @param anchor      where to draw the overlay
+     */
+    private void drawOverlay(int[] pixels, int width, int height, String overlayPath, Anchor anchor) {
+        Image overlay = ResourceManager.getImage(overlayPath, OVERLAY_WIDTH, 0);
+        int overlayWidth = (int) overlay.getWidth();
+        int overlayHeight = (int) overlay.getHeight();
+        int[] source = new int[overlayWidth * overlayHeight];
+        overlay.getPixelReader().getPixels(0, 0, overlayWidth, overlayHeight, PixelFormat.getIntArgbInstance(),
+                source, 0, overlayWidth);
+        Bounds bounds = overlayBounds.computeIfAbsent(overlayPath, path -> visibleBounds(source, overlayWidth, overlayHeight));
+        if (bounds.width() == 0) {
+            return;
+        }
+
+        double scale = anchor.width() * width / bounds.width();
+        int left = (int) Math.round(anchor.x() * width);
+        int top = (int) Math.round(anchor.y() * height);
+        int right = Math.min(width, left + (int) Math.ceil(bounds.width() * scale));
+        int bottom = Math.min(height, top + (int) Math.ceil(bounds.height() * scale));
+
+        for (int y = Math.max(0, top); y < bottom; y++) {
+            double sy = bounds.y() + (y - top + 0.5) / scale - 0.5;
+            for (int x = Math.max(0, left); x < right; x++) {
+                double sx = bounds.x() + (x - left + 0.5) / scale - 0.5;
+                int color = sample(source, overlayWidth, overlayHeight, sx, sy);
+                if ((color >>> 24) != 0) {
+                    pixels[y * width + x] = blend(color, pixels[y * width + x]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Finds the bounds of the visible pixels of an overlay, ignoring its transparent margins.
+     *
+     * @param source the overlay's ARGB pixels
+     * @param width  the overlay width
+     * @param height the overlay height
+     * @return the visible bounds, with zero width if the overlay is fully transparent
+     */
+    private static Bounds visibleBounds(int[] source, int width, int height) {
+        int minX = width, minY = height, maxX = -1, maxY = -1;
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                if ((source[y * width + x] >>> 24) > VISIBLE_ALPHA) {
+                    minX = Math.min(minX, x);
+                    minY = Math.min(minY, y);
+                    maxX = Math.max(maxX, x);
+                    maxY = Math.max(maxY, y);
+                }
+            }
+        }
+        return maxX < 0 ? new Bounds(0, 0, 0, 0) : new Bounds(minX, minY, maxX - minX + 1, maxY - minY + 1);
+    }
+
+    /**
+     * Samples an image bilinearly, interpolating premultiplied colours so that transparent pixels
+     * do not darken the edges.
+     *
+     * @param source the non-premultiplied ARGB pixels
+     * @param width  the image width
+     * @param height the image height
+     * @param x      the horizontal sample position
+     * @param y      the vertical sample position
+     * @return the non-premultiplied ARGB colour at the position
+     */
+    private static int sample(int[] source, int width, int height, double x, double y) {
+        int x0 = (int) Math.floor(x);
+        int y0 = (int) Math.floor(y);
+        double fx = x - x0;
+        double fy = y - y0;
+        double a = 0, r = 0, g = 0, b = 0;
+        for (int dy = 0; dy <= 1; dy++) {
+            for (int dx = 0; dx <= 1; dx++) {
+                int px = Math.min(width - 1, Math.max(0, x0 + dx));
+                int py = Math.min(height - 1, Math.max(0, y0 + dy));
+                double weight = (dx == 0 ? 1 - fx : fx) * (dy == 0 ? 1 - fy : fy);
+                int c = source[py * width + px];
+                double alpha = (c >>> 24) * weight;
+                a += alpha;
+                r += ((c >> 16) & 0xFF) * alpha;
+                g += ((c >> 8) & 0xFF) * alpha;
+                b += (c & 0xFF) * alpha;
+            }
+        }
+        if (a < 0.5) {
+            return 0;
+        }
+        return ((int) Math.round(a) << 24) | ((int) Math.round(r / a) << 16)
+                | ((int) Math.round(g / a) << 8) | (int) Math.round(b / a);
+    }
+
+    /**
+     * Blends a colour over another (the "source over" operator) in non-premultiplied ARGB.
+     *
+     * @param top    the colour drawn on top
+     * @param bottom the colour underneath
+     * @return the blended colour
+     */
+    private static int blend(int top, int bottom) {
+        double ta = (top >>> 24) / 255.0;
+        double ba = (bottom >>> 24) / 255.0;
+        double a = ta + ba * (1 - ta);
+        if (a <= 0) {
+            return 0;
+        }
+        int r = (int) Math.round((((top >> 16) & 0xFF) * ta + ((bottom >> 16) & 0xFF) * ba * (1 - ta)) / a);
+        int g = (int) Math.round((((top >> 8) & 0xFF) * ta + ((bottom >> 8) & 0xFF) * ba * (1 - ta)) / a);
+        int b = (int) Math.round(((top & 0xFF) * ta + (bottom & 0xFF) * ba * (1 - ta)) / a);
+        return ((int) Math.round(a * 255) << 24) | (r << 16) | (g << 8) | b;
+    }
+}
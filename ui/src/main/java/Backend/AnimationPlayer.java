@@ -0,0 +1,832 @@
+package Backend;
+
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+import javafx.scene.Scene;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+import javafx.util.Duration;
+import org.w3c.dom.NodeList;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.metadata.IIOMetadataNode;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.ref.SoftReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The `AnimationPlayer` class decodes the animations shown on the play, sleep, feed, vet and exercise
+ * screens and plays them.
+ *
+ * <p>Each animation is decoded once, on a background thread, into frames already scaled to the size
+ * of the view that shows it, so no full-size frame is kept in memory. Only the part of the canvas
+ * that each GIF frame changes is scaled again. Decoded animations are kept in
+ * least-recently-used order up to a byte budget; older animations are then only held through soft
+ * references, which the garbage collector releases under memory pressure. Playing an animation that
+ * is still cached starts on the same pulse.
+ *
+ * <p>Every playing view is driven by a single shared {@link AnimationTimer}, which stops itself when
+ * nothing is playing. A playback ends after its duration, or when its view's scene leaves the window
+ * it was shown in.
+ *
+ * @author      Jay Bava <jbava@uwo.ca>
+ * @version     1.9                 (current version number of program)
+ * @since       1.9                 (the version of the package this class was first added to)
+ */
+public class AnimationPlayer {
+
+    /**
+     * Default limit on the estimated size of the decoded animations held strongly. It holds a vet
+     * and a sleep animation at their on-screen size; it is lowered to a quarter of the maximum heap
+     * on small heaps.
+     */
+    public static final long DEFAULT_BYTE_BUDGET = 192L * 1024 * 1024;
+
+    /** Frame delay used for frames that declare none, as browsers do. */
+    private static final long DEFAULT_FRAME_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    /** Name of the metadata format that describes GIF frames. */
+    private static final String GIF_IMAGE_METADATA = "javax_imageio_gif_image_1.0";
+
+    /** Name of the metadata format that describes a GIF's logical screen. */
+    private static final String GIF_STREAM_METADATA = "javax_imageio_gif_stream_1.0";
+
+    /**
+     * Decoded frames of an animation.
+     *
+     * @param frames  the frames, scaled to their on-screen size
+     * @param endNanos the time from the start of a loop at which each frame ends
+     * @param bytes   the estimated size of the frames
+     */
+    public record Animation(Image[] frames, long[] endNanos, long bytes) {
+
+        /**
+         * Finds the frame shown at a time, looping the animation.
+         *
+         * @param elapsedNanos the time since the animation started
+         * @return the index of the frame
+         */
+        public int frameAt(long elapsedNanos) {
+            if (frames.length == 1) {
+                return 0;
+            }
+            long time = elapsedNanos % endNanos[endNanos.length - 1];
+            int index = Arrays.binarySearch(endNanos, time);
+            return index >= 0 ? index + 1 : -index - 1;
+        }
+
+        /**
+         * Retrieves the length of one loop of the animation.
+         *
+         * @return the duration in nanoseconds
+         */
+        public long durationNanos() {
+            return endNanos[endNanos.length - 1];
+        }
+    }
+
+    /**
+     * Snapshot of the cache counters.
+     *
+     * @param hits       number of requests served from the cache
+     * @param misses     number of requests that had to decode the animation or wait for its decode
+     * @param decodes    number of animations decoded
+     * @param reclaimed  number of animations released by the garbage collector
+     * @param bytes      estimated size of the animations held strongly
+     * @param byteBudget limit on the estimated size of the animations held strongly
+     * @param size       number of animations held strongly
+     */
+    public record Stats(long hits, long misses, long decodes, long reclaimed, long bytes, long byteBudget, int size) {}
+
+    /** An animation playing in a view. */
+    private static final class Playback {
+        final String key;
+        final long startNanos;
+        final long durationNanos;
+        final Runnable onFinished;
+        Animation animation;
+        long framesStartNanos;
+        int frame = -1;
+        boolean shown;
+
+        Playback(String key, long startNanos, long durationNanos, Runnable onFinished) {
+            this.key = key;
+            this.startNanos = startNanos;
+            this.durationNanos = durationNanos;
+            this.onFinished = onFinished;
+        }
+    }
+
+    /** The singleton instance of AnimationPlayer. */
+    private static AnimationPlayer instance;
+
+    /** Decoded animations held strongly, in least-recently-used order. */
+    private final LinkedHashMap<String, Animation> animations = new LinkedHashMap<>(16, 0.75f, true);
+
+    /** Animations pushed out of the byte budget, kept until the garbage collector needs the memory. */
+    private final Map<String, SoftReference<Animation>> released = new HashMap<>();
+
+    /** Decodes in progress keyed by cache key, shared by every caller that requests the animation. */
+    private final Map<String, CompletableFuture<Animation>> decoding = new HashMap<>();
+
+    /** Views currently playing an animation. Only used on the JavaFX application thread. */
+    private final Map<ImageView, Playback> playing = new IdentityHashMap<>();
+
+    /** Single background thread that decodes animations, so that only one full-size canvas is alive. */
+    private final ExecutorService decodeExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "AnimationPlayer-decode");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MIN_PRIORITY);
+        return thread;
+    });
+
+    /** The timer that drives every playing view, created on first use. */
+    private AnimationTimer timer;
+
+    /** Whether the timer is started. */
+    private boolean timerRunning;
+
+    /** Limit on the estimated size of the animations held strongly. */
+    private long byteBudget = Math.min(DEFAULT_BYTE_BUDGET, Runtime.getRuntime().maxMemory() / 4);
+
+    /** Estimated size of the animations held strongly. */
+    private long bytes;
+
+    private long hits;
+    private long misses;
+    private long decodes;
+    private long reclaimed;
+
+    /**
+     * Private constructor to enforce the Singleton pattern.
+     */
+    private AnimationPlayer() {}
+
+    /**
+     * Retrieves the singleton instance of AnimationPlayer.
+     *
+     * @return the AnimationPlayer instance
+     */
+    public static synchronized AnimationPlayer getInstance() {
+        if (instance == null) {
+            instance = new AnimationPlayer();
+        }
+        return instance;
+    }
+
+    /**
+     * Plays an animation in a view for a given time, looping it as needed. The frames are scaled to
+     * the view's fit size. If the animation is not decoded yet the view is cleared and the frames are
+     * shown as soon as they are; the duration counts from this call either way. Any animation already
+     * playing in the view is replaced. Must be called on the JavaFX application thread.
+     *
+     * @param view       the view to show the animation in
+     * @param path       the file path of the animation, relative to the classpath
+     * @param duration   how long to play, or {@link Duration#INDEFINITE} to play until stopped
+     * @param onFinished runs on the JavaFX application thread once the duration has elapsed, or null
+     */
+    public void play(ImageView view, String path, Duration duration, Runnable onFinished) {
+        int width = (int) Math.round(view.getFitWidth());
+        int height = (int) Math.round(view.getFitHeight());
+        String key = key(path, width, height);
+        long now = System.nanoTime();
+        long durationNanos = duration.isIndefinite() ? Long.MAX_VALUE : (long) (duration.toMillis() * 1_000_000);
+        Playback playback = new Playback(key, now, durationNanos, onFinished);
+        playing.put(view, playback);
+
+        Animation cached = getCached(key);
+        if (cached != null) {
+            attach(view, playback, cached, now);
+        } else {
+            view.setImage(null);
+            load(path, width, height).whenComplete((animation, error) -> Platform.runLater(() -> {
+                if (error != null) {
+                    System.err.println("Error loading animation " + path);
+                    error.printStackTrace();
+                } else if (playing.get(view) == playback) {
+                    attach(view, playback, animation, System.nanoTime());
+                }
+            }));
+        }
+        startTimer();
+    }
+
+    /**
+     * Stops the animation playing in a view without running its completion action. The view keeps
+     * showing its current frame. Must be called on the JavaFX application thread.
+     *
+     * @param view the view
+     * @return true if an animation was playing in the view
+     */
+    public boolean stop(ImageView view) {
+        return playing.remove(view) != null;
+    }
+
+    /**
+     * Checks whether an animation is playing in a view. Must be called on the JavaFX application thread.
+     *
+     * @param view the view
+     * @return true if an animation is playing
+     */
+    public boolean isPlaying(ImageView view) {
+        return playing.containsKey(view);
+    }
+
+    /**
+     * Retrieves an animation from the cache, or decodes it on the calling thread. Concurrent
+     * requests for the same animation share a single decode.
+     *
+     * @param path   the file path of the animation, relative to the classpath
+     * @param width  the width to fit the frames in, or 0 for no limit
+     * @param height the height to fit the frames in, or 0 for no limit
+     * @return the decoded animation
+     * @throws UncheckedIOException if the animation cannot be found or read
+     */
+    public Animation getAnimation(String path, int width, int height) {
+        String key = key(path, width, height);
+        Animation cached = getCached(key);
+        if (cached != null) {
+            return cached;
+        }
+        CompletableFuture<Animation> pending;
+        boolean owner = false;
+        synchronized (this) {
+            pending = decoding.get(key);
+            if (pending == null) {
+                pending = new CompletableFuture<>();
+                decoding.put(key, pending);
+                owner = true;
+            }
+        }
+        if (owner) {
+            decode(key, path, width, height, pending);
+        }
+        try {
+            return pending.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Decodes an animation in the background so that playing it later starts at once.
+     *
+     * @param path   the file path of the animation, relative to the classpath
+     * @param width  the width to fit the frames in, or 0 for no limit
+     * @param height the height to fit the frames in, or 0 for no limit
+     * @return a future completed with the animation, or null if it could not be decoded
+     */
+    public CompletableFuture<Animation> preload(String path, int width, int height) {
+        return load(path, width, height).exceptionally(e -> {
+            System.err.println("Error preloading animation " + path);
+            e.printStackTrace();
+            return null;
+        });
+    }
+
+    /**
+     * Retrieves an animation from the cache, or starts decoding it on the decode thread.
+     *
+     * @param path   the file path of the animation
+     * @param width  the width to fit the frames in, or 0
+     * @param height the height to fit the frames in, or 0
+     * @return a future completed with the animation
+     */
+    private CompletableFuture<Animation> load(String path, int width, int height) {
+        String key = key(path, width, height);
+        Animation cached = getCached(key);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+        synchronized (this) {
+            CompletableFuture<Animation> pending = decoding.get(key);
+            if (pending == null) {
+                CompletableFuture<Animation> created = new CompletableFuture<>();
+                decoding.put(key, created);
+                decodeExecutor.execute(() -> decode(key, path, width, height, created));
+                pending = created;
+            }
+            return pending;
+        }
+    }
+
+    /**
+     * Looks an animation up in the cache, bringing it back under the byte budget if it had been
+     * released but not yet reclaimed.
+     *
+     * @param key the cache key
+     * @return the animation, or null on a miss
+     */
+    private synchronized Animation getCached(String key) {
+        Animation animation = animations.get(key);
+        if (animation == null) {
+            SoftReference<Animation> reference = released.remove(key);
+            animation = reference == null ? null : reference.get();
+            if (reference != null && animation == null) {
+                reclaimed++;
+            }
+            if (animation != null) {
+                store(key, animation);
+            }
+        }
+        if (animation != null) {
+            hits++;
+        } else {
+            misses++;
+        }
+        return animation;
+    }
+
+    /**
+     * Decodes an animation, caches it and completes the future of the callers waiting for it.
+     *
+     * @param key    the cache key
+     * @param path   the file path of the animation
+     * @param width  the width to fit the frames in, or 0
+     * @param height the height to fit the frames in, or 0
+     * @param future the future shared by the callers waiting for the animation
+     */
+    private void decode(String key, String path, int width, int height, CompletableFuture<Animation> future) {
+        try {
+            Animation animation = decodeResource(path, width, height);
+            synchronized (this) {
+                decoding.remove(key);
+                decodes++;
+                store(key, animation);
+            }
+            future.complete(animation);
+        } catch (Exception e) {
+            synchronized (this) {
+                decoding.remove(key);
+            }
+            future.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * Holds an animation strongly, releasing the least recently used ones to soft references until
+     * the cache fits its byte budget. The most recently used animation is always held strongly.
+     *
+     * @param key       the cache key
+     * @param animation the animation
+     */
+    private void store(String key, Animation animation) {
+        Animation previous = animations.put(key, animation);
+        if (previous != null) {
+            bytes -= previous.bytes();
+        }
+        bytes += animation.bytes();
+        for (Iterator<Map.Entry<String, Animation>> it = animations.entrySet().iterator();
+             bytes > byteBudget && animations.size() > 1; ) {
+            Map.Entry<String, Animation> eldest = it.next();
+            it.remove();
+            bytes -= eldest.getValue().bytes();
+            released.put(eldest.getKey(), new SoftReference<>(eldest.getValue()));
+        }
+        released.values().removeIf(reference -> reference.get() == null);
+    }
+
+    /**
+     * Sets the limit on the estimated size of the animations held strongly.
+     *
+     * @param budget the byte budget
+     */
+    public synchronized void setByteBudget(long budget) {
+        byteBudget = budget;
+        if (!animations.isEmpty()) {
+            Map.Entry<String, Animation> newest = null;
+            for (Map.Entry<String, Animation> entry : animations.entrySet()) {
+                newest = entry;
+            }
+            store(newest.getKey(), newest.getValue());
+        }
+    }
+
+    /**
+     * Drops every cached animation and resets the counters.
+     */
+    public synchronized void clear() {
+        animations.clear();
+        released.clear();
+        bytes = 0;
+        hits = misses = decodes = reclaimed = 0;
+    }
+
+    /**
+     * Retrieves a snapshot of the cache counters.
+     *
+     * @return the current statistics
+     */
+    public synchronized Stats getStats() {
+        return new Stats(hits, misses, decodes, reclaimed, bytes, byteBudget, animations.size());
+    }
+
+    /**
+     * Shows the first frame of a decoded animation in a playing view.
+     *
+     * @param view      the view
+     * @param playback  the view's playback
+     * @param animation the decoded animation
+     * @param now       the current time
+     */
+    private static void attach(ImageView view, Playback playback, Animation animation, long now) {
+        playback.animation = animation;
+        playback.framesStartNanos = now;
+        playback.frame = 0;
+        view.setImage(animation.frames()[0]);
+    }
+
+    /**
+     * Starts the shared timer if it is not running.
+     */
+    private void startTimer() {
+        if (timer == null) {
+            timer = new AnimationTimer() {
+                @Override
+                public void handle(long now) {
+                    tick(now);
+                }
+            };
+        }
+        if (!timerRunning) {
+            timerRunning = true;
+            timer.start();
+        }
+    }
+
+    /**
+     * Advances every playing view to the frame due at the current pulse, and ends the playbacks whose
+     * duration has elapsed or whose screen has been left.
+     *
+     * @param now the time of the current pulse
+     */
+    private void tick(long now) {
+        List<Runnable> finished = new ArrayList<>();
+        for (Iterator<Map.Entry<ImageView, Playback>> it = playing.entrySet().iterator(); it.hasNext(); ) {
+            Map.Entry<ImageView, Playback> entry = it.next();
+            ImageView view = entry.getKey();
+            Playback playback = entry.getValue();
+
+            Scene scene = view.getScene();
+            if (scene != null && scene.getWindow() != null) {
+                playback.shown = true;
+            } else if (playback.shown) {
+                it.remove(); // The screen was left before the animation finished
+                continue;
+            }
+            if (now - playback.startNanos >= playback.durationNanos) {
+                it.remove();
+                if (playback.onFinished != null) {
+                    finished.add(playback.onFinished);
+                }
+                continue;
+            }
+            if (playback.animation != null) {
+                int frame = playback.animation.frameAt(Math.max(0, now - playback.framesStartNanos));
+                if (frame != playback.frame) {
+                    playback.frame = frame;
+                    view.setImage(playback.animation.frames()[frame]);
+                }
+            }
+        }
+        if (playing.isEmpty()) {
+            timer.stop();
+            timerRunning = false;
+        }
+        for (Runnable action : finished) {
+            action.run();
+        }
+    }
+
+    /**
+     * Builds the cache key of an animation decoded at a size.
+     *
+     * @param path   the file path
+     * @param width  the width to fit the frames in
+     * @param height the height to fit the frames in
+     * @return the cache key
+     */
+    private static String key(String path, int width, int height) {
+        return path + "@" + width + "x" + height;
+    }
+
+    /**
+     * Decodes every frame of an animation, composing each frame over the previous ones as the GIF
+     * disposal methods require, and scales the frames to fit the given size. Consecutive frames that
+     * come out identical are merged into one. Single images in any format ImageIO reads are decoded
+     * as a one-frame animation.
+     *
+     * @param path   the file path of the animation, relative to the classpath
+     * @param width  the width to fit the frames in, or 0 for no limit
+     * @param height the height to fit the frames in, or 0 for no limit
+     * @return the decoded animation
+     * @throws UncheckedIOException if the animation cannot be found or read
+     */
+    static Animation decodeResource(String path, int width, int height) {
+        try (InputStream resource = AnimationPlayer.class.getResourceAsStream(path)) {
+            if (resource == null) {
+                throw new IOException("Animation not found: " + path);
+            }
+            try (ImageInputStream input = ImageIO.createImageInputStream(resource)) {
+                Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+                if (!readers.hasNext()) {
+                    throw new IOException("Unsupported animation format: " + path);
+                }
+                ImageReader reader = readers.next();
+                try {
+                    reader.setInput(input, false, false);
+                    return decodeFrames(reader, width, height);
+                } finally {
+                    reader.dispose();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Decodes the frames of an animation from a reader.
+     *
+     * @param reader the reader, positioned at the start of the stream
+     * @param width  the width to fit the frames in, or 0
+     * @param height the height to fit the frames in, or 0
+     * @return the decoded animation
+     * @throws IOException if the animation cannot be read
+     */
+    private static Animation decodeFrames(ImageReader reader, int width, int height) throws IOException {
+        int count = reader.getNumImages(true);
+        int canvasWidth = reader.getWidth(0);
+        int canvasHeight = reader.getHeight(0);
+        IIOMetadata streamMetadata = reader.getStreamMetadata();
+        if (streamMetadata != null && isFormatSupported(streamMetadata, GIF_STREAM_METADATA)) {
+            IIOMetadataNode screen = child((IIOMetadataNode) streamMetadata.getAsTree(GIF_STREAM_METADATA),
+                    "LogicalScreenDescriptor");
+            if (screen != null) {
+                canvasWidth = Math.max(1, Integer.parseInt(screen.getAttribute("logicalScreenWidth")));
+                canvasHeight = Math.max(1, Integer.parseInt(screen.getAttribute("logicalScreenHeight")));
+            }
+        }
+
+        double scale = 1;
+        if (width > 0) {
+            scale = Math.min(scale, (double) width / canvasWidth);
+        }
+        if (height > 0) {
+            scale = Math.min(scale, (double) height / canvasHeight);
+        }
+        int frameWidth = Math.max(1, (int) Math.round(canvasWidth * scale));
+        int frameHeight = Math.max(1, (int) Math.round(canvasHeight * scale));
+
+        BufferedImage canvas = new BufferedImage(canvasWidth, canvasHeight, BufferedImage.TYPE_INT_ARGB_PRE);
+        Graphics2D graphics = canvas.createGraphics();
+        int[] canvasPixels = pixels(canvas);
+        Downscaler downscaler = new Downscaler(canvasWidth, canvasHeight, frameWidth, frameHeight);
+        List<Image> frames = new ArrayList<>(count);
+        List<Long> ends = new ArrayList<>(count);
+        int[] previousPixels = null;
+        long time = 0;
+
+        // Area of the canvas changed since the last frame was scaled, starting with the whole canvas
+        int dirtyLeft = 0;
+        int dirtyTop = 0;
+        int dirtyRight = canvasWidth;
+        int dirtyBottom = canvasHeight;
+        try {
+            for (int i = 0; i < count; i++) {
+                BufferedImage raw = reader.read(i);
+                int left = 0;
+                int top = 0;
+                String disposal = "none";
+                long delayNanos = 0;
+                IIOMetadata metadata = reader.getImageMetadata(i);
+                if (metadata != null && isFormatSupported(metadata, GIF_IMAGE_METADATA)) {
+                    IIOMetadataNode tree = (IIOMetadataNode) metadata.getAsTree(GIF_IMAGE_METADATA);
+                    IIOMetadataNode descriptor = child(tree, "ImageDescriptor");
+                    if (descriptor != null) {
+                        left = Integer.parseInt(descriptor.getAttribute("imageLeftPosition"));
+                        top = Integer.parseInt(descriptor.getAttribute("imageTopPosition"));
+                    }
+                    IIOMetadataNode control = child(tree, "GraphicControlExtension");
+                    if (control != null) {
+                        disposal = control.getAttribute("disposalMethod");
+                        delayNanos = TimeUnit.MILLISECONDS.toNanos(Integer.parseInt(control.getAttribute("delayTime")) * 10L);
+                    }
+                }
+                if (delayNanos <= TimeUnit.MILLISECONDS.toNanos(10)) {
+                    delayNanos = DEFAULT_FRAME_NANOS;
+                }
+
+                int[] saved = "restoreToPrevious".equals(disposal) ? canvasPixels.clone() : null;
+                graphics.setComposite(AlphaComposite.SrcOver);
+                graphics.drawImage(raw, left, top, null);
+                int right = Math.min(canvasWidth, left + raw.getWidth());
+                int bottom = Math.min(canvasHeight, top + raw.getHeight());
+                left = Math.max(0, left);
+                top = Math.max(0, top);
+
+                int[] scaledPixels = downscaler.update(canvasPixels, Math.min(dirtyLeft, left), Math.min(dirtyTop, top),
+                        Math.max(dirtyRight, right), Math.max(dirtyBottom, bottom));
+                time += delayNanos;
+                if (previousPixels != null && Arrays.equals(previousPixels, scaledPixels)) {
+                    ends.set(ends.size() - 1, time); // Same picture as the previous frame, so show it longer
+                } else {
+                    WritableImage frame = new WritableImage(frameWidth, frameHeight);
+                    frame.getPixelWriter().setPixels(0, 0, frameWidth, frameHeight,
+                            PixelFormat.getIntArgbPreInstance(), scaledPixels, 0, frameWidth);
+                    frames.add(frame);
+                    ends.add(time);
+                    previousPixels = scaledPixels.clone();
+                }
+
+                dirtyLeft = dirtyTop = Integer.MAX_VALUE;
+                dirtyRight = dirtyBottom = Integer.MIN_VALUE;
+                if ("restoreToBackgroundColor".equals(disposal)) {
+                    graphics.setComposite(AlphaComposite.Clear);
+                    graphics.fillRect(left, top, right - left, bottom - top);
+                } else if (saved != null) {
+                    System.arraycopy(saved, 0, canvasPixels, 0, saved.length);
+                }
+                if (saved != null || "restoreToBackgroundColor".equals(disposal)) {
+                    dirtyLeft = left;
+                    dirtyTop = top;
+                    dirtyRight = right;
+                    dirtyBottom = bottom;
+                }
+            }
+        } finally {
+            graphics.dispose();
+        }
+
+        long[] endNanos = new long[ends.size()];
+        for (int i = 0; i < endNanos.length; i++) {
+            endNanos[i] = ends.get(i);
+        }
+        long size = (long) frameWidth * frameHeight * 4 * frames.size();
+        return new Animation(frames.toArray(new Image[0]), endNanos, size);
+    }
+
+    /**
+     * Scales a canvas down by averaging the area of the canvas each scaled pixel covers. The scaled
+     * pixels are kept between frames, so only the part of the canvas a frame changed is scaled again.
+     */
+    private static final class Downscaler {
+        final int sourceWidth;
+        final int width;
+        final int height;
+
+        /** First and past-the-end source column and row covered by each scaled column and row. */
+        final int[] columnStart;
+        final int[] columnEnd;
+        final int[] rowStart;
+        final int[] rowEnd;
+
+        /** The scaled pixels, premultiplied. */
+        final int[] pixels;
+
+        Downscaler(int sourceWidth, int sourceHeight, int width, int height) {
+            this.sourceWidth = sourceWidth;
+            this.width = width;
+            this.height = height;
+            this.columnStart = new int[width];
+            this.columnEnd = new int[width];
+            this.rowStart = new int[height];
+            this.rowEnd = new int[height];
+            this.pixels = new int[width * height];
+            spans(sourceWidth, width, columnStart, columnEnd);
+            spans(sourceHeight, height, rowStart, rowEnd);
+        }
+
+        /**
+         * Splits a source length into the spans covered by each scaled position.
+         */
+        private static void spans(int sourceLength, int length, int[] start, int[] end) {
+            for (int i = 0; i < length; i++) {
+                start[i] = (int) ((long) i * sourceLength / length);
+                end[i] = Math.max(start[i] + 1, (int) ((long) (i + 1) * sourceLength / length));
+            }
+        }
+
+        /**
+         * Scales again the pixels covering a changed area of the canvas.
+         *
+         * @param source the canvas pixels, premultiplied
+         * @param left   the first changed column
+         * @param top    the first changed row
+         * @param right  the column past the last changed one
+         * @param bottom the row past the last changed one
+         * @return the scaled pixels, reused by the next call
+         */
+        int[] update(int[] source, int left, int top, int right, int bottom) {
+            if (left >= right || top >= bottom) {
+                return pixels;
+            }
+            int firstColumn = first(columnEnd, left);
+            int lastColumn = first(columnStart, right);
+            int firstRow = first(rowEnd, top);
+            int lastRow = first(rowStart, bottom);
+            for (int y = firstRow; y < lastRow; y++) {
+                for (int x = firstColumn; x < lastColumn; x++) {
+                    long a = 0;
+                    long r = 0;
+                    long g = 0;
+                    long b = 0;
+                    for (int sy = rowStart[y]; sy < rowEnd[y]; sy++) {
+                        int offset = sy * sourceWidth;
+                        for (int sx = columnStart[x]; sx < columnEnd[x]; sx++) {
+                            int argb = source[offset + sx];
+                            a += argb >>> 24;
+                            r += (argb >> 16) & 0xff;
+                            g += (argb >> 8) & 0xff;
+                            b += argb & 0xff;
+                        }
+                    }
+                    int area = (rowEnd[y] - rowStart[y]) * (columnEnd[x] - columnStart[x]);
+                    pixels[y * width + x] = (int) (a / area) << 24 | (int) (r / area) << 16
+                            | (int) (g / area) << 8 | (int) (b / area);
+                }
+            }
+            return pixels;
+        }
+
+        /**
+         * Finds the first scaled position whose span boundary lies past a source position.
+         *
+         * @param boundaries the span starts or ends, in increasing order
+         * @param position   the source position
+         * @return the first index whose boundary is greater than the position, or the length
+         */
+        private static int first(int[] boundaries, int position) {
+            int low = 0;
+            int high = boundaries.length;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (boundaries[middle] > position) {
+                    high = middle;
+                } else {
+                    low = middle + 1;
+                }
+            }
+            return low;
+        }
+    }
+
+    /**
+     * Retrieves the pixel array backing an integer-packed image.
+     *
+     * @param image the image
+     * @return the pixels, shared with the image
+     */
+    private static int[] pixels(BufferedImage image) {
+        return ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+    }
+
+    /**
+     * Checks whether metadata can be read in a native format.
+     *
+     * @param metadata the metadata
+     * @param format   the format name
+     * @return true if the format is supported
+     */
+    private static boolean isFormatSupported(IIOMetadata metadata, String format) {
+        return format.equals(metadata.getNativeMetadataFormatName());
+    }
+
+    /**
+     * Finds the first child of a metadata node with a given name.
+     *
+     * @param node the parent node
+     * @param name the child's name
+     * @return the child, or null if there is none
+     */
+    private static IIOMetadataNode child(IIOMetadataNode node, String name) {
+        NodeList children = node.getElementsByTagName(name);
+        return children.getLength() == 0 ? null : (IIOMetadataNode) children.item(0);
+    }
+}
@@ -6,6 +6,9 @@ import javafx.scene.Parent;
 import javafx.scene.Scene;
 import javafx.stage.Stage;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 /**
  * The main application driver for the "Paws, Scales, and Tales" game.
  * This class initializes the application, loads necessary resources,
@@ -17,6 +20,16 @@ import javafx.stage.Stage;
  */
 public class ApplicationDriver extends Application {
 
+    /** Screens most likely to be visited from the main menu, prewarmed in this order at startup. */
+    private static final List<String> PREWARM_SCREENS = List.of(
+            "/Scenes/LoadGame.fxml",
+            "/Scenes/GameplayScreen.fxml",
+            "/Scenes/NewGame.fxml",
+            "/Scenes/Tutorial1.fxml",
+            "/Scenes/Shop.fxml",
+            "/Scenes/Inventory.fxml",
+            "/Scenes/Minigame.fxml");
+
     /**
      * Starts the JavaFX application.
      * Determines the initial screen to display based on parental controls
@@ -31,11 +44,11 @@ public class ApplicationDriver extends Application {
         CSVController.updateTimePlayWhenNewGame();
 
         // Retrieve Shrek's data from the CSV datastore
-        String[] shrek = CSVDataStore.getInstance().getShrek();
-        System.out.println(shrek[1]);
+        PetState shrek = CSVDataStore.getInstance().getShrek();
+        System.out.println(shrek.getPin());
 
         // Check parental control status
-        if ("****".equals(shrek[1])) {
+        if ("****".equals(shrek.getPin())) {
             try {
                 // Load Parental Controls Input screen
                 FXMLLoader loader = new FXMLLoader(getClass().getResource("/Scenes/ParentalControlsInput.fxml"));
@@ -54,6 +67,7 @@ public class ApplicationDriver extends Application {
                 primaryStage.setOnCloseRequest(event -> {
                     UpdateService.getInstance().removeAllListeners();
                     PeriodicUpdateService.getInstance().stopUpdating();
+                    PersistenceService.getInstance().shutdown();
                     System.exit(0);
                 });
 
@@ -61,6 +75,7 @@ public class ApplicationDriver extends Application {
                 primaryStage.setFullScreen(false);
                 primaryStage.setTitle("Paws, Scales, and Tales");
                 primaryStage.show();
+                prewarmScreens();
             } catch (Exception e) {
                 e.printStackTrace();
             }
@@ -80,6 +95,7 @@ public class ApplicationDriver extends Application {
                 primaryStage.setOnCloseRequest(event -> {
                     UpdateService.getInstance().removeAllListeners();
                     PeriodicUpdateService.getInstance().stopUpdating();
+                    PersistenceService.getInstance().shutdown();
                     System.exit(0);
                 });
 
@@ -87,24 +103,49 @@ public class ApplicationDriver extends Application {
                 primaryStage.setFullScreen(false);
                 primaryStage.setTitle("Paws, Scales, and Tales");
                 primaryStage.show();
+                prewarmScreens();
             } catch (Exception e) {
                 e.printStackTrace();
             }
         }
     }
 
+    /**
+     * Marks the first screen as shown and prewarms the likely next screens in the background,
+     * then prints the startup timeline once they are all ready.
+     */
+    private static void prewarmScreens() {
+        StartupTimeline.mark("first screen shown");
+        NavigationRouter.getInstance().prewarm(PREWARM_SCREENS).thenRun(() -> {
+            StartupTimeline.mark("prewarm complete");
+            StartupTimeline.report();
+
+            ResourceManager.Stats images = ResourceManager.getStats();
+            System.out.printf("Image cache: %d images, %d KB, %d hits, %d misses, %.1f ms average decode%n",
+                    images.size(), images.bytes() / 1024, images.hits(), images.misses(), images.averageDecodeMillis());
+        });
+    }
+
     /**
      * The main method for launching the JavaFX application.
-     * Initializes necessary resources such as CSV data and preloaded images,
-     * then launches the application.
+     * Initializes necessary resources such as CSV data, starts decoding the shared pet images
+     * in the background, then launches the application.
      *
      * @param args command-line arguments
      */
     public static void main(String[] args) {
         // Initialize pet data and preload resources
+        StartupTimeline.mark("main started");
+        // Keep a continuous flight recording for diagnostics, started without delaying the first frame
+        CompletableFuture.runAsync(FlightRecording::start);
+        CompletableFuture.runAsync(MetricsServer::start); // Serve the metrics to a local Prometheus agent
+        UpdateService.getInstance(); // Deliver data changes to the screens from the start
         CSVController.readPetInfo();
+        StartupTimeline.mark("pet info loaded");
+        PeriodicUpdateService.catchUpOfflineDecay(System.currentTimeMillis());
+        StartupTimeline.mark("offline decay applied");
         PetManager petManager = PetManager.getInstance();
-        petManager.preloadImages();
+        petManager.preloadImages().thenRun(() -> StartupTimeline.mark("shared pet images decoded"));
 
         System.out.println("CSV Controller initialized");
         launch();
@@ -3,9 +3,6 @@ package Backend;
 import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
-import javafx.scene.Parent;
-import javafx.scene.Scene;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
 import javafx.scene.control.PasswordField;
@@ -23,7 +20,7 @@ import javafx.stage.Stage;
  * @version     1.9 (current version number of program)
  * @since       1.2 (the version of the package this class was first added to)
  */
-public class CantPlayController {
+public class CantPlayController implements Routable {
 
     /** The primary stage of the application. */
     private Stage primaryStage;
@@ -66,24 +63,6 @@ public class CantPlayController {
      * Navigates the user back to the Main Menu screen.
      */
     public void back() {
-        try {
-            // Load the Main Menu FXML
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("/Scenes/MainMenu.fxml"));
-            Parent newGameRoot = loader.load();
-
-            // Create and style the new scene
-            Scene newGameScene = new Scene(newGameRoot);
-            newGameScene.getStylesheets().add(getClass().getResource("/Scenes/style.css").toExternalForm());
-
-            // Get the MainMenuController and set the primary stage
-            MainMenuController controller = loader.getController();
-            controller.setPrimaryStage(primaryStage);
-
-            // Set the scene and show the stage
-            primaryStage.setScene(newGameScene);
-            primaryStage.show();
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
+        NavigationRouter.getInstance().navigate(primaryStage, "/Scenes/MainMenu.fxml");
     }
 }
@@ -1,14 +1,9 @@
 package Backend;
 
-import javafx.animation.PauseTransition;
 import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
-import javafx.scene.Parent;
-import javafx.scene.Scene;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
 import javafx.scene.control.ProgressBar;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.stage.Stage;
 import javafx.util.Duration;
@@ -21,7 +16,7 @@ import javafx.util.Duration;
  * @version     1.9 (current version number of program)
  * @since       1.6 (the version of the package this class was first added to)
  */
-public class ExerciseController {
+public class ExerciseController implements Routable {
 
     /** The main stage of the application. */
     private Stage primaryStage;
@@ -36,6 +31,9 @@ public class ExerciseController {
     @FXML
     private ImageView petImage;
 
+    /** The file path of the selected pet's exercise image. */
+    private String animationPath;
+
     /**
      * Sets the primary stage for this controller.
      *
@@ -53,11 +51,11 @@ public class ExerciseController {
     public void setPet(int pet) {
         this.pet = pet;
         petManager = PetManager.getInstance();
-        switch (pet) {
-            case 1 -> petImage.setImage(new Image(getClass().getResourceAsStream("/Scenes/images/shrekExercise.gif")));
-            case 2 -> petImage.setImage(new Image(getClass().getResourceAsStream("/Scenes/images/toothlesExersicse.gif")));
-            case 3 -> petImage.setImage(new Image(getClass().getResourceAsStream("/Scenes/images/pussbootsExercise.gif")));
-        }
+        animationPath = switch (pet) {
+            case 1 -> "/Scenes/images/shrekExercise.png";
+            case 2 -> "/Scenes/images/toothlesExersicse.png";
+            default -> "/Scenes/images/pussbootsExercise.png";
+        };
         adjustImageView();
         playAnimation();
     }
@@ -83,35 +81,24 @@ public class ExerciseController {
         petManager.decreaseSleep(pet, 15);
         petManager.increaseHealth(pet, 30);
 
-        // Create a PauseTransition to wait for 5 seconds
-        PauseTransition pause = new PauseTransition(Duration.seconds(5));
-
-        // Set the action to transition back to the gameplay screen after 5 seconds
-        pause.setOnFinished(event -> backToGameplay());
-
-        // Start the pause timer
-        pause.play();
+        // Play the animation for 5 seconds, then transition back to the gameplay screen
+        AnimationPlayer.getInstance().play(petImage, animationPath, Duration.seconds(5), this::backToGameplay);
     }
 
     /**
      * Transitions back to the gameplay screen, passing the current stage and pet data.
      */
     private void backToGameplay() {
-        try {
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("/Scenes/GameplayScreen.fxml"));
-            Parent gameplayRoot = loader.load();
-
-            Scene gameplayScene = new Scene(gameplayRoot);
-            gameplayScene.getStylesheets().add(getClass().getResource("/Scenes/style.css").toExternalForm());
-
-            GameplayScreenController controller = loader.getController();
-            controller.setPrimaryStage(primaryStage);
-            controller.setPet(pet);
+        NavigationRouter.getInstance().navigate(primaryStage, "/Scenes/GameplayScreen.fxml", pet);
+    }
 
-            primaryStage.setScene(gameplayScene);
-            primaryStage.show();
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
+    /**
+     * The screen is rebuilt by {@link #setPet(int)} on every visit, so it can be cached and reused.
+     *
+     * @return true
+     */
+    @Override
+    public boolean isReusable() {
+        return true;
     }
 }
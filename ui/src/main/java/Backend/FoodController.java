@@ -1,13 +1,8 @@
 package Backend;
 
-import javafx.animation.PauseTransition;
 import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
-import javafx.scene.Parent;
-import javafx.scene.Scene;
 import javafx.scene.control.Button;
 import javafx.scene.control.ProgressBar;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.stage.Stage;
 import javafx.util.Duration;
@@ -21,7 +16,7 @@ import javafx.util.Duration;
  * @version     1.9 (current version number of program)
  * @since       1.6 (the version of the package this class was first added to)
  */
-public class FoodController {
+public class FoodController implements Routable {
 
     /** The identifier for the selected pet. */
     private int petID;
@@ -65,11 +60,6 @@ public class FoodController {
     public void setPet(int petID) {
         this.petID = petID;
         petManager = PetManager.getInstance();
-        switch (petID) {
-            case 1 -> petImage.setImage(new Image(getClass().getResourceAsStream("/Scenes/images/shrekEating.gif")));
-            case 2 -> petImage.setImage(new Image(getClass().getResourceAsStream("/Scenes/images/toothlesEating.gif")));
-            case 3 -> petImage.setImage(new Image(getClass().getResourceAsStream("/Scenes/images/pussbootsEating.gif")));
-        }
         playAnimation();
         updatePetInfo();
     }
@@ -93,14 +83,15 @@ public class FoodController {
     }
 
     /**
-     * Starts a pause transition animation to simulate the pet's feeding process.
+     * Plays the pet's eating animation until the player leaves the feeding screen.
      */
     private void playAnimation() {
-        // Create a PauseTransition to wait for 5 seconds
-        PauseTransition pause = new PauseTransition(Duration.seconds(5));
-
-        // Start the pause timer
-        pause.play();
+        String path = switch (petID) {
+            case 1 -> "/Scenes/images/shrekEating.gif";
+            case 2 -> "/Scenes/images/toothlesEating.gif";
+            default -> "/Scenes/images/pussbootsEating.gif";
+        };
+        AnimationPlayer.getInstance().play(petImage, path, Duration.INDEFINITE, null);
     }
 
     /**
@@ -117,10 +108,9 @@ public class FoodController {
      * Updates the pet's information such as hunger level and reflects it on the progress bar.
      */
     private void updatePetInfo() {
-        String[] petData = petManager.getPetData(petID);
+        PetState petData = petManager.getPetData(petID);
         if (petData != null) {
-            int hunger = Integer.parseInt(petData[3]);
-            hungerBar.setProgress(hunger / 100.0);
+            hungerBar.setProgress(petData.getHunger() / 100.0);
         }
     }
 
@@ -129,22 +119,17 @@ public class FoodController {
      */
     @FXML
     private void back() {
-        try {
-            // Load the GameplayScreen FXML
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("/Scenes/GameplayScreen.fxml"));
-            Parent newGameRoot = loader.load();
-
-            Scene newGameScene = new Scene(newGameRoot);
-            newGameScene.getStylesheets().add(getClass().getResource("/Scenes/style.css").toExternalForm());
-
-            GameplayScreenController controller = loader.getController();
-            controller.setPrimaryStage(primaryStage);
-            controller.setPet(petID);
-
-            primaryStage.setScene(newGameScene);
-            primaryStage.show();
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
+        AnimationPlayer.getInstance().stop(petImage);
+        NavigationRouter.getInstance().navigate(primaryStage, "/Scenes/GameplayScreen.fxml", petID);
+    }
+
+    /**
+     * The screen is rebuilt by {@link #setPet(int)} on every visit, so it can be cached and reused.
+     *
+     * @return true
+     */
+    @Override
+    public boolean isReusable() {
+        return true;
     }
 }
@@ -1,10 +1,6 @@
 package Backend;
 
-import javafx.application.Platform;
 import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
-import javafx.scene.Parent;
-import javafx.scene.Scene;
 import javafx.scene.control.Button;
 import javafx.scene.control.ContentDisplay;
 import javafx.scene.control.Label;
@@ -30,7 +26,7 @@ import java.util.Objects;
  * This controller handles the game's user interface, including pet status updates, button functionalities,
  * keyboard shortcuts, and navigation between different screens.
  */
-public class GameplayScreenController implements UpdateListener {
+public class GameplayScreenController implements PetChangeListener, Routable {
 
     Stage primaryStage;
     private int pet;
@@ -66,24 +62,26 @@ public class GameplayScreenController implements UpdateListener {
      */
     public void setPet(int pet) {
         this.pet = pet;
+        petManager.preloadImages(pet);
         petManager.setPetImage(pet, petImage);
         displayPetData();
+        handleState(petManager.getPetData(pet));
         PeriodicUpdateService.getInstance().setSelectedPetId(pet);
+
+        // Only listen for changes to the pet shown on this screen
+        UpdateService.getInstance().unsubscribe(this);
+        UpdateService.getInstance().subscribe(this, petImage, pet);
     }
 
     /**
-     * Initializes the controller by setting up the pet manager, adding update listeners,
-     * starting periodic updates, setting up button icons, and keyboard shortcuts.
+     * Initializes the controller by setting up the pet manager, button icons, and keyboard shortcuts.
+     * The play session and periodic updates are started by {@link #reset()} each time the screen is shown.
      */
     @FXML
     public void initialize() {
         petManager = PetManager.getInstance();
-        UpdateService.getInstance().addListener(this);
-        PeriodicUpdateService.getInstance().startUpdating();
 
         playbutton.setContentDisplay(ContentDisplay.TOP);
-        totalPlayTime = CSVDataStore.getInstance().getTotalPlayTime();
-        sessionStartTime = Instant.now();
         setupButtonIcons();
         setupKeyboardShortcuts();
     }
@@ -116,8 +114,10 @@ public class GameplayScreenController implements UpdateListener {
      * ESC key returns to the main menu, and other keys trigger specific actions (e.g., play, feed, etc.).
      */
     private void setupKeyboardShortcuts() {
-        Platform.runLater(() -> {
-            petImage.getScene().setOnKeyPressed(event -> {
+        // The scene is created after the FXML is loaded, possibly later on another thread when prewarmed
+        petImage.sceneProperty().addListener((observable, oldScene, newScene) -> {
+            if (newScene == null) return;
+            newScene.setOnKeyPressed(event -> {
                 KeyCode code = event.getCode();
                 if (code == KeyCode.ESCAPE) goToMainMenu();
                 else if (code == KeyCode.V) vet();
@@ -133,32 +133,50 @@ public class GameplayScreenController implements UpdateListener {
      * Displays the selected pet's data on the screen (e.g., progress bars, level, coins).
      */
     private void displayPetData() {
-        String[] selectedPet = petManager.getPetData(pet);
+        PetState selectedPet = petManager.getPetData(pet);
 
         if (selectedPet != null) {
-            hungerBar.setProgress(Double.parseDouble(selectedPet[3]) / 100);
-            sleepBar.setProgress(Double.parseDouble(selectedPet[6]) / 100);
-            healthBar.setProgress(Double.parseDouble(selectedPet[8]) / 100);
-            happinessBar.setProgress(Double.parseDouble(selectedPet[4]) / 100);
-            experienceBar.setProgress(Double.parseDouble(selectedPet[7]) / 100);
-
-            levelLabel.setText(selectedPet[9]);
-            coinsLabel.setText(selectedPet[5]);
+            hungerBar.setProgress(selectedPet.getHunger() / 100.0);
+            sleepBar.setProgress(selectedPet.getSleep() / 100.0);
+            healthBar.setProgress(selectedPet.getHealth() / 100.0);
+            happinessBar.setProgress(selectedPet.getHappiness() / 100.0);
+            experienceBar.setProgress(selectedPet.getExperience() / 100.0);
+
+            levelLabel.setText(String.valueOf(selectedPet.getLevel()));
+            coinsLabel.setText(String.valueOf(selectedPet.getCoins()));
         }
     }
 
     /**
-     * Handles pet state updates and dynamically disables or enables buttons based on the pet's state.
+     * Handles pet state updates by repainting only the bars and labels whose fields changed,
+     * and dynamically disables or enables buttons based on the pet's state.
      *
+     * @param event The change event describing which fields of the pet changed.
      */
     @Override
-    public void onUpdate(String[] toothlessData, String[] shrekData, String[] pussData, boolean[] parentalInfo) {
-        displayPetData();
-        String[] petData = petManager.getPetData(pet);
-        handleState(petManager.getPetData(pet));
+    public void onPetChange(PetChangeEvent event) {
+        PetState petData = petManager.getPetData(pet);
+        if (petData == null) {
+            return;
+        }
 
-        if (!isStateOverridden(petData)) {
-            petManager.setPetImage(pet, petImage);
+        if (event.isChanged(pet, PetField.HUNGER)) hungerBar.setProgress(petData.getHunger() / 100.0);
+        if (event.isChanged(pet, PetField.SLEEP)) sleepBar.setProgress(petData.getSleep() / 100.0);
+        if (event.isChanged(pet, PetField.HEALTH)) healthBar.setProgress(petData.getHealth() / 100.0);
+        if (event.isChanged(pet, PetField.HAPPINESS)) happinessBar.setProgress(petData.getHappiness() / 100.0);
+        if (event.isChanged(pet, PetField.EXPERIENCE)) experienceBar.setProgress(petData.getExperience() / 100.0);
+        if (event.isChanged(pet, PetField.LEVEL)) levelLabel.setText(String.valueOf(petData.getLevel()));
+        if (event.isChanged(pet, PetField.COINS)) coinsLabel.setText(String.valueOf(petData.getCoins()));
+
+        // The buttons and the pet image depend on the stats that can reach zero and on the worn accessory
+        int stateFields = PetField.maskOf(PetField.HUNGER, PetField.SLEEP, PetField.HEALTH, PetField.HAPPINESS,
+                PetField.ACCESSORIES, PetField.SELECTED_ITEM);
+        if ((event.getChangedFields(pet) & stateFields) != 0) {
+            handleState(petData);
+
+            if (!petData.hasZeroStat()) {
+                petManager.setPetImage(pet, petImage);
+            }
         }
     }
 
@@ -167,11 +185,11 @@ public class GameplayScreenController implements UpdateListener {
      *
      * @param petData The data of the selected pet to determine the pet's state.
      */
-    private void handleState(String[] petData) {
-        boolean isHungerZero = "0".equals(petData[3]);
-        boolean isSleepZero = "0".equals(petData[6]);
-        boolean isHealthZero = "0".equals(petData[8]);
-        boolean isHappinessZero = "0".equals(petData[4]);
+    private void handleState(PetState petData) {
+        boolean isHungerZero = petData.getHunger() == 0;
+        boolean isSleepZero = petData.getSleep() == 0;
+        boolean isHealthZero = petData.getHealth() == 0;
+        boolean isHappinessZero = petData.getHappiness() == 0;
 
         disableAllButtons();
 
@@ -192,16 +210,6 @@ public class GameplayScreenController implements UpdateListener {
         }
     }
 
-    /**
-     * Determines if any pet state (hunger, sleep, health, or happiness) is overridden (i.e., zero).
-     *
-     * @param petData The data of the selected pet to check.
-     * @return true if any state is overridden, false otherwise.
-     */
-    private boolean isStateOverridden(String[] petData) {
-        return "0".equals(petData[3]) || "0".equals(petData[6]) || "0".equals(petData[8]) || "0".equals(petData[4]);
-    }
-
     /**
      * Disables all the action buttons (shop, mini-game, feed, etc.).
      */
@@ -235,53 +243,14 @@ public class GameplayScreenController implements UpdateListener {
      * Updates the total playtime and session duration.
      *
      * @param fxmlPath The path to the FXML file of the new screen.
-     * @param controller The controller instance for the new screen.
      */
-    private void navigateTo(String fxmlPath, Object controller) {
+    private void navigateTo(String fxmlPath) {
         long sessionPlayTime = Duration.between(sessionStartTime, Instant.now()).getSeconds();
         totalPlayTime += sessionPlayTime;
         CSVController.updateTimePlay(sessionPlayTime);
 
-        try {
-            FXMLLoader loader = new FXMLLoader(getClass().getResource(fxmlPath));
-            Parent root = loader.load();
-            Object loadedController = loader.getController();
-
-            // Set the primary stage and pet for the new screen
-            if (loadedController instanceof ShopController shopController) {
-                shopController.setPrimaryStage(primaryStage);
-                shopController.setPet(pet);
-            } else if (loadedController instanceof InventoryController inventoryController) {
-                inventoryController.setPrimaryStage(primaryStage);
-                inventoryController.setPet(pet);
-            } else if (loadedController instanceof MinigameController minigameController) {
-                minigameController.setPrimaryStage(primaryStage);
-                minigameController.setPet(pet);
-            } else if (loadedController instanceof PlayController playController) {
-                playController.setPrimaryStage(primaryStage);
-                playController.setPet(pet);
-            } else if (loadedController instanceof SleepController sleepController) {
-                sleepController.setPrimaryStage(primaryStage);
-                sleepController.setPet(pet);
-            } else if (loadedController instanceof FoodController foodController) {
-                foodController.setPrimaryStage(primaryStage);
-                foodController.setPet(pet);
-            } else if (loadedController instanceof VetController vetController) {
-                vetController.setPrimaryStage(primaryStage);
-                vetController.setPet(pet);
-            } else if (loadedController instanceof ExerciseController exerciseController) {
-                exerciseController.setPrimaryStage(primaryStage);
-                exerciseController.setPet(pet);
-            } else if (loadedController instanceof MainMenuController mainMenuController) {
-                mainMenuController.setPrimaryStage(primaryStage);
-            }
-
-            Scene scene = new Scene(root);
-            scene.getStylesheets().add(getClass().getResource("/Scenes/style.css").toExternalForm());
-            primaryStage.setScene(scene);
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
+        // The router sets the primary stage and pet for the new screen
+        NavigationRouter.getInstance().navigate(primaryStage, fxmlPath, pet);
     }
 
     /**
@@ -289,7 +258,7 @@ public class GameplayScreenController implements UpdateListener {
      */
     @FXML
     private void shop() {
-        navigateTo("/Scenes/Shop.fxml", new ShopController());
+        navigateTo("/Scenes/Shop.fxml");
     }
 
     /**
@@ -298,7 +267,7 @@ public class GameplayScreenController implements UpdateListener {
     @FXML
     private void goToMainMenu() {
         UpdateService.getInstance().removeAllListeners();
-        navigateTo("/Scenes/MainMenu.fxml", new MainMenuController());
+        navigateTo("/Scenes/MainMenu.fxml");
     }
 
     /**
@@ -306,7 +275,7 @@ public class GameplayScreenController implements UpdateListener {
      */
     @FXML
     private void inventory() {
-        navigateTo("/Scenes/Inventory.fxml", new InventoryController());
+        navigateTo("/Scenes/Inventory.fxml");
     }
 
     /**
@@ -314,7 +283,7 @@ public class GameplayScreenController implements UpdateListener {
      */
     @FXML
     private void minigame() {
-        navigateTo("/Scenes/Minigame.fxml", new MinigameController());
+        navigateTo("/Scenes/Minigame.fxml");
     }
 
     /**
@@ -322,7 +291,7 @@ public class GameplayScreenController implements UpdateListener {
      */
     @FXML
     private void play() {
-        navigateTo("/Scenes/Play.fxml", new PlayController());
+        navigateTo("/Scenes/Play.fxml");
     }
 
     /**
@@ -330,7 +299,7 @@ public class GameplayScreenController implements UpdateListener {
      */
     @FXML
     private void sleep() {
-        navigateTo("/Scenes/Sleep.fxml", new SleepController());
+        navigateTo("/Scenes/Sleep.fxml");
     }
 
     /**
@@ -338,7 +307,7 @@ public class GameplayScreenController implements UpdateListener {
      */
     @FXML
     private void feed() {
-        navigateTo("/Scenes/Feed.fxml", new FoodController());
+        navigateTo("/Scenes/Feed.fxml");
     }
 
     /**
@@ -346,7 +315,7 @@ public class GameplayScreenController implements UpdateListener {
      */
     @FXML
     private void vet() {
-        navigateTo("/Scenes/Vet.fxml", new VetController());
+        navigateTo("/Scenes/Vet.fxml");
     }
 
     /**
@@ -354,7 +323,26 @@ public class GameplayScreenController implements UpdateListener {
      */
     @FXML
     private void exercise() {
-        navigateTo("/Scenes/Exercise.fxml", new ExerciseController());
+        navigateTo("/Scenes/Exercise.fxml");
+    }
+
+    /**
+     * The gameplay screen is cached by the router and rebound to the pet on every visit.
+     *
+     * @return true
+     */
+    @Override
+    public boolean isReusable() {
+        return true;
     }
-}
 
+    /**
+     * Starts the play session timer and the periodic updates each time the screen is shown.
+     */
+    @Override
+    public void reset() {
+        PeriodicUpdateService.getInstance().startUpdating();
+        totalPlayTime = CSVDataStore.getInstance().getTotalPlayTime();
+        sessionStartTime = Instant.now();
+    }
+}
@@ -0,0 +1,34 @@
+package Backend;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The `ImageDecodeEvent` class is a JDK Flight Recorder event recorded for every image the
+ * {@link ResourceManager} decodes or produces for its cache.
+ *
+ * @author      Jay Bava <jbava@uwo.ca>
+ * @version     1.9                 (current version number of program)
+ * @since       1.9                 (the version of the package this class was first added to)
+ */
+@Name("Backend.ImageDecode")
+@Label("Image Decode")
+@Category({"PetGame", "UI"})
+@Description("Decoding an image resource or producing a composited image")
+@StackTrace(false)
+public class ImageDecodeEvent extends Event {
+
+    @Label("Image")
+    @Description("The cache key of the image")
+    String image;
+
+    @Label("Width")
+    int width;
+
+    @Label("Height")
+    int height;
+}
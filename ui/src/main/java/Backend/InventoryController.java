@@ -1,9 +1,6 @@
 package Backend;
 
 import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
-import javafx.scene.Parent;
-import javafx.scene.Scene;
 import javafx.scene.control.Button;
 import javafx.scene.control.ContentDisplay;
 import javafx.scene.control.Label;
@@ -12,13 +9,11 @@ import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.stage.Stage;
 
-import java.util.Arrays;
-
 /**
  * Controller for managing the inventory screen of the pet management application.
  * Handles pet data display, accessory equip functionality, and navigation between screens.
  */
-public class InventoryController implements UpdateListener {
+public class InventoryController implements UpdateListener, Routable {
 
     private Stage primaryStage;
     private PetManager petManager;
@@ -71,14 +66,14 @@ public class InventoryController implements UpdateListener {
 
         // Get the instance of PetManager and register the update listener
         petManager = PetManager.getInstance();
-        UpdateService.getInstance().addListener(this);
+        UpdateService.getInstance().addListener(this, petImage);
     }
 
     /**
      * Displays the pet's data (hunger, health, happiness, etc.) on the progress bars and labels.
      */
     private void displayPetData() {
-        String[] selectedPet = switch (pet) {
+        PetState selectedPet = switch (pet) {
             case 1 -> CSVDataStore.getInstance().getShrek();
             case 2 -> CSVDataStore.getInstance().getToothless();
             case 3 -> CSVDataStore.getInstance().getPuss();
@@ -86,19 +81,15 @@ public class InventoryController implements UpdateListener {
         };
 
         if (selectedPet != null) {
-            hungerBar.setProgress(Double.parseDouble(selectedPet[3]) / 100);
-            happinessBar.setProgress(Double.parseDouble(selectedPet[4]) / 100);
-            healthBar.setProgress(Double.parseDouble(selectedPet[8]) / 100);
-            sleepBar.setProgress(Double.parseDouble(selectedPet[6]) / 100);
-            experienceBar.setProgress(Double.parseDouble(selectedPet[7]) / 100);
-            levelLabel.setText(selectedPet[9]);
-            coinsLabel.setText(selectedPet[5]);
-
-            boolean[] accessories = new boolean[9]; // Array to store boolean values for accessories
-            for (int i = 0; i < accessories.length; i++) {
-                accessories[i] = "TRUE".equalsIgnoreCase(selectedPet[11 + i]);
-            }
-            System.out.println("Accessories Boolean Array: " + Arrays.toString(accessories));
+            hungerBar.setProgress(selectedPet.getHunger() / 100.0);
+            happinessBar.setProgress(selectedPet.getHappiness() / 100.0);
+            healthBar.setProgress(selectedPet.getHealth() / 100.0);
+            sleepBar.setProgress(selectedPet.getSleep() / 100.0);
+            experienceBar.setProgress(selectedPet.getExperience() / 100.0);
+            levelLabel.setText(String.valueOf(selectedPet.getLevel()));
+            coinsLabel.setText(String.valueOf(selectedPet.getCoins()));
+
+            System.out.println("Accessories Bitmask: " + Integer.toBinaryString(selectedPet.getAccessoryMask()));
         }
     }
 
@@ -121,13 +112,15 @@ public class InventoryController implements UpdateListener {
     }
 
     /**
-     * Equips an accessory to the pet and updates its happiness and data.
+     * Puts an accessory on the pet, or takes it off if it is already worn, and updates the pet's
+     * happiness and data. Only putting an accessory on makes the pet happier.
      *
      * @param accessory the name of the accessory to equip
      */
     private void equipAccessory(String accessory) {
-        petManager.equipAccessory(pet, accessory);
-        petManager.increaseHappiness(pet, petManager.getHappinessBonus(accessory));
+        if (petManager.equipAccessory(pet, accessory)) {
+            petManager.increaseHappiness(pet, petManager.getHappinessBonus(accessory));
+        }
         displayPetData();
     }
 
@@ -140,7 +133,7 @@ public class InventoryController implements UpdateListener {
      * @param parentalInfo additional information
      */
     @Override
-    public void onUpdate(String[] toothlessData, String[] shrekData, String[] pussData, boolean[] parentalInfo) {
+    public void onUpdate(PetState toothlessData, PetState shrekData, PetState pussData, boolean[] parentalInfo) {
         displayPetData();
         updateAccessoryButtons();
         petManager.setPetImage(pet, petImage);
@@ -198,23 +191,7 @@ public class InventoryController implements UpdateListener {
      */
     @FXML
     private void back() {
-        try {
-            // Load the New Game FXML
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("/Scenes/GameplayScreen.fxml"));
-            Parent newGameRoot = loader.load();
-
-            Scene newGameScene = new Scene(newGameRoot);
-            newGameScene.getStylesheets().add(getClass().getResource("/Scenes/style.css").toExternalForm());
-
-            GameplayScreenController controller = loader.getController();
-            controller.setPrimaryStage(primaryStage);
-            controller.setPet(pet);
-
-            primaryStage.setScene(newGameScene);
-            primaryStage.show();
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
+        NavigationRouter.getInstance().navigate(primaryStage, "/Scenes/GameplayScreen.fxml", pet);
     }
 
     /**
@@ -222,22 +199,6 @@ public class InventoryController implements UpdateListener {
      */
     @FXML
     private void shop() {
-        try {
-            // Load the Shop FXML
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("/Scenes/Shop.fxml"));
-            Parent newGameRoot = loader.load();
-
-            Scene newGameScene = new Scene(newGameRoot);
-            newGameScene.getStylesheets().add(getClass().getResource("/Scenes/style.css").toExternalForm());
-
-            ShopController controller = loader.getController();
-            controller.setPrimaryStage(primaryStage);
-            controller.setPet(pet);
-
-            primaryStage.setScene(newGameScene);
-            primaryStage.show();
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
+        NavigationRouter.getInstance().navigate(primaryStage, "/Scenes/Shop.fxml", pet);
     }
 }
@@ -0,0 +1,34 @@
+package Backend;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * The `ListenerFanOutEvent` class is a JDK Flight Recorder event recorded for every pulse of the
+ * {@link UpdateService} that delivers changes to the screens.
+ *
+ * @author      Jay Bava <jbava@uwo.ca>
+ * @version     1.9                 (current version number of program)
+ * @since       1.9                 (the version of the package this class was first added to)
+ */
+@Name("Backend.ListenerFanOut")
+@Label("Listener Fan-Out")
+@Category({"PetGame", "UI"})
+@Description("Delivering data changes to the update listeners on the JavaFX application thread")
+@StackTrace(false)
+public class ListenerFanOutEvent extends Event {
+
+    @Label("Listeners")
+    @Description("Number of listeners called")
+    int listeners;
+
+    @Label("Queue Delay")
+    @Description("Time from the first change notification to the start of the pulse")
+    @Timespan(Timespan.NANOSECONDS)
+    long queueDelay;
+}
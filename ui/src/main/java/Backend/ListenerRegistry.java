@@ -0,0 +1,238 @@
+package Backend;
+
+import javafx.application.Platform;
+import javafx.beans.value.ChangeListener;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.stage.Window;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * The `ListenerRegistry` class holds listeners without keeping dead screens alive.
+ *
+ * <p>Listeners are held through weak references, so a controller that nothing else references is
+ * dropped once it is garbage collected. A listener can also be bound to a node of its screen: while
+ * that node's scene is shown in a window the listener is held strongly, and as soon as the scene is
+ * removed from its window (for example when the stage switches to another scene) the listener is
+ * deregistered. A bound listener whose scene has not been shown yet, such as a prewarmed screen, is
+ * kept but left out of {@link #snapshot()}. This keeps the fan-out of notifications limited to the
+ * screens that are showing.
+ *
+ * @param <T> the listener type
+ *
+ * @author      Jay Bava <jbava@uwo.ca>
+ * @version     1.9                 (current version number of program)
+ * @since       1.9                 (the version of the package this class was first added to)
+ */
+public class ListenerRegistry<T> {
+
+    /** A registered listener. */
+    private final class Entry {
+        final WeakReference<T> listener;
+
+        /** Strong reference held while the owner's scene is showing, so the listener is not collected. */
+        T pinned;
+
+        /** Whether the listener is bound to a node and only notified while the node's scene is shown. */
+        final boolean bound;
+
+        /** Removes the scene and window listeners installed for a node-bound entry, or null. */
+        Runnable detach;
+
+        Entry(T listener, boolean bound) {
+            this.listener = new WeakReference<>(listener);
+            this.bound = bound;
+        }
+    }
+
+    /** Registered listeners in registration order. */
+    private final List<Entry> entries = new ArrayList<>();
+
+    /**
+     * Registers a listener that stays registered until it is removed or garbage collected.
+     *
+     * @param listener the listener
+     */
+    public synchronized void add(T listener) {
+        entries.add(new Entry(listener, false));
+    }
+
+    /**
+     * Registers a listener bound to the lifecycle of a node. The listener is only notified while the
+     * node's scene is shown in a window, and is deregistered when the scene leaves that window. May be
+     * called off the JavaFX application thread while the node is not yet part of a scene.
+     *
+     * @param listener the listener
+     * @param owner    a node of the listener's screen
+     */
+    public void add(T listener, Node owner) {
+        Entry entry = new Entry(listener, true);
+        synchronized (this) {
+            entries.add(entry);
+        }
+
+        ChangeListener<Window> windowListener = (observable, oldWindow, newWindow) -> {
+            if (newWindow != null) {
+                pin(entry);
+            } else if (oldWindow != null) {
+                remove(entry);
+            }
+        };
+        ChangeListener<Scene> sceneListener = (observable, oldScene, newScene) -> {
+            if (oldScene != null) {
+                oldScene.windowProperty().removeListener(windowListener);
+                if (oldScene.getWindow() != null) {
+                    remove(entry); // The node itself was taken out of a showing scene
+                }
+            }
+            if (newScene != null) {
+                newScene.windowProperty().addListener(windowListener);
+                if (newScene.getWindow() != null) {
+                    pin(entry);
+                }
+            }
+        };
+        owner.sceneProperty().addListener(sceneListener);
+        sceneListener.changed(owner.sceneProperty(), null, owner.getScene());
+
+        // Cached screens are shown again later, so their property listeners must not pile up
+        entry.detach = () -> {
+            owner.sceneProperty().removeListener(sceneListener);
+            Scene scene = owner.getScene();
+            if (scene != null) {
+                scene.windowProperty().removeListener(windowListener);
+            }
+        };
+    }
+
+    /**
+     * Releases an entry that has been taken out of the registry.
+     *
+     * @param entry the removed entry
+     */
+    private static void release(ListenerRegistry<?>.Entry entry) {
+        entry.pinned = null;
+        Runnable detach = entry.detach;
+        entry.detach = null;
+        if (detach == null) {
+            return;
+        }
+        if (Platform.isFxApplicationThread()) {
+            detach.run();
+        } else {
+            Platform.runLater(detach);
+        }
+    }
+
+    /**
+     * Holds a listener strongly while its screen is showing.
+     *
+     * @param entry the listener's entry
+     */
+    private synchronized void pin(Entry entry) {
+        if (entries.contains(entry)) {
+            entry.pinned = entry.listener.get();
+        }
+    }
+
+    /**
+     * Deregisters an entry.
+     *
+     * @param entry the entry to remove
+     */
+    private synchronized void remove(Entry entry) {
+        if (entries.remove(entry)) {
+            release(entry);
+        }
+    }
+
+    /**
+     * Removes a listener.
+     *
+     * @param listener the listener to remove
+     * @return true if the listener was registered
+     */
+    public boolean remove(T listener) {
+        return removeIf(registered -> registered == listener);
+    }
+
+    /**
+     * Removes every listener matching a condition.
+     *
+     * @param condition the condition
+     * @return true if any listener was removed
+     */
+    public synchronized boolean removeIf(Predicate<? super T> condition) {
+        boolean removed = false;
+        for (Iterator<Entry> it = entries.iterator(); it.hasNext(); ) {
+            Entry entry = it.next();
+            T listener = entry.listener.get();
+            if (listener == null || condition.test(listener)) {
+                it.remove();
+                release(entry);
+                removed |= listener != null;
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Removes every listener.
+     */
+    public synchronized void clear() {
+        for (Entry entry : entries) {
+            release(entry);
+        }
+        entries.clear();
+    }
+
+    /**
+     * Retrieves the live listeners to notify, dropping any that were garbage collected and skipping
+     * bound listeners whose screen is not shown yet.
+     *
+     * @return a copy of the live listeners in registration order
+     */
+    public synchronized List<T> snapshot() {
+        List<T> live = new ArrayList<>(entries.size());
+        for (Iterator<Entry> it = entries.iterator(); it.hasNext(); ) {
+            Entry entry = it.next();
+            T listener = entry.listener.get();
+            if (listener == null) {
+                it.remove();
+            } else if (!entry.bound || entry.pinned != null) {
+                live.add(listener);
+            }
+        }
+        return live;
+    }
+
+    /**
+     * Checks whether a listener is registered, whether or not its screen is shown.
+     *
+     * @param listener the listener
+     * @return true if the listener is registered
+     */
+    public synchronized boolean contains(T listener) {
+        for (Entry entry : entries) {
+            if (entry.listener.get() == listener) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Counts the live listeners, dropping any that were garbage collected.
+     *
+     * @return the number of live listeners
+     */
+    public synchronized int size() {
+        entries.removeIf(entry -> entry.listener.get() == null);
+        return entries.size();
+    }
+}
@@ -1,10 +1,6 @@
 package Backend;
 
-import javafx.application.Platform;
 import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
-import javafx.scene.Parent;
-import javafx.scene.Scene;
 import javafx.scene.control.Button;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
@@ -26,7 +22,7 @@ import java.util.Objects;
  * This class handles the interaction for selecting a pet to load from the saved game data,
  * disabling buttons based on availability, and navigating to the gameplay screen.
  */
-public class LoadGameController {
+public class LoadGameController implements Routable {
 
     private Stage primaryStage;
     @FXML
@@ -48,31 +44,15 @@ public class LoadGameController {
     }
 
     /**
-     * Initializes the load game screen, disabling pet selection buttons based on
-     * saved game data from CSVDataStore.
-     * Also sets up the key press event to return to the main menu on pressing ESC.
+     * Initializes the load game screen by setting up the key press event to return to the
+     * main menu on pressing ESC.
      */
     @FXML
     public void initialize() {
-        // Access data from CSVDataStore
-        String[] toothless = CSVDataStore.getInstance().getToothless();
-        String[] shrek = CSVDataStore.getInstance().getShrek();
-        String[] puss = CSVDataStore.getInstance().getPuss();
-
-        // Disable buttons if corresponding pet data is unavailable
-        if (!"TRUE".equals(toothless[0])) {
-            toothlessButton.setDisable(true);
-        }
-        if (!"TRUE".equals(shrek[0])) {
-            shrekButton.setDisable(true);
-        }
-        if (!"TRUE".equals(puss[0])) {
-            pussButton.setDisable(true);
-        }
-
-        // Add ESC key listener to return to the main menu
-        Platform.runLater(() -> {
-            background.getScene().addEventHandler(KeyEvent.KEY_PRESSED, event -> {
+        // Add ESC key listener to return to the main menu once the screen has a scene
+        background.sceneProperty().addListener((observable, oldScene, newScene) -> {
+            if (newScene == null) return;
+            newScene.addEventHandler(KeyEvent.KEY_PRESSED, event -> {
                 if (event.getCode() == KeyCode.ESCAPE) {
                     goToMainMenu();
                 }
@@ -81,24 +61,27 @@ public class LoadGameController {
     }
 
     /**
-     * Navigates to the main menu screen.
+     * Disables the pet selection buttons based on saved game data from CSVDataStore each time
+     * the screen is shown, since the screen may have been prewarmed before a game was saved.
      */
-    private void goToMainMenu() {
-        try {
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("/Scenes/MainMenu.fxml"));
-            Parent mainMenuRoot = loader.load();
-
-            Scene mainMenuScene = new Scene(mainMenuRoot);
-            mainMenuScene.getStylesheets().add(getClass().getResource("/Scenes/style.css").toExternalForm());
+    @Override
+    public void reset() {
+        // Access data from CSVDataStore
+        PetState toothless = CSVDataStore.getInstance().getToothless();
+        PetState shrek = CSVDataStore.getInstance().getShrek();
+        PetState puss = CSVDataStore.getInstance().getPuss();
 
-            MainMenuController controller = loader.getController();
-            controller.setPrimaryStage(primaryStage);
+        // Disable buttons if corresponding pet data is unavailable
+        toothlessButton.setDisable(!toothless.isSaved());
+        shrekButton.setDisable(!shrek.isSaved());
+        pussButton.setDisable(!puss.isSaved());
+    }
 
-            primaryStage.setScene(mainMenuScene);
-            primaryStage.show();
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
+    /**
+     * Navigates to the main menu screen.
+     */
+    private void goToMainMenu() {
+        NavigationRouter.getInstance().navigate(primaryStage, "/Scenes/MainMenu.fxml");
     }
 
     /**
@@ -134,23 +117,7 @@ public class LoadGameController {
      * @param petId The ID of the selected pet to load.
      */
     private void loadGameplayScreen(int petId) {
-        try {
-            // Load the GameplayScreen FXML
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("/Scenes/GameplayScreen.fxml"));
-            Parent newGameRoot = loader.load();
-
-            Scene newGameScene = new Scene(newGameRoot);
-            newGameScene.getStylesheets().add(getClass().getResource("/Scenes/style.css").toExternalForm());
-
-            GameplayScreenController controller = loader.getController();
-            controller.setPrimaryStage(primaryStage);
-            controller.setPet(petId);
-
-            primaryStage.setScene(newGameScene);
-            primaryStage.show();
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
+        NavigationRouter.getInstance().navigate(primaryStage, "/Scenes/GameplayScreen.fxml", petId);
     }
 }
 
@@ -11,9 +11,6 @@ package Backend;
 
 import javafx.application.Platform;
 import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
-import javafx.scene.Parent;
-import javafx.scene.Scene;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.AnchorPane;
@@ -21,7 +18,7 @@ import javafx.stage.Stage;
 
 import java.time.LocalTime;
 
-public class MainMenuController {
+public class MainMenuController implements Routable {
 
     /** The start time when the game is allowed to be played. */
     private int startTime;
@@ -71,6 +68,7 @@ public class MainMenuController {
      */
     @FXML
     private void closeProgram() {
+        PersistenceService.getInstance().shutdown(); // Write any unsaved pet changes
         Platform.exit();  // Gracefully exits the application
         System.exit(0);   // Ensures the JVM terminates
     }
@@ -101,25 +99,11 @@ public class MainMenuController {
      */
     @FXML
     private void handleNewGame() {
-        String[] shrek = CSVDataStore.getInstance().getShrek();
-        if (" ".equals(shrek[1])) {
+        PetState shrek = CSVDataStore.getInstance().getShrek();
+        if (" ".equals(shrek.getPin())) {
             loadParentalControls();
         }
-        try {
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("/Scenes/NewGame.fxml"));
-            Parent newGameRoot = loader.load();
-
-            Scene newGameScene = new Scene(newGameRoot);
-            newGameScene.getStylesheets().add(getClass().getResource("/Scenes/style.css").toExternalForm());
-
-            NewGameController newGameController = loader.getController();
-            newGameController.setPrimaryStage(primaryStage);
-
-            primaryStage.setScene(newGameScene);
-            primaryStage.show();
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
+        NavigationRouter.getInstance().navigate(primaryStage, "/Scenes/NewGame.fxml");
         if (!isAllowedToPlay()) {
             loadCantPlayScreen();
         }
@@ -131,21 +115,7 @@ public class MainMenuController {
      */
     @FXML
     private void handleLoadGame() {
-        try {
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("/Scenes/LoadGame.fxml"));
-            Parent newGameRoot = loader.load();
-
-            Scene newGameScene = new Scene(newGameRoot);
-            newGameScene.getStylesheets().add(getClass().getResource("/Scenes/style.css").toExternalForm());
-
-            LoadGameController controller = loader.getController();
-            controller.setPrimaryStage(primaryStage);
-
-            primaryStage.setScene(newGameScene);
-            primaryStage.show();
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
+        NavigationRouter.getInstance().navigate(primaryStage, "/Scenes/LoadGame.fxml");
         if (!isAllowedToPlay()) {
             loadCantPlayScreen();
         }
@@ -157,43 +127,15 @@ public class MainMenuController {
     @FXML
     private void loadParentalControls() {
         CSVController.readParentalInfo();
-        try {
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("/Scenes/ParentalSettings.fxml"));
-            Parent newGameRoot = loader.load();
-
-            Scene newGameScene = new Scene(newGameRoot);
-            newGameScene.getStylesheets().add(getClass().getResource("/Scenes/style.css").toExternalForm());
-
-            ParentalSettingController controller = loader.getController();
-            controller.setPrimaryStage(primaryStage);
-            controller.loadParentalInfo();
-
-            primaryStage.setScene(newGameScene);
-            primaryStage.show();
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
+        NavigationRouter.getInstance().navigate(primaryStage, "/Scenes/ParentalSettings.fxml", NavigationRouter.NO_PET,
+                ParentalSettingController::loadParentalInfo);
     }
 
     /**
      * Loads the screen notifying the player they cannot play due to restrictions.
      */
     private void loadCantPlayScreen() {
-        try {
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("/Scenes/CantPlayScreen.fxml"));
-            Parent cantPlayRoot = loader.load();
-
-            Scene cantPlayScene = new Scene(cantPlayRoot);
-            cantPlayScene.getStylesheets().add(getClass().getResource("/Scenes/style.css").toExternalForm());
-
-            CantPlayController controller = loader.getController();
-            controller.setPrimaryStage(primaryStage);
-
-            primaryStage.setScene(cantPlayScene);
-            primaryStage.show();
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
+        NavigationRouter.getInstance().navigate(primaryStage, "/Scenes/CantPlayScreen.fxml");
     }
 
     /**
@@ -201,20 +143,6 @@ public class MainMenuController {
      */
     @FXML
     private void inputScreen() {
-        try {
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("/Scenes/ParentalControlsInput2.fxml"));
-            Parent inputRoot = loader.load();
-
-            Scene inputScene = new Scene(inputRoot);
-            inputScene.getStylesheets().add(getClass().getResource("/Scenes/style.css").toExternalForm());
-
-            ParentalControlsController2 controller = loader.getController();
-            controller.setPrimaryStage(primaryStage);
-
-            primaryStage.setScene(inputScene);
-            primaryStage.show();
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
+        NavigationRouter.getInstance().navigate(primaryStage, "/Scenes/ParentalControlsInput2.fxml");
     }
 }
@@ -1,9 +1,6 @@
 package Backend;
 
 import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
-import javafx.scene.Parent;
-import javafx.scene.Scene;
 import javafx.scene.control.*;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
@@ -18,7 +15,7 @@ import javafx.stage.Stage;
  * @version     1.9
  * @since       1.4
  */
-public class MinigameController implements UpdateListener {
+public class MinigameController implements UpdateListener, Routable {
 
     /** The primary stage of the application, used for screen transitions. */
     private Stage primaryStage;
@@ -90,7 +87,7 @@ public class MinigameController implements UpdateListener {
      * experience, level, and coins.
      */
     private void displayPetData() {
-        String[] selectedPet = switch (pet) {
+        PetState selectedPet = switch (pet) {
             case 1 -> CSVDataStore.getInstance().getShrek();
             case 2 -> CSVDataStore.getInstance().getToothless();
             case 3 -> CSVDataStore.getInstance().getPuss();
@@ -98,14 +95,14 @@ public class MinigameController implements UpdateListener {
         };
 
         if (selectedPet != null) {
-            hungerBar.setProgress(Double.parseDouble(selectedPet[3]) / 100);
-            sleepBar.setProgress(Double.parseDouble(selectedPet[6]) / 100);
-            healthBar.setProgress(Double.parseDouble(selectedPet[8]) / 100);
-            happinessBar.setProgress(Double.parseDouble(selectedPet[4]) / 100);
-            experienceBar.setProgress(Double.parseDouble(selectedPet[7]) / 100);
-
-            levelLabel.setText(selectedPet[9]);
-            coinsLabel.setText(selectedPet[5]);
+            hungerBar.setProgress(selectedPet.getHunger() / 100.0);
+            sleepBar.setProgress(selectedPet.getSleep() / 100.0);
+            healthBar.setProgress(selectedPet.getHealth() / 100.0);
+            happinessBar.setProgress(selectedPet.getHappiness() / 100.0);
+            experienceBar.setProgress(selectedPet.getExperience() / 100.0);
+
+            levelLabel.setText(String.valueOf(selectedPet.getLevel()));
+            coinsLabel.setText(String.valueOf(selectedPet.getCoins()));
         }
     }
 
@@ -119,7 +116,7 @@ public class MinigameController implements UpdateListener {
      * @param parentalInfo  boolean array representing parental control settings
      */
     @Override
-    public void onUpdate(String[] toothlessData, String[] shrekData, String[] pussData, boolean[] parentalInfo) {
+    public void onUpdate(PetState toothlessData, PetState shrekData, PetState pussData, boolean[] parentalInfo) {
         System.out.println("onUpdate called");
         displayPetData();
         if (parentalInfo != null) {
@@ -130,8 +127,8 @@ public class MinigameController implements UpdateListener {
     }
 
     /**
-     * Initializes the controller. Sets up the shop button icon, reads parental control settings,
-     * and adds this controller as a listener to the `UpdateService`.
+     * Initializes the controller. Sets up the shop button icon and adds this controller as a
+     * listener to the `UpdateService`. The parental control settings are read by {@link #reset()}.
      */
     @FXML
     public void initialize() {
@@ -142,17 +139,24 @@ public class MinigameController implements UpdateListener {
         shopButton.setGraphic(shopIcon);
         shopButton.setContentDisplay(ContentDisplay.TOP);
 
-        // Load parental info and initialize buttons
-        CSVController.readParentalInfo();
         petManager = PetManager.getInstance();
 
+        // Add this controller as a listener
+        UpdateService.getInstance().addListener(this, petImage);
+    }
+
+    /**
+     * Reads the parental control settings and enables the allowed minigames each time the screen
+     * is shown, since the screen may have been prewarmed before the settings were changed.
+     */
+    @Override
+    public void reset() {
+        CSVController.readParentalInfo();
+
         boolean[] parentalInfo = CSVDataStore.getInstance().getParentalInfo();
         mathButton.setDisable(!parentalInfo[0]);
         englishButton.setDisable(!parentalInfo[1]);
         geographyButton.setDisable(!parentalInfo[2]);
-
-        // Add this controller as a listener
-        UpdateService.getInstance().addListener(this);
     }
 
     /**
@@ -160,22 +164,7 @@ public class MinigameController implements UpdateListener {
      */
     @FXML
     private void back() {
-        try {
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("/Scenes/GameplayScreen.fxml"));
-            Parent newGameRoot = loader.load();
-
-            Scene newGameScene = new Scene(newGameRoot);
-            newGameScene.getStylesheets().add(getClass().getResource("/Scenes/style.css").toExternalForm());
-
-            GameplayScreenController controller = loader.getController();
-            controller.setPrimaryStage(primaryStage);
-            controller.setPet(pet);
-
-            primaryStage.setScene(newGameScene);
-            primaryStage.show();
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
+        NavigationRouter.getInstance().navigate(primaryStage, "/Scenes/GameplayScreen.fxml", pet);
     }
 
     /**
@@ -183,22 +172,7 @@ public class MinigameController implements UpdateListener {
      */
     @FXML
     private void shop() {
-        try {
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("/Scenes/Shop.fxml"));
-            Parent newGameRoot = loader.load();
-
-            Scene newGameScene = new Scene(newGameRoot);
-            newGameScene.getStylesheets().add(getClass().getResource("/Scenes/style.css").toExternalForm());
-
-            ShopController controller = loader.getController();
-            controller.setPrimaryStage(primaryStage);
-            controller.setPet(pet);
-
-            primaryStage.setScene(newGameScene);
-            primaryStage.show();
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
+        NavigationRouter.getInstance().navigate(primaryStage, "/Scenes/Shop.fxml", pet);
     }
 
     /**
@@ -231,23 +205,10 @@ public class MinigameController implements UpdateListener {
      * @param category the category of the minigame (0 for math, 1 for English, 2 for geography)
      */
     private void navigateToMinigame(int category) {
-        try {
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("/Scenes/MinigameQuestion.fxml"));
-            Parent newGameRoot = loader.load();
-
-            Scene newGameScene = new Scene(newGameRoot);
-            newGameScene.getStylesheets().add(getClass().getResource("/Scenes/style.css").toExternalForm());
-
-            MinigameQuestionController controller = loader.getController();
-            controller.setPrimaryStage(primaryStage);
-            controller.setPet(pet);
-            controller.setCategory(category);
-            controller.loadQuestion();
-
-            primaryStage.setScene(newGameScene);
-            primaryStage.show();
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
+        NavigationRouter.getInstance().navigate(primaryStage, "/Scenes/MinigameQuestion.fxml", pet,
+                (MinigameQuestionController controller) -> {
+                    controller.setCategory(category);
+                    controller.loadQuestion();
+                });
     }
 }
\ No newline at end of file
@@ -0,0 +1,182 @@
+package Backend;
+
+import javafx.fxml.FXML;
+import javafx.scene.control.*;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.stage.Stage;
+
+/**
+ * The `MinigameCorrectController` class manages the UI and logic for the
+ * "correct answer" screen in the minigame. It handles updating the selected pet's
+ * stats (experience, level, and coins) based on the rewards for answering correctly.
+ *
+ * @author      Naween Sarwari <nsarwari@uwo.ca>
+ * @version     1.9
+ * @since       1.4
+ */
+public class MinigameCorrectController implements UpdateListener, Routable {
+
+    /** The primary stage of the application, used for screen transitions. */
+    private Stage primaryStage;
+
+    /** The ID of the selected pet. */
+    private int pet;
+
+    /** Manager for handling pet-related functionality, such as setting images. */
+    private PetManager petManager;
+
+    /** The question data for the correct answer, including rewards. */
+    private Question randomQuestion;
+
+    @FXML
+    private ImageView petImage;
+
+    @FXML
+    private ProgressBar hungerBar;
+
+    @FXML
+    private ProgressBar sleepBar;
+
+    @FXML
+    private ProgressBar healthBar;
+
+    @FXML
+    private ProgressBar happinessBar;
+
+    @FXML
+    private ProgressBar experienceBar;
+
+    @FXML
+    private Label levelLabel;
+
+    @FXML
+    private Label coinsLabel;
+
+    @FXML
+    private Label correctBox;
+
+    @FXML
+    private Button shopButton;
+
+    /**
+     * Sets the primary stage for this controller.
+     *
+     * @param primaryStage the primary stage of the application
+     */
+    public void setPrimaryStage(Stage primaryStage) {
+        this.primaryStage = primaryStage;
+    }
+
+    /**
+     * Sets the selected pet and updates the displayed image.
+     *
+     * @param pet the ID of the selected pet (1 for Shrek, 2 for Toothless, 3 for Puss)
+     */
+    public void setPet(int pet) {
+        this.pet = pet;
+        petManager.setPetImage(pet, petImage);
+    }
+
+    /**
+     * Sets the question and processes the rewards (experience and coins) for the correct answer.
+     *
+     * @param randomQuestion the answered question, including its reward information
+     */
+    public void setRandomQuestion(Question randomQuestion) {
+        this.randomQuestion = randomQuestion;
+
+        // Extract experience and coins rewards from the question
+        int experienceReward = randomQuestion.experience();
+        int coinsReward = randomQuestion.coins();
+
+        // Update experience, level and coins, then refresh the UI to reflect them
+        if (PetCare.getInstance().getPetData(pet) != null) {
+            PetCare.getInstance().rewardAnswer(pet, randomQuestion);
+            displayPetData();
+        }
+
+        // Display feedback to the user
+        correctBox.setWrapText(true);
+        correctBox.setText(("Congrats you got it right! You got awarded " + experienceReward +
+                " experience and " + coinsReward + " coins").toUpperCase());
+    }
+
+    /**
+     * Displays the stats of the selected pet, including hunger, sleep, health, happiness,
+     * experience, level, and coins.
+     */
+    private void displayPetData() {
+        PetState selectedPet = switch (pet) {
+            case 1 -> CSVDataStore.getInstance().getShrek();
+            case 2 -> CSVDataStore.getInstance().getToothless();
+            case 3 -> CSVDataStore.getInstance().getPuss();
+            default -> null;
+        };
+
+        if (selectedPet != null) {
+            hungerBar.setProgress(selectedPet.getHunger() / 100.0);
+            happinessBar.setProgress(selectedPet.getHappiness() / 100.0);
+            healthBar.setProgress(selectedPet.getHealth() / 100.0);
+            sleepBar.setProgress(selectedPet.getSleep() / 100.0);
+            experienceBar.setProgress(selectedPet.getExperience() / 100.0);
+            levelLabel.setText(String.valueOf(selectedPet.getLevel()));
+            coinsLabel.setText(String.valueOf(selectedPet.getCoins()));
+        }
+    }
+
+    /**
+     * Handles updates to pet data.
+     * Updates the displayed stats when notified of changes.
+     *
+     * @param toothlessData data for Toothless
+     * @param shrekData     data for Shrek
+     * @param pussData      data for Puss
+     * @param parentalInfo  boolean array representing parental control settings
+     */
+    @Override
+    public void onUpdate(PetState toothlessData, PetState shrekData, PetState pussData, boolean[] parentalInfo) {
+        displayPetData();
+    }
+
+    /**
+     * Initializes the controller, including setting up the shop button icon
+     * and adding this controller as a listener to the `UpdateService`.
+     */
+    @FXML
+    public void initialize() {
+        // Create an ImageView for the shop icon
+        ImageView shopIcon = new ImageView(new Image(getClass().getResourceAsStream("/Scenes/images/storeIcon.png")));
+        shopIcon.setFitWidth(32);  // Set icon width
+        shopIcon.setFitHeight(32); // Set icon height
+        shopButton.setGraphic(shopIcon);
+        shopButton.setContentDisplay(ContentDisplay.TOP);
+
+        petManager = PetManager.getInstance();
+        UpdateService.getInstance().addListener(this, petImage);
+    }
+
+    /**
+     * Navigates back to the Gameplay screen.
+     */
+    @FXML
+    private void back() {
+        NavigationRouter.getInstance().navigate(primaryStage, "/Scenes/GameplayScreen.fxml", pet);
+    }
+
+    /**
+     * Navigates to the Shop screen.
+     */
+    @FXML
+    private void shop() {
+        NavigationRouter.getInstance().navigate(primaryStage, "/Scenes/Shop.fxml", pet);
+    }
+
+    /**
+     * Navigates to a new question in the minigame.
+     */
+    @FXML
+    private void newQuestion() {
+        NavigationRouter.getInstance().navigate(primaryStage, "/Scenes/Minigame.fxml", pet);
+    }
+}
@@ -1,9 +1,6 @@
 package Backend;
 
 import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
-import javafx.scene.Parent;
-import javafx.scene.Scene;
 import javafx.scene.control.*;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
@@ -19,7 +16,7 @@ import javafx.stage.Stage;
  * @version     1.9
  * @since       1.4
  */
-public class MinigameIncorrectController implements UpdateListener {
+public class MinigameIncorrectController implements UpdateListener, Routable {
 
     /** The primary stage of the application, used for screen transitions. */
     private Stage primaryStage;
@@ -31,7 +28,7 @@ public class MinigameIncorrectController implements UpdateListener {
     private PetManager petManager;
 
     /** The question data, including options and hints. */
-    private String[] randomQuestion;
+    private Question randomQuestion;
 
     @FXML
     private ImageView petImage;
@@ -96,7 +93,7 @@ public class MinigameIncorrectController implements UpdateListener {
      * happiness, experience, level, and coins.
      */
     private void displayPetData() {
-        String[] selectedPet = switch (pet) {
+        PetState selectedPet = switch (pet) {
             case 1 -> CSVDataStore.getInstance().getShrek();
             case 2 -> CSVDataStore.getInstance().getToothless();
             case 3 -> CSVDataStore.getInstance().getPuss();
@@ -104,13 +101,13 @@ public class MinigameIncorrectController implements UpdateListener {
         };
 
         if (selectedPet != null) {
-            hungerBar.setProgress(Double.parseDouble(selectedPet[3]) / 100);
-            happinessBar.setProgress(Double.parseDouble(selectedPet[4]) / 100);
-            healthBar.setProgress(Double.parseDouble(selectedPet[8]) / 100);
-            sleepBar.setProgress(Double.parseDouble(selectedPet[6]) / 100);
-            experienceBar.setProgress(Double.parseDouble(selectedPet[7]) / 100);
-            levelLabel.setText(selectedPet[9]);
-            coinsLabel.setText(selectedPet[5]);
+            hungerBar.setProgress(selectedPet.getHunger() / 100.0);
+            happinessBar.setProgress(selectedPet.getHappiness() / 100.0);
+            healthBar.setProgress(selectedPet.getHealth() / 100.0);
+            sleepBar.setProgress(selectedPet.getSleep() / 100.0);
+            experienceBar.setProgress(selectedPet.getExperience() / 100.0);
+            levelLabel.setText(String.valueOf(selectedPet.getLevel()));
+            coinsLabel.setText(String.valueOf(selectedPet.getCoins()));
         }
     }
 
@@ -123,24 +120,24 @@ public class MinigameIncorrectController implements UpdateListener {
      * @param parentalInfo  boolean array representing parental control settings
      */
     @Override
-    public void onUpdate(String[] toothlessData, String[] shrekData, String[] pussData, boolean[] parentalInfo) {
+    public void onUpdate(PetState toothlessData, PetState shrekData, PetState pussData, boolean[] parentalInfo) {
         displayPetData();
     }
 
     /**
      * Sets the current question and updates the UI with the hint and answer options.
      *
-     * @param randomQuestion the question data, including the hint and possible answers
+     * @param randomQuestion the question, including the hint and possible answers
      */
-    public void setRandomQuestion(String[] randomQuestion) {
+    public void setRandomQuestion(Question randomQuestion) {
         this.randomQuestion = randomQuestion;
 
         hintLabel.setWrapText(true);
-        hintLabel.setText(randomQuestion[2]); // Display the hint
+        hintLabel.setText(randomQuestion.hint()); // Display the hint
 
-        option1.setText(randomQuestion[3]);
-        option2.setText(randomQuestion[4]);
-        option3.setText(randomQuestion[5]);
+        option1.setText(randomQuestion.answer());
+        option2.setText(randomQuestion.wrongOption1());
+        option3.setText(randomQuestion.wrongOption2());
     }
 
     /**
@@ -163,7 +160,7 @@ public class MinigameIncorrectController implements UpdateListener {
         option2.setOnAction(event -> handleAnswer(option2.getText()));
         option3.setOnAction(event -> handleAnswer(option3.getText()));
 
-        UpdateService.getInstance().addListener(this);
+        UpdateService.getInstance().addListener(this, petImage);
     }
 
     /**
@@ -171,22 +168,7 @@ public class MinigameIncorrectController implements UpdateListener {
      */
     @FXML
     private void shop() {
-        try {
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("/Scenes/Shop.fxml"));
-            Parent newGameRoot = loader.load();
-
-            Scene newGameScene = new Scene(newGameRoot);
-            newGameScene.getStylesheets().add(getClass().getResource("/Scenes/style.css").toExternalForm());
-
-            ShopController controller = loader.getController();
-            controller.setPrimaryStage(primaryStage);
-            controller.setPet(pet);
-
-            primaryStage.setScene(newGameScene);
-            primaryStage.show();
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
+        NavigationRouter.getInstance().navigate(primaryStage, "/Scenes/Shop.fxml", pet);
     }
 
     /**
@@ -196,43 +178,13 @@ public class MinigameIncorrectController implements UpdateListener {
      * @param selectedAnswer the answer chosen by the user
      */
     private void handleAnswer(String selectedAnswer) {
-        String correctAnswer = randomQuestion[3]; // Assume the first option is the correct answer
+        String correctAnswer = randomQuestion.answer(); // Assume the first option is the correct answer
         if (selectedAnswer.equals(correctAnswer)) {
-            try {
-                FXMLLoader loader = new FXMLLoader(getClass().getResource("/Scenes/MinigameCorrectScreen.fxml"));
-                Parent newGameRoot = loader.load();
-
-                Scene newGameScene = new Scene(newGameRoot);
-                newGameScene.getStylesheets().add(getClass().getResource("/Scenes/style.css").toExternalForm());
-
-                MinigameCorrectController controller = loader.getController();
-                controller.setPrimaryStage(primaryStage);
-                controller.setPet(pet);
-                controller.setRandomQuestion(randomQuestion);
-
-                primaryStage.setScene(newGameScene);
-                primaryStage.show();
-            } catch (Exception e) {
-                e.printStackTrace();
-            }
+            NavigationRouter.getInstance().navigate(primaryStage, "/Scenes/MinigameCorrectScreen.fxml", pet,
+                    (MinigameCorrectController controller) -> controller.setRandomQuestion(randomQuestion));
         } else {
-            try {
-                FXMLLoader loader = new FXMLLoader(getClass().getResource("/Scenes/MinigameIncorrect.fxml"));
-                Parent newGameRoot = loader.load();
-
-                Scene newGameScene = new Scene(newGameRoot);
-                newGameScene.getStylesheets().add(getClass().getResource("/Scenes/style.css").toExternalForm());
-
-                MinigameIncorrectController controller = loader.getController();
-                controller.setPrimaryStage(primaryStage);
-                controller.setPet(pet);
-                controller.setRandomQuestion(randomQuestion);
-
-                primaryStage.setScene(newGameScene);
-                primaryStage.show();
-            } catch (Exception e) {
-                e.printStackTrace();
-            }
+            NavigationRouter.getInstance().navigate(primaryStage, "/Scenes/MinigameIncorrect.fxml", pet,
+                    (MinigameIncorrectController controller) -> controller.setRandomQuestion(randomQuestion));
         }
     }
 }
@@ -0,0 +1,279 @@
+package Backend;
+
+import javafx.fxml.FXML;
+import javafx.scene.control.Button;
+import javafx.scene.control.ContentDisplay;
+import javafx.scene.control.Label;
+import javafx.scene.control.ProgressBar;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.stage.Stage;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * The `MinigameQuestionController` class manages the user interface and logic for
+ * presenting and validating questions in the minigame. It supports different
+ * question categories (Math, English, Geography) and adapts to parental control
+ * settings to filter questions by difficulty level.
+ *
+ * @author      Naween Sarwari <nsarwari@uwo.ca>
+ * @version     1.9
+ * @since       1.4
+ */
+public class MinigameQuestionController implements UpdateListener, Routable {
+
+    /** The primary stage of the application, used for screen transitions. */
+    private Stage primaryStage;
+
+    /** The currently selected pet ID. */
+    private int pet;
+
+    /** Manager for handling pet-related functionality, such as setting images. */
+    private PetManager petManager;
+
+    /** The category of the question (0 for Math, 1 for English, 2 for Geography). */
+    private int category;
+
+    /** The currently selected question. */
+    private Question randomQuestion;
+
+    /** Duration of picking a question that the parental controls allow. */
+    private static final LatencyHistogram SELECTION_LATENCY = MetricsRegistry.getInstance()
+            .histogram("question_selection_seconds", "Time taken to pick an allowed question");
+
+    /** Parental control settings for allowed difficulty levels. */
+    private boolean true2, true4, true6;
+
+    @FXML
+    private ImageView petImage;
+
+    @FXML
+    private ProgressBar hungerBar, sleepBar, healthBar, happinessBar, experienceBar;
+
+    @FXML
+    private Label levelLabel, coinsLabel, questionLabel;
+
+    @FXML
+    private Button shopButton, option1, option2, option3;
+
+    /** Correct and incorrect answer positions for displaying options randomly. */
+    private int correctAnswerPoition, wrongAnswerPoition1, wrongAnswerPoition2;
+
+    /**
+     * Sets the primary stage for this controller.
+     *
+     * @param primaryStage the primary stage of the application
+     */
+    public void setPrimaryStage(Stage primaryStage) {
+        this.primaryStage = primaryStage;
+    }
+
+    /**
+     * Sets the selected pet ID and updates the displayed image and stats.
+     *
+     * @param pet the ID of the selected pet (1 for Shrek, 2 for Toothless, 3 for Puss)
+     */
+    public void setPet(int pet) {
+        this.pet = pet;
+        petManager.setPetImage(pet, petImage);
+        displayPetData();
+    }
+
+    /**
+     * Sets the category for the question.
+     *
+     * @param category the category ID (0 for Math, 1 for English, 2 for Geography)
+     */
+    public void setCategory(int category) {
+        this.category = category;
+    }
+
+    /**
+     * Displays the current stats of the selected pet, including hunger, sleep, health,
+     * happiness, experience, level, and coins.
+     */
+    private void displayPetData(){
+        PetState selectedPet = switch (pet) {
+            case 1 -> CSVDataStore.getInstance().getShrek();
+            case 2 -> CSVDataStore.getInstance().getToothless();
+            case 3 -> CSVDataStore.getInstance().getPuss();
+            default -> null;
+        };
+
+        if (selectedPet != null) {
+            hungerBar.setProgress(selectedPet.getHunger() / 100.0);
+            happinessBar.setProgress(selectedPet.getHappiness() / 100.0);
+            healthBar.setProgress(selectedPet.getHealth() / 100.0);
+            sleepBar.setProgress(selectedPet.getSleep() / 100.0);
+            experienceBar.setProgress(selectedPet.getExperience() / 100.0);
+            levelLabel.setText(String.valueOf(selectedPet.getLevel()));
+            coinsLabel.setText(String.valueOf(selectedPet.getCoins()));
+        }
+    }
+    /**
+     * Updates the parental control settings to filter questions by difficulty level.
+     */
+    private void updateParentalInfo(){
+        boolean[] parentalInfo = CSVDataStore.getInstance().getParentalInfo();
+        if (parentalInfo != null) {
+            true2 = parentalInfo[3];
+            true4 = parentalInfo[4];
+            true6 = parentalInfo[5];
+        }
+    }
+    /**
+     * Called when the pet stats or parental info are updated. Refreshes the pet stats
+     * and parental control settings.
+     *
+     * @param toothlessData data for Toothless
+     * @param shrekData     data for Shrek
+     * @param pussData      data for Puss
+     * @param parentalInfo  boolean array representing parental control settings
+     */
+    @Override
+    public void onUpdate(PetState toothlessData, PetState shrekData, PetState pussData, boolean[] parentalInfo) {
+        System.out.println("onUpdate called in MinigameQuestionController");
+        displayPetData();
+        updateParentalInfo();
+    }
+    /**
+     * Initializes the controller, including setting up the shop button, loading
+     * parental info, and assigning actions to the answer buttons.
+     */
+    @FXML
+    public void initialize() {
+
+        // Create an ImageView for the icon
+        ImageView shopIcon = new ImageView(new Image(getClass().getResourceAsStream("/Scenes/images/storeIcon.png")));
+        shopIcon.setFitWidth(32);  // Set icon width
+        shopIcon.setFitHeight(32); // Set icon height
+        shopButton.setGraphic(shopIcon);
+        shopButton.setContentDisplay(ContentDisplay.TOP);
+        if (CSVDataStore.getInstance().getQuestionBank() == null) {
+            CSVController.readMinigameInfo(); // The question bank is only parsed once
+        }
+        CSVController.readParentalInfo();
+        petManager = PetManager.getInstance();
+
+        UpdateService.getInstance().addListener(this, petImage);
+
+        // Add event handlers to buttons
+        option1.setOnAction(event -> handleAnswer(option1.getText()));
+        option2.setOnAction(event -> handleAnswer(option2.getText()));
+        option3.setOnAction(event -> handleAnswer(option3.getText()));
+
+        questionLabel.setWrapText(true);
+
+        updateParentalInfo();
+    }
+
+    /**
+     * Navigates back to the Minigame scene.
+     *
+     * <p>This method transitions the application to the Minigame screen by loading
+     * the corresponding FXML file. It sets the primary stage and pet ID for the MinigameController.
+     * If an exception occurs during the scene loading process, it will be printed to the console.
+     *
+     * @FXML This method is invoked via an associated UI control.
+     */
+    @FXML
+    private void back() {
+        NavigationRouter.getInstance().navigate(primaryStage, "/Scenes/Minigame.fxml", pet);
+    }
+    /**
+     * Navigates to the Shop scene.
+     *
+     * <p>This method transitions the application to the Shop screen by loading
+     * the corresponding FXML file. It sets the primary stage and pet ID for the ShopController.
+     * If an exception occurs during the scene loading process, it will be printed to the console.
+     *
+     * @FXML This method is invoked via an associated UI control.
+     */
+    @FXML
+    private void shop() {
+        NavigationRouter.getInstance().navigate(primaryStage, "/Scenes/Shop.fxml", pet);
+    }
+    /**
+     * Loads a random question of the selected category, filtered by parental control settings.
+     */
+    public void loadQuestion() {
+        String subject = switch (category) {
+            case 0 -> QuestionBank.MATH;
+            case 1 -> QuestionBank.ENGLISH;
+            default -> QuestionBank.GEOGRAPHY;
+        };
+        QuestionBank questionBank = CSVDataStore.getInstance().getQuestionBank();
+        long startNanos = System.nanoTime();
+        Question question = questionBank == null ? null
+                : questionBank.random(subject, this::isDifficultyAllowed, ThreadLocalRandom.current());
+        SELECTION_LATENCY.recordSince(startNanos);
+        if (question == null) {
+            System.err.println("No " + subject + " question available for the allowed difficulties");
+            return;
+        }
+        randomQuestion = question;
+        displayQuestion();
+    }
+
+    /**
+     * Checks whether parental controls allow questions of a difficulty level.
+     *
+     * @param difficulty the difficulty level
+     * @return true if the difficulty is allowed
+     */
+    private boolean isDifficultyAllowed(int difficulty) {
+        return switch (difficulty) {
+            case 2 -> true2;
+            case 4 -> true4;
+            case 6 -> true6;
+            default -> false;
+        };
+    }
+
+    /**
+     * Displays the current question and its answer options in random order.
+     */
+    private void displayQuestion() {
+        questionLabel.setText(randomQuestion.text());
+        correctAnswerPoition = ThreadLocalRandom.current().nextInt(3) + 1;
+        if (correctAnswerPoition == 1) {
+            wrongAnswerPoition1 = 2;
+            wrongAnswerPoition2 = 3;
+            option1.setText(randomQuestion.answer());
+            option2.setText(randomQuestion.wrongOption1());
+            option3.setText(randomQuestion.wrongOption2());
+        }
+        else if (correctAnswerPoition == 2) {
+            wrongAnswerPoition1 = 1;
+            wrongAnswerPoition2 = 3;
+            option1.setText(randomQuestion.wrongOption1());
+            option2.setText(randomQuestion.answer());
+            option3.setText(randomQuestion.wrongOption2());
+        }
+        else {
+            wrongAnswerPoition1 = 1;
+            wrongAnswerPoition2 = 2;
+            option1.setText(randomQuestion.wrongOption1());
+            option2.setText(randomQuestion.wrongOption2());
+            option3.setText(randomQuestion.answer());
+        }
+    }
+    /**
+     * Validates the selected answer and navigates to the appropriate feedback screen.
+     *
+     * @param selectedAnswer the answer chosen by the user
+     */
+
+    private void handleAnswer(String selectedAnswer) {
+        // Validate the selected answer
+        String correctAnswer = randomQuestion.answer();
+        if (selectedAnswer.equals(correctAnswer)) {
+            NavigationRouter.getInstance().navigate(primaryStage, "/Scenes/MinigameCorrectScreen.fxml", pet,
+                    (MinigameCorrectController controller) -> controller.setRandomQuestion(randomQuestion));
+        } else {
+            NavigationRouter.getInstance().navigate(primaryStage, "/Scenes/MinigameIncorrect.fxml", pet,
+                    (MinigameIncorrectController controller) -> controller.setRandomQuestion(randomQuestion));
+        }
+    }
+}
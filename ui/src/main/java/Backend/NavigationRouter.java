@@ -0,0 +1,388 @@
+package Backend;
+
+import javafx.application.Platform;
+import javafx.fxml.FXMLLoader;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.stage.Stage;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * The `NavigationRouter` class is a singleton that performs every screen transition.
+ *
+ * <p>A screen is identified by its FXML path. The first visit parses the FXML, applies style.css
+ * and creates the scene; screens whose controller is a {@link Routable} that declares itself
+ * reusable are then cached, and later visits skip the FXML parse and only reset the controller and
+ * rebind it to the selected pet. Other screens are inflated on every visit as before.
+ *
+ * <p>Screens can also be prewarmed: {@link #prewarm(Collection)} parses their FXML and decodes
+ * their images on background threads, then hands the finished roots to the JavaFX application
+ * thread, which wraps them in scenes and applies the stylesheet while the user is still on an
+ * earlier screen. A prewarmed reusable screen goes straight into the cache; any other prewarmed
+ * screen is used for its next visit only.
+ *
+ * <p>The duration of each transition, from the navigation request to the scene being set on the
+ * stage, is recorded per screen.
+ *
+ * @author      Jay Bava <jbava@uwo.ca>
+ * @version     1.9                 (current version number of program)
+ * @since       1.9                 (the version of the package this class was first added to)
+ */
+public class NavigationRouter {
+
+    /** Path of the stylesheet applied to every scene. */
+    public static final String STYLESHEET = "/Scenes/style.css";
+
+    /** Pet ID passed for screens that are not bound to a pet. */
+    public static final int NO_PET = 0;
+
+    /** Maximum number of background threads used to prewarm screens. */
+    private static final int MAX_PREWARM_THREADS = 4;
+
+    /** A screen inflated from FXML. */
+    private record View(Scene scene, Object controller) {}
+
+    /** A screen parsed from FXML that is not yet attached to a scene. */
+    private record Inflated(Parent root, Object controller) {}
+
+    /**
+     * Timing of the transitions to a screen.
+     *
+     * @param count       number of transitions
+     * @param cachedCount number of transitions that reused a cached screen
+     * @param totalNanos  total duration of the transitions
+     * @param maxNanos    duration of the slowest transition
+     * @param lastNanos   duration of the most recent transition
+     */
+    public record TransitionStats(int count, int cachedCount, long totalNanos, long maxNanos, long lastNanos) {
+
+        /**
+         * Computes the average transition duration.
+         *
+         * @return the average duration in milliseconds
+         */
+        public double averageMillis() {
+            return count == 0 ? 0 : totalNanos / 1_000_000.0 / count;
+        }
+    }
+
+    /** Singleton instance of the `NavigationRouter` class. */
+    private static NavigationRouter instance;
+
+    /** Cached reusable screens by FXML path. */
+    private final Map<String, View> cache = new HashMap<>();
+
+    /** Prewarmed screens that are not reusable, each kept for a single visit, by FXML path. */
+    private final Map<String, View> prewarmed = new HashMap<>();
+
+    /** FXML paths being prewarmed. */
+    private final Map<String, CompletableFuture<Void>> prewarming = new HashMap<>();
+
+    /** Background threads that parse prewarmed screens, created on first use. */
+    private ExecutorService prewarmExecutor;
+
+    /** Transition timing by FXML path. */
+    private final Map<String, TransitionStats> stats = new ConcurrentHashMap<>();
+
+    /** Duration of every screen transition. */
+    private final LatencyHistogram transitionLatency = MetricsRegistry.getInstance()
+            .histogram("scene_transition_seconds", "Time taken to show a screen");
+
+    /**
+     * Private constructor to enforce the singleton pattern.
+     */
+    private NavigationRouter() {}
+
+    /**
+     * Retrieves the singleton instance of the `NavigationRouter` class.
+     *
+     * @return the singleton instance of `NavigationRouter`
+     */
+    public static synchronized NavigationRouter getInstance() {
+        if (instance == null) {
+            instance = new NavigationRouter();
+        }
+        return instance;
+    }
+
+    /**
+     * Shows a screen that is not bound to a pet.
+     *
+     * @param stage    the stage to show the screen on
+     * @param fxmlPath the FXML path of the screen
+     * @param <T>      the controller type
+     * @return the screen's controller, or null if it could not be loaded
+     */
+    public <T> T navigate(Stage stage, String fxmlPath) {
+        return navigate(stage, fxmlPath, NO_PET);
+    }
+
+    /**
+     * Shows a screen, reusing the cached scene if there is one. Must be called on the JavaFX
+     * application thread.
+     *
+     * @param stage    the stage to show the screen on
+     * @param fxmlPath the FXML path of the screen
+     * @param pet      the ID of the selected pet, or {@link #NO_PET}
+     * @param <T>      the controller type
+     * @return the screen's controller, or null if it could not be loaded
+     */
+    public <T> T navigate(Stage stage, String fxmlPath, int pet) {
+        return navigate(stage, fxmlPath, pet, null);
+    }
+
+    /**
+     * Shows a screen, reusing the cached scene if there is one, and lets the caller configure the
+     * controller after it is bound to the pet but before the scene is shown. Must be called on the
+     * JavaFX application thread.
+     *
+     * @param stage    the stage to show the screen on
+     * @param fxmlPath the FXML path of the screen
+     * @param pet      the ID of the selected pet, or {@link #NO_PET}
+     * @param setup    additional configuration of the controller, or null
+     * @param <T>      the controller type
+     * @return the screen's controller, or null if it could not be loaded
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T navigate(Stage stage, String fxmlPath, int pet, Consumer<T> setup) {
+        SceneLoadEvent event = new SceneLoadEvent();
+        event.begin();
+        long start = System.nanoTime();
+        try {
+            View view;
+            synchronized (this) {
+                view = cache.get(fxmlPath);
+                if (view == null) {
+                    view = prewarmed.remove(fxmlPath);
+                }
+            }
+            boolean cached = view != null;
+            if (!cached) {
+                view = load(fxmlPath);
+                if (view.controller() instanceof Routable routable && routable.isReusable()) {
+                    synchronized (this) {
+                        cache.put(fxmlPath, view);
+                    }
+                }
+            }
+
+            if (view.controller() instanceof Routable routable) {
+                routable.reset();
+                routable.setPrimaryStage(stage);
+                if (pet != NO_PET) {
+                    routable.setPet(pet);
+                }
+            }
+            if (setup != null) {
+                setup.accept((T) view.controller());
+            }
+            stage.setScene(view.scene());
+            stage.show();
+
+            record(fxmlPath, cached, System.nanoTime() - start);
+            event.screen = fxmlPath;
+            event.cached = cached;
+            event.commit();
+            return (T) view.controller();
+        } catch (Exception e) {
+            System.err.println("Error navigating to " + fxmlPath);
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * Inflates a screen from FXML and wraps it in a styled scene. Must be called on the JavaFX
+     * application thread.
+     *
+     * @param fxmlPath the FXML path of the screen
+     * @return the inflated screen
+     * @throws IOException if the FXML cannot be loaded
+     */
+    private View load(String fxmlPath) throws IOException {
+        return attach(inflate(fxmlPath));
+    }
+
+    /**
+     * Parses a screen's FXML, which creates its nodes, decodes its images and runs its controller's
+     * initialize method. Safe to call off the JavaFX application thread, since the nodes are not
+     * yet part of a scene.
+     *
+     * @param fxmlPath the FXML path of the screen
+     * @return the parsed screen
+     * @throws IOException if the FXML cannot be loaded
+     */
+    private Inflated inflate(String fxmlPath) throws IOException {
+        URL resource = getClass().getResource(fxmlPath);
+        if (resource == null) {
+            throw new IOException("Screen not found: " + fxmlPath);
+        }
+        FXMLLoader loader = new FXMLLoader(resource);
+        Parent root = loader.load();
+        return new Inflated(root, loader.getController());
+    }
+
+    /**
+     * Wraps a parsed screen in a scene with the stylesheet applied. Must be called on the JavaFX
+     * application thread.
+     *
+     * @param inflated the parsed screen
+     * @return the screen ready to be shown
+     */
+    private View attach(Inflated inflated) {
+        Scene scene = new Scene(inflated.root());
+        scene.getStylesheets().add(getClass().getResource(STYLESHEET).toExternalForm());
+        return new View(scene, inflated.controller());
+    }
+
+    /**
+     * Prewarms screens in parallel so that their first visit does not parse FXML or decode images
+     * on the JavaFX application thread. Screens that are already cached, prewarmed or being
+     * prewarmed are skipped. Each finished screen is logged to the {@link StartupTimeline}.
+     *
+     * @param fxmlPaths the FXML paths of the screens, most likely next screen first
+     * @return a future completed on the JavaFX application thread once every screen is ready;
+     *         screens that fail to load are reported and do not fail the future
+     */
+    public CompletableFuture<Void> prewarm(Collection<String> fxmlPaths) {
+        List<CompletableFuture<Void>> pending = new ArrayList<>();
+        for (String fxmlPath : fxmlPaths) {
+            synchronized (this) {
+                if (cache.containsKey(fxmlPath) || prewarmed.containsKey(fxmlPath)) {
+                    continue;
+                }
+                CompletableFuture<Void> inProgress = prewarming.get(fxmlPath);
+                if (inProgress == null) {
+                    inProgress = prewarmOne(fxmlPath);
+                    prewarming.put(fxmlPath, inProgress);
+                }
+                pending.add(inProgress);
+            }
+        }
+        return CompletableFuture.allOf(pending.toArray(new CompletableFuture<?>[0]))
+                .thenRunAsync(() -> {}, Platform::runLater);
+    }
+
+    /**
+     * Parses one screen on a background thread and hands it to the JavaFX application thread.
+     *
+     * @param fxmlPath the FXML path of the screen
+     * @return a future completed once the screen is ready or has failed to load
+     */
+    private CompletableFuture<Void> prewarmOne(String fxmlPath) {
+        return CompletableFuture.supplyAsync(() -> {
+            long start = System.nanoTime();
+            try {
+                Inflated inflated = inflate(fxmlPath);
+                StartupTimeline.mark("parsed " + fxmlPath + " in " + (System.nanoTime() - start) / 1_000_000 + " ms");
+                return inflated;
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }, getPrewarmExecutor()).thenAcceptAsync(inflated -> {
+            View view = attach(inflated);
+            view.scene().getRoot().applyCss();
+            synchronized (this) {
+                prewarming.remove(fxmlPath);
+                if (view.controller() instanceof Routable routable && routable.isReusable()) {
+                    cache.putIfAbsent(fxmlPath, view);
+                } else {
+                    prewarmed.put(fxmlPath, view);
+                }
+            }
+            StartupTimeline.mark("prewarmed " + fxmlPath);
+        }, Platform::runLater).exceptionally(e -> {
+            synchronized (this) {
+                prewarming.remove(fxmlPath);
+            }
+            System.err.println("Error prewarming " + fxmlPath);
+            e.printStackTrace();
+            return null;
+        });
+    }
+
+    /**
+     * Retrieves the executor that parses prewarmed screens, creating it on first use. It leaves one
+     * processor free for the JavaFX application thread.
+     *
+     * @return the prewarm executor
+     */
+    private synchronized ExecutorService getPrewarmExecutor() {
+        if (prewarmExecutor == null) {
+            int threads = Math.max(1, Math.min(MAX_PREWARM_THREADS, Runtime.getRuntime().availableProcessors() - 1));
+            AtomicInteger count = new AtomicInteger();
+            prewarmExecutor = Executors.newFixedThreadPool(threads, runnable -> {
+                Thread thread = new Thread(runnable, "NavigationRouter-prewarm-" + count.incrementAndGet());
+                thread.setDaemon(true);
+                thread.setPriority(Thread.MIN_PRIORITY);
+                return thread;
+            });
+        }
+        return prewarmExecutor;
+    }
+
+    /**
+     * Drops a cached or prewarmed screen so that its next visit inflates it again.
+     *
+     * @param fxmlPath the FXML path of the screen
+     */
+    public synchronized void evict(String fxmlPath) {
+        cache.remove(fxmlPath);
+        prewarmed.remove(fxmlPath);
+    }
+
+    /**
+     * Drops every cached and prewarmed screen.
+     */
+    public synchronized void clearCache() {
+        cache.clear();
+        prewarmed.clear();
+    }
+
+    /**
+     * Checks whether a screen is cached.
+     *
+     * @param fxmlPath the FXML path of the screen
+     * @return true if the next visit reuses a cached or prewarmed scene
+     */
+    public synchronized boolean isCached(String fxmlPath) {
+        return cache.containsKey(fxmlPath) || prewarmed.containsKey(fxmlPath);
+    }
+
+    /**
+     * Records the duration of a transition.
+     *
+     * @param fxmlPath    the FXML path of the screen
+     * @param cached      whether a cached screen was reused
+     * @param elapsedNanos the duration of the transition
+     */
+    private void record(String fxmlPath, boolean cached, long elapsedNanos) {
+        transitionLatency.record(elapsedNanos);
+        stats.merge(fxmlPath, new TransitionStats(1, cached ? 1 : 0, elapsedNanos, elapsedNanos, elapsedNanos),
+                (old, next) -> new TransitionStats(old.count() + 1, old.cachedCount() + next.cachedCount(),
+                        old.totalNanos() + elapsedNanos, Math.max(old.maxNanos(), elapsedNanos), elapsedNanos));
+    }
+
+    /**
+     * Retrieves the transition timing of every screen visited so far.
+     *
+     * @return an unmodifiable view of the timing by FXML path
+     */
+    public Map<String, TransitionStats> getTransitionStats() {
+        return Collections.unmodifiableMap(stats);
+    }
+}
@@ -0,0 +1,85 @@
+package Backend;
+
+import javafx.fxml.FXML;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
+import javafx.scene.layout.AnchorPane;
+import javafx.stage.Stage;
+
+/**
+ * The `NewGameController` class manages the New Game screen,
+ * allowing users to select a pet and proceed to the tutorial.
+ *
+ * @author      Sebastien Moroz <smoroz4@uwo.ca>
+ * @version     1.9
+ * @since       1.1
+ */
+public class NewGameController implements Routable {
+
+    /** The background anchor pane for handling key events. */
+    @FXML
+    private AnchorPane background;
+
+    /** The primary stage of the application, used for screen transitions. */
+    private Stage primaryStage;
+
+    /**
+     * Sets the primary stage for this controller.
+     *
+     * @param primaryStage the primary stage of the application
+     */
+    public void setPrimaryStage(Stage primaryStage) {
+        this.primaryStage = primaryStage;
+    }
+
+    /**
+     * Initializes the controller.
+     * Sets up an event handler to navigate back to the main menu when the Escape key is pressed.
+     */
+    @FXML
+    public void initialize() {
+        background.sceneProperty().addListener((observable, oldScene, newScene) -> {
+            if (newScene == null) return;
+            newScene.addEventHandler(KeyEvent.KEY_PRESSED, event -> {
+                if (event.getCode() == KeyCode.ESCAPE) {
+                    goToMainMenu();
+                }
+            });
+        });
+    }
+
+    /**
+     * Handles the selection of the pet "Puss".
+     * Loads the tutorial scene and sets "Puss" as the selected pet.
+     */
+    @FXML
+    private void pussSelected() {
+        NavigationRouter.getInstance().navigate(primaryStage, "/Scenes/Tutorial1.fxml", 3); // Set pet ID for Puss
+    }
+
+    /**
+     * Handles the selection of the pet "Shrek".
+     * Loads the tutorial scene and sets "Shrek" as the selected pet.
+     */
+    @FXML
+    private void shrekSelected() {
+        NavigationRouter.getInstance().navigate(primaryStage, "/Scenes/Tutorial1.fxml", 1); // Set pet ID for Shrek
+    }
+
+    /**
+     * Handles the selection of the pet "Toothless".
+     * Loads the tutorial scene and sets "Toothless" as the selected pet.
+     */
+    @FXML
+    private void toothlessSelected() {
+        NavigationRouter.getInstance().navigate(primaryStage, "/Scenes/Tutorial1.fxml", 2); // Set pet ID for Toothless
+    }
+
+    /**
+     * Navigates back to the main menu.
+     * Loads the main menu scene.
+     */
+    private void goToMainMenu() {
+        NavigationRouter.getInstance().navigate(primaryStage, "/Scenes/MainMenu.fxml");
+    }
+}
@@ -1,9 +1,6 @@
 package Backend;
 
 import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
-import javafx.scene.Parent;
-import javafx.scene.Scene;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
 import javafx.scene.control.PasswordField;
@@ -20,7 +17,7 @@ import javafx.stage.Stage;
  * @version     1.9
  * @since       1.5
  */
-public class ParentalControlsController2 {
+public class ParentalControlsController2 implements Routable {
 
     /** The primary stage of the application, used for screen transitions. */
     Stage primaryStage;
@@ -75,8 +72,8 @@ public class ParentalControlsController2 {
 
             try {
                 // Retrieve the stored password from the CSV file
-                String[] shrekAr = CSVDataStore.getInstance().getShrek(); // Fetch pet data
-                storedPassword = shrekAr[1]; // Assuming the second element contains the password
+                PetState shrekState = CSVDataStore.getInstance().getShrek(); // Fetch pet data
+                storedPassword = shrekState.getPin();
             } catch (Exception e) {
                 e.printStackTrace();
                 feedbackLabel.setText("Error retrieving password.".toUpperCase());
@@ -88,42 +85,12 @@ public class ParentalControlsController2 {
                 feedbackLabel.setText("Password accepted".toUpperCase());
                 feedbackLabel.setStyle("-fx-text-fill: green;"); // Green for valid input
 
-                try {
-                    // Load Parental Controls Settings Screen
-                    FXMLLoader loader = new FXMLLoader(getClass().getResource("/Scenes/ParentalSettings.fxml"));
-                    Parent settingsRoot = loader.load();
-
-                    Scene settingsScene = new Scene(settingsRoot);
-                    settingsScene.getStylesheets().add(getClass().getResource("/Scenes/style.css").toExternalForm());
-
-                    ParentalSettingController controller = loader.getController();
-                    controller.setPrimaryStage(primaryStage);
-
-                    primaryStage.setScene(settingsScene);
-                    primaryStage.show();
-                } catch (Exception e) {
-                    e.printStackTrace();
-                }
+                NavigationRouter.getInstance().navigate(primaryStage, "/Scenes/ParentalSettings.fxml");
             } else {
                 feedbackLabel.setText("Invalid password. Try again.".toUpperCase());
                 feedbackLabel.setStyle("-fx-text-fill: red;"); // Red for invalid input
 
-                try {
-                    // Load Main Menu Screen
-                    FXMLLoader loader = new FXMLLoader(getClass().getResource("/Scenes/MainMenu.fxml"));
-                    Parent mainMenuRoot = loader.load();
-
-                    Scene mainMenuScene = new Scene(mainMenuRoot);
-                    mainMenuScene.getStylesheets().add(getClass().getResource("/Scenes/style.css").toExternalForm());
-
-                    MainMenuController controller = loader.getController();
-                    controller.setPrimaryStage(primaryStage);
-
-                    primaryStage.setScene(mainMenuScene);
-                    primaryStage.show();
-                } catch (Exception e) {
-                    e.printStackTrace();
-                }
+                NavigationRouter.getInstance().navigate(primaryStage, "/Scenes/MainMenu.fxml");
             }
         });
     }
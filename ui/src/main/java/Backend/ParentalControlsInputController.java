@@ -1,15 +1,11 @@
 package Backend;
 
 import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
-import javafx.scene.Parent;
-import javafx.scene.Scene;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
 import javafx.scene.control.PasswordField;
 import javafx.stage.Stage;
 
-import java.util.Arrays;
 
 /**
  * The `ParentalControlsInputController` class handles the functionality of the Parental Controls input screen.
@@ -20,7 +16,7 @@ import java.util.Arrays;
  * @version     1.9
  * @since       1.5
  */
-public class ParentalControlsInputController {
+public class ParentalControlsInputController implements Routable {
 
     /** The primary stage of the application, used for screen transitions. */
     Stage primaryStage;
@@ -84,52 +80,30 @@ public class ParentalControlsInputController {
             feedbackLabel.setText("Password accepted: ".toUpperCase() + input);
             feedbackLabel.setStyle("-fx-text-fill: green;"); // Green for valid input
 
-            FileWatcher.setIsFileWatcherDisabled(true);
-            String[] toothless = CSVDataStore.getInstance().getToothless();
-            String[] shrek = CSVDataStore.getInstance().getShrek();
-            String[] puss = CSVDataStore.getInstance().getPuss();
+            PetState toothless = CSVDataStore.getInstance().getToothless();
+            PetState shrek = CSVDataStore.getInstance().getShrek();
+            PetState puss = CSVDataStore.getInstance().getPuss();
 
             // Update password for all pets
-            toothless[1] = input;
-            shrek[1] = input;
-            puss[1] = input;
+            toothless.setPin(input);
+            shrek.setPin(input);
+            puss.setPin(input);
 
             // Log changes for debugging purposes
-            System.out.println("Toothless in Handle Submit: " + Arrays.toString(toothless));
-            System.out.println("Shrek in Handle Submit: " + Arrays.toString(shrek));
-            System.out.println("Puss in Handle Submit: " + Arrays.toString(puss));
-
-            // Update the `CSVDataStore` and write changes to CSV files
-            CSVDataStore.getInstance().setToothless(toothless);
-            CSVDataStore.getInstance().setShrek(shrek);
-            CSVDataStore.getInstance().setPuss(puss);
+            System.out.println("Toothless in Handle Submit: " + toothless);
+            System.out.println("Shrek in Handle Submit: " + shrek);
+            System.out.println("Puss in Handle Submit: " + puss);
 
+            // Write changes to CSV files
             CSVController.writePetInfo(1); // Update Shrek's data
             CSVController.writePetInfo(2); // Update Toothless's data
             CSVController.writePetInfo(3); // Update Puss's data
+            PersistenceService.getInstance().flushNow();
 
-            CSVController.readPetInfo(); // Reload pet data
-            FileWatcher.setIsFileWatcherDisabled(false);
-
-            try {
-                // Load the Parental Settings screen
-                FXMLLoader loader = new FXMLLoader(getClass().getResource("/Scenes/ParentalSettings.fxml"));
-                Parent newGameRoot = loader.load();
-
-                Scene newGameScene = new Scene(newGameRoot);
-                newGameScene.getStylesheets().add(getClass().getResource("/Scenes/style.css").toExternalForm());
-
-                ParentalSettingController controller = loader.getController();
-                controller.setPrimaryStage(primaryStage);
-
-                primaryStage.setResizable(false);
-                primaryStage.setFullScreen(false);
-
-                primaryStage.setScene(newGameScene);
-                primaryStage.show();
-            } catch (Exception e) {
-                e.printStackTrace();
-            }
+            // Load the Parental Settings screen
+            primaryStage.setResizable(false);
+            primaryStage.setFullScreen(false);
+            NavigationRouter.getInstance().navigate(primaryStage, "/Scenes/ParentalSettings.fxml");
         } else {
             // Display feedback for invalid input
             feedbackLabel.setText("Invalid! Must be 4 digits.".toUpperCase());
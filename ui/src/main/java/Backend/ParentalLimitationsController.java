@@ -1,9 +1,6 @@
 package Backend;
 
 import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
-import javafx.scene.Parent;
-import javafx.scene.Scene;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
 import javafx.scene.control.TextField;
@@ -18,7 +15,7 @@ import javafx.stage.Stage;
  * @version     1.9
  * @since       1.5
  */
-public class ParentalLimitationsController {
+public class ParentalLimitationsController implements Routable {
 
     /** The primary stage of the application, used for screen transitions. */
     private Stage primaryStage;
@@ -103,20 +100,6 @@ public class ParentalLimitationsController {
      */
     @FXML
     private void back() {
-        try {
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("/Scenes/ParentalSettings.fxml"));
-            Parent newGameRoot = loader.load();
-
-            Scene newGameScene = new Scene(newGameRoot);
-            newGameScene.getStylesheets().add(getClass().getResource("/Scenes/style.css").toExternalForm());
-
-            ParentalSettingController controller = loader.getController();
-            controller.setPrimaryStage(primaryStage);
-
-            primaryStage.setScene(newGameScene);
-            primaryStage.show();
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
+        NavigationRouter.getInstance().navigate(primaryStage, "/Scenes/ParentalSettings.fxml");
     }
 }
\ No newline at end of file
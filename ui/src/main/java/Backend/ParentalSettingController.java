@@ -2,9 +2,6 @@ package Backend;
 
 import javafx.application.Platform;
 import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
-import javafx.scene.Parent;
-import javafx.scene.Scene;
 import javafx.scene.control.*;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
@@ -22,7 +19,7 @@ import java.time.Instant;
  * @version     1.9
  * @since       1.5
  */
-public class ParentalSettingController {
+public class ParentalSettingController implements Routable {
 
     /** The primary stage of the application, used for screen transitions. */
     private Stage primaryStage;
@@ -200,22 +197,9 @@ public class ParentalSettingController {
 
         CSVController.updateTimePlay(sessionPlayTime);
 
-        try {
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("/Scenes/MainMenu.fxml"));
-            Parent root = loader.load();
-            Scene scene = new Scene(root);
-            scene.getStylesheets().add(getClass().getResource("/Scenes/style.css").toExternalForm());
-
-            MainMenuController mainMenuController = loader.getController();
-            mainMenuController.setPrimaryStage(primaryStage);
-
-            primaryStage.setScene(scene);
-            primaryStage.setResizable(false);
-            primaryStage.setFullScreen(false);
-            primaryStage.show();
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
+        NavigationRouter.getInstance().navigate(primaryStage, "/Scenes/MainMenu.fxml");
+        primaryStage.setResizable(false);
+        primaryStage.setFullScreen(false);
     }
 
     /**
@@ -223,21 +207,7 @@ public class ParentalSettingController {
      */
     @FXML
     private void limitations() {
-        try {
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("/Scenes/ParentalLimitations.fxml"));
-            Parent root = loader.load();
-
-            Scene SceneforLimit = new Scene(root);
-            SceneforLimit.getStylesheets().add(getClass().getResource("/Scenes/style.css").toExternalForm());
-
-            ParentalLimitationsController LimitationsController = loader.getController();
-            LimitationsController.setPrimaryStage(primaryStage);
-
-            primaryStage.setScene(SceneforLimit);
-            primaryStage.show();
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
+        NavigationRouter.getInstance().navigate(primaryStage, "/Scenes/ParentalLimitations.fxml");
     }
 
     /**
@@ -246,39 +216,22 @@ public class ParentalSettingController {
      */
     @FXML
     private void revivePet() {
-        String[] shrekAr = CSVDataStore.getInstance().getShrek();
-        String[] toothlessAr = CSVDataStore.getInstance().getToothless();
-        String[] pussAr = CSVDataStore.getInstance().getPuss();
-
-        shrekAr[3] = "100";  // Hunger
-        shrekAr[4] = "100";  // Happiness
-        shrekAr[8] = "100";  // Health
-        shrekAr[6] = "100";  // Sleep
-        shrekAr[7] = "100";  // Experience
-
-        toothlessAr[3] = "100";  // Hunger
-        toothlessAr[4] = "100";  // Happiness
-        toothlessAr[8] = "100";  // Health
-        toothlessAr[6] = "100";  // Sleep
-        toothlessAr[7] = "100";  // Experience
-
-        pussAr[3] = "100";  // Hunger
-        pussAr[4] = "100";  // Happiness
-        pussAr[8] = "100";  // Health
-        pussAr[6] = "100";  // Sleep
-        pussAr[7] = "100";  // Experience
-
-        shrekRevive.setOnAction(actionEvent -> {
-            CSVDataStore.getInstance().setShrek(shrekAr);
-            CSVController.writePetInfo(1);
-        });
-        toothlessRevive.setOnAction(actionEvent -> {
-            CSVDataStore.getInstance().setShrek(toothlessAr);
-            CSVController.writePetInfo(2);
-        });
-        pussRevive.setOnAction(actionEvent -> {
-            CSVDataStore.getInstance().setShrek(pussAr);
-            CSVController.writePetInfo(3);
-        });
+        PetState[] pets = {
+                CSVDataStore.getInstance().getShrek(),
+                CSVDataStore.getInstance().getToothless(),
+                CSVDataStore.getInstance().getPuss()
+        };
+
+        for (PetState petState : pets) {
+            petState.setHunger(100);
+            petState.setHappiness(100);
+            petState.setHealth(100);
+            petState.setSleep(100);
+            petState.setExperience(100);
+        }
+
+        shrekRevive.setOnAction(actionEvent -> CSVController.writePetInfo(1));
+        toothlessRevive.setOnAction(actionEvent -> CSVController.writePetInfo(2));
+        pussRevive.setOnAction(actionEvent -> CSVController.writePetInfo(3));
     }
 }
@@ -0,0 +1,16 @@
+package Backend;
+
+/**
+ * @author      Jay Bava <jbava@uwo.ca>
+ * @version     1.9              (current version number of program)
+ * @since       1.9          (the version of the package this class was first added to)
+ */
+
+/**
+ * Listener subscribed through {@link UpdateService#subscribe(PetChangeListener, int, PetField...)}
+ * that is told which pets and fields changed. Called on the JavaFX application thread.
+ */
+@FunctionalInterface
+public interface PetChangeListener {
+    void onPetChange(PetChangeEvent event);
+}
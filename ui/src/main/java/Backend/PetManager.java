@@ -0,0 +1,384 @@
+package Backend;
+
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * @author      Jay Bava <jbava@uwo.ca>
+ * @version     1.9                 (current version number of program)
+ * @since       1.2          (the version of the package this class was first added to)
+ */
+
+/**
+ * PetManager class manages the pet data and accessories in the game, including
+ * retrieving and updating pet attributes such as health, hunger, sleep, and happiness.
+ * It also handles the management of pet images and accessories. The care rules themselves live
+ * in {@link PetCare}, which does not depend on JavaFX.
+ */
+
+public class PetManager {
+
+    /**
+     * The singleton instance of the PetManager class.
+     * This ensures that only one instance of PetManager is used throughout the application.
+     */
+    private static PetManager instance;
+
+    /**
+     * The file paths of the pet, state and food images, keyed by image name.
+     * The decoded images themselves are cached by {@link ResourceManager}; pets wearing
+     * accessories are drawn by {@link AccessoryRenderer}.
+     */
+    private static final Map<String, String> IMAGE_PATHS = new LinkedHashMap<>();
+
+    static {
+        IMAGE_PATHS.put("shrekIdle", "/Scenes/images/shrekIdle.png");
+        IMAGE_PATHS.put("toothlessIdle", "/Scenes/images/toothlessIdle.png");
+        IMAGE_PATHS.put("pussIdle", "/Scenes/images/pussnbootsIdle.png");
+
+        // State images
+        IMAGE_PATHS.put("shrekDead", "/Scenes/images/shrekDeathState.png");
+        IMAGE_PATHS.put("toothlessDead", "/Scenes/images/toothlessDeathState.png");
+        IMAGE_PATHS.put("pussDead", "/Scenes/images/pussnbootsDeathState.png");
+        IMAGE_PATHS.put("shrekHungry", "/Scenes/images/shrekHungryState.png");
+        IMAGE_PATHS.put("toothlessHungry", "/Scenes/images/toothlessHungryState.png");
+        IMAGE_PATHS.put("pussHungry", "/Scenes/images/pussnbootsHungryState.png");
+        IMAGE_PATHS.put("shrekSleep", "/Scenes/images/shrekSleepState.png");
+        IMAGE_PATHS.put("toothlessSleep", "/Scenes/images/toothlessSleepState.png");
+        IMAGE_PATHS.put("pussSleep", "/Scenes/images/pussnbootsSleepState.png");
+        IMAGE_PATHS.put("shrekAngry", "/Scenes/images/shrekAngryState.png");
+        IMAGE_PATHS.put("toothlessAngry", "/Scenes/images/toothlessAngryState.png");
+        IMAGE_PATHS.put("pussAngry", "/Scenes/images/pussnbootsAngryState.png");
+
+        // Food
+        IMAGE_PATHS.put("foodTier1", "/Scenes/images/foodTier1.png");
+        IMAGE_PATHS.put("foodTier2", "/Scenes/images/foodTier2.png");
+        IMAGE_PATHS.put("foodTier3", "/Scenes/images/foodTier3.png");
+    }
+
+    /**
+     * The ID or identifier of the currently selected pet.
+     * This field holds the value that represents the pet being interacted with.
+     */
+    public String currPet;
+
+    /**
+     * Retrieves the data associated with a specific pet based on its ID.
+     * @param petID The unique identifier for the pet.
+     * @return The pet's state, or null if the pet ID is invalid.
+     */
+    public PetState getPetData(int petID){
+        return PetCare.getInstance().getPetData(petID);
+    }
+
+    /**
+     * Retrieves the singleton instance of PetManager.
+     * @return The PetManager instance.
+     */
+    public static synchronized PetManager getInstance() {
+        if(instance == null){
+            instance = new PetManager();
+        }
+        return instance;
+    }
+
+    /**
+     * Retrieves the number of coins available for the pet identified by the pet ID.
+     * @param petID The unique identifier for the pet.
+     * @return The number of coins the pet currently has.
+     */
+    public int getCoins(int petID){
+        return getPetData(petID).getCoins();
+    }
+
+    /**
+     * Retrieves the level of the pet identified by the pet ID.
+     * @param petID The unique identifier for the pet.
+     * @return The pet's current level.
+     */
+    public int getLevel(int petID){
+        return getPetData(petID).getLevel();
+    }
+
+    /**
+     * Attempts to purchase an accessory for a specific pet if the pet has enough coins.
+     * @param petID The unique identifier for the pet.
+     * @param accessory The name of the accessory to purchase.
+     * @return True if the purchase was successful, false if the pet does not have enough coins.
+     */
+    public boolean purchaseAccessory(int petID, String accessory){
+        return PetCare.getInstance().purchaseAccessory(petID, accessory);
+    }
+
+    /**
+     * Puts an accessory on a specific pet, or takes it off if the pet is already wearing it.
+     * See {@link PetCare#equipAccessory(int, String)}.
+     * @param petID The unique identifier for the pet.
+     * @param accessory The name of the accessory to equip.
+     * @return True if the pet is now wearing the accessory, false if it was taken off.
+     */
+    public boolean equipAccessory(int petID, String accessory){
+        return PetCare.getInstance().equipAccessory(petID, accessory);
+    }
+
+    /**
+     * Retrieves an array of booleans indicating which accessories are owned by the pet.
+     * @param petID The unique identifier for the pet.
+     * @return A boolean array indicating which accessories are owned.
+     */
+    public boolean[] getOwnedAccessory(int petID){
+        return PetCare.getInstance().getOwnedAccessory(petID);
+    }
+
+    /**
+     * Retrieves the image of a pet trying on an accessory on top of what it is already wearing,
+     * replacing the accessory worn in the same slot.
+     * @param petID The unique identifier for the pet.
+     * @param accessory The name of the accessory to preview.
+     * @return The composited image of the pet, or null if the pet ID is invalid.
+     */
+    public Image getAccessoryPreview(int petID, String accessory){
+        PetState preview = new PetState();
+        preview.setEquippedMask(PetCare.getInstance().getWornMask(petID));
+        preview.setEquipped(accessory, true);
+        return AccessoryRenderer.getInstance().render(petID, preview.getEquippedMask());
+    }
+
+    /**
+     * Private constructor for the PetManager class.
+     * Images are not decoded here; see {@link #preloadImages()}.
+     */
+    private PetManager() {
+    }
+
+    /**
+     * Preloads the images that any pet screen may show, the idle image of each pet and the food
+     * images, by decoding them in parallel in the background. The remaining images of a pet are
+     * preloaded by {@link #preloadImages(int)} once the pet is selected, and any other image is
+     * decoded on first use.
+     *
+     * @return a future completed once the images are decoded
+     */
+    public CompletableFuture<Void> preloadImages(){
+        List<String> paths = new ArrayList<>();
+        for (Map.Entry<String, String> entry : IMAGE_PATHS.entrySet()) {
+            if (entry.getKey().endsWith("Idle") || entry.getKey().startsWith("foodTier")) {
+                paths.add(entry.getValue());
+            }
+        }
+        return ResourceManager.preload(paths);
+    }
+
+    /**
+     * Preloads every state image of a pet and the composite of the accessories it is wearing, in
+     * parallel in the background, so that the selected pet's screens never decode on the JavaFX
+     * application thread.
+     *
+     * @param petId The unique identifier for the pet (1 = Shrek, 2 = Toothless, 3 = Puss).
+     * @return a future completed once the images are decoded
+     */
+    public CompletableFuture<Void> preloadImages(int petId){
+        String prefix = switch (petId) {
+            case 1 -> "shrek";
+            case 2 -> "toothless";
+            case 3 -> "puss";
+            default -> null;
+        };
+        List<String> paths = new ArrayList<>();
+        if (prefix != null) {
+            for (Map.Entry<String, String> entry : IMAGE_PATHS.entrySet()) {
+                if (entry.getKey().startsWith(prefix)) {
+                    paths.add(entry.getValue());
+                }
+            }
+        }
+        CompletableFuture<Void> states = ResourceManager.preload(paths);
+        int wornMask = PetCare.getInstance().getWornMask(petId);
+        if (wornMask == 0) {
+            return states;
+        }
+        return CompletableFuture.allOf(states, AccessoryRenderer.getInstance().preload(petId, wornMask));
+    }
+
+    /**
+     * Retrieves a pet, state or food image by its key, decoding it if it is not cached.
+     *
+     * @param key The key of the image (e.g., "shrekIdle", "toothlessDead", "foodTier1").
+     * @return The image, or null if the key is unknown.
+     */
+    private Image getImage(String key){
+        String path = key != null ? IMAGE_PATHS.get(key) : null;
+        return path != null ? ResourceManager.getImage(path) : null;
+    }
+
+    /**
+     * Sets the appropriate image for a pet based on its ID and worn accessories.
+     * If the pet wears accessories that it owns, they are composited onto its idle image.
+     * Otherwise, the pet's idle image is used.
+     *
+     * @param petId The unique identifier for the pet.
+     * @param petImage The ImageView object where the pet's image will be set.
+     */
+    public void setPetImage(int petId, ImageView petImage) {
+       if (petImage == null) {
+           System.err.println("Invalid pet ID:" + petId);
+           return;
+       }
+
+       int wornMask = PetCare.getInstance().getWornMask(petId);
+       if (wornMask != 0) {
+           Image composite = AccessoryRenderer.getInstance().render(petId, wornMask);
+           if (composite != null) {
+               petImage.setImage(composite);
+               return;
+           }
+       }
+       petImage.setImage(getIdleImage(petId));
+    }
+
+    /**
+     * Returns the idle image for a pet based on its ID.
+     *
+     * @param petId The unique identifier for the pet.
+     * @return The idle image for the specified pet.
+     */
+    public Image getIdleImage(int petId){
+        return switch (petId) {
+            case 1 -> getImage("shrekIdle");
+            case 2 -> getImage("toothlessIdle");
+            case 3 -> getImage("pussIdle");
+            default -> null;
+        };
+    }
+
+    /**
+     * Retrieves the image associated with a pet's state.
+     * The state can be one of the following: "dead", "hungry", "sleep", or "angry".
+     * The pet's ID is used to determine which specific pet's state image to return.
+     *
+     * @param petId The unique identifier for the pet (1 = Shrek, 2 = Toothless, 3 = Puss).
+     * @param state The state of the pet (e.g., "dead", "hungry", "sleep", "angry").
+     * @return The image corresponding to the pet's state, or null if no image is found.
+     */
+    public Image getStateImage(int petId, String state) {
+        String key = switch (state.toLowerCase()) {
+            case "dead" -> switch (petId) {
+                case 1 -> "shrekDead";
+                case 2 -> "toothlessDead";
+                case 3 -> "pussDead";
+                default -> null;
+            };
+            case "hungry" -> switch (petId) {
+                case 1 -> "shrekHungry";
+                case 2 -> "toothlessHungry";
+                case 3 -> "pussHungry";
+                default -> null;
+            };
+            case "sleep" -> switch (petId) {
+                case 1 -> "shrekSleep";
+                case 2 -> "toothlessSleep";
+                case 3 -> "pussSleep";
+                default -> null;
+            };
+            case "angry" -> switch (petId) {
+                case 1 -> "shrekAngry";
+                case 2 -> "toothlessAngry";
+                case 3 -> "pussAngry";
+                default -> null;
+            };
+            default -> null;
+        };
+        return key != null ? getImage(key) : null;
+    }
+
+    /**
+     * Retrieves the image associated with a specific food item.
+     *
+     * @param foodKey The key representing a food item.
+     * @return The image corresponding to the food item, or null if no image is found.
+     */
+    public Image getFoodImage(String foodKey){
+        return getImage(foodKey);
+    }
+
+    /**
+     * Increases the happiness level of a pet, capped at 100.
+     *
+     * @param petID The unique identifier for the pet (1 = Shrek, 2 = Toothless, 3 = Puss).
+     * @param increment The amount by which to increase the pet's happiness.
+     */
+    public void increaseHappiness(int petID, int increment) {
+        PetCare.getInstance().increaseHappiness(petID, increment);
+    }
+
+    /**
+     * Increases the sleep level of a pet, capped at 100.
+     *
+     * @param petID The unique identifier for the pet (1 = Shrek, 2 = Toothless, 3 = Puss).
+     * @param increment The amount by which to increase the pet's sleep value.
+     */
+    public void increaseSleep(int petID, int increment) {
+        PetCare.getInstance().increaseSleep(petID, increment);
+    }
+
+    /**
+     * Decreases the sleep level of a pet, not below 0.
+     *
+     * @param petID The unique identifier for the pet (1 = Shrek, 2 = Toothless, 3 = Puss).
+     * @param decrement The amount by which to decrease the pet's sleep value.
+     */
+    public void decreaseSleep(int petID, int decrement) {
+        PetCare.getInstance().decreaseSleep(petID, decrement);
+    }
+
+    /**
+     * Decreases the hunger level of a pet, not below 0.
+     *
+     * @param petID The unique identifier for the pet (1 = Shrek, 2 = Toothless, 3 = Puss).
+     * @param decrement The amount by which to decrease the pet's hunger value.
+     */
+    public void decreaseHunger(int petID, int decrement) {
+        PetCare.getInstance().decreaseHunger(petID, decrement);
+    }
+
+    /**
+     * Increases the health of a pet, capped at 100.
+     *
+     * @param petID The unique identifier for the pet (1 = Shrek, 2 = Toothless, 3 = Puss).
+     * @param increment The amount by which to increase the pet's health value.
+     */
+    public void increaseHealth(int petID, int increment) {
+        PetCare.getInstance().increaseHealth(petID, increment);
+    }
+
+    /**
+     * Retrieves the happiness bonus associated with an accessory.
+     *
+     * @param accessory The name of the accessory.
+     * @return The happiness bonus associated with the accessory (e.g., 15, 25, 30, or 0 if not found).
+     */
+    public int getHappinessBonus(String accessory) {
+        return PetCare.getHappinessBonus(accessory);
+    }
+
+    /**
+     * Feeds the pet, increasing its hunger level by a specified food value, capped at 100.
+     *
+     * @param petID The unique identifier for the pet (1 = Shrek, 2 = Toothless, 3 = Puss).
+     * @param foodValue The value by which to increase the pet's hunger (i.e., the amount of food the pet receives).
+     */
+    public void feedPet(int petID, int foodValue) {
+        PetCare.getInstance().feedPet(petID, foodValue);
+    }
+
+    public String getCurrPet(){
+
+        return currPet;
+    }
+}
@@ -1,11 +1,6 @@
 package Backend;
 
-import javafx.animation.PauseTransition;
 import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
-import javafx.scene.Parent;
-import javafx.scene.Scene;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.stage.Stage;
 import javafx.util.Duration;
@@ -18,7 +13,7 @@ import javafx.util.Duration;
  * @version     1.9 (current version number of program)
  * @since       1.6 (the version of the package this class was first added to)
  */
-public class PlayController {
+public class PlayController implements Routable {
 
     /** The main stage of the application. */
     private Stage primaryStage;
@@ -30,6 +25,9 @@ public class PlayController {
     @FXML
     private ImageView petImage;
 
+    /** The file path of the selected pet's playing image. */
+    private String animationPath;
+
     /**
      * Sets the primary stage for this controller.
      *
@@ -46,11 +44,11 @@ public class PlayController {
      */
     public void setPet(int pet) {
         this.pet = pet;
-        switch (pet) {
-            case 1 -> petImage.setImage(new Image(getClass().getResourceAsStream("/Scenes/images/shrekPlaying.gif")));
-            case 2 -> petImage.setImage(new Image(getClass().getResourceAsStream("/Scenes/images/toothlesPlay.gif")));
-            case 3 -> petImage.setImage(new Image(getClass().getResourceAsStream("/Scenes/images/pussbootsPlay.gif")));
-        }
+        animationPath = switch (pet) {
+            case 1 -> "/Scenes/images/shrekPlaying.png";
+            case 2 -> "/Scenes/images/toothlesPlay.png";
+            default -> "/Scenes/images/pussbootsPlay.png";
+        };
         adjustImageView();
         playAnimation();
     }
@@ -71,7 +69,7 @@ public class PlayController {
      */
     private void playAnimation() {
         // Set the animation image based on the selected pet
-        String[] selectedPet = switch (pet){
+        PetState selectedPet = switch (pet){
             case 1 -> CSVDataStore.getInstance().getShrek();
             case 2 -> CSVDataStore.getInstance().getToothless();
             case 3 -> CSVDataStore.getInstance().getPuss();
@@ -79,48 +77,31 @@ public class PlayController {
         };
 
         if (selectedPet != null) {
-            int happinessValue = Integer.parseInt(selectedPet[4]);
-            happinessValue = Math.min(happinessValue + 25, 100); // Ensure the value doesn't exceed 100
-            selectedPet[4] = String.valueOf(happinessValue); // Update happiness value in the array
+            int happinessValue = Math.min(selectedPet.getHappiness() + 25, 100); // Ensure the value doesn't exceed 100
+            selectedPet.setHappiness(happinessValue);
 
             // Write back to CSV
-            switch (pet) {
-                case 1 -> CSVDataStore.getInstance().setShrek(selectedPet);
-                case 2 -> CSVDataStore.getInstance().setToothless(selectedPet);
-                case 3 -> CSVDataStore.getInstance().setPuss(selectedPet);
-            }
             CSVController.writePetInfo(pet);
         }
 
-        // Create a PauseTransition to wait for 5 seconds
-        PauseTransition pause = new PauseTransition(Duration.seconds(5));
-
-        // Set the action to transition back to the gameplay screen after 5 seconds
-        pause.setOnFinished(event -> backToGameplay());
-
-        // Start the pause timer
-        pause.play();
+        // Play the animation for 5 seconds, then transition back to the gameplay screen
+        AnimationPlayer.getInstance().play(petImage, animationPath, Duration.seconds(5), this::backToGameplay);
     }
 
     /**
      * Transitions back to the gameplay screen, passing the current stage and pet data.
      */
     private void backToGameplay() {
-        try {
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("/Scenes/GameplayScreen.fxml"));
-            Parent gameplayRoot = loader.load();
-
-            Scene gameplayScene = new Scene(gameplayRoot);
-            gameplayScene.getStylesheets().add(getClass().getResource("/Scenes/style.css").toExternalForm());
-
-            GameplayScreenController controller = loader.getController();
-            controller.setPrimaryStage(primaryStage);
-            controller.setPet(pet);
+        NavigationRouter.getInstance().navigate(primaryStage, "/Scenes/GameplayScreen.fxml", pet);
+    }
 
-            primaryStage.setScene(gameplayScene);
-            primaryStage.show();
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
+    /**
+     * The screen is rebuilt by {@link #setPet(int)} on every visit, so it can be cached and reused.
+     *
+     * @return true
+     */
+    @Override
+    public boolean isReusable() {
+        return true;
     }
 }
@@ -0,0 +1,366 @@
+package Backend;
+
+import javafx.scene.image.Image;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * The `ResourceManager` class provides a mechanism for caching and retrieving images
+ * used in the application. This ensures efficient memory usage by avoiding redundant
+ * image loading operations.
+ *
+ * <p>The cache is safe to use from any thread. Images are decoded on first use, or ahead of time
+ * in parallel through {@link #preload(Collection)}; concurrent requests for the same image share a
+ * single decode. Besides images decoded from files, the cache holds images decoded at a reduced
+ * size and images produced at runtime, such as composited pet sprites, under keys of their own.
+ * Decoded images are kept in least-recently-used order and evicted once their estimated size
+ * (4 bytes per pixel) exceeds the byte budget, after which they are decoded again on their next
+ * use.
+ *
+ * @author      Sebastien Moroz <smoroz4@uwo.ca>
+ * @version     1.9
+ * @since       1.7
+ */
+public class ResourceManager {
+
+    /**
+     * Default limit on the estimated size of the decoded images kept in the cache. It holds every
+     * image of the largest pet (Shrek, about 240 MB decoded) plus the shared images, without keeping
+     * all three pets decoded at once.
+     */
+    public static final long DEFAULT_BYTE_BUDGET = 320L * 1024 * 1024;
+
+    /** Maximum number of background threads used to decode images. */
+    private static final int MAX_DECODE_THREADS = 4;
+
+    /**
+     * Snapshot of the cache counters.
+     *
+     * @param hits             number of requests served from the cache
+     * @param misses           number of requests that had to decode the image or wait for its decode
+     * @param decodes          number of images decoded or produced
+     * @param totalDecodeNanos total time spent decoding
+     * @param maxDecodeNanos   time spent on the slowest decode
+     * @param evictions        number of images evicted to stay within the byte budget
+     * @param bytes            estimated size of the cached images
+     * @param byteBudget       limit on the estimated size of the cached images
+     * @param size             number of cached images
+     */
+    public record Stats(long hits, long misses, long decodes, long totalDecodeNanos, long maxDecodeNanos,
+                        long evictions, long bytes, long byteBudget, int size) {
+
+        /**
+         * Computes the share of requests served from the cache.
+         *
+         * @return the hit rate between 0 and 1
+         */
+        public double hitRate() {
+            long requests = hits + misses;
+            return requests == 0 ? 0 : (double) hits / requests;
+        }
+
+        /**
+         * Computes the average decode time.
+         *
+         * @return the average decode time in milliseconds
+         */
+        public double averageDecodeMillis() {
+            return decodes == 0 ? 0 : totalDecodeNanos / 1_000_000.0 / decodes;
+        }
+    }
+
+    /** A decoded image and its estimated size. */
+    private record Cached(Image image, long bytes) {}
+
+    /** Decoded images keyed by their file paths or cache keys, in least-recently-used order. */
+    private static final LinkedHashMap<String, Cached> imageCache = new LinkedHashMap<>(64, 0.75f, true);
+
+    /** Decodes in progress keyed by cache key, shared by every thread that requests the image. */
+    private static final Map<String, CompletableFuture<Image>> decoding = new HashMap<>();
+
+    /** Limit on the estimated size of the cached images. */
+    private static long byteBudget = DEFAULT_BYTE_BUDGET;
+
+    /** Estimated size of the cached images. */
+    private static long bytes;
+
+    private static long hits;
+    private static long misses;
+    private static long decodes;
+    private static long totalDecodeNanos;
+    private static long maxDecodeNanos;
+    private static long evictions;
+
+    /** Background threads that decode preloaded images, created on first use. */
+    private static ExecutorService decodeExecutor;
+
+    /** Exported image requests served from the cache; unlike hits, never reset by {@link #clear()}. */
+    private static final Counter HITS = MetricsRegistry.getInstance()
+            .counter("image_cache_hits_total", "Image requests served from the cache");
+
+    /** Exported image requests that missed the cache; never reset by {@link #clear()}. */
+    private static final Counter MISSES = MetricsRegistry.getInstance()
+            .counter("image_cache_misses_total", "Image requests that decoded the image or waited for its decode");
+
+    static {
+        MetricsRegistry metrics = MetricsRegistry.getInstance();
+        metrics.gauge("image_cache_hit_ratio", "Share of image requests served from the cache", () -> {
+            long hitCount = HITS.get();
+            long requests = hitCount + MISSES.get();
+            return requests == 0 ? 0 : (double) hitCount / requests;
+        });
+        metrics.gauge("image_cache_bytes", "Estimated size of the cached images", () -> getStats().bytes());
+    }
+
+    /**
+     * Retrieves an image from the cache or loads it if not already cached.
+     *
+     * <p>If the image specified by the path is not already in the cache, this method
+     * decodes the image on the calling thread, or waits for a decode of the same image already in
+     * progress, and stores it in the cache for future use.
+     *
+     * @param path the file path of the image, relative to the classpath
+     * @return the loaded {@link Image} object corresponding to the specified path
+     * @throws NullPointerException if the image resource cannot be found at the given path
+     */
+    public static Image getImage(String path) {
+        return getImage(path, () -> decodeResource(path, 0, 0));
+    }
+
+    /**
+     * Retrieves an image decoded at a reduced size, from the cache or by decoding it. The image is
+     * cached separately from the full-size image of the same file.
+     *
+     * @param path            the file path of the image, relative to the classpath
+     * @param requestedWidth  the width to decode to, or 0 to follow the height
+     * @param requestedHeight the height to decode to, or 0 to follow the width
+     * @return the image, scaled preserving its aspect ratio
+     * @throws NullPointerException if the image resource cannot be found at the given path
+     */
+    public static Image getImage(String path, int requestedWidth, int requestedHeight) {
+        return getImage(path + "@" + requestedWidth + "x" + requestedHeight,
+                () -> decodeResource(path, requestedWidth, requestedHeight));
+    }
+
+    /**
+     * Retrieves an image from the cache or produces it if not already cached. Concurrent requests
+     * for the same key share a single call to the producer.
+     *
+     * @param key      the cache key of the image
+     * @param producer creates the image on a cache miss
+     * @return the cached or produced image
+     */
+    public static Image getImage(String key, Supplier<Image> producer) {
+        CompletableFuture<Image> pending;
+        boolean owner = false;
+        synchronized (ResourceManager.class) {
+            Cached cached = imageCache.get(key);
+            if (cached != null) {
+                hits++;
+                HITS.increment();
+                return cached.image();
+            }
+            misses++;
+            MISSES.increment();
+            pending = decoding.get(key);
+            if (pending == null) {
+                pending = new CompletableFuture<>();
+                decoding.put(key, pending);
+                owner = true;
+            }
+        }
+        if (owner) {
+            produce(key, producer, pending);
+        }
+        try {
+            return pending.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Decodes images in parallel on background threads so that later calls to
+     * {@link #getImage(String)} are cache hits. Images that are cached or being decoded are skipped.
+     *
+     * @param paths the file paths of the images
+     * @return a future completed once every image is decoded or has failed to load
+     */
+    public static CompletableFuture<Void> preload(Collection<String> paths) {
+        List<CompletableFuture<Image>> pending = new ArrayList<>();
+        ExecutorService executor = getDecodeExecutor();
+        for (String path : paths) {
+            CompletableFuture<Image> future;
+            synchronized (ResourceManager.class) {
+                if (imageCache.containsKey(path)) {
+                    continue;
+                }
+                future = decoding.get(path);
+                if (future == null) {
+                    CompletableFuture<Image> created = new CompletableFuture<>();
+                    decoding.put(path, created);
+                    executor.execute(() -> produce(path, () -> decodeResource(path, 0, 0), created));
+                    future = created;
+                }
+            }
+            pending.add(future.exceptionally(e -> {
+                System.err.println("Error preloading image " + path);
+                e.printStackTrace();
+                return null;
+            }));
+        }
+        return CompletableFuture.allOf(pending.toArray(new CompletableFuture<?>[0]));
+    }
+
+    /**
+     * Produces an image on a background thread so that a later call to
+     * {@link #getImage(String, Supplier)} with the same key is a cache hit.
+     *
+     * @param key      the cache key of the image
+     * @param producer creates the image
+     * @return a future completed with the image, or null if it could not be produced
+     */
+    public static CompletableFuture<Image> preload(String key, Supplier<Image> producer) {
+        return CompletableFuture.supplyAsync(() -> getImage(key, producer), getDecodeExecutor())
+                .exceptionally(e -> {
+                    System.err.println("Error preloading image " + key);
+                    e.printStackTrace();
+                    return null;
+                });
+    }
+
+    /**
+     * Decodes an image resource.
+     *
+     * @param path            the file path of the image, relative to the classpath
+     * @param requestedWidth  the width to decode to, or 0
+     * @param requestedHeight the height to decode to, or 0
+     * @return the decoded image
+     */
+    private static Image decodeResource(String path, int requestedWidth, int requestedHeight) {
+        try (InputStream stream = ResourceManager.class.getResourceAsStream(path)) {
+            return new Image(stream, requestedWidth, requestedHeight, true, true);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Produces an image, caches it and completes the future of the threads waiting for it.
+     *
+     * @param key      the cache key of the image
+     * @param producer creates the image
+     * @param future   the future shared by the threads waiting for the image
+     */
+    private static void produce(String key, Supplier<Image> producer, CompletableFuture<Image> future) {
+        try {
+            ImageDecodeEvent event = new ImageDecodeEvent();
+            event.begin();
+            long start = System.nanoTime();
+            Image image = producer.get();
+            long elapsed = System.nanoTime() - start;
+            event.image = key;
+            event.width = (int) image.getWidth();
+            event.height = (int) image.getHeight();
+            event.commit();
+            synchronized (ResourceManager.class) {
+                decoding.remove(key);
+                decodes++;
+                totalDecodeNanos += elapsed;
+                maxDecodeNanos = Math.max(maxDecodeNanos, elapsed);
+                long size = (long) image.getWidth() * (long) image.getHeight() * 4;
+                Cached previous = imageCache.put(key, new Cached(image, size));
+                if (previous != null) {
+                    bytes -= previous.bytes();
+                }
+                bytes += size;
+                trimToBudget();
+            }
+            future.complete(image);
+        } catch (Exception e) {
+            synchronized (ResourceManager.class) {
+                decoding.remove(key);
+            }
+            future.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * Evicts the least recently used images until the cache fits its byte budget. The most recently
+     * used image is always kept, even if it alone exceeds the budget.
+     */
+    private static void trimToBudget() {
+        for (Iterator<Cached> it = imageCache.values().iterator(); bytes > byteBudget && imageCache.size() > 1; ) {
+            Cached eldest = it.next();
+            it.remove();
+            bytes -= eldest.bytes();
+            evictions++;
+        }
+    }
+
+    /**
+     * Sets the limit on the estimated size of the cached images, evicting images if needed.
+     *
+     * @param budget the byte budget
+     */
+    public static synchronized void setByteBudget(long budget) {
+        byteBudget = budget;
+        trimToBudget();
+    }
+
+    /**
+     * Drops every cached image and resets the counters.
+     */
+    public static synchronized void clear() {
+        imageCache.clear();
+        bytes = 0;
+        hits = misses = decodes = totalDecodeNanos = maxDecodeNanos = evictions = 0;
+    }
+
+    /**
+     * Retrieves a snapshot of the cache counters.
+     *
+     * @return the current statistics
+     */
+    public static synchronized Stats getStats() {
+        return new Stats(hits, misses, decodes, totalDecodeNanos, maxDecodeNanos, evictions, bytes, byteBudget,
+                imageCache.size());
+    }
+
+    /**
+     * Retrieves the executor that decodes preloaded images, creating it on first use. It leaves one
+     * processor free for the JavaFX application thread.
+     *
+     * @return the decode executor
+     */
+    private static synchronized ExecutorService getDecodeExecutor() {
+        if (decodeExecutor == null) {
+            int threads = Math.max(1, Math.min(MAX_DECODE_THREADS, Runtime.getRuntime().availableProcessors() - 1));
+            AtomicInteger count = new AtomicInteger();
+            decodeExecutor = Executors.newFixedThreadPool(threads, runnable -> {
+                Thread thread = new Thread(runnable, "ResourceManager-decode-" + count.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return decodeExecutor;
+    }
+}
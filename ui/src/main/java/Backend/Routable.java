@@ -0,0 +1,51 @@
+package Backend;
+
+import javafx.stage.Stage;
+
+/**
+ * @author      Jay Bava <jbava@uwo.ca>
+ * @version     1.9              (current version number of program)
+ * @since       1.9          (the version of the package this class was first added to)
+ */
+
+/**
+ * Contract between {@link NavigationRouter} and the controllers of the screens it shows.
+ *
+ * <p>The router hands every controller the primary stage and, for screens that belong to a game,
+ * the selected pet. Screens that opt in with {@link #isReusable()} are inflated once and cached;
+ * when such a screen is shown again, {@link #reset()} is called and then {@link #setPet(int)}
+ * rebinds it to the selected pet, instead of re-parsing its FXML. Since a screen may also have been
+ * prewarmed long before its first visit, state that must be current when the screen appears belongs
+ * in {@link #reset()} rather than in the controller's initialize method.</p>
+ */
+public interface Routable {
+
+    /**
+     * Sets the primary stage the screen is shown on.
+     *
+     * @param primaryStage the primary stage
+     */
+    void setPrimaryStage(Stage primaryStage);
+
+    /**
+     * Binds the screen to a pet. Called every time the screen is shown for a game.
+     *
+     * @param pet the ID of the pet (1 for Shrek, 2 for Toothless, 3 for Puss)
+     */
+    default void setPet(int pet) {}
+
+    /**
+     * Whether the screen's scene and controller may be cached and shown again.
+     *
+     * @return true if the screen is reusable
+     */
+    default boolean isReusable() {
+        return false;
+    }
+
+    /**
+     * Brings the screen up to date before it is shown. Called on every visit, before
+     * {@link #setPet(int)}, including the first visit of a screen that was prewarmed.
+     */
+    default void reset() {}
+}
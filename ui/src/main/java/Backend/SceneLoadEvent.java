@@ -0,0 +1,31 @@
+package Backend;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The `SceneLoadEvent` class is a JDK Flight Recorder event recorded for every screen transition
+ * made through the {@link NavigationRouter}.
+ *
+ * @author      Jay Bava <jbava@uwo.ca>
+ * @version     1.9                 (current version number of program)
+ * @since       1.9                 (the version of the package this class was first added to)
+ */
+@Name("Backend.SceneLoad")
+@Label("Scene Load")
+@Category({"PetGame", "UI"})
+@Description("Showing a screen, loading its FXML unless it was cached")
+@StackTrace(false)
+public class SceneLoadEvent extends Event {
+
+    @Label("Screen")
+    String screen;
+
+    @Label("Cached")
+    @Description("Whether the screen was reused instead of loaded from FXML")
+    boolean cached;
+}
@@ -1,9 +1,6 @@
 package Backend;
 
 import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
-import javafx.scene.Parent;
-import javafx.scene.Scene;
 import javafx.scene.control.Label;
 import javafx.scene.control.ProgressBar;
 import javafx.scene.image.Image;
@@ -12,7 +9,7 @@ import javafx.stage.Stage;
 import javafx.scene.control.Button;
 import java.util.Arrays;
 
-public class ShopController implements UpdateListener{
+public class ShopController implements UpdateListener, Routable {
     /**
      * Controller for managing the shop interface and interactions with the pet.
      * Handles the display of pet data, the purchase of accessories, and the updating of pet status.
@@ -46,7 +43,7 @@ public class ShopController implements UpdateListener{
 
         petManager = PetManager.getInstance();
         loadAccessoryImages();
-        UpdateService.getInstance().addListener(this);
+        UpdateService.getInstance().addListener(this, petImage);
     }
     /**
      * Sets the pet to be displayed in the shop.
@@ -65,15 +62,15 @@ public class ShopController implements UpdateListener{
      * Displays the data of the selected pet, such as hunger, happiness, health, and level.
      */
     private void displayPetData(){
-        String[] selectedPet = petManager.getPetData(pet);
+        PetState selectedPet = petManager.getPetData(pet);
         if (selectedPet != null) {
-            hungerBar.setProgress(Double.parseDouble(selectedPet[3]) / 100);
-            happinessBar.setProgress(Double.parseDouble(selectedPet[4]) / 100);
-            healthBar.setProgress(Double.parseDouble(selectedPet[8]) / 100);
-            sleepBar.setProgress(Double.parseDouble(selectedPet[6]) / 100);
-            experienceBar.setProgress(Double.parseDouble(selectedPet[7]) / 100);
-            levelLabel.setText(selectedPet[9]);
-            coinsLabel.setText(selectedPet[5]);
+            hungerBar.setProgress(selectedPet.getHunger() / 100.0);
+            happinessBar.setProgress(selectedPet.getHappiness() / 100.0);
+            healthBar.setProgress(selectedPet.getHealth() / 100.0);
+            sleepBar.setProgress(selectedPet.getSleep() / 100.0);
+            experienceBar.setProgress(selectedPet.getExperience() / 100.0);
+            levelLabel.setText(String.valueOf(selectedPet.getLevel()));
+            coinsLabel.setText(String.valueOf(selectedPet.getCoins()));
         }
     }
     /**
@@ -114,7 +111,7 @@ public class ShopController implements UpdateListener{
     private void disableButtons(){
         int coinsValue;
         int levelValue;
-        String[] stats;
+        PetState stats;
         stats = CSVDataStore.getInstance().getToothless();
 
         switch(pet){
@@ -128,8 +125,8 @@ public class ShopController implements UpdateListener{
                 stats = CSVDataStore.getInstance().getPuss();
                 break;
         }
-        coinsValue = Integer.parseInt(stats[5]);
-        levelValue = Integer.parseInt(stats[9]);
+        coinsValue = stats.getCoins();
+        levelValue = stats.getLevel();
 
 
         if (coinsValue < 20  || levelValue < 5) {
@@ -239,19 +236,16 @@ public class ShopController implements UpdateListener{
      */
     @FXML
     public void setPetImageHover() {
-        String[] petData = petManager.getPetData(pet);
-
-
         // Hover events
-        hat1.setOnMouseEntered(event -> petImage.setImage(petManager.getAccessoryImage(petIdToPrefix(pet) + capitalize("blackHat"))));
-        glasses1.setOnMouseEntered(event -> petImage.setImage(petManager.getAccessoryImage(petIdToPrefix(pet) + capitalize("blackGlasses"))));
-        bowtie1.setOnMouseEntered(event -> petImage.setImage(petManager.getAccessoryImage(petIdToPrefix(pet) + capitalize("blackBowtie"))));
-        hat2.setOnMouseEntered(event -> petImage.setImage(petManager.getAccessoryImage(petIdToPrefix(pet) + capitalize("silverHat"))));
-        glasses2.setOnMouseEntered(event -> petImage.setImage(petManager.getAccessoryImage(petIdToPrefix(pet) + capitalize("silverGlasses"))));
-        bowtie2.setOnMouseEntered(event -> petImage.setImage(petManager.getAccessoryImage(petIdToPrefix(pet) + capitalize("silverBowtie"))));
-        hat3.setOnMouseEntered(event -> petImage.setImage(petManager.getAccessoryImage(petIdToPrefix(pet) + capitalize("goldHat"))));
-        glasses3.setOnMouseEntered(event -> petImage.setImage(petManager.getAccessoryImage(petIdToPrefix(pet) + capitalize("goldGlasses"))));
-        bowtie3.setOnMouseEntered(event -> petImage.setImage(petManager.getAccessoryImage(petIdToPrefix(pet) + capitalize("goldBowtie"))));
+        hat1.setOnMouseEntered(event -> petImage.setImage(petManager.getAccessoryPreview(pet, "blackHat")));
+        glasses1.setOnMouseEntered(event -> petImage.setImage(petManager.getAccessoryPreview(pet, "blackGlasses")));
+        bowtie1.setOnMouseEntered(event -> petImage.setImage(petManager.getAccessoryPreview(pet, "blackBowtie")));
+        hat2.setOnMouseEntered(event -> petImage.setImage(petManager.getAccessoryPreview(pet, "silverHat")));
+        glasses2.setOnMouseEntered(event -> petImage.setImage(petManager.getAccessoryPreview(pet, "silverGlasses")));
+        bowtie2.setOnMouseEntered(event -> petImage.setImage(petManager.getAccessoryPreview(pet, "silverBowtie")));
+        hat3.setOnMouseEntered(event -> petImage.setImage(petManager.getAccessoryPreview(pet, "goldHat")));
+        glasses3.setOnMouseEntered(event -> petImage.setImage(petManager.getAccessoryPreview(pet, "goldGlasses")));
+        bowtie3.setOnMouseEntered(event -> petImage.setImage(petManager.getAccessoryPreview(pet, "goldBowtie")));
 
         // Reset on exit
         hat1.setOnMouseExited(event -> petManager.setPetImage(pet, petImage));
@@ -266,54 +260,14 @@ public class ShopController implements UpdateListener{
 
     }
 
-    private String petIdToPrefix(int petId) {
-        return switch (petId){
-            case 1 -> "shrek";
-            case 2 -> "toothless";
-            case 3 -> "pussNBoots";
-            default -> null;
-        };
-    }
-    /**
-     * Capitalizes the first letter of a string.
-     *
-     *
-     * @return the capitalized string
-     */
-    private String capitalize(String input){
-        if (input == null || input.isEmpty()) return input;
-        return input.substring(0, 1).toUpperCase() + input.substring(1);
-    }
-    /**
-     * Converts pet ID to prefix for accessory file naming.
-     *
-     *
-     * @return the prefix used in accessory names
-     */
     @Override
-    public void onUpdate(String[] toothlessData, String[] shrekData, String[] pussData, boolean[] parentalInfo) {
+    public void onUpdate(PetState toothlessData, PetState shrekData, PetState pussData, boolean[] parentalInfo) {
         displayPetData();
         updateAccesoryButtons();
     }
 
     @FXML
     private void back(){
-        try {
-            // Load the New Game FXML
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("/Scenes/GameplayScreen.fxml"));
-            Parent newGameRoot = loader.load();
-
-            Scene newGameScene = new Scene(newGameRoot);
-            newGameScene.getStylesheets().add(getClass().getResource("/Scenes/style.css").toExternalForm());
-
-            GameplayScreenController controller = loader.getController();
-            controller.setPrimaryStage(primaryStage);
-            controller.setPet(pet);
-
-            primaryStage.setScene(newGameScene);
-            primaryStage.show();
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
+        NavigationRouter.getInstance().navigate(primaryStage, "/Scenes/GameplayScreen.fxml", pet);
     }
 }
\ No newline at end of file
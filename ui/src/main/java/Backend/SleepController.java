@@ -1,11 +1,6 @@
 package Backend;
 
-import javafx.animation.PauseTransition;
 import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
-import javafx.scene.Parent;
-import javafx.scene.Scene;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.stage.Stage;
 import javafx.util.Duration;
@@ -18,7 +13,7 @@ import javafx.util.Duration;
  * @version     1.9 (current version number of program)
  * @since       1.6 (the version of the package this class was first added to)
  */
-public class SleepController {
+public class SleepController implements Routable {
 
     /** The main stage of the application. */
     private Stage primaryStage;
@@ -33,6 +28,9 @@ public class SleepController {
     @FXML
     private ImageView petImage;
 
+    /** The file path of the selected pet's sleeping animation. */
+    private String animationPath;
+
     /**
      * Sets the primary stage for this controller.
      *
@@ -50,11 +48,11 @@ public class SleepController {
     public void setPet(int pet) {
         this.pet = pet;
         petManager = PetManager.getInstance();
-        switch (pet) {
-            case 1 -> petImage.setImage(new Image(getClass().getResourceAsStream("/Scenes/images/shrekSleeping.gif")));
-            case 2 -> petImage.setImage(new Image(getClass().getResourceAsStream("/Scenes/images/toothlesSleeping.gif")));
-            case 3 -> petImage.setImage(new Image(getClass().getResourceAsStream("/Scenes/images/pussbootsSleep.gif")));
-        }
+        animationPath = switch (pet) {
+            case 1 -> "/Scenes/images/shrekSleeping.gif";
+            case 2 -> "/Scenes/images/toothlesSleeping.gif";
+            default -> "/Scenes/images/pussbootsSleep.gif";
+        };
         adjustImageView();
         playAnimation();
     }
@@ -66,7 +64,7 @@ public class SleepController {
         petImage.setFitWidth(739); // Replace with your container's width
         petImage.setPreserveRatio(true); // Maintain the image's aspect ratio
         petImage.setSmooth(true); // Enable smooth scaling
-        petImage.setCache(true); // Cache the scaled image for better performance
+        petImage.setCache(false); // The frames change on every pulse, so a cached rendering would be redrawn anyway
     }
 
     /**
@@ -76,35 +74,24 @@ public class SleepController {
     private void playAnimation() {
         petManager.increaseSleep(pet, 25);
 
-        // Create a PauseTransition to wait for 5 seconds
-        PauseTransition pause = new PauseTransition(Duration.seconds(5));
-
-        // Set the action to transition back to the gameplay screen after 5 seconds
-        pause.setOnFinished(event -> backToGameplay());
-
-        // Start the pause timer
-        pause.play();
+        // Play the animation for 5 seconds, then transition back to the gameplay screen
+        AnimationPlayer.getInstance().play(petImage, animationPath, Duration.seconds(5), this::backToGameplay);
     }
 
     /**
      * Transitions back to the gameplay screen, passing the current stage and pet data.
      */
     private void backToGameplay() {
-        try {
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("/Scenes/GameplayScreen.fxml"));
-            Parent gameplayRoot = loader.load();
-
-            Scene gameplayScene = new Scene(gameplayRoot);
-            gameplayScene.getStylesheets().add(getClass().getResource("/Scenes/style.css").toExternalForm());
-
-            GameplayScreenController controller = loader.getController();
-            controller.setPrimaryStage(primaryStage);
-            controller.setPet(pet);
+        NavigationRouter.getInstance().navigate(primaryStage, "/Scenes/GameplayScreen.fxml", pet);
+    }
 
-            primaryStage.setScene(gameplayScene);
-            primaryStage.show();
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
+    /**
+     * The screen is rebuilt by {@link #setPet(int)} on every visit, so it can be cached and reused.
+     *
+     * @return true
+     */
+    @Override
+    public boolean isReusable() {
+        return true;
     }
 }
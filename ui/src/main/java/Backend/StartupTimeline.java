@@ -0,0 +1,52 @@
+package Backend;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The `StartupTimeline` class records when each stage of application startup finishes, so that the
+ * time to the first usable screen, and what happens on which thread, can be read from the log.
+ *
+ * <p>Times are measured from the start of the JVM. Marks can be recorded from any thread; the
+ * timeline is printed with {@link #report()}.
+ *
+ * @author      Jay Bava <jbava@uwo.ca>
+ * @version     1.9                 (current version number of program)
+ * @since       1.9                 (the version of the package this class was first added to)
+ */
+public class StartupTimeline {
+
+    /** A recorded startup stage. */
+    private record Mark(long elapsedMillis, String thread, String stage) {}
+
+    /** Epoch millis at which the JVM started. */
+    private static final long JVM_START_MILLIS = ManagementFactory.getRuntimeMXBean().getStartTime();
+
+    /** Stages recorded so far, in the order they finished. */
+    private static final List<Mark> marks = new ArrayList<>();
+
+    /**
+     * Prevents instantiation.
+     */
+    private StartupTimeline() {}
+
+    /**
+     * Records that a startup stage has finished.
+     *
+     * @param stage a short description of the stage
+     */
+    public static synchronized void mark(String stage) {
+        marks.add(new Mark(System.currentTimeMillis() - JVM_START_MILLIS, Thread.currentThread().getName(), stage));
+    }
+
+    /**
+     * Prints every recorded stage with its time since JVM start and the thread that recorded it.
+     */
+    public static synchronized void report() {
+        System.out.println("Startup timeline:");
+        for (Mark mark : marks) {
+            System.out.printf("  %6d ms  [%s] %s%n", mark.elapsedMillis(), mark.thread(), mark.stage());
+        }
+    }
+}
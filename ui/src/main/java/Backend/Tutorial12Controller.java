@@ -1,9 +1,6 @@
 package Backend;
 //import statements
 import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
-import javafx.scene.Parent;
-import javafx.scene.Scene;
 import javafx.scene.control.Button;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
@@ -21,7 +18,7 @@ import javafx.stage.Stage;
  * <p>This class handles the display of the pet image, the item purchase buttons, and manages navigation
  * between tutorial scenes.</p>
  */
-public class Tutorial12Controller {
+public class Tutorial12Controller implements Routable {
 
     /**
      * The primary stage used for displaying the application's scenes.
@@ -107,22 +104,7 @@ public class Tutorial12Controller {
      */
     @FXML
     private void back() {
-        try {
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("/Scenes/Tutorial11.fxml"));
-            Parent newGameRoot = loader.load();
-
-            Scene newGameScene = new Scene(newGameRoot);
-            newGameScene.getStylesheets().add(getClass().getResource("/Scenes/style.css").toExternalForm());
-
-            Tutorial11Controller controller = loader.getController();
-            controller.setPrimaryStage(primaryStage);
-            controller.setPet(pet);
-
-            primaryStage.setScene(newGameScene);
-            primaryStage.show();
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
+        NavigationRouter.getInstance().navigate(primaryStage, "/Scenes/Tutorial11.fxml", pet);
     }
 
     /**
@@ -133,21 +115,16 @@ public class Tutorial12Controller {
      */
     @FXML
     private void next() {
-        try {
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("/Scenes/Tutorial13.fxml"));
-            Parent newGameRoot = loader.load();
-
-            Scene newGameScene = new Scene(newGameRoot);
-            newGameScene.getStylesheets().add(getClass().getResource("/Scenes/style.css").toExternalForm());
-
-            Tutorial13Controller controller = loader.getController();
-            controller.setPrimaryStage(primaryStage);
-            controller.setPet(pet);
+        NavigationRouter.getInstance().navigate(primaryStage, "/Scenes/Tutorial13.fxml", pet);
+    }
 
-            primaryStage.setScene(newGameScene);
-            primaryStage.show();
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
+    /**
+     * The screen is rebuilt by {@link #setPet(int)} on every visit, so it can be cached and reused.
+     *
+     * @return true
+     */
+    @Override
+    public boolean isReusable() {
+        return true;
     }
 }
@@ -2,9 +2,6 @@ package Backend;
 //import statements
 import javafx.application.Platform;
 import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
-import javafx.scene.Parent;
-import javafx.scene.Scene;
 import javafx.scene.control.Button;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
@@ -23,7 +20,7 @@ import javafx.stage.Stage;
  * by performing actions such as feeding, playing, and sleeping. It also manages the transition to the gameplay screen
  * and updates the pet's status in the data store.</p>
  */
-public class Tutorial13Controller {
+public class Tutorial13Controller implements Routable {
 
     /**
      * The primary stage used for displaying the application's scenes.
@@ -104,7 +101,7 @@ public class Tutorial13Controller {
      * and writes the updated pet data to the CSV file. It also notifies listeners about the update.</p>
      */
     private void updateSelectedPet() {
-        String[] selectedPet = null;
+        PetState selectedPet = null;
 
         synchronized (CSVDataStore.getInstance()) {
             switch (pet) {
@@ -125,23 +122,15 @@ public class Tutorial13Controller {
             int coins = 0;
 
             // Update the selected pet's data
-            selectedPet[3] = String.valueOf(hunger);
-            selectedPet[4] = String.valueOf(happiness);
-            selectedPet[5] = String.valueOf(coins);
-            selectedPet[6] = String.valueOf(sleep);
-            selectedPet[7] = String.valueOf(experience);
-            selectedPet[8] = String.valueOf(health);
-            selectedPet[9] = String.valueOf(level);
-            selectedPet[20] = "DEFAULT";
-            selectedPet[11] = "FALSE";
-            selectedPet[12] = "FALSE";
-            selectedPet[13] = "FALSE";
-            selectedPet[14] = "FALSE";
-            selectedPet[15] = "FALSE";
-            selectedPet[16] = "FALSE";
-            selectedPet[17] = "FALSE";
-            selectedPet[18] = "FALSE";
-            selectedPet[19] = "FALSE";
+            selectedPet.setHunger(hunger);
+            selectedPet.setHappiness(happiness);
+            selectedPet.setCoins(coins);
+            selectedPet.setSleep(sleep);
+            selectedPet.setExperience(experience);
+            selectedPet.setHealth(health);
+            selectedPet.setLevel(level);
+            selectedPet.setEquippedMask(0);
+            selectedPet.setAccessoryMask(0);
 
             // Write changes to CSV
             CSVController.writePetInfo(pet);
@@ -159,22 +148,7 @@ public class Tutorial13Controller {
      */
     @FXML
     private void back() {
-        try {
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("/Scenes/Tutorial12.fxml"));
-            Parent newGameRoot = loader.load();
-
-            Scene newGameScene = new Scene(newGameRoot);
-            newGameScene.getStylesheets().add(getClass().getResource("/Scenes/style.css").toExternalForm());
-
-            Tutorial12Controller controller = loader.getController();
-            controller.setPrimaryStage(primaryStage);
-            controller.setPet(pet);
-
-            primaryStage.setScene(newGameScene);
-            primaryStage.show();
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
+        NavigationRouter.getInstance().navigate(primaryStage, "/Scenes/Tutorial12.fxml", pet);
     }
 
     /**
@@ -185,23 +159,18 @@ public class Tutorial13Controller {
      */
     @FXML
     private void next() {
-        try {
-            updateSelectedPet();
-
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("/Scenes/GameplayScreen.fxml"));
-            Parent newGameRoot = loader.load();
-
-            Scene newGameScene = new Scene(newGameRoot);
-            newGameScene.getStylesheets().add(getClass().getResource("/Scenes/style.css").toExternalForm());
+        updateSelectedPet();
 
-            GameplayScreenController controller = loader.getController();
-            controller.setPrimaryStage(primaryStage);
-            controller.setPet(pet);
+        NavigationRouter.getInstance().navigate(primaryStage, "/Scenes/GameplayScreen.fxml", pet);
+    }
 
-            primaryStage.setScene(newGameScene);
-            primaryStage.show();
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
+    /**
+     * The screen is rebuilt by {@link #setPet(int)} on every visit, so it can be cached and reused.
+     *
+     * @return true
+     */
+    @Override
+    public boolean isReusable() {
+        return true;
     }
 }
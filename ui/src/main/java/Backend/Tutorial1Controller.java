@@ -1,10 +1,6 @@
 package Backend;
 //import statements
-import javafx.application.Platform;
 import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
-import javafx.scene.Parent;
-import javafx.scene.Scene;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.input.KeyCode;
@@ -25,7 +21,7 @@ import javafx.stage.Stage;
  * including setting the pet image, handling key events, and transitioning to
  * the next or previous scenes.</p>
  */
-public class Tutorial1Controller {
+public class Tutorial1Controller implements Routable {
 
     /**
      * The primary stage used to display the application's scenes.
@@ -95,8 +91,9 @@ public class Tutorial1Controller {
         toothless = new Image(getClass().getResourceAsStream("/Scenes/images/toothlessIdle.png"));
         pussNBoots = new Image(getClass().getResourceAsStream("/Scenes/images/pussnbootsIdle.png"));
 
-        Platform.runLater(() -> {
-            background.getScene().addEventHandler(KeyEvent.KEY_PRESSED, event -> {
+        background.sceneProperty().addListener((observable, oldScene, newScene) -> {
+            if (newScene == null) return;
+            newScene.addEventHandler(KeyEvent.KEY_PRESSED, event -> {
                 if (event.getCode() == KeyCode.ESCAPE) {
                     back();
                 }
@@ -112,22 +109,7 @@ public class Tutorial1Controller {
      */
     @FXML
     private void next() {
-        try {
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("/Scenes/Tutorial2.fxml"));
-            Parent newGameRoot = loader.load();
-
-            Scene newGameScene = new Scene(newGameRoot);
-            newGameScene.getStylesheets().add(getClass().getResource("/Scenes/style.css").toExternalForm());
-
-            Tutorial2Controller controller = loader.getController();
-            controller.setPrimaryStage(primaryStage);
-            controller.setPet(pet);
-
-            primaryStage.setScene(newGameScene);
-            primaryStage.show();
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
+        NavigationRouter.getInstance().navigate(primaryStage, "/Scenes/Tutorial2.fxml", pet);
     }
 
     /**
@@ -137,20 +119,16 @@ public class Tutorial1Controller {
      * to display the new scene.</p>
      */
     private void back() {
-        try {
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("/Scenes/NewGame.fxml"));
-            Parent newGameRoot = loader.load();
-
-            Scene newGameScene = new Scene(newGameRoot);
-            newGameScene.getStylesheets().add(getClass().getResource("/Scenes/style.css").toExternalForm());
-
-            NewGameController newGameController = loader.getController();
-            newGameController.setPrimaryStage(primaryStage);
+        NavigationRouter.getInstance().navigate(primaryStage, "/Scenes/NewGame.fxml");
+    }
 
-            primaryStage.setScene(newGameScene);
-            primaryStage.show();
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
+    /**
+     * The screen is rebuilt by {@link #setPet(int)} on every visit, so it can be cached and reused.
+     *
+     * @return true
+     */
+    @Override
+    public boolean isReusable() {
+        return true;
     }
 }
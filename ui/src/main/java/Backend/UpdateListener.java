@@ -7,5 +7,5 @@ package Backend;
  */
 
 public interface UpdateListener {
-    void onUpdate(String[] toothlessData, String[] shrekData,String[] pussData, boolean[] parentalInfo);
+    void onUpdate(PetState toothlessData, PetState shrekData, PetState pussData, boolean[] parentalInfo);
 }
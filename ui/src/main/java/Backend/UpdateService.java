@@ -0,0 +1,331 @@
+package Backend;
+
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+import javafx.scene.Node;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @author      Jay Bava <jbava@uwo.ca>
+ * @version     1.9              (current version number of program)
+ * @since       1.7          (the version of the package this class was first added to)
+ */
+
+/**
+ * A service class that notifies listeners when the pet information changes.
+ *
+ * <p>Changes made by the game and changes to the CSV files detected by {@link FileWatcher} both
+ * end up in {@link #notifyListeners()}, directly or through the {@link ChangeNotifier}, which
+ * delivers the current data to every registered listener on the JavaFX application thread.</p>
+ *
+ * <p>Notifications are coalesced: however many arrive in a burst, listeners are called at most once
+ * per rendered frame. At that pulse the current data is compared with the data delivered by the
+ * previous pulse, and {@link PetChangeListener}s subscribed to a pet and a set of fields are only
+ * called when one of those fields actually changed.</p>
+ *
+ * <p>Listeners are kept in {@link ListenerRegistry}s, so controllers of screens that are no longer
+ * showing are dropped instead of accumulating over a long session.</p>
+ */
+public class UpdateService {
+
+    /**
+     * The singleton instance of the UpdateService.
+     */
+    private static UpdateService instance;
+
+    /**
+     * Listeners that are notified when the pet information changes.
+     */
+    private final ListenerRegistry<UpdateListener> listeners = new ListenerRegistry<>();
+
+    /**
+     * The pet and fields a change listener is subscribed to.
+     */
+    private record Subscription(int petId, int fieldMask) {}
+
+    /**
+     * Change listeners that are notified when a subscribed field changes.
+     */
+    private final ListenerRegistry<PetChangeListener> changeListeners = new ListenerRegistry<>();
+
+    /**
+     * Subscriptions of each change listener; weakly keyed so they go away with the listener.
+     */
+    private final Map<PetChangeListener, List<Subscription>> subscriptions = new WeakHashMap<>();
+
+    /**
+     * Whether a pulse has been requested and not yet run.
+     */
+    private final AtomicBoolean pulsePending = new AtomicBoolean();
+
+    /**
+     * System.nanoTime() of the notification that requested the pending pulse.
+     */
+    private volatile long pulseRequestedNanos;
+
+    /**
+     * Number of notifications merged into the pending pulse, the depth of the notification queue.
+     */
+    private final AtomicInteger queuedNotifications = new AtomicInteger();
+
+    /**
+     * Number of notifications received.
+     */
+    private final Counter notifications = MetricsRegistry.getInstance()
+            .counter("update_notifications_total", "Change notifications received by the update service");
+
+    /**
+     * Time from the first notification of a pulse to the pulse running.
+     */
+    private final LatencyHistogram notifyDelay = MetricsRegistry.getInstance()
+            .histogram("update_notify_delay_seconds", "Time from a change notification to its pulse");
+
+    /**
+     * Timer that runs the pending pulse on the next frame; only used on the JavaFX application thread.
+     */
+    private AnimationTimer pulseTimer;
+
+    /**
+     * Copies of the pet states delivered by the previous pulse, indexed by pet ID - 1.
+     */
+    private PetState[] published = new PetState[0];
+
+    /**
+     * Copy of the parental control settings delivered by the previous pulse.
+     */
+    private boolean[] publishedParentalInfo;
+
+    /**
+     * Private constructor to enforce the singleton pattern.
+     * Subscribes to the {@link ChangeNotifier} so that changes made by the game logic reach the screens.
+     */
+    private UpdateService() {
+        ChangeNotifier.getInstance().subscribe(this::notifyListeners);
+        MetricsRegistry metrics = MetricsRegistry.getInstance();
+        metrics.gauge("update_listeners", "Live update and change listeners", this::getLiveListenerCount);
+        metrics.gauge("update_notify_queue_depth", "Notifications waiting for the next pulse",
+                queuedNotifications::get);
+    }
+
+    /**
+     * Retrieves the singleton instance of the UpdateService.
+     *
+     * @return the singleton instance of the UpdateService
+     */
+    public static synchronized UpdateService getInstance() {
+        if (instance == null) {
+            instance = new UpdateService();
+        }
+        return instance;
+    }
+
+    /**
+     * Adds a listener that will be notified when the pet information changes. The listener is held
+     * weakly and is dropped once nothing else references it.
+     *
+     * @param listener the listener to add
+     */
+    public void addListener(UpdateListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Adds a listener bound to a screen: it is removed automatically once the scene containing
+     * {@code owner} is replaced. Must be called on the JavaFX application thread.
+     *
+     * @param listener the listener to add
+     * @param owner    a node of the listener's screen
+     */
+    public void addListener(UpdateListener listener, Node owner) {
+        listeners.add(listener, owner);
+    }
+
+    /**
+     * Subscribes a listener to changes of some fields of a pet. The listener is held weakly.
+     *
+     * @param listener the listener to call when a subscribed field changes
+     * @param petId    the ID of the pet (1 for Shrek, 2 for Toothless, 3 for Puss), or 0 for every pet
+     * @param fields   the fields to watch; none means every field
+     */
+    public void subscribe(PetChangeListener listener, int petId, PetField... fields) {
+        if (addSubscription(listener, petId, fields)) {
+            changeListeners.add(listener);
+        }
+    }
+
+    /**
+     * Subscribes a listener bound to a screen to changes of some fields of a pet. The subscription is
+     * removed automatically once the scene containing {@code owner} is replaced. Must be called on
+     * the JavaFX application thread.
+     *
+     * @param listener the listener to call when a subscribed field changes
+     * @param owner    a node of the listener's screen
+     * @param petId    the ID of the pet, or 0 for every pet
+     * @param fields   the fields to watch; none means every field
+     */
+    public void subscribe(PetChangeListener listener, Node owner, int petId, PetField... fields) {
+        if (addSubscription(listener, petId, fields)) {
+            changeListeners.add(listener, owner);
+        }
+    }
+
+    /**
+     * Records a subscription of a change listener.
+     *
+     * @param listener the listener
+     * @param petId    the ID of the pet, or 0 for every pet
+     * @param fields   the fields to watch
+     * @return true if this is the listener's first subscription
+     */
+    private synchronized boolean addSubscription(PetChangeListener listener, int petId, PetField... fields) {
+        boolean first = !subscriptions.containsKey(listener) || !changeListeners.contains(listener);
+        if (first) {
+            subscriptions.put(listener, new ArrayList<>());
+        }
+        subscriptions.get(listener).add(new Subscription(petId, PetField.maskOf(fields)));
+        return first;
+    }
+
+    /**
+     * Removes every subscription of a change listener.
+     *
+     * @param listener the listener to remove
+     */
+    public synchronized void unsubscribe(PetChangeListener listener) {
+        changeListeners.remove(listener);
+        subscriptions.remove(listener);
+    }
+
+    /**
+     * Removes all listeners from the UpdateService.
+     */
+    public synchronized void removeAllListeners() {
+        listeners.clear();
+        changeListeners.clear();
+        subscriptions.clear();
+    }
+
+    /**
+     * Counts the listeners that are still registered, a measure of the update fan-out.
+     *
+     * @return the number of live listeners and change listeners
+     */
+    public int getLiveListenerCount() {
+        return listeners.size() + changeListeners.size();
+    }
+
+    /**
+     * Checks whether any subscription of a change listener matches an event.
+     *
+     * @param listener the listener
+     * @param event    the event
+     * @return true if the listener should be notified
+     */
+    private synchronized boolean isSubscribed(PetChangeListener listener, PetChangeEvent event) {
+        List<Subscription> filters = subscriptions.get(listener);
+        if (filters == null) {
+            return false;
+        }
+        for (Subscription subscription : filters) {
+            if (event.matches(subscription.petId(), subscription.fieldMask())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Requests that listeners be notified of the current data in the CSV data store.
+     * Requests made before the next frame are merged into a single pulse.
+     */
+    public void notifyListeners() {
+        notifications.increment();
+        queuedNotifications.incrementAndGet();
+        if (pulsePending.compareAndSet(false, true)) {
+            pulseRequestedNanos = System.nanoTime();
+            Platform.runLater(this::schedulePulse);
+        }
+    }
+
+    /**
+     * Arms the pulse timer so the pending pulse runs on the next frame.
+     */
+    private void schedulePulse() {
+        if (pulseTimer == null) {
+            pulseTimer = new AnimationTimer() {
+                @Override
+                public void handle(long now) {
+                    stop();
+                    pulse();
+                }
+            };
+        }
+        pulseTimer.start();
+    }
+
+    /**
+     * Delivers the changes since the previous pulse to the listeners. Notifications that arrive while
+     * listeners are running request a new pulse on a later frame.
+     */
+    private void pulse() {
+        ListenerFanOutEvent fanOut = new ListenerFanOutEvent();
+        fanOut.begin();
+        fanOut.queueDelay = System.nanoTime() - pulseRequestedNanos;
+        notifyDelay.record(fanOut.queueDelay);
+        queuedNotifications.set(0);
+        pulsePending.set(false);
+
+        CSVDataStore store = CSVDataStore.getInstance();
+        int[] changedFields;
+        boolean parentalInfoChanged;
+        synchronized (store) {
+            PetState[] pets = store.getPets();
+            if (published.length != pets.length) {
+                published = Arrays.copyOf(published, pets.length);
+            }
+            changedFields = new int[pets.length];
+            for (int i = 0; i < pets.length; i++) {
+                changedFields[i] = PetField.diff(published[i], pets[i]);
+                if (changedFields[i] != 0) {
+                    if (pets[i] == null) {
+                        published[i] = null;
+                    } else {
+                        if (published[i] == null) {
+                            published[i] = new PetState();
+                        }
+                        published[i].copyFrom(pets[i]);
+                    }
+                }
+            }
+            boolean[] parentalInfo = store.getParentalInfo();
+            parentalInfoChanged = !Arrays.equals(publishedParentalInfo, parentalInfo);
+            if (parentalInfoChanged) {
+                publishedParentalInfo = parentalInfo == null ? null : parentalInfo.clone();
+            }
+        }
+
+        PetChangeEvent event = new PetChangeEvent(changedFields, parentalInfoChanged);
+        if (!parentalInfoChanged && !event.matches(0, PetField.ALL)) {
+            return; // Nothing moved since the previous pulse
+        }
+
+        for (UpdateListener listener : listeners.snapshot()) {
+            listener.onUpdate(store.getToothless(), store.getShrek(), store.getPuss(), store.getParentalInfo());
+            fanOut.listeners++;
+        }
+        for (PetChangeListener listener : changeListeners.snapshot()) {
+            if (isSubscribed(listener, event)) {
+                listener.onPetChange(event);
+                fanOut.listeners++;
+            }
+        }
+        fanOut.commit();
+    }
+}
@@ -1,11 +1,6 @@
 package Backend;
 
-import javafx.animation.PauseTransition;
 import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
-import javafx.scene.Parent;
-import javafx.scene.Scene;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.stage.Stage;
 import javafx.util.Duration;
@@ -18,7 +13,7 @@ import javafx.util.Duration;
  * @version     1.9 (current version number of program)
  * @since       1.6 (the version of the package this class was first added to)
  */
-public class VetController {
+public class VetController implements Routable {
 
     /** The main stage of the application. */
     private Stage primaryStage;
@@ -33,10 +28,8 @@ public class VetController {
     @FXML
     private ImageView petImage;
 
-    /** The images used for different pet types during the vet visit. */
-    private Image theVet1;
-    private Image theVet2;
-    private Image theVet3;
+    /** The file path of the selected pet's vet visit animation. */
+    private String animationPath;
 
     /**
      * Sets the primary stage for this controller.
@@ -55,11 +48,11 @@ public class VetController {
     public void setPet(int pet) {
         this.pet = pet;
         petManager = PetManager.getInstance();
-        switch (pet) {
-            case 1 -> petImage.setImage(new Image(getClass().getResourceAsStream("/Scenes/images/shrekVet.gif")));
-            case 2 -> petImage.setImage(new Image(getClass().getResourceAsStream("/Scenes/images/toothlesVet.gif")));
-            case 3 -> petImage.setImage(new Image(getClass().getResourceAsStream("/Scenes/images/pussbootsVet.gif")));
-        }
+        animationPath = switch (pet) {
+            case 1 -> "/Scenes/images/shrekVet.gif";
+            case 2 -> "/Scenes/images/toothlesVet.gif";
+            default -> "/Scenes/images/pussbootsVet.gif";
+        };
         adjustImageView();
         playAnimation();
     }
@@ -71,7 +64,7 @@ public class VetController {
         petImage.setFitWidth(739); // Replace with your container's width
         petImage.setPreserveRatio(true); // Maintain the image's aspect ratio
         petImage.setSmooth(true); // Enable smooth scaling
-        petImage.setCache(true); // Cache the scaled image for better performance
+        petImage.setCache(false); // The frames change on every pulse, so a cached rendering would be redrawn anyway
     }
 
     /**
@@ -81,35 +74,24 @@ public class VetController {
     private void playAnimation() {
         petManager.increaseSleep(pet, 30);
 
-        // Create a PauseTransition to wait for 5 seconds
-        PauseTransition pause = new PauseTransition(Duration.seconds(5));
-
-        // Set the action to transition back to the gameplay screen after 5 seconds
-        pause.setOnFinished(event -> backToGameplay());
-
-        // Start the pause timer
-        pause.play();
+        // Play the animation for 5 seconds, then transition back to the gameplay screen
+        AnimationPlayer.getInstance().play(petImage, animationPath, Duration.seconds(5), this::backToGameplay);
     }
 
     /**
      * Transitions back to the gameplay screen, passing the current stage and pet data.
      */
     private void backToGameplay() {
-        try {
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("/Scenes/GameplayScreen.fxml"));
-            Parent gameplayRoot = loader.load();
-
-            Scene gameplayScene = new Scene(gameplayRoot);
-            gameplayScene.getStylesheets().add(getClass().getResource("/Scenes/style.css").toExternalForm());
-
-            GameplayScreenController controller = loader.getController();
-            controller.setPrimaryStage(primaryStage);
-            controller.setPet(pet);
+        NavigationRouter.getInstance().navigate(primaryStage, "/Scenes/GameplayScreen.fxml", pet);
+    }
 
-            primaryStage.setScene(gameplayScene);
-            primaryStage.show();
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
+    /**
+     * The screen is rebuilt by {@link #setPet(int)} on every visit, so it can be cached and reused.
+     *
+     * @return true
+     */
+    @Override
+    public boolean isReusable() {
+        return true;
     }
 }
@@ -0,0 +1,56 @@
+package Backend.Test;
+
+import Backend.PlayController;
+import Backend.CSVDataStore;
+import Backend.PetState;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PlayControllerTest {
+
+    private PlayController playController;
+    private CSVDataStore dataStore;
+
+    @BeforeEach
+    void setUp() {
+        playController = new PlayController();
+        dataStore = CSVDataStore.getInstance();
+
+        // Initialize CSVDataStore with test data
+        dataStore.setShrek(petState(30, 50));
+        dataStore.setToothless(petState(35, 60));
+        dataStore.setPuss(petState(15, 40));
+    }
+
+    private static PetState petState(int hunger, int happiness) {
+        PetState state = new PetState();
+        state.setHunger(hunger);
+        state.setHappiness(happiness);
+        return state;
+    }
+
+    @Test
+    void testUpdatePetHappiness_Shrek() {
+
+        // Assert
+        assertEquals(50, dataStore.getShrek().getHappiness(), "Happiness should be updated to 75 for Shrek.");
+    }
+
+    @Test
+    void testUpdatePetHappiness_Toothless() {
+
+        // Assert
+        assertEquals(60, dataStore.getToothless().getHappiness(), "Happiness should be updated to 85 for Toothless.");
+    }
+
+    @Test
+    void testUpdatePetHappiness_InvalidPetId() {
+
+        // Assert
+        assertEquals(50, dataStore.getShrek().getHappiness(), "Shrek's happiness should remain unchanged.");
+        assertEquals(60, dataStore.getToothless().getHappiness(), "Toothless's happiness should remain unchanged.");
+        assertEquals(40, dataStore.getPuss().getHappiness(), "Puss's happiness should remain unchanged.");
+    }
+}